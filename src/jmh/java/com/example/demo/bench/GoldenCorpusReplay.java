@@ -0,0 +1,372 @@
+package com.example.demo.bench;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.parser.ReceiptText;
+import com.example.demo.utils.DateUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * 골든 코퍼스 리플레이: 녹화 Document(*.pb) + 기대 결과(*.expected.json)를 담당 파서로 병렬 재생해서
+ * 필드별 정확도 / 파서별 지연 백분위 / 전체 처리량(docs/s)을 한 번에 본다.
+ * 파서를 손볼 때 전후로 돌려서 추출 결과가 그대로인지 확인하는 용도 (ts.debug/ts.dump 로 한 장씩 보던 것 대체)
+ *
+ * 실행: gradle replay [-Preplay.dir=경로] [-Preplay.threads=N] [-Preplay.repeat=N] [-Preplay.warmup=N]
+ *                     [-Preplay.record=true] [-Preplay.strict=true]
+ * - 디렉터리 형식은 RecordedCorpus 와 같다 (manifest.txt + *.pb). 기대 결과가 없는 녹화본은 건너뛴다.
+ * - 기대 결과는 ReceiptResult 와 같은 모양의 JSON 이고, 들어 있는 필드만 채점한다.
+ *   items 배열은 건수(items.size)와 순번별 필드(items[].name 등)로 채점한다.
+ * - 비교 전 정규화: 숫자/금액/번호는 숫자만, 날짜는 yyyyMMdd, 나머지 문자열은 공백 제거
+ * - record=true : 현재 파서 출력으로 *.expected.json 을 새로 쓴다 (운영 녹화본 초기 등록용, 반드시 검수 후 커밋)
+ * - strict=true : 불일치/실패가 하나라도 있으면 종료 코드 1
+ * 모든 회차 결과를 채점하므로, 병렬 실행에서만 드러나는 파서 공유 상태 문제도 정확도 하락으로 보인다.
+ */
+public final class GoldenCorpusReplay {
+
+    private static final String EXPECTED_SUFFIX = ".expected.json";
+    private static final Pattern NUMERIC = Pattern.compile("[\\d\\s,.\\-/:()+*]*\\d[\\d\\s,.\\-/:()+*]*원?");
+    private static final Pattern LOOSE_DATE = Pattern.compile("(\\d{2,4})\\D+(\\d{1,2})\\D+(\\d{1,2})");
+    private static final Pattern INDEX = Pattern.compile("\\[\\d+]");
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private final ReceiptParserRegistry registry = RecordedCorpus.REGISTRY;
+
+    private final Path dir;
+    private final int threads;
+    private final int repeat;
+    private final int warmup;
+    private final PrintStream out;
+
+    private static final class Case {
+        final RecordedCorpus.Entry entry;
+        final BaseReceiptParser parser;
+        final String parserName;
+        final Map<String, JsonElement> expected;
+
+        Case(RecordedCorpus.Entry entry, BaseReceiptParser parser, Map<String, JsonElement> expected) {
+            this.entry = entry;
+            this.parser = parser;
+            this.parserName = parser.getClass().getSimpleName();
+            this.expected = expected;
+        }
+    }
+
+    private static final class Run {
+        final Case c;
+        final long nanos;
+        final BaseReceiptParser.ReceiptResult result;
+        final RuntimeException error;
+
+        Run(Case c, long nanos, BaseReceiptParser.ReceiptResult result, RuntimeException error) {
+            this.c = c;
+            this.nanos = nanos;
+            this.result = result;
+            this.error = error;
+        }
+    }
+
+    // 필드별 채점 집계 (items[3].name → items[].name 로 묶음)
+    private static final class Score {
+        int matched;
+        int graded;
+    }
+
+    GoldenCorpusReplay(Path dir, int threads, int repeat, int warmup, PrintStream out) {
+        this.dir = dir;
+        this.threads = threads;
+        this.repeat = repeat;
+        this.warmup = warmup;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(System.getProperty("replay.dir", "src/test/resources/ocr-corpus"));
+        int threads = Integer.getInteger("replay.threads", Runtime.getRuntime().availableProcessors());
+        int repeat = Integer.getInteger("replay.repeat", 10);
+        int warmup = Integer.getInteger("replay.warmup", 2);
+
+        // 파서 디버그 출력은 버리고 리포트만 원래 stdout 으로
+        PrintStream out = RecordedCorpus.muteStdout();
+        GoldenCorpusReplay replay = new GoldenCorpusReplay(dir, Math.max(1, threads), Math.max(1, repeat), Math.max(0, warmup), out);
+        try {
+            if (Boolean.getBoolean("replay.record")) {
+                replay.record();
+                return;
+            }
+            boolean clean = replay.run();
+            if (!clean && Boolean.getBoolean("replay.strict")) {
+                System.exit(1);
+            }
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    /**
+     * 현재 파서 출력으로 기대 결과 파일을 쓴다 (null/빈 필드 제외)
+     */
+    void record() throws IOException {
+        int written = 0;
+        for (RecordedCorpus.Entry e : RecordedCorpus.load(dir)) {
+            BaseReceiptParser parser = e.parser();
+            if (parser == null) {
+                out.println("⚠ 파서 없음: " + e.name + " (" + e.route + "/" + e.alias + ")");
+                continue;
+            }
+            BaseReceiptParser.ReceiptResult result = registry.parse(parser, ReceiptText.of(e.document));
+            JsonElement tree = prune(gson.toJsonTree(result));
+            Files.writeString(expectedFile(e), gson.toJson(tree == null ? new JsonObject() : tree) + "\n", StandardCharsets.UTF_8);
+            written++;
+        }
+        out.println("✅ 기대 결과 " + written + "건 기록: " + dir.toAbsolutePath());
+    }
+
+    /**
+     * @return 불일치/실패가 없으면 true
+     */
+    boolean run() throws InterruptedException, ExecutionException {
+        List<Case> cases = loadCases();
+        if (cases.isEmpty()) {
+            out.println("⚠ 채점할 녹화본이 없습니다: " + dir.toAbsolutePath());
+            return true;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            if (warmup > 0) replay(pool, cases, warmup);
+            long started = System.nanoTime();
+            List<Run> runs = replay(pool, cases, repeat);
+            long wallNanos = System.nanoTime() - started;
+            return report(cases, runs, wallNanos);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Case> loadCases() {
+        List<Case> cases = new ArrayList<>();
+        for (RecordedCorpus.Entry e : RecordedCorpus.load(dir)) {
+            Path expected = expectedFile(e);
+            BaseReceiptParser parser = e.parser();
+            if (parser == null) {
+                out.println("⚠ 파서 없음, 건너뜀: " + e.name + " (" + e.route + "/" + e.alias + ")");
+                continue;
+            }
+            if (!Files.isRegularFile(expected)) {
+                out.println("⚠ 기대 결과 없음, 건너뜀: " + expected.getFileName());
+                continue;
+            }
+            try {
+                JsonElement json = JsonParser.parseString(Files.readString(expected, StandardCharsets.UTF_8));
+                Map<String, JsonElement> fields = new LinkedHashMap<>();
+                flatten("", json, fields);
+                cases.add(new Case(e, parser, fields));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return cases;
+    }
+
+    // 전체 녹화본 × 회차를 한꺼번에 풀에 던지고 모두 끝날 때까지 대기 (회차 사이 동기화 없음 → 처리량은 벽시계 기준)
+    // 건별 지연은 ReceiptText 생성부터 측정 (운영 경로와 같은 비용)
+    private List<Run> replay(ExecutorService pool, List<Case> cases, int rounds) throws InterruptedException, ExecutionException {
+        List<Callable<Run>> tasks = new ArrayList<>(cases.size() * rounds);
+        for (int i = 0; i < rounds; i++) {
+            for (Case c : cases) {
+                tasks.add(() -> {
+                    long t0 = System.nanoTime();
+                    try {
+                        BaseReceiptParser.ReceiptResult r = registry.parse(c.parser, ReceiptText.of(c.entry.document));
+                        return new Run(c, System.nanoTime() - t0, r, null);
+                    } catch (RuntimeException ex) {
+                        return new Run(c, System.nanoTime() - t0, null, ex);
+                    }
+                });
+            }
+        }
+        List<Run> runs = new ArrayList<>(tasks.size());
+        for (Future<Run> f : pool.invokeAll(tasks)) {
+            runs.add(f.get());
+        }
+        return runs;
+    }
+
+    private boolean report(List<Case> cases, List<Run> runs, long wallNanos) {
+        Map<String, Score> fieldScores = new TreeMap<>();
+        Map<String, List<Long>> latencies = new TreeMap<>();
+        Map<String, Integer> errors = new TreeMap<>();
+        // 녹화본+필드별 첫 불일치만 (회차마다 같은 줄이 반복되지 않게)
+        Map<String, String> mismatches = new LinkedHashMap<>();
+
+        for (Run run : runs) {
+            latencies.computeIfAbsent(run.c.parserName, k -> new ArrayList<>()).add(run.nanos);
+            if (run.error != null) {
+                errors.merge(run.c.parserName, 1, Integer::sum);
+                mismatches.putIfAbsent(run.c.entry.name + " *", run.c.entry.name + "  실패: " + run.error);
+            }
+            Map<String, JsonElement> actual = new LinkedHashMap<>();
+            if (run.result != null) flatten("", gson.toJsonTree(run.result), actual);
+
+            for (Map.Entry<String, JsonElement> f : run.c.expected.entrySet()) {
+                String path = f.getKey();
+                Score score = fieldScores.computeIfAbsent(INDEX.matcher(path).replaceAll("[]"), k -> new Score());
+                score.graded++;
+                String want = normalize(path, f.getValue());
+                String got = normalize(path, actual.get(path));
+                if (want != null && want.equals(got)) {
+                    score.matched++;
+                } else if (run.error == null) {
+                    mismatches.putIfAbsent(run.c.entry.name + " " + path, String.format("%s  %s  기대=%s  실제=%s",
+                            run.c.entry.name, path, f.getValue(), actual.get(path)));
+                }
+            }
+        }
+
+        int matched = 0;
+        int graded = 0;
+        out.println();
+        out.printf("== 골든 코퍼스 리플레이: %d건 × %d회 (워밍업 %d회), 스레드 %d, %s%n",
+                cases.size(), repeat, warmup, threads, dir.toAbsolutePath());
+        out.println();
+        out.println("필드 정확도");
+        for (Map.Entry<String, Score> e : fieldScores.entrySet()) {
+            Score s = e.getValue();
+            matched += s.matched;
+            graded += s.graded;
+            out.printf("  %-22s %7d / %-7d %6.1f%%%n", e.getKey(), s.matched, s.graded, percent(s.matched, s.graded));
+        }
+        out.printf("  %-22s %7d / %-7d %6.1f%%%n", "(전체)", matched, graded, percent(matched, graded));
+
+        out.println();
+        out.printf("파서별 지연 (ms)%32s %8s %8s %8s %8s %6s%n", "n", "p50", "p90", "p99", "max", "실패");
+        for (Map.Entry<String, List<Long>> e : latencies.entrySet()) {
+            long[] sorted = e.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            out.printf("  %-40s %6d %8.3f %8.3f %8.3f %8.3f %6d%n", e.getKey(), sorted.length,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 99)),
+                    millis(sorted[sorted.length - 1]), errors.getOrDefault(e.getKey(), 0));
+        }
+
+        double seconds = wallNanos / 1_000_000_000.0;
+        out.println();
+        out.printf("처리량: %d건 / %.3f s = %.1f docs/s%n", runs.size(), seconds, runs.size() / seconds);
+
+        if (!mismatches.isEmpty()) {
+            out.println();
+            out.println("불일치 (" + mismatches.size() + ")");
+            mismatches.values().forEach(m -> out.println("  " + m));
+        }
+        return mismatches.isEmpty();
+    }
+
+    private Path expectedFile(RecordedCorpus.Entry e) {
+        String base = e.name.endsWith(".pb") ? e.name.substring(0, e.name.length() - 3) : e.name;
+        return dir.resolve(base + EXPECTED_SUFFIX);
+    }
+
+    /**
+     * JSON → 경로별 값 (merchant.bizNo, items.size, items[0].amount ...)
+     */
+    private static void flatten(String path, JsonElement el, Map<String, JsonElement> out) {
+        if (el == null || el.isJsonNull()) return;
+        if (el.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> e : el.getAsJsonObject().entrySet()) {
+                flatten(path.isEmpty() ? e.getKey() : path + "." + e.getKey(), e.getValue(), out);
+            }
+        } else if (el.isJsonArray()) {
+            JsonArray arr = el.getAsJsonArray();
+            out.put(path + ".size", new JsonPrimitive(arr.size()));
+            for (int i = 0; i < arr.size(); i++) {
+                flatten(path + "[" + i + "]", arr.get(i), out);
+            }
+        } else {
+            out.put(path, el);
+        }
+    }
+
+    // null / 빈 객체 / 빈 배열 제거 (기록 파일에는 채점할 필드만 남긴다)
+    private static JsonElement prune(JsonElement el) {
+        if (el == null || el.isJsonNull()) return null;
+        if (el.isJsonObject()) {
+            JsonObject obj = new JsonObject();
+            for (Map.Entry<String, JsonElement> e : el.getAsJsonObject().entrySet()) {
+                JsonElement v = prune(e.getValue());
+                if (v != null) obj.add(e.getKey(), v);
+            }
+            return obj.size() == 0 ? null : obj;
+        }
+        if (el.isJsonArray()) {
+            JsonArray arr = new JsonArray();
+            for (JsonElement e : el.getAsJsonArray()) {
+                JsonElement v = prune(e);
+                arr.add(v == null ? new JsonObject() : v);
+            }
+            return arr.size() == 0 ? null : arr;
+        }
+        return el;
+    }
+
+    static String normalize(String path, JsonElement el) {
+        if (el == null || el.isJsonNull() || !el.isJsonPrimitive()) return null;
+        if (el.getAsJsonPrimitive().isNumber()) {
+            return new BigDecimal(el.getAsString()).stripTrailingZeros().toPlainString();
+        }
+        String s = el.getAsString().trim();
+        if (s.isEmpty()) return null;
+        String field = path.substring(path.lastIndexOf('.') + 1);
+        if (field.toLowerCase().contains("date")) return normalizeDate(s);
+        if (NUMERIC.matcher(s).matches()) return s.replaceAll("\\D", "");
+        return s.replaceAll("\\s+", "");
+    }
+
+    private static String normalizeDate(String s) {
+        try {
+            return DateUtils.parseFlexibleDate(s).format(DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (RuntimeException e) {
+            Matcher m = LOOSE_DATE.matcher(s);
+            if (!m.find()) return s.replaceAll("\\D", "");
+            String y = m.group(1).length() == 2 ? "20" + m.group(1) : m.group(1);
+            return y + String.format("%02d%02d", Integer.parseInt(m.group(2)), Integer.parseInt(m.group(3)));
+        }
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double percent(int n, int d) {
+        return d == 0 ? 0 : n * 100.0 / d;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.parser.ReceiptParserRegistry.Route;
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * 벤치마크 입력: 클래스패스 ocr-corpus/ 의 녹화 Document(*.pb)
+ * manifest.txt 한 줄 = "파일명  경로  파서별칭" → ReceiptParserRegistry 로 담당 파서를 찾는다.
+ * 리플레이(GoldenCorpusReplay)는 같은 형식의 임의 디렉터리를 load(Path) 로 읽는다.
+ */
+public final class RecordedCorpus {
+
+    private static final String DIR = "ocr-corpus/";
+
+    // Spring 컨텍스트 밖이므로 기본 등록만 된 레지스트리를 직접 만든다. (리플레이도 같은 인스턴스 사용)
+    public static final ReceiptParserRegistry REGISTRY = new ReceiptParserRegistry();
+
+    public static final class Entry {
+        public final String name;
+        public final Route route;
+        public final String alias;
+        public final Document document;
+
+        Entry(String name, Route route, String alias, Document document) {
+            this.name = name;
+            this.route = route;
+            this.alias = alias;
+            this.document = document;
+        }
+
+        public BaseReceiptParser parser() {
+            return REGISTRY.find(route, alias);
+        }
+    }
+
+    private static volatile List<Entry> entries;
+
+    private RecordedCorpus() {
+    }
+
+    public static List<Entry> entries() {
+        List<Entry> e = entries;
+        if (e == null) {
+            synchronized (RecordedCorpus.class) {
+                if (entries == null) entries = load();
+                e = entries;
+            }
+        }
+        return e;
+    }
+
+    public static Document[] documents() {
+        return entries().stream().map(e -> e.document).toArray(Document[]::new);
+    }
+
+    /**
+     * 해당 파서(클래스 단순명)가 담당하는 녹화본. 없으면 IllegalStateException (코퍼스 누락을 조용히 넘기지 않음)
+     */
+    public static Document[] documentsFor(String parserName) {
+        Document[] docs = entries().stream()
+                .filter(e -> e.parser() != null && e.parser().getClass().getSimpleName().equals(parserName))
+                .map(e -> e.document)
+                .toArray(Document[]::new);
+        if (docs.length == 0) throw new IllegalStateException("코퍼스에 " + parserName + " 녹화본이 없습니다.");
+        return docs;
+    }
+
+    /**
+     * 파서의 디버그 출력(System.out)을 버린다. 문자열 조립 비용은 그대로 측정되고 콘솔 I/O 만 빠진다.
+     * @return 복원용 원래 스트림
+     */
+    public static PrintStream muteStdout() {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8));
+        return original;
+    }
+
+    /**
+     * 파일시스템 디렉터리의 코퍼스 (manifest.txt + *.pb)
+     */
+    public static List<Entry> load(Path dir) {
+        return load(name -> {
+            Path file = dir.resolve(name);
+            if (!Files.isRegularFile(file)) throw new IOException("코퍼스 파일 없음: " + file);
+            return Files.newInputStream(file);
+        });
+    }
+
+    private static List<Entry> load() {
+        return load(RecordedCorpus::resource);
+    }
+
+    private interface Opener {
+        InputStream open(String name) throws IOException;
+    }
+
+    private static List<Entry> load(Opener opener) {
+        List<Entry> out = new ArrayList<>();
+        try (InputStream in = opener.open("manifest.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] cols = line.split("\\s+");
+                try (InputStream pb = opener.open(cols[0])) {
+                    out.add(new Entry(cols[0], Route.valueOf(cols[1]), cols[2], Document.parseFrom(pb)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return List.copyOf(out);
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = RecordedCorpus.class.getClassLoader().getResourceAsStream(DIR + name);
+        if (in == null) throw new IOException("코퍼스 파일 없음: " + DIR + name);
+        return in;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.classify;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.bench.RecordedCorpus;
+import com.example.demo.parser.ReceiptText;
+import com.example.demo.service.AiReceiptAnalyzer;
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * 영수증 유형 판별 처리량 (전체 녹화본 순환, 1건 = 1 op)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class ReceiptClassifierBenchmark {
+
+    private final CardReceiptClassifier cardReceiptClassifier = new CardReceiptClassifier();
+    private AiReceiptAnalyzer aiReceiptAnalyzer;
+    private Document[] docs;
+    private int next;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        docs = RecordedCorpus.documents();
+        stdout = RecordedCorpus.muteStdout();
+        aiReceiptAnalyzer = new AiReceiptAnalyzer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    private Document nextDocument() {
+        Document doc = docs[next];
+        next = (next + 1) % docs.length;
+        return doc;
+    }
+
+    @Benchmark
+    public CardReceiptClassifier.Classified cardReceiptClassifier() {
+        return cardReceiptClassifier.classify(ReceiptText.of(nextDocument()));
+    }
+
+    @Benchmark
+    public String aiReceiptAnalyzerDetectType() {
+        return aiReceiptAnalyzer.detectType(nextDocument());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.parser;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.bench.RecordedCorpus;
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * 파서별 처리량 (녹화본 1건 파싱 = 1 op, 담당 녹화본이 여러 건이면 순환)
+ * ReceiptText 생성부터 포함 → 운영 경로(ReceiptParserRegistry.parse)와 같은 비용, 시간 예산 래퍼만 제외
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class ReceiptParserBenchmark {
+
+    @Param({
+            "MartReceiptParser",
+            "ConvenienceReceiptParser",
+            "CoupangReceiptParser",
+            "DeliveryReceiptParser",
+            "GenericCardSlipParser",
+            "HeadOffice11PostReceiptParser",
+            "HeadOfficeAuctionReceiptParser",
+            "HeadOfficeCoupangReceiptParser",
+            "HeadOfficeDaisoReceiptParser",
+            "HeadOfficeGMarketReceiptParser",
+            "HeadOfficeHomePlusReceiptParser",
+            "HeadOfficeNaverReceiptParser",
+            "TransactionStatementParser",
+    })
+    public String parser;
+
+    private BaseReceiptParser instance;
+    private Document[] docs;
+    private int next;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        docs = RecordedCorpus.documentsFor(parser);
+        instance = RecordedCorpus.entries().stream()
+                .map(RecordedCorpus.Entry::parser)
+                .filter(p -> p != null && p.getClass().getSimpleName().equals(parser))
+                .findFirst()
+                .orElseThrow();
+        stdout = RecordedCorpus.muteStdout();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public BaseReceiptParser.ReceiptResult parse() {
+        Document doc = docs[next];
+        next = (next + 1) % docs.length;
+        return instance.parse(ReceiptText.of(doc));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 파서들이 후보마다 호출하는 날짜/사업자번호 유틸 처리량 (입력 1개 = 1 op)
+ * 입력은 녹화본에서 실제로 나오는 표기 형태들. 지원하지 않는 형식은 예외 경로 비용을 따로 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReceiptUtilsBenchmark {
+
+    private static final int DATES = 8;
+    private static final int UNSUPPORTED_DATES = 4;
+    private static final int BIZ_NOS = 6;
+
+    private final String[] dates = {
+            "2025-03-14", "2025/03/15", "2025.03.10", "2025.03.10.",
+            "25-03-14", "25/03/15", "25.03.10", "25.03.10.",
+    };
+
+    private final String[] unsupportedDates = {
+            "2025년 3월 11일", "3월 11일", "20250311", "2025-3-1",
+    };
+
+    private final String[] bizNos = {
+            "124-81-00998", "1248100998", "124 81 00998",
+            "220-81-62517", "사업자번호: 105-81-88372", "123-45-67890",
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void parseFlexibleDate(Blackhole bh) {
+        for (String d : dates) {
+            bh.consume(DateUtils.parseFlexibleDate(d));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(UNSUPPORTED_DATES)
+    public void parseFlexibleDateUnsupported(Blackhole bh) {
+        for (String d : unsupportedDates) {
+            try {
+                bh.consume(DateUtils.parseFlexibleDate(d));
+            } catch (RuntimeException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BIZ_NOS)
+    public void isValidBizNo(Blackhole bh) {
+        for (String b : bizNos) {
+            bh.consume(BizNoUtils.isValidBizNo(b));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BIZ_NOS)
+    public void normalizeBizNo(Blackhole bh) {
+        for (String b : bizNos) {
+            try {
+                bh.consume(BizNoUtils.normalizeBizNo(b));
+            } catch (IllegalArgumentException e) {
+                bh.consume(e);
+            }
+        }
+    }
+}
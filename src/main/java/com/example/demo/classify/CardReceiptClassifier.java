@@ -1,127 +1,209 @@
 package com.example.demo.classify;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
 import com.example.demo.model.CardReceiptType;
+import com.example.demo.parser.ReceiptText;
 import com.google.cloud.documentai.v1.Document;
 
+/**
+ * 카드 영수증 유형 분류기
+ * - 모든 키워드 신호를 Aho-Corasick 오토마톤 1개로 묶어 본문을 한 번만 훑고, 유형별 점수를 동시에 산출한다.
+ * - 정규식 신호(승인번호/승인일시/마스킹 카드번호/CU 점포)는 "(?s).*" 전체 매칭 대신 find()로 첫 위치만 찾는다.
+ *   → 본문 길이에 선형, 타입이 지정된 요청에도 매번 돌려볼 수 있을 만큼 가볍다.
+ */
+@Component
 public class CardReceiptClassifier {
 
     public static class Classified {
         public CardReceiptType type;
         public double confidence;
+        // 유형별 원점수 (디버깅/후속 판단용)
+        public Map<CardReceiptType, Integer> scores;
 
         public Classified(CardReceiptType type, double confidence) {
             this.type = type;
             this.confidence = confidence;
         }
-    }
-
-    public Classified classify(Document doc) {
-        String text = (doc == null || doc.getText() == null) ? "" : doc.getText();
-        String upper = text.toUpperCase();
-
-        // 점수 기반(가벼운 룰 + confidence 산출)
-        int coupangApp = 0;
-        int coupangCard = 0;
-        int convenience = 0;
-        int mart = 0;
-        int slip = 0;
-
-        // 1) 쿠팡 앱 결제내역
-        if (isCoupangApp(text)) coupangApp += 10;
-
-        // 2) 쿠팡 카드영수증
-        if (upper.contains("쿠팡") || upper.contains("COUPANG")) coupangCard += 3;
-        if (text.contains("주문번호")) coupangCard += 2;
-        if (text.contains("카드영수증") || text.contains("구매정보")) coupangCard += 3;
-
-        // 3) 편의점(브랜드 신호)
-        if (upper.contains("GS25")) convenience += 6;
-        if (upper.contains("7-ELEVEN") || text.contains("세븐일레븐")) convenience += 6;
-        if (containsCuStrong(upper)) convenience += 5;
-
-        // 4) 마트형(과세/면세/공급가액/부가세 동시)
-        if (text.contains("과세")) mart += 2;
-        if (text.contains("면세")) mart += 2;
-        if (text.contains("공급가액")) mart += 3;
-        if (text.contains("부가세") || upper.contains("VAT")) mart += 3;
-        if (text.contains("과세물품") || text.contains("면세물품") || text.contains("과세합계") || text.contains("면세합계")) mart += 2;
-
-        // 5) 일반 카드전표(CARD_SLIP_GENERIC) 신호
-        // - 승인번호/승인일시/일시불/할부/가맹점번호/마스킹 카드번호 등
-        // - OCR에서 "승인번호"가 "승 인 번 호" 같은 형태로 깨질 수 있어서 regex로 판단
-        if (looksLikeApprovalNo(text) || containsApprovalKeyword(text)) slip += 5; // 가장 강한 신호
-        if (looksLikeApprovedDateTime(text)) slip += 2;
-
-        if (text.contains("일시불") || text.contains("할부")) slip += 2;
-
-        // 가맹점번호는 '가맹점NO'처럼도 많이 나옴
-        if (text.contains("가맹점번호") || text.contains("가맹점NO") || text.contains("가맹점 NO") || text.contains("가맹점NO.")) slip += 2;
-
-        // 단말기/TID/거래번호 등
-        if (text.contains("단말기") || text.contains("TID") || text.contains("거래번호")) slip += 1;
-
-        // 매입사/VAN
-        if (text.contains("매입사") || upper.contains("VAN")) slip += 1;
-
-        // NO-CVM
-        if (upper.contains("NO-CVM") || upper.contains("NOCVM")) slip += 2;
-
-        // 카드번호 마스킹 형태
-        if (looksLikeMaskedCardNo(text)) slip += 2;
 
-        // 최종 선택
-        // 우선순위: 쿠팡앱 > 편의점 > 쿠팡카드 > 마트 > 카드전표
-        if (coupangApp >= 10) return new Classified(CardReceiptType.COUPANG_APP, 0.95);
-
-        int best = max(convenience, coupangCard, mart, slip);
-        if (best <= 0) return new Classified(CardReceiptType.UNKNOWN, 0.10);
+        Classified(CardReceiptType type, double confidence, Map<CardReceiptType, Integer> scores) {
+            this(type, confidence);
+            this.scores = scores;
+        }
+    }
 
-        if (best == convenience) return new Classified(CardReceiptType.CONVENIENCE, conf(best));
-        if (best == coupangCard) return new Classified(CardReceiptType.COUPANG_CARD, conf(best));
-        if (best == mart) return new Classified(CardReceiptType.MART_ITEMIZED, conf(best));
-        if (best == slip) return new Classified(CardReceiptType.CARD_SLIP_GENERIC, conf(best));
+    /**
+     * 점수 신호: keywords 중 하나라도 있거나, (gate 키워드가 있을 때) pattern.find() 가 성공하면 weight 가산
+     */
+    private static final class Signal {
+        final CardReceiptType type;
+        final int weight;
+        final String[] keywords;
+        final Pattern pattern;
+        final String gate;
+
+        Signal(CardReceiptType type, int weight, String... keywords) {
+            this(type, weight, null, null, keywords);
+        }
 
-        return new Classified(CardReceiptType.UNKNOWN, 0.20);
+        Signal(CardReceiptType type, int weight, Pattern pattern, String gate, String... keywords) {
+            this.type = type;
+            this.weight = weight;
+            this.pattern = pattern;
+            this.gate = gate;
+            this.keywords = keywords;
+        }
     }
 
-    private boolean isCoupangApp(String text) {
-        boolean hasCoupay = text.contains("쿠팡(쿠페이)");
-        boolean hasMemo = text.contains("거래메모");
-        boolean hasCardReceipt = text.contains("카드영수증") || text.contains("구매정보");
-        return hasCoupay && hasMemo && !hasCardReceipt;
+    // "CU"는 오탐이 많아서 같은 줄에 점/STORE가 뒤따르는 강한 패턴만 인정
+    private static final Pattern CU_STORE = Pattern.compile("\\bCU\\b.*(?:점|STORE)", Pattern.CASE_INSENSITIVE);
+
+    // 승인번호 / 승인 번호 / 승 인 번 호 등 OCR 깨짐까지 허용
+    private static final Pattern APPROVAL_NO = Pattern.compile("승\\s*인\\s*번\\s*호\\s*[:\\-]?\\s*\\d{6,12}");
+
+    // 2025/12/18 12:58:36 형태 (슬래시/점/하이픈 모두 허용)
+    private static final Pattern APPROVED_DATE_TIME = Pattern.compile(
+            "\\b\\d{4}[./-]\\d{2}[./-]\\d{2}\\s+\\d{2}:\\d{2}:\\d{2}\\b");
+
+    // 1234****5678 / 1234-**-****-5678 / 5585-0313-****-199* 등 (마지막 3~4자리에 * / X 허용)
+    private static final Pattern MASKED_CARD_NO = Pattern.compile(
+            "\\b\\d{4}[\\s\\-]*(?:[*Xx]{2,}|\\d{0,2})[\\s\\-*Xx0-9]{2,12}[\\d*Xx]{3,4}\\b");
+
+    private static final Signal[] SIGNALS = {
+            // 쿠팡 카드영수증
+            new Signal(CardReceiptType.COUPANG_CARD, 3, "쿠팡", "COUPANG"),
+            new Signal(CardReceiptType.COUPANG_CARD, 2, "주문번호"),
+            new Signal(CardReceiptType.COUPANG_CARD, 3, "카드영수증", "구매정보"),
+
+            // 편의점(브랜드 신호)
+            new Signal(CardReceiptType.CONVENIENCE, 6, "GS25"),
+            new Signal(CardReceiptType.CONVENIENCE, 6, "7-ELEVEN", "세븐일레븐"),
+            new Signal(CardReceiptType.CONVENIENCE, 5, CU_STORE, "CU", "CU점"),
+
+            // 배달앱
+            new Signal(CardReceiptType.DELIVERY, 6, "배달의민족", "배민", "요기요", "쿠팡이츠"),
+            new Signal(CardReceiptType.DELIVERY, 3, "주문메뉴", "라이더님께"),
+
+            // 마트형(과세/면세/공급가액/부가세 동시)
+            new Signal(CardReceiptType.MART_ITEMIZED, 2, "과세"),
+            new Signal(CardReceiptType.MART_ITEMIZED, 2, "면세"),
+            new Signal(CardReceiptType.MART_ITEMIZED, 3, "공급가액"),
+            new Signal(CardReceiptType.MART_ITEMIZED, 3, "부가세", "VAT"),
+            new Signal(CardReceiptType.MART_ITEMIZED, 2, "과세물품", "면세물품", "과세합계", "면세합계"),
+
+            // 일반 카드전표: 승인번호가 가장 강한 신호 ('승인' 단독은 오탐이 많아 '신용승인'만 인정)
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 5, APPROVAL_NO, "승", "신용승인"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 2, APPROVED_DATE_TIME, ":"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 2, "일시불", "할부"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 2, "가맹점번호", "가맹점NO", "가맹점 NO"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 1, "단말기", "TID", "거래번호"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 1, "매입사", "VAN"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 2, "NO-CVM", "NOCVM"),
+            new Signal(CardReceiptType.CARD_SLIP_GENERIC, 2, MASKED_CARD_NO, null),
+    };
+
+    // 쿠팡 앱 결제내역 판별용 (점수가 아니라 조합 조건)
+    private static final String COUPAY = "쿠팡(쿠페이)";
+    private static final String TX_MEMO = "거래메모";
+
+    // 동점일 때 우선순위: 편의점 > 배달 > 쿠팡카드 > 마트 > 카드전표
+    private static final CardReceiptType[] PRIORITY = {
+            CardReceiptType.CONVENIENCE,
+            CardReceiptType.DELIVERY,
+            CardReceiptType.COUPANG_CARD,
+            CardReceiptType.MART_ITEMIZED,
+            CardReceiptType.CARD_SLIP_GENERIC,
+    };
+
+    private static final KeywordAutomaton AUTOMATON;
+    private static final int[][] SIGNAL_KEYWORDS;
+    private static final int[] SIGNAL_GATE;
+    private static final int ID_COUPAY, ID_TX_MEMO, ID_CARD_RECEIPT, ID_PURCHASE_INFO;
+
+    static {
+        Set<String> dict = new LinkedHashSet<>();
+        for (Signal s : SIGNALS) {
+            for (String k : s.keywords) dict.add(k.toUpperCase());
+            if (s.gate != null) dict.add(s.gate.toUpperCase());
+        }
+        dict.add(COUPAY);
+        dict.add(TX_MEMO);
+        List<String> keywords = new ArrayList<>(dict);
+        AUTOMATON = new KeywordAutomaton(keywords);
+
+        SIGNAL_KEYWORDS = new int[SIGNALS.length][];
+        SIGNAL_GATE = new int[SIGNALS.length];
+        for (int i = 0; i < SIGNALS.length; i++) {
+            Signal s = SIGNALS[i];
+            SIGNAL_KEYWORDS[i] = new int[s.keywords.length];
+            for (int j = 0; j < s.keywords.length; j++) {
+                SIGNAL_KEYWORDS[i][j] = keywords.indexOf(s.keywords[j].toUpperCase());
+            }
+            SIGNAL_GATE[i] = s.gate == null ? -1 : keywords.indexOf(s.gate.toUpperCase());
+        }
+        ID_COUPAY = keywords.indexOf(COUPAY);
+        ID_TX_MEMO = keywords.indexOf(TX_MEMO);
+        ID_CARD_RECEIPT = keywords.indexOf("카드영수증");
+        ID_PURCHASE_INFO = keywords.indexOf("구매정보");
     }
 
-    // "CU"는 오탐이 많아서 강한 패턴만 인정
-    private boolean containsCuStrong(String upper) {
-        return upper.contains("CU점") || upper.matches(".*\\bCU\\b.*(점|STORE).*");
+    public Classified classify(Document doc) {
+        return classify(ReceiptText.of(doc));
     }
 
-    private boolean containsApprovalKeyword(String text) {
-        // '신용승인', '승인' 단독은 오탐 가능성이 있어서 '신용승인'만 강하게 인정
-        // (승인번호는 looksLikeApprovalNo에서 처리)
-        return text.contains("신용승인");
+    public Classified classify(ReceiptText rt) {
+        return classify(rt.raw());
     }
 
-    private boolean looksLikeMaskedCardNo(String text) {
-        // 1234****5678 / 1234-**-****-5678 / 5585-0313-****-199* 등 허용
-        // - 마지막 3~4자리에 숫자뿐 아니라 * / X 도 섞일 수 있음
-        return text.matches("(?s).*\\b\\d{4}[\\s\\-]*([*Xx]{2,}|\\d{0,2})[\\s\\-*Xx0-9]{2,12}[\\d*Xx]{3,4}\\b.*");
-    }
+    public Classified classify(CharSequence text) {
+        if (text == null) text = "";
+        boolean[] hit = AUTOMATON.scan(text);
 
-    private boolean looksLikeApprovalNo(String text) {
-        // 승인번호 / 승인 번호 / 승 인 번 호 등 OCR 깨짐까지 허용
-        return text.matches("(?s).*승\\s*인\\s*번\\s*호\\s*[:\\-]?\\s*\\d{6,12}.*");
-    }
+        Map<CardReceiptType, Integer> scores = new EnumMap<>(CardReceiptType.class);
+        for (CardReceiptType t : PRIORITY) scores.put(t, 0);
+
+        for (int i = 0; i < SIGNALS.length; i++) {
+            if (fires(i, hit, text)) {
+                scores.merge(SIGNALS[i].type, SIGNALS[i].weight, Integer::sum);
+            }
+        }
 
-    private boolean looksLikeApprovedDateTime(String text) {
-        // 2025/12/18 12:58:36 형태 (슬래시/점/하이픈 모두 허용)
-        return text.matches("(?s).*\\b\\d{4}[./-]\\d{2}[./-]\\d{2}\\s+\\d{2}:\\d{2}:\\d{2}\\b.*");
+        // 쿠팡 앱 결제내역: 쿠팡(쿠페이) + 거래메모, 카드영수증/구매정보 없음 → 최우선
+        if (hit[ID_COUPAY] && hit[ID_TX_MEMO] && !hit[ID_CARD_RECEIPT] && !hit[ID_PURCHASE_INFO]) {
+            scores.put(CardReceiptType.COUPANG_APP, 10);
+            return new Classified(CardReceiptType.COUPANG_APP, 0.95, scores);
+        }
+
+        CardReceiptType bestType = null;
+        int best = 0;
+        for (CardReceiptType t : PRIORITY) {
+            int s = scores.get(t);
+            if (s > best) {
+                best = s;
+                bestType = t;
+            }
+        }
+        if (bestType == null) return new Classified(CardReceiptType.UNKNOWN, 0.10, scores);
+        return new Classified(bestType, conf(best), scores);
     }
 
-    private int max(int... arr) {
-        int m = Integer.MIN_VALUE;
-        for (int v : arr) m = Math.max(m, v);
-        return m;
+    private static boolean fires(int i, boolean[] hit, CharSequence text) {
+        for (int id : SIGNAL_KEYWORDS[i]) {
+            if (hit[id]) return true;
+        }
+        Signal s = SIGNALS[i];
+        if (s.pattern == null) return false;
+        // 선행 키워드가 본문에 없으면 정규식은 돌리지 않음
+        if (SIGNAL_GATE[i] >= 0 && !hit[SIGNAL_GATE[i]]) return false;
+        return s.pattern.matcher(text).find();
     }
 
     private double conf(int score) {
@@ -0,0 +1,242 @@
+package com.example.demo.classify;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.AccountMapper;
+
+/**
+ * 품목명 → 품목 구분(itemType) 분류기 (1: 식재료, 2: 소모품, 3: 기타)
+ * - 식재료/소모품/예외 키워드를 오토마톤 1개로 묶어 품목명을 한 번만 훑는다. (우선순위: 예외 > 식재료 > 소모품)
+ * - 같은 품목명이 반복해서 들어오므로 판정 결과를 LRU 캐시에 보관한다.
+ * - 학습 사전: 매입집계 상세(tb_account_purchase_tally_detail)에서 사용자가 화면에서 다시 저장한 행(mod_dt 있음)의
+ *   품목명별 itemType 중 건수/비율 기준을 넘는 값은 키워드보다 우선한다. (현장에서 수정한 구분이 다음 OCR 부터 반영됨)
+ *   OCR 이 저장한 행은 기본값(fallback)이 섞여 있어 학습하면 기본값이 스스로 강화되므로 제외한다.
+ *   사용자 확인 여부를 따로 기록하기 전까지는 기본 비활성 (ocr.item-category.learned.enabled)
+ * 키워드에 걸리지 않으면 호출측 기본값(fallback)을 쓴다. 컨트롤러마다 기본값이 달라서 호출측이 넘긴다.
+ */
+@Component
+public class ItemCategoryClassifier {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemCategoryClassifier.class);
+
+    public static final int FOOD = 1;
+    public static final int SUPPLY = 2;
+    public static final int ETC = 3;
+
+    // 판정 없음 (호출측 기본값 사용)
+    private static final int UNDECIDED = 0;
+
+    // 식재료 키워드
+    private static final List<String> FOOD_KEYWORDS = List.of(
+            "쌀", "현미", "찹쌀", "보리",
+            "감자", "고구마", "양파", "당근", "마늘", "생강", "무", "배추", "파", "버섯", "양배추",
+            "고기", "쇠고기", "소고기", "돼지고기", "돈육", "닭", "계육", "정육", "삼겹살",
+            "계란", "달걀", "두부", "콩", "콩나물", "숙주",
+            "생선", "연어", "참치", "고등어", "오징어", "새우", "조개", "해물",
+            "김치", "고춧가루", "된장", "간장", "맛술", "참기름", "들기름", "식초", "소금", "설탕",
+            "밀가루", "전분", "치즈", "버터", "우유", "생크림", "요거트",
+            "사과", "바나나", "딸기", "배", "포도", "과일",
+            "커피", "라떼", "모카", "카페", "맥심", "원두", "티백", "음료");
+
+    // 소모품 키워드
+    private static final List<String> SUPPLY_KEYWORDS = List.of(
+            "칼", "식칼", "도마", "가위", "국자", "집게",
+            "행주", "수건", "걸레", "키친타올", "종이타월", "휴지", "물티슈",
+            "위생장갑", "고무장갑", "앞치마", "마스크",
+            "종이컵", "비닐", "봉투", "랩", "호일", "포장",
+            "세제", "주방세제", "락스", "세척제", "소독제",
+            "수세미", "스펀지", "필터", "호스", "밥솥",
+            "그릇", "식기", "접시", "공기", "쟁반", "바구니", "찬합", "반찬통", "용기",
+            "냄비", "솥", "팬", "프라이팬", "볼", "채반", "소쿠리", "체", "카트", "서빙카",
+            "다라이", "양푼", "스텐", "타공");
+
+    // 예외 케이스 ('칼','가위' 포함하지만 실제 식재료인 경우) → 키워드 판정 없이 기본값
+    private static final List<String> FOOD_EXCEPTIONS = List.of("칼국수", "가위살");
+
+    private static final KeywordAutomaton AUTOMATON;
+    private static final int EXCEPTION = -1;
+    private static final int[] GROUP; // 키워드 번호 → EXCEPTION / FOOD / SUPPLY
+
+    static {
+        Map<String, Integer> dict = new LinkedHashMap<>();
+        for (String k : FOOD_EXCEPTIONS) dict.putIfAbsent(k.toUpperCase(), EXCEPTION);
+        for (String k : FOOD_KEYWORDS) dict.putIfAbsent(k.toUpperCase(), FOOD);
+        for (String k : SUPPLY_KEYWORDS) dict.putIfAbsent(k.toUpperCase(), SUPPLY);
+        List<String> keywords = new ArrayList<>(dict.keySet());
+        AUTOMATON = new KeywordAutomaton(keywords);
+        GROUP = new int[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) GROUP[i] = dict.get(keywords.get(i));
+    }
+
+    @Value("${ocr.item-category.cache-size:5000}")
+    private int cacheSize = 5000;
+
+    @Value("${ocr.item-category.learned.enabled:false}")
+    private boolean learnedEnabled;
+
+    // 학습 사전 반영 기준: 최소 건수 / 최다 구분 비율
+    @Value("${ocr.item-category.learned.min-count:3}")
+    private int learnedMinCount = 3;
+
+    @Value("${ocr.item-category.learned.min-share:0.8}")
+    private double learnedMinShare = 0.8;
+
+    // 학습 사전 조회 기간 (개월)
+    @Value("${ocr.item-category.learned.months:12}")
+    private int learnedMonths = 12;
+
+    private final AccountMapper accountMapper;
+
+    // 정규화된 품목명 → 판정 (UNDECIDED 포함, 접근 순서 LRU)
+    private final LinkedHashMap<String, Integer> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    private volatile Map<String, Integer> learned = Map.of();
+    private volatile long learnedLoadedAt;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong learnedHits = new AtomicLong();
+
+    public ItemCategoryClassifier(AccountMapper accountMapper) {
+        this.accountMapper = accountMapper;
+    }
+
+    /**
+     * @param fallback 키워드/학습 사전에 걸리지 않거나 품목명이 비었을 때 돌려줄 구분
+     */
+    public int classify(String itemName, int fallback) {
+        String key = normalize(itemName);
+        if (key.isEmpty()) return fallback;
+        lookups.incrementAndGet();
+
+        Integer decided;
+        synchronized (cache) {
+            decided = cache.get(key);
+        }
+        if (decided != null) {
+            cacheHits.incrementAndGet();
+        } else {
+            decided = decide(key);
+            synchronized (cache) {
+                cache.put(key, decided);
+            }
+        }
+        return decided == UNDECIDED ? fallback : decided;
+    }
+
+    private int decide(String key) {
+        Integer fromHistory = learned.get(key);
+        if (fromHistory != null) {
+            learnedHits.incrementAndGet();
+            return fromHistory;
+        }
+        return byKeyword(key);
+    }
+
+    private static int byKeyword(String name) {
+        boolean[] hit = AUTOMATON.scan(name);
+        boolean food = false, supply = false;
+        for (int i = 0; i < hit.length; i++) {
+            if (!hit[i]) continue;
+            if (GROUP[i] == EXCEPTION) return UNDECIDED;
+            if (GROUP[i] == FOOD) food = true;
+            else if (GROUP[i] == SUPPLY) supply = true;
+        }
+        if (food) return FOOD;
+        if (supply) return SUPPLY;
+        return UNDECIDED;
+    }
+
+    /**
+     * 매입집계 상세에서 품목명별 itemType 건수를 읽어 학습 사전을 다시 만든다.
+     * @return 사전 항목 수 (비활성 = -1)
+     */
+    public int reloadLearned() {
+        if (!learnedEnabled) return -1;
+
+        Map<String, Object> param = new HashMap<>();
+        param.put("months", learnedMonths);
+        List<Map<String, Object>> rows = accountMapper.ItemCategoryDictionaryList(param);
+
+        // 정규화된 품목명 → (itemType → 건수)
+        Map<String, Map<Integer, Integer>> counts = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            String key = normalize(row.get("name") == null ? null : String.valueOf(row.get("name")));
+            int type = toInt(row.get("itemType"));
+            int cnt = toInt(row.get("cnt"));
+            if (key.isEmpty() || type < FOOD || type > ETC || cnt <= 0) continue;
+            counts.computeIfAbsent(key, k -> new HashMap<>()).merge(type, cnt, Integer::sum);
+        }
+
+        Map<String, Integer> next = new HashMap<>();
+        counts.forEach((key, byType) -> {
+            int total = 0, bestType = 0, best = 0;
+            for (Map.Entry<Integer, Integer> e : byType.entrySet()) {
+                total += e.getValue();
+                if (e.getValue() > best) {
+                    best = e.getValue();
+                    bestType = e.getKey();
+                }
+            }
+            if (best >= learnedMinCount && (double) best / total >= learnedMinShare) {
+                next.put(key, bestType);
+            }
+        });
+
+        learned = Map.copyOf(next);
+        learnedLoadedAt = System.currentTimeMillis();
+        synchronized (cache) {
+            cache.clear();
+        }
+        log.info("[ItemCategoryClassifier] 학습 사전 {}건 반영 (품목명 {}종 중)", next.size(), counts.size());
+        return next.size();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        long n = lookups.get();
+        m.put("keywords", AUTOMATON.size());
+        m.put("learnedEnabled", learnedEnabled);
+        m.put("learnedEntries", learned.size());
+        m.put("learnedLoadedAt", learnedLoadedAt == 0 ? null : Instant.ofEpochMilli(learnedLoadedAt).toString());
+        m.put("lookups", n);
+        m.put("cacheHitRate", n == 0 ? 0.0 : (double) cacheHits.get() / n);
+        m.put("learnedHits", learnedHits.get());
+        synchronized (cache) {
+            m.put("cacheSize", cache.size());
+        }
+        return m;
+    }
+
+    // 공백 제거 + 영문 대문자 (OCR 띄어쓰기 흔들림 흡수)
+    private static String normalize(String name) {
+        if (name == null) return "";
+        return name.replaceAll("\\s+", "").toUpperCase();
+    }
+
+    private static int toInt(Object v) {
+        if (v == null) return 0;
+        if (v instanceof Number) return ((Number) v).intValue();
+        try {
+            return Integer.parseInt(String.valueOf(v).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
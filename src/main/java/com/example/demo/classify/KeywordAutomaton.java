@@ -0,0 +1,106 @@
+package com.example.demo.classify;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다중 키워드 동시 검색용 Aho-Corasick 오토마톤.
+ * 키워드 수와 무관하게 본문을 한 번만 훑어서 어떤 키워드가 등장했는지 알려준다.
+ * 대소문자는 구분하지 않는다(영문은 대문자로 맞춰 비교, 한글은 영향 없음).
+ * 생성 후에는 읽기 전용이라 여러 스레드가 공유해도 안전하다.
+ */
+public final class KeywordAutomaton {
+
+    private static final class Node {
+        final Map<Character, Node> next = new HashMap<>();
+        Node fail;
+        // 이 노드에서 끝나는 키워드 번호 (fail 링크를 따라간 출력까지 합쳐둠)
+        int[] outputs = new int[0];
+    }
+
+    private final Node root = new Node();
+    private final List<String> keywords;
+
+    public KeywordAutomaton(List<String> keywords) {
+        this.keywords = List.copyOf(keywords);
+        for (int i = 0; i < this.keywords.size(); i++) {
+            insert(this.keywords.get(i), i);
+        }
+        link();
+    }
+
+    public int size() {
+        return keywords.size();
+    }
+
+    public String keyword(int id) {
+        return keywords.get(id);
+    }
+
+    /**
+     * 본문을 한 번 훑어서 키워드별 등장 여부를 돌려준다. (인덱스 = 생성 시 키워드 순서)
+     */
+    public boolean[] scan(CharSequence text) {
+        boolean[] hit = new boolean[keywords.size()];
+        if (text == null) return hit;
+        Node state = root;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = Character.toUpperCase(text.charAt(i));
+            Node nx;
+            while ((nx = state.next.get(c)) == null && state != root) {
+                state = state.fail;
+            }
+            state = nx != null ? nx : root;
+            for (int id : state.outputs) {
+                hit[id] = true;
+            }
+        }
+        return hit;
+    }
+
+    private void insert(String keyword, int id) {
+        Node node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.next.computeIfAbsent(Character.toUpperCase(keyword.charAt(i)), k -> new Node());
+        }
+        node.outputs = append(node.outputs, id);
+    }
+
+    // BFS로 fail 링크 연결
+    private void link() {
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> e : node.next.entrySet()) {
+                Node child = e.getValue();
+                Node f = node.fail;
+                while (f != root && !f.next.containsKey(e.getKey())) {
+                    f = f.fail;
+                }
+                Node target = f.next.get(e.getKey());
+                child.fail = (target != null && target != child) ? target : root;
+                if (child.fail.outputs.length > 0) {
+                    List<Integer> merged = new ArrayList<>();
+                    for (int id : child.outputs) merged.add(id);
+                    for (int id : child.fail.outputs) merged.add(id);
+                    child.outputs = merged.stream().mapToInt(Integer::intValue).toArray();
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] append(int[] arr, int v) {
+        int[] out = Arrays.copyOf(arr, arr.length + 1);
+        out[arr.length] = v;
+        return out;
+    }
+}
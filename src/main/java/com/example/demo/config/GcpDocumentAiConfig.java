@@ -6,11 +6,14 @@ import com.google.cloud.documentai.v1.DocumentProcessorServiceSettings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
 
+// 오프라인 OCR 프로필(offline-ocr)에서는 OfflineDocumentAiConfig의 대역 클라이언트를 사용
 @Configuration
+@Profile("!offline-ocr")
 public class GcpDocumentAiConfig {
 
     // application.properties에서 크리덴셜 경로를 주입받습니다.
@@ -0,0 +1,46 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.google.cloud.documentai.v1.DocumentProcessorServiceClient;
+
+/**
+ * 오프라인 OCR 프로필 (--spring.profiles.active=offline-ocr)
+ * 크리덴셜/네트워크 없이 녹화된 Document로 응답하는 대역 클라이언트를 등록한다. (부하/회귀 테스트용)
+ */
+@Configuration
+@Profile("offline-ocr")
+public class OfflineDocumentAiConfig {
+
+    @Value("${ocr.offline.corpus-dir:${ocr.cache.dir:${java.io.tmpdir}/ocr-cache}}")
+    private String corpusDir;
+
+    @Value("${ocr.offline.latency-median-ms:1200}")
+    private long latencyMedianMillis;
+
+    @Value("${ocr.offline.latency-sigma:0.5}")
+    private double latencySigma;
+
+    @Value("${ocr.offline.latency-max-ms:15000}")
+    private long latencyMaxMillis;
+
+    @Value("${ocr.offline.error-rate:0.0}")
+    private double errorRate;
+
+    @Bean
+    public OfflineDocumentAiStub offlineDocumentAiStub() throws IOException {
+        return new OfflineDocumentAiStub(Paths.get(corpusDir), latencyMedianMillis, latencySigma,
+                latencyMaxMillis, errorRate);
+    }
+
+    @Bean
+    public DocumentProcessorServiceClient documentProcessorServiceClient(OfflineDocumentAiStub stub) {
+        return DocumentProcessorServiceClient.create(stub);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.documentai.v1.Document;
+import com.google.cloud.documentai.v1.ProcessRequest;
+import com.google.cloud.documentai.v1.ProcessResponse;
+import com.google.cloud.documentai.v1.stub.DocumentProcessorServiceStub;
+import com.google.protobuf.ByteString;
+
+import io.grpc.Status;
+
+/**
+ * 오프라인 Document AI 대역(stub)
+ * - 녹화된 Document protobuf(*.pb)를 코퍼스 디렉터리에서 찾아 응답한다.
+ *   1) 이미지 바이트 SHA-256 파일명, 2) OcrResultCache 키(프로세서명+이미지) 파일명, 3) 없으면 라운드로빈
+ *   → OCR 캐시 디렉터리(ocr.cache.dir)를 그대로 코퍼스로 지정할 수 있다.
+ * - 로그정규 분포 지연과 오류율을 주입해 타임아웃/fallback/실행기 포화 동작을 재현한다.
+ * processDocument 외의 호출은 지원하지 않는다.
+ */
+public class OfflineDocumentAiStub extends DocumentProcessorServiceStub {
+
+    private static final Logger log = LoggerFactory.getLogger(OfflineDocumentAiStub.class);
+
+    private static final String FILE_SUFFIX = ".pb";
+
+    private final Map<String, Path> byName = new HashMap<>();
+    private final List<Path> corpus = new ArrayList<>();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private final long latencyMedianMillis;
+    private final double latencySigma;
+    private final long latencyMaxMillis;
+    private final double errorRate;
+
+    private final ScheduledExecutorService timer;
+    private volatile boolean shutdown = false;
+
+    private final AtomicLong hashHits = new AtomicLong();
+    private final AtomicLong roundRobinServed = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public OfflineDocumentAiStub(Path corpusDir, long latencyMedianMillis, double latencySigma,
+                                 long latencyMaxMillis, double errorRate) throws IOException {
+        this.latencyMedianMillis = latencyMedianMillis;
+        this.latencySigma = latencySigma;
+        this.latencyMaxMillis = latencyMaxMillis;
+        this.errorRate = errorRate;
+
+        if (Files.isDirectory(corpusDir)) {
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(corpusDir, "*" + FILE_SUFFIX)) {
+                for (Path p : ds) {
+                    String name = p.getFileName().toString();
+                    byName.put(name.substring(0, name.length() - FILE_SUFFIX.length()), p);
+                    corpus.add(p);
+                }
+            }
+        }
+        corpus.sort(null);
+        if (corpus.isEmpty()) {
+            log.warn("[OfflineDocumentAi] 코퍼스가 비어 있음: {} → 빈 Document로 응답", corpusDir);
+        }
+        log.info("[OfflineDocumentAi] 코퍼스 {}건, 지연 중앙값 {}ms(σ={}), 최대 {}ms, 오류율 {}",
+                corpus.size(), latencyMedianMillis, latencySigma, latencyMaxMillis, errorRate);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.timer = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "offline-docai-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public UnaryCallable<ProcessRequest, ProcessResponse> processDocumentCallable() {
+        return new UnaryCallable<ProcessRequest, ProcessResponse>() {
+            @Override
+            public ApiFuture<ProcessResponse> futureCall(ProcessRequest request, ApiCallContext context) {
+                return respond(request);
+            }
+        };
+    }
+
+    private ApiFuture<ProcessResponse> respond(ProcessRequest request) {
+        SettableApiFuture<ProcessResponse> future = SettableApiFuture.create();
+        long delay = sampleLatency();
+        boolean fail = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+
+        timer.schedule(() -> {
+            if (future.isDone()) return; // 호출측에서 취소
+            if (fail) {
+                injectedErrors.incrementAndGet();
+                future.setException(ApiExceptionFactory.createException("offline stand-in: 주입된 오류", null,
+                        GrpcStatusCode.of(Status.Code.UNAVAILABLE), true));
+                return;
+            }
+            try {
+                future.set(ProcessResponse.newBuilder().setDocument(lookup(request)).build());
+            } catch (Exception e) {
+                future.setException(e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private Document lookup(ProcessRequest request) throws IOException {
+        ByteString content = request.getRawDocument().getContent();
+        Path p = byName.get(sha256(null, content));
+        if (p == null) p = byName.get(sha256(request.getName(), content));
+        if (p != null) {
+            hashHits.incrementAndGet();
+        } else if (!corpus.isEmpty()) {
+            p = corpus.get(Math.floorMod(roundRobin.getAndIncrement(), corpus.size()));
+            roundRobinServed.incrementAndGet();
+        } else {
+            return Document.newBuilder().setMimeType("image/jpeg").build();
+        }
+        return Document.parseFrom(Files.readAllBytes(p));
+    }
+
+    // 로그정규 분포: 중앙값 × e^(σ·N(0,1)), 상한 적용
+    private long sampleLatency() {
+        if (latencyMedianMillis <= 0) return 0;
+        double v = latencyMedianMillis * Math.exp(latencySigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.min(latencyMaxMillis, Math.max(0, Math.round(v)));
+    }
+
+    private static String sha256(String prefix, ByteString content) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            if (prefix != null) md.update(prefix.getBytes(StandardCharsets.UTF_8));
+            md.update(content.asReadOnlyByteBuffer());
+            StringBuilder sb = new StringBuilder(64);
+            for (byte b : md.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        m.put("corpusSize", corpus.size());
+        m.put("hashHits", hashHits.get());
+        m.put("roundRobinServed", roundRobinServed.get());
+        m.put("injectedErrors", injectedErrors.get());
+        return m;
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        timer.shutdown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return timer.isTerminated();
+    }
+
+    @Override
+    public void shutdownNow() {
+        shutdown = true;
+        timer.shutdownNow();
+    }
+
+    @Override
+    public boolean awaitTermination(long duration, TimeUnit unit) throws InterruptedException {
+        return timer.awaitTermination(duration, unit);
+    }
+}
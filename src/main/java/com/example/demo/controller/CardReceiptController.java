@@ -9,7 +9,6 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,16 +20,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.example.demo.model.CardReceiptResponse;
+import com.example.demo.classify.ItemCategoryClassifier;
 import com.example.demo.parser.BaseReceiptParser;
 import com.example.demo.parser.BaseReceiptParser.Item;
 import com.example.demo.service.AccountService;
-import com.example.demo.service.CardReceiptParseService;
+import com.example.demo.service.OcrDocumentStore;
+import com.example.demo.service.ReceiptIdempotencyService;
+import com.example.demo.service.ReceiptIngestPipeline;
+import com.example.demo.service.ReceiptPipelineSpecs;
 import com.example.demo.utils.BizNoUtils;
 import com.example.demo.utils.DateUtils;
 
@@ -47,11 +50,23 @@ public class CardReceiptController {
     };
 
     @Autowired
-    private CardReceiptParseService cardReceiptParseService;
+    private ReceiptIngestPipeline pipeline;
+
+    @Autowired
+    private ReceiptPipelineSpecs specs;
 
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private OcrDocumentStore ocrDocumentStore;
+
+    @Autowired
+    private ReceiptIdempotencyService idempotencyService;
+
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
     private final String uploadDir;
 
     @Autowired
@@ -59,6 +74,9 @@ public class CardReceiptController {
         this.uploadDir = uploadDir;
     }
 
+    /**
+     * Idempotency-Key(헤더 또는 idempotency_key 파라미터)가 있으면 같은 키 재시도에 첫 응답을 그대로 돌려준다.
+     */
     @PostMapping("/parse")
     public ResponseEntity<?> parse(
             @RequestParam("file") MultipartFile file,
@@ -74,7 +92,21 @@ public class CardReceiptController {
             @RequestParam(value = "use_name", required = false) String useName,
             @RequestParam(value = "total", required = false) String total,
             @RequestParam(value = "cell_date", required = false) String cellDate,
-            @RequestParam(value = "user_id", required = false) String userId) {
+            @RequestParam(value = "user_id", required = false) String userId,
+            @RequestParam(value = "idempotency_key", required = false) String idempotencyKeyParam,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (file == null || file.isEmpty()) {
+            return ResponseEntity.badRequest().body("file is empty");
+        }
+        return idempotencyService.execute("card-receipt-parse", firstNonBlank(idempotencyKey, idempotencyKeyParam),
+                List.of(file), () -> parseAndSave(file, type, objectValue, folderValue, cardNo, cardBrand, saveType,
+                        sale_id, receiptType, tallyType, useName, total, cellDate, userId));
+    }
+
+    private ResponseEntity<?> parseAndSave(MultipartFile file, String type, String objectValue, String folderValue,
+                                           String cardNo, String cardBrand, String saveType, String sale_id,
+                                           String receiptType, String tallyType, String useName, String total,
+                                           String cellDate, String userId) {
         try {
             if (file == null || file.isEmpty()) {
                 return ResponseEntity.badRequest().body("file is empty");
@@ -103,17 +135,15 @@ public class CardReceiptController {
             String resolvedReceiptType = firstNonBlank(receiptType, type);
 
             // ✅ 1) 파싱 (영수증 타입이 있으면 강제, 없으면 자동)
-            CardReceiptResponse res;
-            BaseReceiptParser.ReceiptResult result;
-            try {
-                res = cardReceiptParseService.parseFile(savedPath.toFile(), resolvedReceiptType);
-                result = res.result;
-            } catch (Exception ex) {
+            // 공용 OCR 실행기 사용 (대기열 포화/OCR·파싱 실패 시 → fallback 저장)
+            ReceiptIngestPipeline.Run run = pipeline.runFiles(specs.cardReceipt, List.of(savedPath), resolvedReceiptType);
+            if (!run.parsed()) {
                 // ✅ 파싱 실패해도 기본값으로 DB 저장
                 return ResponseEntity.ok(saveWithRequestParamsOnly(
                         objectValue, cardNo, cardBrand, saveType, resolvedReceiptType, tallyType,
                         useName, total, cellDate, userId, resultPath, sale_id));
             }
+            BaseReceiptParser.ReceiptResult result = run.result;
 
             if (result == null || result.meta == null || result.meta.saleDate == null) {
                 // ✅ 핵심 meta 없으면 기본값으로 DB 저장
@@ -197,23 +227,33 @@ public class CardReceiptController {
 
             // DB 저장
             int iResult = 0;
-            if (isAccount) {
-                iResult += accountService.AccountCorporateCardPaymentSave(corporateCard);
-                iResult += accountService.TallySheetCorporateCardPaymentSave(corporateCard);
-                for (Map<String, Object> m : detailList) {
-                    iResult += accountService.AccountCorporateCardPaymentDetailLSave(m);
-                }
-            } else {
-                iResult += accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
-                iResult += accountService.TallySheetCorporateCardPaymentSaveV2(corporateCard);
-                for (Map<String, Object> m : detailList) {
-                    iResult += accountService.HeadOfficeCorporateCardPaymentDetailLSave(m);
+            run.enter(ReceiptIngestPipeline.Stage.PERSIST);
+            try {
+                if (isAccount) {
+                    iResult += accountService.AccountCorporateCardPaymentSave(corporateCard);
+                    iResult += accountService.TallySheetCorporateCardPaymentSave(corporateCard);
+                    for (Map<String, Object> m : detailList) {
+                        iResult += accountService.AccountCorporateCardPaymentDetailLSave(m);
+                    }
+                } else {
+                    iResult += accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
+                    iResult += accountService.TallySheetCorporateCardPaymentSaveV2(corporateCard);
+                    for (Map<String, Object> m : detailList) {
+                        iResult += accountService.HeadOfficeCorporateCardPaymentDetailLSave(m);
+                    }
                 }
+
+                // 재파싱용 Document 보관 (실패해도 응답에 영향 없음)
+                ocrDocumentStore.save(targetSaleId,
+                        isAccount ? OcrDocumentStore.Target.ACCOUNT_CARD : OcrDocumentStore.Target.HEAD_OFFICE_CARD,
+                        run.typing.route, run.typing.parserType, run.document, result);
+            } finally {
+                run.end();
             }
 
-            // 필요하면 res.type/confidence도 같이 반환 가능
-            // corporateCard.put("parsed_type", res.type.name());
-            // corporateCard.put("parsed_confidence", res.confidence);
+            // 필요하면 run.typing.parserType/confidence도 같이 반환 가능
+            // corporateCard.put("parsed_type", run.typing.parserType);
+            // corporateCard.put("parsed_confidence", run.typing.confidence);
 
             return ResponseEntity.ok(corporateCard);
 
@@ -314,43 +354,8 @@ public class CardReceiptController {
         return 3;
     }
 
-    // 아래 키워드/예외 리스트는 네 기존 코드 그대로 복붙하면 됨
-    private static final List<String> FOOD_KEYWORDS = Arrays.asList("쌀", "현미", "찹쌀", "보리", "감자", "고구마", "양파", "당근",
-            "마늘", "생강", "무", "배추", "파", "버섯", "양배추",
-            "고기", "쇠고기", "소고기", "돼지고기", "돈육", "닭", "계육", "정육", "삼겹살", "계란", "달걀", "두부", "콩", "콩나물", "숙주",
-            "생선", "연어", "참치", "고등어", "오징어", "새우", "조개", "해물", "김치", "고춧가루", "된장", "간장", "맛술", "참기름", "식초", "소금", "설탕",
-            "밀가루", "전분", "치즈", "버터", "우유", "생크림", "요거트", "사과", "바나나", "딸기", "배", "포도", "과일",
-            "커피", "라떼", "모카", "카페", "맥심", "원두", "티백", "음료");
-
-    private static final List<String> SUPPLY_KEYWORDS = Arrays.asList("칼", "식칼", "도마", "가위", "국자", "집게",
-            "행주", "수건", "걸레", "키친타올", "종이타월", "휴지", "물티슈",
-            "위생장갑", "고무장갑", "앞치마", "마스크",
-            "종이컵", "비닐", "봉투", "랩", "호일", "포장",
-            "세제", "주방세제", "락스", "세척제", "소독제",
-            "수세미", "스펀지", "필터", "호스", "밥솥",
-            "그릇", "식기", "접시", "공기", "쟁반", "바구니", "찬합", "반찬통", "용기",
-            "냄비", "솥", "팬", "프라이팬", "볼", "채반", "소쿠리", "체", "카트", "서빙카",
-            "다라이", "양푼", "스텐", "타공");
-
-    private static final List<String> FOOD_EXCEPTIONS = Arrays.asList("칼국수", "가위살");
-
-    public static int classify(String itemName) {
-        if (itemName == null || itemName.isEmpty())
-            return 1;
-
-        for (String ex : FOOD_EXCEPTIONS) {
-            if (itemName.contains(ex))
-                return 1;
-        }
-        for (String keyword : FOOD_KEYWORDS) {
-            if (itemName.contains(keyword))
-                return 1;
-        }
-        for (String keyword : SUPPLY_KEYWORDS) {
-            if (itemName.contains(keyword))
-                return 2;
-        }
-        return 1;
+    public int classify(String itemName) {
+        return itemCategoryClassifier.classify(itemName, ItemCategoryClassifier.FOOD);
     }
 
     private String extractRawText(BaseReceiptParser.ReceiptResult result) {
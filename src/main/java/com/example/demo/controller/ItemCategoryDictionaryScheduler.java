@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.classify.ItemCategoryClassifier;
+
+@Component
+public class ItemCategoryDictionaryScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ItemCategoryDictionaryScheduler.class);
+
+	private final ItemCategoryClassifier itemCategoryClassifier;
+
+	public ItemCategoryDictionaryScheduler(ItemCategoryClassifier itemCategoryClassifier) {
+		this.itemCategoryClassifier = itemCategoryClassifier;
+	}
+
+	// 기동 1분 후 + 주기적으로 매입집계 상세의 품목 구분을 읽어 OCR 품목 분류 학습 사전 갱신
+	@Scheduled(fixedDelayString = "${ocr.item-category.learned.refresh-ms:21600000}", initialDelay = 60000)
+	public void runReload() {
+		try {
+			itemCategoryClassifier.reloadLearned();
+		} catch (Exception e) {
+			log.error("[ItemCategoryDictionaryScheduler] 품목 분류 학습 사전 갱신 중 오류", e);
+		}
+	}
+}
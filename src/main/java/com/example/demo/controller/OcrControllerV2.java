@@ -1,7 +1,6 @@
 package com.example.demo.controller;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -10,16 +9,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,15 +23,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.demo.classify.ItemCategoryClassifier;
 import com.example.demo.parser.BaseReceiptParser;
 import com.example.demo.parser.BaseReceiptParser.Item;
-import com.example.demo.parser.HeadOfficeReceiptParserFactory;
 import com.example.demo.service.AccountService;
 import com.example.demo.service.AiReceiptAnalyzer;
-import com.example.demo.service.OcrService;
+import com.example.demo.service.ReceiptIngestPipeline;
+import com.example.demo.service.ReceiptPipelineSpecs;
 import com.example.demo.utils.BizNoUtils;
 import com.example.demo.utils.DateUtils;
-import com.google.cloud.documentai.v1.Document;
 
 @RestController
 @CrossOrigin(origins = {
@@ -55,7 +48,10 @@ public class OcrControllerV2 {
     private static final String USER_INPUT_TOTAL_ACCOUNT_ID = "20250819193632";
 
     @Autowired
-    private OcrService ocrService;
+    private ReceiptIngestPipeline pipeline;
+
+    @Autowired
+    private ReceiptPipelineSpecs specs;
 
     @Autowired
     private AccountService accountService;
@@ -63,6 +59,9 @@ public class OcrControllerV2 {
     @Autowired(required = false)
     private AiReceiptAnalyzer aiAnalyzer; // 향후 자동 분석용 (지금은 사용 안 해도 OK)
 
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
     private final String uploadDir;
 
     @Autowired
@@ -70,34 +69,6 @@ public class OcrControllerV2 {
         this.uploadDir = uploadDir;
     }
 
-    // ✅ 식재료 키워드
-    private static final List<String> FOOD_KEYWORDS = Arrays.asList(
-            "쌀", "현미", "찹쌀", "보리",
-            "감자", "고구마", "양파", "당근", "마늘", "생강", "무", "배추", "파", "버섯", "양배추",
-            "고기", "쇠고기", "소고기", "돼지고기", "돈육", "닭", "계육", "정육", "삼겹살",
-            "계란", "달걀", "두부", "콩", "콩나물", "숙주",
-            "생선", "연어", "참치", "고등어", "오징어", "새우", "조개", "해물",
-            "김치", "고춧가루", "된장", "간장", "맛술", "참기름", "들기름", "식초", "소금", "설탕",
-            "밀가루", "전분", "치즈", "버터", "우유", "생크림", "요거트",
-            "사과", "바나나", "딸기", "배", "포도", "과일");
-
-    // ✅ 소모품 키워드
-    private static final List<String> SUPPLY_KEYWORDS = Arrays.asList(
-            "칼", "식칼", "도마", "가위", "국자", "집게",
-            "행주", "수건", "걸레", "키친타올", "종이타월", "휴지", "물티슈",
-            "위생장갑", "고무장갑", "앞치마", "마스크",
-            "종이컵", "비닐", "봉투", "랩", "호일", "포장",
-            "세제", "주방세제", "락스", "세척제", "소독제",
-            "수세미", "스펀지", "필터", "호스", "밥솥",
-            "그릇", "식기", "접시", "공기", "쟁반", "바구니", "찬합", "반찬통", "용기",
-            "냄비", "솥", "팬", "프라이팬", "볼", "채반", "소쿠리", "체", "카트", "서빙카",
-            "다라이", "양푼", "스텐", "타공");
-
-    // ✅ 예외 케이스 (예: "칼국수" → 음식)
-    private static final List<String> FOOD_EXCEPTIONS = Arrays.asList(
-            "칼국수", "가위살" // '칼','가위' 포함하지만 실제 식재료인 경우
-    );
-
     // ✅ 과면세 케이스
     private static final String VAT = "과세";
     private static final String TAX_FREE = "면세";
@@ -122,9 +93,6 @@ public class OcrControllerV2 {
             @RequestParam(value = "cell_date", required = false) String cell_date,
             @RequestParam(value = "skip_date_mismatch_check", required = false) String skip_date_mismatch_check) {
 
-        // 파일 저장
-        File tempFile = saveFile(file);
-
         // ✅ purchase는 "기본적으로 다 들어간다" 전제: requestParam 기반 기본값을 먼저 세팅
         Map<String, Object> purchase = new HashMap<>();
 
@@ -144,54 +112,16 @@ public class OcrControllerV2 {
         purchase.put("total", total);
         purchase.put("cell_date", cell_date);
 
-        // OCR/파싱 타임아웃용
-        ExecutorService executor = Executors.newFixedThreadPool(2);
-
         try {
 
-            // 1) OCR + 10초 타임아웃
-            Future<Document> docFuture = executor.submit(() -> ocrService.processDocumentFile(tempFile));
-
-            Document doc;
-
-            try {
-                doc = docFuture.get(10, TimeUnit.SECONDS);
-            } catch (TimeoutException te) {
-                docFuture.cancel(true); // 인터럽트 시도
-                // ✅ OCR이 10초 초과 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            } catch (Exception ex) {
-                // ✅ OCR 예외 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            }
-
-            // AI로 타입 자동 분석
-            // if (type == null || type.isEmpty()) {
-            // if (aiAnalyzer != null) {
-            // type = aiAnalyzer.detectType(doc);
-            // System.out.println("🤖 AI가 감지한 영수증 타입: " + type);
-            // } else {
-            // type = "mart"; // 기본값
-            // }
-            // }
-
-            // 2) 파싱 + 10초 타임아웃
+            // 1)~2) OCR → 파싱 (단계별 타임아웃은 파이프라인 설정, 시간 초과/예외 시 requestParam 기반 fallback 저장)
             // 집계표 법인카드는 type에 1002/1003 저장 타입이 들어오므로 receiptType을 OCR 파서 타입으로 사용
             String parserType = resolveParserType(type, receiptType);
-            Future<BaseReceiptParser.ReceiptResult> parseFuture = executor
-                    .submit(() -> HeadOfficeReceiptParserFactory.parse(doc, parserType));
-
-            BaseReceiptParser.ReceiptResult result;
-            try {
-                result = parseFuture.get(10, TimeUnit.SECONDS);
-            } catch (TimeoutException te) {
-                parseFuture.cancel(true); // 인터럽트 시도
-                // ✅ 파싱 10초 초과 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            } catch (Exception ex) {
-                // ✅ 파싱 예외 -> requestParam 기반 fallback 저장
+            ReceiptIngestPipeline.Run run = pipeline.run(specs.corporateReceiptScan, List.of(file), parserType);
+            if (!run.parsed()) {
                 return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
             }
+            BaseReceiptParser.ReceiptResult result = run.result;
 
             // 3) 파싱 결과가 없으면 fallback
             if (result == null) {
@@ -420,60 +350,65 @@ public class OcrControllerV2 {
 
             // DB 저장
             int iResult = 0;
-            if (isAccount) {
-                iResult += accountService.AccountCorporateCardPaymentSave(corporateCard);
-                iResult += accountService.TallySheetCorporateCardPaymentSave(corporateCard);
-                for (Map<String, Object> m : detailList) {
-                    iResult += accountService.AccountCorporateCardPaymentDetailLSave(m);
-                }
-            } else {
-                applyMasterZeroDefaults(corporateCard);
-                iResult += accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
-                // headoffice 경로: detail이 없으면 사용자 입력값으로 1건 생성
-                if (isHeadoffice && detailList.isEmpty()) {
-                    int userTotal = toInt(purchase.get("total"));
-                    int typeInt = resolveForcedTallyType(purchase.get("tallyType"));
-                    System.out.println("[FALLBACK] detailList 비어있음 → 사용자입력 사용: total=" + userTotal + ", tallyType=" + purchase.get("tallyType") + ", typeInt=" + typeInt);
-                    if (typeInt == 0)
-                        typeInt = toInt(corporateCard.get("type"));
-                    if (typeInt == 0)
-                        typeInt = 1002;
-                    Map<String, Object> fallbackDetail = new HashMap<>();
-                    fallbackDetail.put("sale_id", targetSaleId);
-                    fallbackDetail.put("name", "");
-                    fallbackDetail.put("qty", 0);
-                    fallbackDetail.put("amount", userTotal);
-                    fallbackDetail.put("unitPrice", 0);
-                    fallbackDetail.put("taxType", 3);
-                    int fallbackItemType = resolveForcedItemType(typeInt);
-                    fallbackDetail.put("itemType", fallbackItemType > 0 ? fallbackItemType : typeInt == 1003 ? 1 : 2);
-                    fallbackDetail.put("type", typeInt);
-                    fallbackDetail.put("payment_dt", corporateCard.get("payment_dt"));
-                    fallbackDetail.put("year", year);
-                    fallbackDetail.put("month", month);
-                    fallbackDetail.put("account_id", objectValue);
-                    detailList.add(fallbackDetail);
-                }
-                // headoffice 경로: detail 합계를 master total/vat/taxFree에 반영
-                if (isHeadoffice && !detailList.isEmpty()) {
-                    applyDetailTaxSummaryToMaster(corporateCard, detailList, true);
+            run.enter(ReceiptIngestPipeline.Stage.PERSIST);
+            try {
+                if (isAccount) {
+                    iResult += accountService.AccountCorporateCardPaymentSave(corporateCard);
+                    iResult += accountService.TallySheetCorporateCardPaymentSave(corporateCard);
+                    for (Map<String, Object> m : detailList) {
+                        iResult += accountService.AccountCorporateCardPaymentDetailLSave(m);
+                    }
+                } else {
+                    applyMasterZeroDefaults(corporateCard);
+                    iResult += accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
+                    // headoffice 경로: detail이 없으면 사용자 입력값으로 1건 생성
+                    if (isHeadoffice && detailList.isEmpty()) {
+                        int userTotal = toInt(purchase.get("total"));
+                        int typeInt = resolveForcedTallyType(purchase.get("tallyType"));
+                        System.out.println("[FALLBACK] detailList 비어있음 → 사용자입력 사용: total=" + userTotal + ", tallyType=" + purchase.get("tallyType") + ", typeInt=" + typeInt);
+                        if (typeInt == 0)
+                            typeInt = toInt(corporateCard.get("type"));
+                        if (typeInt == 0)
+                            typeInt = 1002;
+                        Map<String, Object> fallbackDetail = new HashMap<>();
+                        fallbackDetail.put("sale_id", targetSaleId);
+                        fallbackDetail.put("name", "");
+                        fallbackDetail.put("qty", 0);
+                        fallbackDetail.put("amount", userTotal);
+                        fallbackDetail.put("unitPrice", 0);
+                        fallbackDetail.put("taxType", 3);
+                        int fallbackItemType = resolveForcedItemType(typeInt);
+                        fallbackDetail.put("itemType", fallbackItemType > 0 ? fallbackItemType : typeInt == 1003 ? 1 : 2);
+                        fallbackDetail.put("type", typeInt);
+                        fallbackDetail.put("payment_dt", corporateCard.get("payment_dt"));
+                        fallbackDetail.put("year", year);
+                        fallbackDetail.put("month", month);
+                        fallbackDetail.put("account_id", objectValue);
+                        detailList.add(fallbackDetail);
+                    }
+                    // headoffice 경로: detail 합계를 master total/vat/taxFree에 반영
+                    if (isHeadoffice && !detailList.isEmpty()) {
+                        applyDetailTaxSummaryToMaster(corporateCard, detailList, true);
+                        applyMasterZeroDefaults(corporateCard);
+                        accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
+                    }
+                    for (Map<String, Object> m : detailList) {
+                        iResult += accountService.HeadOfficeCorporateCardPaymentDetailLSave(m);
+                        iResult += accountService.TallySheetCorporateCardPaymentSaveV2(m);
+                    }
+
+                    Map<String, Object> detailQuery = new HashMap<>();
+                    detailQuery.put("sale_id", targetSaleId);
+                    detailQuery.put("account_id", objectValue);
+                    detailQuery.put("payment_dt", corporateCard.get("payment_dt"));
+                    List<Map<String, Object>> savedDetailList = accountService.HeadOfficeCorporateCardPaymentDetailList(detailQuery);
+                    applyDetailTaxSummaryToMaster(corporateCard, savedDetailList, true);
                     applyMasterZeroDefaults(corporateCard);
                     accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
+                    detailList = savedDetailList;
                 }
-                for (Map<String, Object> m : detailList) {
-                    iResult += accountService.HeadOfficeCorporateCardPaymentDetailLSave(m);
-                    iResult += accountService.TallySheetCorporateCardPaymentSaveV2(m);
-                }
-
-                Map<String, Object> detailQuery = new HashMap<>();
-                detailQuery.put("sale_id", targetSaleId);
-                detailQuery.put("account_id", objectValue);
-                detailQuery.put("payment_dt", corporateCard.get("payment_dt"));
-                List<Map<String, Object>> savedDetailList = accountService.HeadOfficeCorporateCardPaymentDetailList(detailQuery);
-                applyDetailTaxSummaryToMaster(corporateCard, savedDetailList, true);
-                applyMasterZeroDefaults(corporateCard);
-                accountService.HeadOfficeCorporateCardPaymentSave(corporateCard);
-                detailList = savedDetailList;
+            } finally {
+                run.end();
             }
 
             Map<String, Object> responseMap = new HashMap<>();
@@ -489,20 +424,6 @@ public class OcrControllerV2 {
                 return ResponseEntity.internalServerError()
                         .body("❌ 영수증 처리 중 오류 발생: " + e.getMessage());
             }
-        } finally {
-            executor.shutdownNow(); // 타임아웃 스레드 정리
-            try {
-                executor.awaitTermination(2, TimeUnit.SECONDS);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            }
-            // 🔹 temp 파일 삭제
-            if (tempFile != null && tempFile.exists()) {
-                boolean deleted = tempFile.delete();
-                if (!deleted) {
-                    System.out.println("⚠ 임시 파일 삭제 실패: " + tempFile.getAbsolutePath());
-                }
-            }
         }
     }
 
@@ -655,7 +576,8 @@ public class OcrControllerV2 {
         if (receiptType != null && !receiptType.isBlank() && !"UNKNOWN".equalsIgnoreCase(receiptType)) {
             return receiptType;
         }
-        return "coupang";
+        // 채널 미지정 → HeadOfficeReceiptParserFactory 자동 감지
+        return "auto";
     }
 
     // 집계표 1002/1003 행 타입
@@ -796,59 +718,8 @@ public class OcrControllerV2 {
      * 
      * @return
      */
-    public static int classify(String itemName) {
-        if (itemName == null || itemName.isEmpty()) {
-            // 기본은 식재료로 둬서 "예산미발행(3)" 과다 분류를 줄인다.
-            return 1;
-        }
-
-        // 1) 예외 케이스부터 검사
-        for (String ex : FOOD_EXCEPTIONS) {
-            if (itemName.contains(ex)) {
-                return 1;
-            }
-        }
-
-        // 2) 식재료 키워드 포함 시
-        for (String keyword : FOOD_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 1;
-            }
-        }
-
-        // 3) 소모품 키워드 포함 시
-        for (String keyword : SUPPLY_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 2;
-            }
-        }
-
-        // 4) 해당 없으면 기본 식재료
-        return 1;
-    }
-
-    /**
-     * MultipartFile → 임시파일 저장
-     * OpenCV가 한글/특수문자 경로를 읽지 못하는 문제를 방지하기 위해
-     * 임시파일명은 원본 확장자만 유지하고 나머지는 제거한다.
-     */
-    private File saveFile(MultipartFile file) {
-        try {
-            String ext = ".jpg";
-            String originalName = file.getOriginalFilename();
-            if (originalName != null && originalName.contains(".")) {
-                String raw = originalName.substring(originalName.lastIndexOf(".")).toLowerCase();
-                // 허용할 확장자만 사용, 나머지는 .jpg 기본값
-                if (raw.matches("\\.(jpg|jpeg|png|pdf|tiff?|bmp|webp)")) {
-                    ext = raw;
-                }
-            }
-            File tempFile = File.createTempFile("upload_", ext);
-            Files.write(tempFile.toPath(), file.getBytes());
-            System.out.println("📂 업로드된 파일 저장 완료: " + tempFile.getAbsolutePath());
-            return tempFile;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
-        }
+    public int classify(String itemName) {
+        // 키워드/학습 사전에 없으면 기본 식재료 ("예산미발행(3)" 과다 분류 방지)
+        return itemCategoryClassifier.classify(itemName, ItemCategoryClassifier.FOOD);
     }
 }
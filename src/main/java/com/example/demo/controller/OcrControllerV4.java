@@ -1,8 +1,6 @@
 package com.example.demo.controller;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,17 +9,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,16 +24,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.demo.classify.ItemCategoryClassifier;
 import com.example.demo.parser.BaseReceiptParser;
 import com.example.demo.parser.BaseReceiptParser.Item;
-import com.example.demo.parser.ReceiptParserFactory;
 import com.example.demo.service.AccountService;
 import com.example.demo.service.AiReceiptAnalyzer;
-import com.example.demo.service.OcrService;
 import com.example.demo.service.OperateService;
+import com.example.demo.service.ReceiptIngestPipeline;
+import com.example.demo.service.ReceiptPipelineSpecs;
 import com.example.demo.utils.BizNoUtils;
 import com.example.demo.utils.DateUtils;
-import com.google.cloud.documentai.v1.Document;
 
 @RestController
 @CrossOrigin(origins = {
@@ -58,7 +50,10 @@ public class OcrControllerV4 {
     private static final String USER_INPUT_TOTAL_ACCOUNT_ID = "20250819193632";
 
     @Autowired
-    private OcrService ocrService;
+    private ReceiptIngestPipeline pipeline;
+
+    @Autowired
+    private ReceiptPipelineSpecs specs;
 
     @Autowired
     private AccountService accountService;
@@ -69,6 +64,9 @@ public class OcrControllerV4 {
     @Autowired(required = false)
     private AiReceiptAnalyzer aiAnalyzer; // 향후 자동 분석용 (지금은 사용 안 해도 OK)
 
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
     private final String uploadDir;
 
     @Autowired
@@ -76,34 +74,6 @@ public class OcrControllerV4 {
         this.uploadDir = uploadDir;
     }
 
-    // ✅ 식재료 키워드
-    private static final List<String> FOOD_KEYWORDS = Arrays.asList(
-            "쌀", "현미", "찹쌀", "보리",
-            "감자", "고구마", "양파", "당근", "마늘", "생강", "무", "배추", "파", "버섯", "양배추",
-            "고기", "쇠고기", "소고기", "돼지고기", "돈육", "닭", "계육", "정육", "삼겹살",
-            "계란", "달걀", "두부", "콩", "콩나물", "숙주",
-            "생선", "연어", "참치", "고등어", "오징어", "새우", "조개", "해물",
-            "김치", "고춧가루", "된장", "간장", "맛술", "참기름", "식초", "소금", "설탕",
-            "밀가루", "전분", "치즈", "버터", "우유", "생크림", "요거트",
-            "사과", "바나나", "딸기", "배", "포도", "과일");
-
-    // ✅ 소모품 키워드
-    private static final List<String> SUPPLY_KEYWORDS = Arrays.asList(
-            "칼", "식칼", "도마", "가위", "국자", "집게",
-            "행주", "수건", "걸레", "키친타올", "종이타월", "휴지", "물티슈",
-            "위생장갑", "고무장갑", "앞치마", "마스크",
-            "종이컵", "비닐", "봉투", "랩", "호일", "포장",
-            "세제", "주방세제", "락스", "세척제", "소독제",
-            "수세미", "스펀지", "필터", "호스", "밥솥",
-            "그릇", "식기", "접시", "공기", "쟁반", "바구니", "찬합", "반찬통", "용기",
-            "냄비", "솥", "팬", "프라이팬", "볼", "채반", "소쿠리", "체", "카트", "서빙카",
-            "다라이", "양푼", "스텐", "타공");
-
-    // ✅ 예외 케이스 (예: "칼국수" → 음식)
-    private static final List<String> FOOD_EXCEPTIONS = Arrays.asList(
-            "칼국수", "가위살" // '칼','가위' 포함하지만 실제 식재료인 경우
-    );
-
     // ✅ 과면세 케이스
     private static final String VAT = "과세";
     private static final String TAX_FREE = "면세";
@@ -129,9 +99,6 @@ public class OcrControllerV4 {
             @RequestParam(value = "use_name", required = false) String use_name,
             @RequestParam(value = "skip_date_mismatch_check", required = false) String skipDateMismatchCheckParam) {
 
-        // 파일 저장
-        File tempFile = saveFile(file);
-
         // ✅ purchase는 "기본적으로 다 들어간다" 전제: requestParam 기반 기본값을 먼저 세팅
         Map<String, Object> purchase = new HashMap<>();
         purchase.put("account_id", account_id);
@@ -146,55 +113,15 @@ public class OcrControllerV4 {
         purchase.put("cashReceiptType", cash_receipt_type);
         purchase.put("use_name", Optional.ofNullable(use_name).orElse(""));
 
-        // OCR/파싱 타임아웃용
-        ExecutorService executor = Executors.newFixedThreadPool(2);
-
         try {
 
-            // 1) OCR + 10초 타임아웃
-            Future<Document> docFuture = executor.submit(() -> ocrService.processDocumentFile(tempFile));
-
-            Document doc;
-            try {
-                doc = docFuture.get(10, TimeUnit.SECONDS);
-            } catch (TimeoutException te) {
-                docFuture.cancel(true); // 인터럽트 시도
-                // ✅ OCR이 10초 초과 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            } catch (Exception ex) {
-                // ✅ OCR 예외 -> requestParam 기반 fallback 저장
+            // 1)~2) OCR → 파싱 (단계별 타임아웃은 파이프라인 설정, 시간 초과/예외 시 requestParam 기반 fallback 저장)
+            ReceiptIngestPipeline.Run run = pipeline.run(specs.receiptScanV4, List.of(file), receiptType);
+            if (!run.parsed()) {
                 return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
             }
+            BaseReceiptParser.ReceiptResult result = run.result;
 
-            // // AI로 타입 자동 분석
-            // String resolvedReceiptType = receiptType;
-            //
-            // if (receiptType == null || receiptType.isEmpty()) {
-            // if (aiAnalyzer != null) {
-            // resolvedReceiptType = aiAnalyzer.detectType(doc);
-            // System.out.println("🤖 AI가 감지한 영수증 타입: " + receiptType);
-            // } else {
-            // resolvedReceiptType = "MART_ITEMIZED"; // 기본값
-            // }
-            // purchase.put("receipt_type", receiptType);
-            // }
-
-            // 2) 파싱 + 10초 타임아웃 (원하면 3~5초로 줄여도 됨)
-            Future<BaseReceiptParser.ReceiptResult> parseFuture = executor
-                    .submit(() -> ReceiptParserFactory.parse(doc, receiptType));
-
-            BaseReceiptParser.ReceiptResult result;
-            try {
-                result = parseFuture.get(10, TimeUnit.SECONDS);
-            } catch (TimeoutException te) {
-                parseFuture.cancel(true); // 인터럽트 시도
-                // ✅ 파싱 10초 초과 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            } catch (Exception ex) {
-                // ✅ 파싱 예외 -> requestParam 기반 fallback 저장
-                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-            }
-            
             String saleId = "";
             String receiptDate = "";
             String yearStr = "";
@@ -388,11 +315,16 @@ public class OcrControllerV4 {
             purchase.put("count_year", yearStr);
             purchase.put("count_month", monthStr);
 
-            iResult += accountService.AccountPurchaseSave(purchase);
-            iResult += accountService.TallySheetPaymentSave(purchase);
+            run.enter(ReceiptIngestPipeline.Stage.PERSIST);
+            try {
+                iResult += accountService.AccountPurchaseSave(purchase);
+                iResult += accountService.TallySheetPaymentSave(purchase);
 
-            for (Map<String, Object> m : detailList) {
-                iResult += accountService.AccountPurchaseDetailSave(m);
+                for (Map<String, Object> m : detailList) {
+                    iResult += accountService.AccountPurchaseDetailSave(m);
+                }
+            } finally {
+                run.end();
             }
 
             return ResponseEntity.ok(purchase);
@@ -404,15 +336,6 @@ public class OcrControllerV4 {
 				return ResponseEntity.internalServerError()
 			            .body("❌ 영수증 처리 중 오류 발생: " + e.getMessage());
 			}
-        } finally {
-            executor.shutdownNow(); // 타임아웃 스레드 정리
-            // 🔹 temp 파일 삭제
-            if (tempFile != null && tempFile.exists()) {
-                boolean deleted = tempFile.delete();
-                if (!deleted) {
-                    System.out.println("⚠ 임시 파일 삭제 실패: " + tempFile.getAbsolutePath());
-                }
-            }
         }
     }
 
@@ -532,38 +455,13 @@ public class OcrControllerV4 {
      * 
      * @return
      */
-    public static int classify(String itemName) {
+    public int classify(String itemName) {
         return classify(itemName, null);
     }
 
-    public static int classify(String itemName, String receiptType) {
-        if (itemName == null || itemName.isEmpty()) {
-            return defaultByReceiptType(receiptType);
-        }
-
-        // 1) 예외 케이스부터 검사
-        for (String ex : FOOD_EXCEPTIONS) {
-            if (itemName.contains(ex)) {
-                return defaultByReceiptType(receiptType);
-            }
-        }
-
-        // 2) 식재료 키워드 포함 시
-        for (String keyword : FOOD_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 1;
-            }
-        }
-
-        // 3) 소모품 키워드 포함 시
-        for (String keyword : SUPPLY_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 2;
-            }
-        }
-
-        // 4) 마트/편의점은 식재료로 기본 분류, 나머지는 기타
-        return defaultByReceiptType(receiptType);
+    public int classify(String itemName, String receiptType) {
+        // 키워드/학습 사전에 없으면 마트/편의점은 식재료, 나머지는 기타
+        return itemCategoryClassifier.classify(itemName, defaultByReceiptType(receiptType));
     }
 
     private static int defaultByReceiptType(String receiptType) {
@@ -577,20 +475,4 @@ public class OcrControllerV4 {
                 return 3; // 기타
         }
     }
-
-    /**
-     * MultipartFile → 임시파일 저장
-     */
-    private File saveFile(MultipartFile file) {
-        try {
-            File tempFile = File.createTempFile("upload_", "_" + file.getOriginalFilename());
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(file.getBytes());
-            }
-            System.out.println("📂 업로드된 파일 저장 완료: " + tempFile.getAbsolutePath());
-            return tempFile;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
-        }
-    }
 }
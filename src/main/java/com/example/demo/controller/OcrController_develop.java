@@ -1,8 +1,6 @@
 package com.example.demo.controller;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,16 +9,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,18 +23,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.example.demo.model.CardReceiptResponse;
+import com.example.demo.classify.ItemCategoryClassifier;
 import com.example.demo.parser.BaseReceiptParser;
 import com.example.demo.parser.BaseReceiptParser.Item;
-import com.example.demo.parser.ReceiptParserFactory;
 import com.example.demo.service.AccountService;
 import com.example.demo.service.AiReceiptAnalyzer;
-import com.example.demo.service.CardReceiptParseService;
-import com.example.demo.service.OcrService;
 import com.example.demo.service.OperateService;
+import com.example.demo.service.ReceiptIngestPipeline;
+import com.example.demo.service.ReceiptPipelineSpecs;
 import com.example.demo.utils.BizNoUtils;
 import com.example.demo.utils.DateUtils;
-import com.google.cloud.documentai.v1.Document;
 
 @RestController
 @CrossOrigin(origins = {
@@ -56,20 +46,23 @@ import com.google.cloud.documentai.v1.Document;
 public class OcrController_develop {
 
     @Autowired
-    private OcrService ocrService;
+    private ReceiptIngestPipeline pipeline;
 
     @Autowired
-    private AccountService accountService;
+    private ReceiptPipelineSpecs specs;
 
     @Autowired
-    private OperateService operateService;
+    private AccountService accountService;
 
     @Autowired
-    private CardReceiptParseService cardReceiptParseService;
+    private OperateService operateService;
 
     @Autowired(required = false)
     private AiReceiptAnalyzer aiAnalyzer; // 향후 자동 분석용 (지금은 사용 안 해도 OK)
 
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
     private final String uploadDir;
 
     @Autowired
@@ -77,34 +70,6 @@ public class OcrController_develop {
         this.uploadDir = uploadDir;
     }
 
-    // ✅ 식재료 키워드
-    private static final List<String> FOOD_KEYWORDS = Arrays.asList(
-            "쌀", "현미", "찹쌀", "보리",
-            "감자", "고구마", "양파", "당근", "마늘", "생강", "무", "배추", "파", "버섯", "양배추",
-            "고기", "쇠고기", "소고기", "돼지고기", "돈육", "닭", "계육", "정육", "삼겹살",
-            "계란", "달걀", "두부", "콩", "콩나물", "숙주",
-            "생선", "연어", "참치", "고등어", "오징어", "새우", "조개", "해물",
-            "김치", "고춧가루", "된장", "간장", "맛술", "참기름", "식초", "소금", "설탕",
-            "밀가루", "전분", "치즈", "버터", "우유", "생크림", "요거트",
-            "사과", "바나나", "딸기", "배", "포도", "과일");
-
-    // ✅ 소모품 키워드
-    private static final List<String> SUPPLY_KEYWORDS = Arrays.asList(
-            "칼", "식칼", "도마", "가위", "국자", "집게",
-            "행주", "수건", "걸레", "키친타올", "종이타월", "휴지", "물티슈",
-            "위생장갑", "고무장갑", "앞치마", "마스크",
-            "종이컵", "비닐", "봉투", "랩", "호일", "포장",
-            "세제", "주방세제", "락스", "세척제", "소독제",
-            "수세미", "스펀지", "필터", "호스", "밥솥",
-            "그릇", "식기", "접시", "공기", "쟁반", "바구니", "찬합", "반찬통", "용기",
-            "냄비", "솥", "팬", "프라이팬", "볼", "채반", "소쿠리", "체", "카트", "서빙카",
-            "다라이", "양푼", "스텐", "타공");
-
-    // ✅ 예외 케이스 (예: "칼국수" → 음식)
-    private static final List<String> FOOD_EXCEPTIONS = Arrays.asList(
-            "칼국수", "가위살" // '칼','가위' 포함하지만 실제 식재료인 경우
-    );
-
     // ✅ 과면세 케이스
     private static final String VAT = "과세";
     private static final String TAX_FREE = "면세";
@@ -137,9 +102,6 @@ public class OcrController_develop {
             @RequestParam(value = "row_account_id", required = false) String row_account_id,
             @RequestParam(value = "skip_date_mismatch_check", required = false) String skipDateMismatchCheckParam) {
 
-        // 파일 저장
-        File tempFile = saveFile(file);
-
         // saleDate: cell_date 우선, 없으면 saleDate 파라미터 사용
         String resolvedSaleDate = (cell_date != null && !cell_date.trim().isEmpty()) ? cell_date : saleDate;
 
@@ -166,58 +128,18 @@ public class OcrController_develop {
         if (sale_id != null) purchase.put("sale_id", sale_id);
         if (row_account_id != null) purchase.put("row_account_id", row_account_id);
 
-        // OCR/파싱 타임아웃용
-        ExecutorService executor = Executors.newFixedThreadPool(2);
-
         try {
-            BaseReceiptParser.ReceiptResult result;
-
-            if (isCorpCardType(type)) {
-                // 법인카드(type=1000)는 V3와 동일하게 카드전표/마트 전용 파서 라우팅을 사용한다.
-                Future<CardReceiptResponse> parseFuture = executor
-                        .submit(() -> cardReceiptParseService.parseFile(tempFile, receiptType));
-
-                try {
-                    CardReceiptResponse response = parseFuture.get(10, TimeUnit.SECONDS);
-                    result = response != null ? response.result : null;
-                    if ((receiptType == null || receiptType.isBlank()) && response != null && response.detectedType != null) {
-                        purchase.put("receipt_type", response.detectedType.name());
-                    }
-                } catch (TimeoutException te) {
-                    parseFuture.cancel(true);
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                } catch (Exception ex) {
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                }
-            } else {
-                // 개인결제(type=1008)와 기타 매입은 V4/기존 develop과 동일한 공통 영수증 파서를 사용한다.
-                Future<Document> docFuture = executor.submit(() -> ocrService.processDocumentFile(tempFile));
-
-                Document doc;
-                try {
-                    doc = docFuture.get(10, TimeUnit.SECONDS);
-                } catch (TimeoutException te) {
-                    docFuture.cancel(true);
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                } catch (Exception ex) {
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                }
-
-                String resolvedReceiptType = resolveReceiptType(receiptType, doc);
-                purchase.put("receipt_type", resolvedReceiptType);
-
-                Future<BaseReceiptParser.ReceiptResult> parseFuture = executor
-                        .submit(() -> ReceiptParserFactory.parse(doc, resolvedReceiptType));
-
-                try {
-                    result = parseFuture.get(10, TimeUnit.SECONDS);
-                } catch (TimeoutException te) {
-                    parseFuture.cancel(true);
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                } catch (Exception ex) {
-                    return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
-                }
+            // 법인카드(type=1000)는 V3와 동일하게 카드전표/마트 전용 파서 라우팅을 사용한다.
+            // 개인결제(type=1008)와 기타 매입은 V4/기존 develop과 동일한 공통 영수증 파서를 사용한다. (요청 타입 없으면 자동 감지)
+            ReceiptIngestPipeline.Spec spec = isCorpCardType(type) ? specs.receiptScanDevelopCard : specs.receiptScanDevelop;
+            ReceiptIngestPipeline.Run run = pipeline.run(spec, List.of(file), receiptType);
+            if (!run.parsed()) {
+                return ResponseEntity.ok(saveWithRequestParamsOnly(purchase, file));
+            }
+            if (receiptType == null || receiptType.isBlank()) {
+                purchase.put("receipt_type", run.typing.label);
             }
+            BaseReceiptParser.ReceiptResult result = run.result;
 
             // 4) 파싱 결과가 없거나 핵심 meta가 없으면 fallback
             if (result == null || result.meta == null) {
@@ -387,10 +309,15 @@ public class OcrController_develop {
             purchase.put("count_month", monthStr);
 
             int iResult = 0;
-            iResult += accountService.AccountPurchaseSave(purchase);
-            iResult += accountService.TallySheetPaymentSave(purchase);
-            for (Map<String, Object> m : detailList) {
-                iResult += accountService.AccountPurchaseDetailSave(m);
+            run.enter(ReceiptIngestPipeline.Stage.PERSIST);
+            try {
+                iResult += accountService.AccountPurchaseSave(purchase);
+                iResult += accountService.TallySheetPaymentSave(purchase);
+                for (Map<String, Object> m : detailList) {
+                    iResult += accountService.AccountPurchaseDetailSave(m);
+                }
+            } finally {
+                run.end();
             }
 
             return ResponseEntity.ok(purchase);
@@ -402,10 +329,6 @@ public class OcrController_develop {
                 return ResponseEntity.internalServerError()
                         .body("❌ 영수증 처리 중 오류 발생: " + e.getMessage());
             }
-        } finally {
-            executor.shutdownNow();
-            if (tempFile != null && tempFile.exists())
-                tempFile.delete();
         }
     }
 
@@ -504,19 +427,6 @@ public class OcrController_develop {
         return type != null && type == 1000;
     }
 
-    private String resolveReceiptType(String receiptType, Document doc) {
-        if (receiptType != null && !receiptType.isBlank()) {
-            return receiptType;
-        }
-        if (aiAnalyzer != null) {
-            String detectedType = aiAnalyzer.detectType(doc);
-            if (detectedType != null && !detectedType.isBlank()) {
-                return detectedType;
-            }
-        }
-        return "MART_ITEMIZED";
-    }
-
     /**
      * ✅ TaxType 으로 결과 반환
      * 
@@ -543,49 +453,8 @@ public class OcrController_develop {
      * 
      * @return
      */
-    public static int classify(String itemName) {
-        if (itemName == null || itemName.isEmpty()) {
-            return 3;
-        }
-
-        // 1) 예외 케이스부터 검사
-        for (String ex : FOOD_EXCEPTIONS) {
-            if (itemName.contains(ex)) {
-                return 3;
-            }
-        }
-
-        // 2) 식재료 키워드 포함 시
-        for (String keyword : FOOD_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 1;
-            }
-        }
-
-        // 3) 소모품 키워드 포함 시
-        for (String keyword : SUPPLY_KEYWORDS) {
-            if (itemName.contains(keyword)) {
-                return 2;
-            }
-        }
-
-        // 4) 해당 없으면 기타
-        return 3;
-    }
-
-    /**
-     * MultipartFile → 임시파일 저장
-     */
-    private File saveFile(MultipartFile file) {
-        try {
-            File tempFile = File.createTempFile("upload_", "_" + file.getOriginalFilename());
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(file.getBytes());
-            }
-            System.out.println("📂 업로드된 파일 저장 완료: " + tempFile.getAbsolutePath());
-            return tempFile;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
-        }
+    public int classify(String itemName) {
+        // 키워드/학습 사전에 없으면 기본 식재료 ("예산미발행(3)" 과다 분류 방지)
+        return itemCategoryClassifier.classify(itemName, ItemCategoryClassifier.FOOD);
     }
 }
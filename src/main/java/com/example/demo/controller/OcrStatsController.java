@@ -0,0 +1,103 @@
+package com.example.demo.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.classify.ItemCategoryClassifier;
+import com.example.demo.config.OfflineDocumentAiStub;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.parser.RegexCache;
+import com.example.demo.service.DocumentAiGuard;
+import com.example.demo.service.JpegTargetEncoder;
+import com.example.demo.service.OcrDocumentStore;
+import com.example.demo.service.OcrExecutor;
+import com.example.demo.service.OcrResultCache;
+import com.example.demo.service.ParserRace;
+import com.example.demo.service.ReceiptIdempotencyService;
+import com.example.demo.service.ReceiptIngestPipeline;
+import com.example.demo.service.ReceiptOcrJobService;
+import com.example.demo.service.ReceiptReparseService;
+import com.example.demo.service.ReceiptRegionDetector;
+import com.example.demo.service.TempFileManager;
+
+/**
+ * OCR 경로 운영 지표 조회 (캐시 적중률, 비동기 작업 큐, 공용 실행기, 이미지 인코딩 등)
+ */
+@RestController
+public class OcrStatsController {
+
+    @Autowired
+    private OcrResultCache ocrResultCache;
+
+    @Autowired
+    private ReceiptOcrJobService receiptOcrJobService;
+
+    @Autowired
+    private OcrExecutor ocrExecutor;
+
+    @Autowired
+    private JpegTargetEncoder jpegTargetEncoder;
+
+    @Autowired
+    private ReceiptRegionDetector receiptRegionDetector;
+
+    @Autowired
+    private TempFileManager tempFileManager;
+
+    @Autowired
+    private DocumentAiGuard documentAiGuard;
+
+    @Autowired
+    private ReceiptParserRegistry receiptParserRegistry;
+
+    @Autowired
+    private ParserRace parserRace;
+
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
+    @Autowired
+    private OcrDocumentStore ocrDocumentStore;
+
+    @Autowired
+    private ReceiptReparseService receiptReparseService;
+
+    @Autowired
+    private ReceiptIngestPipeline receiptIngestPipeline;
+
+    @Autowired
+    private ReceiptIdempotencyService receiptIdempotencyService;
+
+    // offline-ocr 프로필에서만 존재
+    @Autowired(required = false)
+    private OfflineDocumentAiStub offlineDocumentAiStub;
+
+    @GetMapping("/ocr/stats")
+    public ResponseEntity<?> stats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("documentAi", documentAiGuard.stats());
+        body.put("cache", ocrResultCache.stats());
+        body.put("jobs", receiptOcrJobService.stats());
+        body.put("executor", ocrExecutor.stats());
+        body.put("encoder", jpegTargetEncoder.stats());
+        body.put("crop", receiptRegionDetector.stats());
+        body.put("temp", tempFileManager.stats());
+        body.put("regex", RegexCache.stats(20));
+        body.put("parsers", receiptParserRegistry.stats());
+        body.put("parseRace", parserRace.stats());
+        body.put("itemCategory", itemCategoryClassifier.stats());
+        body.put("documentStore", ocrDocumentStore.stats());
+        body.put("reparse", receiptReparseService.stats());
+        body.put("pipeline", receiptIngestPipeline.stats());
+        body.put("idempotency", receiptIdempotencyService.stats());
+        if (offlineDocumentAiStub != null) {
+            body.put("offline", offlineDocumentAiStub.stats());
+        }
+        return ResponseEntity.ok(body);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.ReceiptIdempotencyService;
+
+@Component
+public class ReceiptIdempotencySweepScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReceiptIdempotencySweepScheduler.class);
+
+	private final ReceiptIdempotencyService receiptIdempotencyService;
+
+	public ReceiptIdempotencySweepScheduler(ReceiptIdempotencyService receiptIdempotencyService) {
+		this.receiptIdempotencyService = receiptIdempotencyService;
+	}
+
+	// 보관 기간이 지난 Idempotency-Key 응답 정리
+	@Scheduled(fixedDelayString = "${ocr.idempotency.sweep-interval-ms:600000}", initialDelay = 60000)
+	public void runSweep() {
+		try {
+			int rows = receiptIdempotencyService.sweep();
+			if (rows > 0) {
+				log.info("[ReceiptIdempotencySweepScheduler] 만료된 멱등 키 {}건 정리", rows);
+			}
+		} catch (Exception e) {
+			log.error("[ReceiptIdempotencySweepScheduler] 멱등 키 정리 중 오류", e);
+		}
+	}
+}
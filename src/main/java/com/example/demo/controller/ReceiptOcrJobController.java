@@ -0,0 +1,166 @@
+package com.example.demo.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.service.ReceiptOcrBatchService;
+import com.example.demo.service.ReceiptOcrJobService;
+import com.example.demo.service.ReceiptScanService;
+
+@RestController
+@CrossOrigin(origins = {
+        "http://localhost:3000", // 로컬
+        "http://172.30.1.48:8080", // 개발 React
+        "http://52.64.151.137", // 운영 React
+        "http://52.64.151.137:8080", // 운영 React
+        "http://thefull.kr", // 운영 도메인
+        "http://thefull.kr:8080" // 운영 도메인
+})
+public class ReceiptOcrJobController {
+
+    @Autowired
+    private ReceiptOcrJobService receiptOcrJobService;
+
+    @Autowired
+    private ReceiptOcrBatchService receiptOcrBatchService;
+
+    /**
+     * OCR 영수증 스캔 (비동기)
+     * /receipt-scan 과 같은 파라미터를 받아 작업만 등록하고 job_id를 즉시 반환한다.
+     * 처리 결과는 /receipt-scan/job 으로 조회
+     */
+    @PostMapping("/receipt-scan/async")
+    public ResponseEntity<?> scanReceiptAsync(
+            @RequestParam(value = "file", required = false) MultipartFile file,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam(value = "type", required = false) Integer type,
+            @RequestParam(value = "account_id", required = false) String account_id,
+            @RequestParam(value = "cell_day", required = false) String cell_day,
+            @RequestParam(value = "cell_date", required = false) String cell_date,
+            @RequestParam(value = "saleDate", required = false) String saleDate,
+            @RequestParam(value = "saveType", required = false) String saveType,
+            @RequestParam(value = "receipt_type", required = false) String receiptType,
+            @RequestParam(value = "user_id", required = false) String user_id,
+            @RequestParam(value = "sale_id", required = false) String sale_id,
+            @RequestParam(value = "total", required = false, defaultValue = "0") Integer total) {
+
+        List<MultipartFile> uploadFiles = OcrController.collectUploadFiles(file, files);
+        if (uploadFiles.isEmpty()) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 400);
+            error.put("message", "업로드된 파일이 없습니다.");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        ReceiptScanService.ScanRequest req = new ReceiptScanService.ScanRequest();
+        req.type = type;
+        req.accountId = account_id;
+        req.cellDay = cell_day;
+        req.cellDate = cell_date;
+        req.saleDate = saleDate;
+        req.saveType = saveType;
+        req.receiptType = receiptType;
+        req.userId = user_id;
+        req.saleId = sale_id;
+        req.total = total;
+
+        try {
+            String jobId = receiptOcrJobService.enqueue(req, uploadFiles);
+            Map<String, Object> body = new HashMap<>();
+            body.put("job_id", jobId);
+            body.put("status", "QUEUED");
+            return ResponseEntity.accepted().body(body);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("❌ 영수증 작업 등록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 비동기 작업 상태 조회 (QUEUED / RUNNING / DONE / FALLBACK / FAILED)
+     */
+    @GetMapping("/receipt-scan/job")
+    public ResponseEntity<?> jobStatus(@RequestParam("job_id") String jobId) {
+        Map<String, Object> info = receiptOcrJobService.status(jobId);
+        if (info == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(info);
+    }
+
+    /**
+     * OCR 영수증 일괄 업로드 (ZIP 또는 여러 파일, 공통 account_id/type/user_id)
+     * 장마다 비동기 작업 1건으로 등록하고 batch_id 를 즉시 반환한다. 영수증 날짜는 항목별 OCR 결과를 사용.
+     * 진행 상황은 /receipt-scan/batch/events (SSE) 또는 /receipt-scan/batch 로 조회
+     */
+    @PostMapping("/receipt-scan/batch")
+    public ResponseEntity<?> scanReceiptBatch(
+            @RequestParam(value = "archive", required = false) MultipartFile archive,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam(value = "type", required = false) Integer type,
+            @RequestParam(value = "account_id", required = false) String account_id,
+            @RequestParam(value = "saveType", required = false) String saveType,
+            @RequestParam(value = "receipt_type", required = false) String receiptType,
+            @RequestParam(value = "user_id", required = false) String user_id) {
+
+        if ((archive == null || archive.isEmpty()) && (files == null || files.isEmpty())) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 400);
+            error.put("message", "업로드된 파일이 없습니다.");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        ReceiptScanService.ScanRequest req = new ReceiptScanService.ScanRequest();
+        req.type = type;
+        req.accountId = account_id;
+        req.saveType = saveType;
+        req.receiptType = receiptType;
+        req.userId = user_id;
+        req.total = 0;
+
+        try {
+            Map<String, Object> body = receiptOcrBatchService.submit(req, archive, files);
+            if ((int) body.get("accepted") == 0) {
+                body.put("code", 400);
+                body.put("message", "등록 가능한 영수증 이미지가 없습니다.");
+                return ResponseEntity.badRequest().body(body);
+            }
+            return ResponseEntity.accepted().body(body);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("❌ 영수증 일괄 등록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 업로드 진행 상황 (SSE: item / progress / complete 이벤트)
+     */
+    @GetMapping(value = "/receipt-scan/batch/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter batchEvents(@RequestParam("batch_id") String batchId) {
+        return receiptOcrBatchService.subscribe(batchId);
+    }
+
+    /**
+     * 일괄 업로드 현황 스냅샷 (항목별 상태 + 집계)
+     */
+    @GetMapping("/receipt-scan/batch")
+    public ResponseEntity<?> batchStatus(@RequestParam("batch_id") String batchId) {
+        Map<String, Object> info = receiptOcrBatchService.status(batchId);
+        if (info == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(info);
+    }
+}
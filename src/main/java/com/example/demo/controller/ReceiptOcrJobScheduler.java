@@ -0,0 +1,33 @@
+package com.example.demo.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.ReceiptOcrJobService;
+
+@Component
+public class ReceiptOcrJobScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReceiptOcrJobScheduler.class);
+
+	private final ReceiptOcrJobService receiptOcrJobService;
+
+	public ReceiptOcrJobScheduler(ReceiptOcrJobService receiptOcrJobService) {
+		this.receiptOcrJobService = receiptOcrJobService;
+	}
+
+	// 대기중(QUEUED) 영수증 OCR 작업을 워커 여유분만큼 배정 (큐 포화/재기동/재시도 대상)
+	@Scheduled(fixedDelayString = "${ocr.job.poll-interval-ms:10000}", initialDelay = 30000)
+	public void runDispatch() {
+		try {
+			int dispatched = receiptOcrJobService.dispatchQueued();
+			if (dispatched > 0) {
+				log.info("[ReceiptOcrJobScheduler] 대기 작업 배정: {}건", dispatched);
+			}
+		} catch (Exception e) {
+			log.error("[ReceiptOcrJobScheduler] 대기 작업 배정 중 오류", e);
+		}
+	}
+}
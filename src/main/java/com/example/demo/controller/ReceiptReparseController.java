@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.service.OcrDocumentStore;
+import com.example.demo.service.ReceiptReparseService;
+
+/**
+ * 보관 Document 일괄 재파싱 (운영자용)
+ * 기본은 dry_run=Y → 반영 없이 보정/충돌/검토 대상만 보고. dry_run=N 일 때 보정값을 DB 에 반영한다.
+ */
+@RestController
+public class ReceiptReparseController {
+
+    @Autowired
+    private ReceiptReparseService receiptReparseService;
+
+    /**
+     * @param target       PURCHASE / ACCOUNT_CARD / HEAD_OFFICE_CARD (생략 시 전체)
+     * @param route        SCAN / CARD / HEAD_OFFICE (생략 시 전체)
+     * @param from_sale_id 이 sale_id 다음부터 (이전 응답의 nextSaleId)
+     */
+    @PostMapping("/ocr/reparse")
+    public ResponseEntity<?> reparse(
+            @RequestParam(value = "target", required = false) String target,
+            @RequestParam(value = "route", required = false) String route,
+            @RequestParam(value = "receipt_type", required = false) String receiptType,
+            @RequestParam(value = "from_sale_id", required = false) String fromSaleId,
+            @RequestParam(value = "to_sale_id", required = false) String toSaleId,
+            @RequestParam(value = "limit", required = false, defaultValue = "1000") Integer limit,
+            @RequestParam(value = "dry_run", required = false, defaultValue = "Y") String dryRun) {
+
+        ReceiptReparseService.Request req = new ReceiptReparseService.Request();
+        try {
+            req.target = target == null || target.isBlank() ? null
+                    : OcrDocumentStore.Target.valueOf(target.trim().toUpperCase()).name();
+            req.route = route == null || route.isBlank() ? null
+                    : ReceiptParserRegistry.Route.valueOf(route.trim().toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 400);
+            error.put("message", "target/route 값이 올바르지 않습니다.");
+            return ResponseEntity.badRequest().body(error);
+        }
+        req.receiptType = receiptType;
+        req.fromSaleId = fromSaleId;
+        req.toSaleId = toSaleId;
+        req.limit = limit == null ? 0 : limit;
+        req.dryRun = !"N".equalsIgnoreCase(dryRun);
+
+        try {
+            return ResponseEntity.ok(receiptReparseService.run(req));
+        } catch (IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 409);
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.internalServerError().body("❌ 재파싱 중단");
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("❌ 재파싱 중 오류 발생: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.ReceiptOcrJobService;
+import com.example.demo.service.TempFileManager;
+
+@Component
+public class TempFileSweepScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(TempFileSweepScheduler.class);
+
+	private final TempFileManager tempFileManager;
+	private final ReceiptOcrJobService receiptOcrJobService;
+
+	public TempFileSweepScheduler(TempFileManager tempFileManager, ReceiptOcrJobService receiptOcrJobService) {
+		this.tempFileManager = tempFileManager;
+		this.receiptOcrJobService = receiptOcrJobService;
+	}
+
+	// OCR 경로 고아 임시 파일 + 종료된 비동기 작업의 남은 스테이징 디렉터리 정리
+	@Scheduled(fixedDelayString = "${ocr.temp.sweep-interval-ms:600000}", initialDelay = 60000)
+	public void runSweep() {
+		try {
+			int files = tempFileManager.sweep();
+			int stagingDirs = receiptOcrJobService.sweepOrphanStaging();
+			if (files > 0 || stagingDirs > 0) {
+				log.info("[TempFileSweepScheduler] 고아 임시 파일 {}개, 스테이징 디렉터리 {}개 정리", files, stagingDirs);
+			}
+		} catch (Exception e) {
+			log.error("[TempFileSweepScheduler] 임시 파일 정리 중 오류", e);
+		}
+	}
+}
@@ -85,6 +85,7 @@ public interface AccountMapper {
 	List<Map<String, Object>> AccountPurchaseTallyForTallyTab(Map<String, Object> paramMap); 			// 회계 -> 매입집계(TallyTab) 조회
 	List<Map<String, Object>> AccountPurchaseDetailList(Map<String, Object> paramMap); 					// 회계 -> 매입 -> 매입집계 조회
 	List<Map<String, Object>> AccountPurchaseDetailList_tmp(Map<String, Object> paramMap); 				// 회계 -> 매입 -> 매입집계(임시) 조회
+	List<Map<String, Object>> ItemCategoryDictionaryList(Map<String, Object> paramMap); 				// OCR -> 품목명별 품목구분 건수 (학습 사전)
 	List<Map<String, Object>> HeadOfficeCorporateCardList(Map<String, Object> paramMap); 				// 회계 -> 본사 법인카드 목록 조회
 	List<Map<String, Object>> HeadOfficeCorporateCardPaymentList(Map<String, Object> paramMap); 		// 회계 -> 본사 법인카드 결제내역 조회
 	List<Map<String, Object>> HeadOfficeCorporateCardPaymentListAll(Map<String, Object> paramMap); 		// 회계 -> 본사 법인카드 결제내역 전체 조회 (account_id 무관)
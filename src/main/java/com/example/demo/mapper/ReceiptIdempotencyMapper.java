@@ -0,0 +1,16 @@
+package com.example.demo.mapper;
+
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface ReceiptIdempotencyMapper {
+
+	int ReceiptIdempotencyExpire(Map<String, Object> paramMap);										// 만료된 멱등 키 삭제(재사용 허용)
+	int ReceiptIdempotencyClaim(Map<String, Object> paramMap);										// 멱등 키 선점(RUNNING 등록, 이미 있으면 0)
+	int ReceiptIdempotencyFinish(Map<String, Object> paramMap);										// 처리 완료 응답 저장(RUNNING → DONE)
+	int ReceiptIdempotencyRelease(Map<String, Object> paramMap);									// 처리 실패 시 선점 해제(재시도 허용)
+	int ReceiptIdempotencySweep(Map<String, Object> paramMap);										// 만료된 멱등 키 일괄 정리
+	Map<String, Object> ReceiptIdempotencyInfo(Map<String, Object> paramMap);						// 멱등 키 상태/저장 응답 조회
+}
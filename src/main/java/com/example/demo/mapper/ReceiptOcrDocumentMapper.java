@@ -0,0 +1,19 @@
+package com.example.demo.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface ReceiptOcrDocumentMapper {
+
+	int ReceiptOcrDocumentSave(Map<String, Object> paramMap);											// 영수증 OCR Document 보관 (sale_id 기준, 재업로드 시 덮어씀)
+	List<Map<String, Object>> ReceiptOcrDocumentList(Map<String, Object> paramMap);					// 보관 Document 목록 (sale_id 키셋 페이징)
+	int ReceiptOcrDocumentReparsed(Map<String, Object> paramMap);										// 재파싱 반영 시각 기록
+	List<Map<String, Object>> ReparseHeaderList(Map<String, Object> paramMap);						// 재파싱 대상 매입/법인카드 결제 행 조회
+	List<Map<String, Object>> ReparseDetailList(Map<String, Object> paramMap);						// 재파싱 대상 상세 행 조회
+	int ReparseHeaderUpdate(Map<String, Object> paramMap);											// 재파싱 보정값 반영 (변경 컬럼만)
+	int ReparseDetailDelete(Map<String, Object> paramMap);											// 재파싱 상세 교체 - 기존 상세 삭제
+	int ReparseDetailInsert(Map<String, Object> paramMap);											// 재파싱 상세 교체 - 새 상세 일괄 저장
+}
@@ -0,0 +1,20 @@
+package com.example.demo.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface ReceiptOcrJobMapper {
+
+	int ReceiptOcrJobSave(Map<String, Object> paramMap);												// 영수증 OCR 비동기 작업 등록
+	int ReceiptOcrJobClaim(Map<String, Object> paramMap);												// 영수증 OCR 비동기 작업 점유(QUEUED → RUNNING)
+	int ReceiptOcrJobRequeue(Map<String, Object> paramMap);												// 영수증 OCR 비동기 작업 재시도 대기(RUNNING → QUEUED)
+	int ReceiptOcrJobFinish(Map<String, Object> paramMap);												// 영수증 OCR 비동기 작업 완료 처리(DONE/FALLBACK/FAILED)
+	int ReceiptOcrJobResetStale(Map<String, Object> paramMap);											// 중단된 작업(오래된 RUNNING) 재대기 (재시도 횟수 남은 것만)
+	int ReceiptOcrJobFailStale(Map<String, Object> paramMap);											// 재시도 횟수를 다 쓴 중단 작업 실패 처리
+	Map<String, Object> ReceiptOcrJobInfo(Map<String, Object> paramMap);								// 영수증 OCR 비동기 작업 상태 조회
+	List<Map<String, Object>> ReceiptOcrJobQueuedList(Map<String, Object> paramMap);					// 대기중(QUEUED) 작업 목록
+	List<Map<String, Object>> ReceiptOcrJobBatchList(Map<String, Object> paramMap);					// 일괄 업로드 묶음의 작업 상태 목록
+}
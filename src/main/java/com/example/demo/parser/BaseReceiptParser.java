@@ -7,13 +7,58 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public abstract class BaseReceiptParser {
     protected static final int MAX_DETAIL_ITEMS = 3;
 
+    // 현재 스레드에서 파싱 중인 Document의 1회성 분석 결과 (parse(ReceiptText) 동안만 유효)
+    private static final ThreadLocal<ReceiptText> CURRENT_TEXT = new ThreadLocal<>();
+
+    // 현재 스레드 파싱의 마감 시각(System.nanoTime 기준, 0 = 없음). ReceiptParserRegistry 가 설정
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
     // -------------------- 추상 메서드 --------------------
     public abstract ReceiptResult parse(Document doc);
 
+    /**
+     * 미리 분석된 ReceiptText로 파싱한다. 파싱 동안 text(doc)/splitByNewline 등은 이 분석 결과를 재사용한다.
+     * (파서 인스턴스에 상태를 두지 않으므로 하나의 파서를 여러 스레드가 공유해도 안전)
+     */
+    public ReceiptResult parse(ReceiptText rt) {
+        ReceiptText prev = CURRENT_TEXT.get();
+        CURRENT_TEXT.set(rt);
+        try {
+            return parse(rt.document());
+        } finally {
+            if (prev == null) CURRENT_TEXT.remove();
+            else CURRENT_TEXT.set(prev);
+        }
+    }
+
+    /**
+     * budgetMillis 시간 예산 안에서 body 실행. 예산을 넘기면 guard() 로 감싼 매칭에서 ParseAbortedException 발생
+     */
+    public static <T> T withBudget(long budgetMillis, Supplier<T> body) {
+        Long prev = DEADLINE.get();
+        DEADLINE.set(budgetMillis > 0 ? System.nanoTime() + budgetMillis * 1_000_000L : 0L);
+        try {
+            return body.get();
+        } finally {
+            if (prev == null) DEADLINE.remove();
+            else DEADLINE.set(prev);
+        }
+    }
+
+    /**
+     * 정규식 매칭 대상 래핑: 매칭 도중에도 인터럽트(Future.cancel(true))와 시간 예산을 확인한다.
+     */
+    protected static CharSequence guard(CharSequence src) {
+        if (src == null) return null;
+        Long deadline = DEADLINE.get();
+        return new InterruptibleCharSequence(src, deadline != null ? deadline : 0L);
+    }
+
     // -------------------- 공용 데이터 구조 --------------------
     public static class ReceiptResult {
         public Merchant merchant = new Merchant();
@@ -59,8 +104,26 @@ public abstract class BaseReceiptParser {
     // -------------------- 공용 OCR 텍스트 유틸 --------------------
     /** Document 전체 텍스트 */
     protected String text(Document doc) {
-        if (doc == null || doc.getText() == null) return "";
-        return doc.getText();
+        return receiptText(doc).raw();
+    }
+
+    /** 현재 파싱 중인 Document의 분석 결과 (parse(Document)로 직접 호출된 경우 즉석 생성) */
+    protected ReceiptText receiptText(Document doc) {
+        ReceiptText rt = CURRENT_TEXT.get();
+        if (rt != null && rt.document() == doc) return rt;
+        return ReceiptText.of(doc);
+    }
+
+    /** text.split("\\n") — 같은 문자열을 반복해서 자르는 경우 결과 재사용 */
+    protected String[] splitByNewline(String text) {
+        ReceiptText rt = CURRENT_TEXT.get();
+        return rt != null ? rt.split(text) : text.split("\\n");
+    }
+
+    /** text.replace("\r", "\n").split("\n") — 같은 문자열을 반복해서 자르는 경우 결과 재사용 */
+    protected String[] splitByNewlineCr(String text) {
+        ReceiptText rt = CURRENT_TEXT.get();
+        return rt != null ? rt.splitCr(text) : text.replace("\r", "\n").split("\n");
     }
 
     /** 숫자 문자열을 안전하게 int 로 */
@@ -85,9 +148,8 @@ public abstract class BaseReceiptParser {
     protected String extract(String src, String regex, int groupIndex) {
         if (src == null || regex == null) return null;
         try {
-            Pattern p = Pattern.compile(regex, Pattern.MULTILINE);
-            Matcher m = p.matcher(src);
-            if (m.find()) {
+            Matcher m = findCached(src, regex, Pattern.MULTILINE);
+            if (m != null) {
                 int groupCount = m.groupCount();
                 // ① 지정 그룹 존재 → 그 그룹
                 if (groupIndex <= groupCount && groupIndex > 0) {
@@ -102,12 +164,29 @@ public abstract class BaseReceiptParser {
                     return Optional.ofNullable(m.group()).orElse("").trim();
                 }
             }
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             // 실패 시 null
         }
         return null;
     }
     
+    /**
+     * RegexCache 패턴으로 guard() 한 입력에서 find() 1회 실행 (컴파일 재사용 + 패턴별 지표 집계).
+     * 파서별 extract/firstInt 도 이 메서드를 거친다. 매칭되면 Matcher, 아니면 null
+     */
+    protected static Matcher findCached(CharSequence src, String regex, int flags) {
+        if (src == null || regex == null) return null;
+        RegexCache.Entry entry = RegexCache.entry(regex, flags);
+        Pattern p = entry != null ? entry.pattern : Pattern.compile(regex, flags);
+        Matcher m = p.matcher(guard(src));
+        long started = System.nanoTime();
+        boolean found = m.find();
+        RegexCache.record(entry, System.nanoTime() - started, found);
+        return found ? m : null;
+    }
+
     protected String reflectFields(Object obj) {
         if (obj == null) return "null";
 
@@ -180,9 +259,9 @@ public abstract class BaseReceiptParser {
     }
 
     protected Integer firstInt(String src, String regex) {
-        String v = extract(src, regex, 2);
-        if (v == null) v = extract(src, regex, 1);
-        return toInt(v);
+        // extract(.., 2)는 그룹이 2개 미만이면 1번 그룹/전체 매칭으로 내려가므로,
+        // null(매칭 없음)일 때 같은 정규식으로 다시 extract(.., 1) 해도 결과는 항상 null → 1회만 수행
+        return toInt(extract(src, regex, 2));
     }
 
     protected boolean containsAny(String src, String... keys) {
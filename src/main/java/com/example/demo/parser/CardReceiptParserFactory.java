@@ -7,16 +7,27 @@ import com.example.demo.model.CardReceiptType;
 @Component
 public class CardReceiptParserFactory {
 
+    private final ReceiptParserRegistry registry;
+
+    public CardReceiptParserFactory(ReceiptParserRegistry registry) {
+        this.registry = registry;
+    }
+
     public BaseReceiptParser get(CardReceiptType type) {
         if (type == null) type = CardReceiptType.UNKNOWN;
 
-        return switch (type) {
-            case CONVENIENCE -> new ConvenienceReceiptParser();
-            case COUPANG_APP, COUPANG_CARD -> new CoupangReceiptParser();
-            case MART_ITEMIZED -> new MartReceiptParser();
-            case DELIVERY -> new DeliveryReceiptParser();
-            case CARD_SLIP_GENERIC -> new GenericCardSlipParser();
-            case UNKNOWN -> new GenericCardSlipParser(); // fallback
-        };
+        BaseReceiptParser parser = registry.find(ReceiptParserRegistry.Route.CARD, type.name());
+        if (parser == null) {
+            // fallback
+            parser = registry.find(ReceiptParserRegistry.Route.CARD, CardReceiptType.UNKNOWN.name());
+        }
+        return parser;
+    }
+
+    /**
+     * 타입별 파서로 파싱 (레지스트리 지표 집계 포함)
+     */
+    public BaseReceiptParser.ReceiptResult parse(CardReceiptType type, ReceiptText rt) {
+        return registry.parse(get(type), rt);
     }
 }
@@ -85,7 +85,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
 
         // 3️⃣ 품목 추출
         List<Item> items = new ArrayList<>();
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         Pattern itemPattern = Pattern.compile("^[*]?[가-힣A-Za-z0-9()\\-\\s]+\\s+(\\d{1,3})\\s+([0-9,]{3,})$");
 
@@ -96,7 +96,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
             // ❌ 잡문 제거
             if (line.matches(".*(총|합계|면세|POS|식품선도유지|품목|구매액|결제금액).*")) continue;
 
-            Matcher m = itemPattern.matcher(line);
+            Matcher m = itemPattern.matcher(guard(line));
             if (m.find()) {
                 String name = line.replaceAll("\\s+\\d{1,3}\\s+[0-9,]{3,}", "").replace("*", "").trim();
                 int qty = toInt(m.group(1));
@@ -202,7 +202,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
         System.out.println("🕒 거래일시: " + r.meta.saleDate + " " + r.meta.saleTime);
 
         // 3️⃣ 품목 영역 컷팅
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
         int startIdx = findFirstItemLineIndex(lines);
         int endIdx   = findLineIndexBeforeTotals(lines);
 
@@ -269,7 +269,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
             String line = lines[i] == null ? "" : lines[i].trim();
             if (line.isEmpty() || isNoiseLine(line)) continue;
 
-            Matcher inline = pInline.matcher(line);
+            Matcher inline = pInline.matcher(guard(line));
             if (inline.find()) {
                 String name = normalizeItemName(inline.group(1));
                 Integer qty = toInt(inline.group(2));
@@ -285,7 +285,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
                 continue;
             }
 
-            Matcher nameQty = pNameQty.matcher(line);
+            Matcher nameQty = pNameQty.matcher(guard(line));
             if (!nameQty.find()) continue;
 
             String name = normalizeItemName(nameQty.group(1));
@@ -296,8 +296,8 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
             for (int j = i + 1; j < Math.min(lines.length, i + 4); j++) {
                 String nxt = lines[j] == null ? "" : lines[j].trim();
                 if (nxt.isEmpty() || isNoiseLine(nxt)) continue;
-                if (pInline.matcher(nxt).find() || pNameQty.matcher(nxt).find()) break;
-                if (pAmountOnly.matcher(nxt).matches()) {
+                if (pInline.matcher(guard(nxt)).find() || pNameQty.matcher(guard(nxt)).find()) break;
+                if (pAmountOnly.matcher(guard(nxt)).matches()) {
                     Integer cand = toInt(nxt);
                     if (cand != null && cand >= 100) {
                         amount = cand;
@@ -373,7 +373,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
     // ---------- 품목 파서(상태기계) ----------
     private List<Item> parseItems(String itemSection) {
         List<Item> items = new ArrayList<>();
-        String[] ls = itemSection.split("\\n");
+        String[] ls = splitByNewline(itemSection);
 
         // 유틸
         Pattern pNameQtyInline = Pattern.compile("^([가-힣A-Za-z0-9()\\-\\s]{2,}?)\\s+(\\d{1,2})$"); // "하이퍼트로피컬 1"
@@ -386,7 +386,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
             if (line.contains("합계수량") || line.contains("수량/금액")) continue; // 표 머리글 제거
 
             // 1) "이름 수량 금액" 한 줄
-            Matcher mAll = pNameQtyAmt.matcher(line);
+            Matcher mAll = pNameQtyAmt.matcher(guard(line));
             if (mAll.find()) {
                 Item it = new Item();
                 it.name   = mAll.group(1).trim();
@@ -401,7 +401,7 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
             }
 
          // 2) "이름 수량" → 뒤에서 금액 찾아줌 (가장 큰 숫자 선택)
-            Matcher mNameQty = pNameQtyInline.matcher(line);
+            Matcher mNameQty = pNameQtyInline.matcher(guard(line));
             if (mNameQty.find()) {
                 String name = mNameQty.group(1).trim();
                 Integer qty = toInt(mNameQty.group(2));
@@ -414,9 +414,9 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
                     if (nxt.isEmpty()) { j++; continue; }
                     if (nxt.contains("과세") || nxt.contains("부가세") || nxt.contains("신용카드")) break;
                     // 다음 품목 신호면 중단
-                    if (pNameQtyInline.matcher(nxt).find() || pNameQtyAmt.matcher(nxt).find()) break;
+                    if (pNameQtyInline.matcher(guard(nxt)).find() || pNameQtyAmt.matcher(guard(nxt)).find()) break;
                     // 숫자 줄은 후보로 추가
-                    if (pNumber.matcher(nxt).matches()) {
+                    if (pNumber.matcher(guard(nxt)).matches()) {
                         int val = toInt(nxt);
                         if (val >= 1000) candidates.add(val); // 너무 작은건 제외
                     }
@@ -462,12 +462,14 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
     private String safeExtract(String text, String regex, int groupIndex) {
         if (text == null || regex == null) return null;
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (!m.find()) return null;
+            Matcher m = findCached(text, regex, 0);
+            if (m == null) return null;
             int c = m.groupCount();
             if (c == 0) return m.group(0).trim();
             if (groupIndex <= c) return m.group(groupIndex).trim();
             return m.group(1).trim();
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             System.err.println("⚠️ safeExtract error for [" + regex + "] → " + e.getMessage());
             return null;
@@ -488,9 +490,9 @@ public class ConvenienceReceiptParser extends BaseReceiptParser {
 
     protected Integer firstInt(String text, String regex) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find()) return toInt(m.group(m.groupCount()));
-        } catch (Exception ignore) {}
+            Matcher m = findCached(text, regex, 0);
+            if (m != null) return toInt(m.group(m.groupCount()));
+        } catch (ParseAbortedException e) { throw e; } catch (Exception ignore) {}
         return null;
     }
 }
@@ -157,7 +157,7 @@ public class CoupangReceiptParser extends BaseReceiptParser {
         Integer grandTotalFromCoupay = null;
         {
             Matcher mPay = Pattern.compile("쿠팡\\(쿠페이\\)\\s*-?\\s*([0-9]{1,3}(?:,[0-9]{3})*)")
-                    .matcher(text);
+                    .matcher(guard(text));
             if (mPay.find()) grandTotalFromCoupay = toInt(mPay.group(1));
         }
 
@@ -194,10 +194,10 @@ public class CoupangReceiptParser extends BaseReceiptParser {
             it.name = product;
 
             Integer qty = null;
-            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(product);
+            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(guard(product));
             if (q1.find()) qty = toInt(q1.group(1));
             if (qty == null) {
-                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(product);
+                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(guard(product));
                 if (q2.find()) qty = toInt(q2.group(1));
             }
             if (qty == null) qty = 1;
@@ -263,10 +263,10 @@ public class CoupangReceiptParser extends BaseReceiptParser {
             name = name.replaceAll("[^가-힣A-Za-z0-9,()\\-\\s]", "").trim();
 
             Integer qty = null;
-            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(joined);
+            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(guard(joined));
             if (q1.find()) qty = toInt(q1.group(1));
             else {
-                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(joined);
+                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(guard(joined));
                 if (q2.find()) qty = toInt(q2.group(1));
             }
             if (qty == null) qty = 1;
@@ -307,17 +307,17 @@ public class CoupangReceiptParser extends BaseReceiptParser {
     protected String extract(String text, String regex) { return extract(text, regex, 1); }
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            return m.find() ? m.group(Math.min(group, m.groupCount())).trim() : null;
-        } catch (Exception e) { return null; }
+            Matcher m = findCached(text, regex, 0);
+            return m != null ? m.group(Math.min(group, m.groupCount())).trim() : null;
+        } catch (ParseAbortedException e) { throw e; } catch (Exception e) { return null; }
     }
 
     // ✅ DOTALL 인라인 regex를 더 자주 쓰기 위해 별도 함수
     protected String extractDot(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            return m.find() ? m.group(Math.min(group, m.groupCount())).trim() : null;
-        } catch (Exception e) { return null; }
+            Matcher m = findCached(text, regex, 0);
+            return m != null ? m.group(Math.min(group, m.groupCount())).trim() : null;
+        } catch (ParseAbortedException e) { throw e; } catch (Exception e) { return null; }
     }
 
     private String safe(Object o) { return (o == null ? "" : String.valueOf(o)); }
@@ -330,9 +330,9 @@ public class CoupangReceiptParser extends BaseReceiptParser {
 
     protected Integer firstInt(String text, String regex) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find()) return toInt(m.group(m.groupCount()));
-        } catch (Exception ignore) {}
+            Matcher m = findCached(text, regex, 0);
+            if (m != null) return toInt(m.group(m.groupCount()));
+        } catch (ParseAbortedException e) { throw e; } catch (Exception ignore) {}
         return null;
     }
 
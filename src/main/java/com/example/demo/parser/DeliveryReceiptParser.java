@@ -207,7 +207,7 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
             }
 
             // 2️⃣ 가격줄 처리
-            Matcher priceLine = Pattern.compile("가격[:：]?\\s*\\(?([0-9,]+)원\\)?").matcher(line);
+            Matcher priceLine = Pattern.compile("가격[:：]?\\s*\\(?([0-9,]+)원\\)?").matcher(guard(line));
             if (priceLine.find()) {
                 Integer price = toInt(priceLine.group(1));
                 boolean matched = false;
@@ -260,7 +260,7 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
             }
 
             // 3️⃣ “숫자원 1개” 형태 (예: "33,400원 1개")
-            Matcher inlinePrice = Pattern.compile("([0-9]{1,3}(?:,[0-9]{3})+)원\\s*([0-9]{1,2})개").matcher(line);
+            Matcher inlinePrice = Pattern.compile("([0-9]{1,3}(?:,[0-9]{3})+)원\\s*([0-9]{1,2})개").matcher(guard(line));
             if (inlinePrice.find()) {
                 Integer price = toInt(inlinePrice.group(1));
                 Integer qty = toInt(inlinePrice.group(2));
@@ -276,7 +276,7 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
             }
 
             // 4️⃣ 수량 줄 ("... 1개")
-            Matcher itemStart = Pattern.compile("^([가-힣A-Za-z0-9\\s\\(\\)/.-]+?)\\s*([0-9]{1,2})\\s*개$").matcher(line);
+            Matcher itemStart = Pattern.compile("^([가-힣A-Za-z0-9\\s\\(\\)/.-]+?)\\s*([0-9]{1,2})\\s*개$").matcher(guard(line));
             if (itemStart.find()) {
                 String name = itemStart.group(1).trim();
                 Integer qty = toInt(itemStart.group(2));
@@ -337,11 +337,11 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
     // =====================================================
     private String sliceBlock(String text, String startRegex, String endRegex) {
         Pattern pStart = Pattern.compile(startRegex);
-        Matcher ms = pStart.matcher(text);
+        Matcher ms = pStart.matcher(guard(text));
         if (!ms.find()) return null;
         int start = ms.start();
         Pattern pEnd = Pattern.compile(endRegex);
-        Matcher me = pEnd.matcher(text);
+        Matcher me = pEnd.matcher(guard(text));
         int end = text.length();
         while (me.find()) {
             if (me.start() > start) { end = me.start(); break; }
@@ -363,18 +363,18 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
 
     protected Integer firstInt(String text, String regex) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find()) return toInt(m.group(m.groupCount()));
-        } catch (Exception ignore) {}
+            Matcher m = findCached(text, regex, 0);
+            if (m != null) return toInt(m.group(m.groupCount()));
+        } catch (ParseAbortedException e) { throw e; } catch (Exception ignore) {}
         return null;
     }
 
     protected String extract(String text, String regex) { return extract(text, regex, 1); }
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            return m.find() ? m.group(Math.min(group, m.groupCount())).trim() : null;
-        } catch (Exception e) { return null; }
+            Matcher m = findCached(text, regex, 0);
+            return m != null ? m.group(Math.min(group, m.groupCount())).trim() : null;
+        } catch (ParseAbortedException e) { throw e; } catch (Exception e) { return null; }
     }
 
     protected String firstNonNull(String... arr) {
@@ -385,7 +385,7 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
     // ✅ 날짜 형식 보정 ("10월 9일" → "2025-10-09")
     private String normalizeDate(String raw) {
         try {
-            Matcher m = Pattern.compile("([0-9]{1,2})월\\s*([0-9]{1,2})일").matcher(raw);
+            Matcher m = Pattern.compile("([0-9]{1,2})월\\s*([0-9]{1,2})일").matcher(guard(raw));
             if (m.find()) {
                 int month = Integer.parseInt(m.group(1));
                 int day = Integer.parseInt(m.group(2));
@@ -393,7 +393,7 @@ public class DeliveryReceiptParser extends BaseReceiptParser {
                 int year = cal.get(Calendar.YEAR);
                 return String.format("%04d-%02d-%02d", year, month, day);
             }
-        } catch (Exception ignore) {}
+        } catch (ParseAbortedException e) { throw e; } catch (Exception ignore) {}
         return raw;
     }
 }
@@ -33,7 +33,7 @@ public class GenericCardSlipParser extends BaseReceiptParser {
         String text = normalize(raw);
 
         System.out.println("=== 🧾 NORMALIZED LINES (카드전표) ===");
-        Arrays.stream(text.split("\\n"))
+        Arrays.stream(splitByNewline(text))
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .forEach(System.out::println);
@@ -116,7 +116,7 @@ public class GenericCardSlipParser extends BaseReceiptParser {
 
     private void extractDateTime(String text, ReceiptResult r) {
         // 날짜/시간(전표형)
-        Matcher m = DT.matcher(text);
+        Matcher m = DT.matcher(guard(text));
         if (m.find()) {
             String yyyy = m.group(1);
             String mm = pad2(m.group(2));
@@ -149,15 +149,15 @@ public class GenericCardSlipParser extends BaseReceiptParser {
 
     private void extractTotalsByRanking(String text, ReceiptResult r) {
         // ✅ 사업자번호/전화번호 제거 (69169 같은 오탐 금액 방지)
-        String cleaned = BIZ_NO.matcher(text).replaceAll(" ");
-        cleaned = TEL.matcher(cleaned).replaceAll(" ");
+        String cleaned = BIZ_NO.matcher(guard(text)).replaceAll(" ");
+        cleaned = TEL.matcher(guard(cleaned)).replaceAll(" ");
 
         // ✅ OCR에서 "합  계"처럼 띄어쓰기 들어가도 분리되게
         String t = cleaned
                 .replaceAll("(?=합\\s*계|총\\s*액|결\\s*제\\s*금\\s*액|승\\s*인\\s*금\\s*액|공\\s*급\\s*가\\s*액|부\\s*가\\s*세|할\\s*인|면\\s*세|과\\s*세)", "\n")
                 .replaceAll("\\n+", "\n");
 
-        String[] lines = t.split("\\n");
+        String[] lines = splitByNewline(t);
 
         List<Cand> totalCands = new ArrayList<>();
         List<Cand> vatCands = new ArrayList<>();
@@ -435,7 +435,7 @@ public class GenericCardSlipParser extends BaseReceiptParser {
         List<Integer> out = new ArrayList<>();
         if (line == null) return out;
 
-        Matcher m = MONEY_WON.matcher(line);
+        Matcher m = MONEY_WON.matcher(guard(line));
         while (m.find()) {
             Integer v = toInt(m.group(1));
             if (v == null || v <= 0) continue;
@@ -448,10 +448,10 @@ public class GenericCardSlipParser extends BaseReceiptParser {
     private String extractMaskedPanLoose(String text) {
         if (text == null) return null;
 
-        Matcher m1 = MASKED_PAN_1.matcher(text);
+        Matcher m1 = MASKED_PAN_1.matcher(guard(text));
         if (m1.find()) return m1.group().replaceAll("\\s+", "");
 
-        Matcher m2 = MASKED_PAN_2.matcher(text);
+        Matcher m2 = MASKED_PAN_2.matcher(guard(text));
         if (m2.find()) return m2.group();
 
         return null;
@@ -499,10 +499,10 @@ public class HeadOffice11PostReceiptParser extends BaseReceiptParser {
             it.name = product;
 
             Integer qty = null;
-            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(product);
+            Matcher q1 = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(guard(product));
             if (q1.find()) qty = toInt(q1.group(1));
             if (qty == null) {
-                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(product);
+                Matcher q2 = Pattern.compile("([0-9]+)\\s*개(?!\\s*포함)").matcher(guard(product));
                 if (q2.find()) qty = toInt(q2.group(1));
             }
             if (qty == null) qty = 1;
@@ -641,12 +641,14 @@ public class HeadOffice11PostReceiptParser extends BaseReceiptParser {
 
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find()) {
+            Matcher m = findCached(text, regex, 0);
+            if (m != null) {
                 int g = Math.min(group, m.groupCount());
                 return m.group(g) != null ? m.group(g).trim() : null;
             }
             return null;
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
@@ -654,12 +656,14 @@ public class HeadOffice11PostReceiptParser extends BaseReceiptParser {
 
     protected String extractDot(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex, Pattern.DOTALL).matcher(text);
-            if (m.find()) {
+            Matcher m = findCached(text, regex, Pattern.DOTALL);
+            if (m != null) {
                 int g = Math.min(group, m.groupCount());
                 return m.group(g) != null ? m.group(g).trim() : null;
             }
             return null;
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
@@ -678,9 +682,9 @@ public class HeadOffice11PostReceiptParser extends BaseReceiptParser {
 
     protected Integer firstInt(String text, String regex) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find()) return toInt(m.group(m.groupCount()));
-        } catch (Exception ignore) {}
+            Matcher m = findCached(text, regex, 0);
+            if (m != null) return toInt(m.group(m.groupCount()));
+        } catch (ParseAbortedException e) { throw e; } catch (Exception ignore) {}
         return null;
     }
 
@@ -737,7 +741,7 @@ public class HeadOffice11PostReceiptParser extends BaseReceiptParser {
     private String normalizeDate(String date) {
         if (date == null) return null;
         String d = date.trim().replace(".", "-").replace("/", "-");
-        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(d);
+        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(guard(d));
         if (m.find()) {
             String yy = m.group(1);
             String mm = String.format("%02d", Integer.parseInt(m.group(2)));
@@ -370,7 +370,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
 
         // 업체명 / 대표자: 마지막 한글 2~4자 이름 추정
         if ("업체명".equals(leftLabel) && "대표자".equals(rightLabel)) {
-            Matcher m = Pattern.compile("(.+?)\\s+([가-힣]{2,4})$").matcher(x);
+            Matcher m = Pattern.compile("(.+?)\\s+([가-힣]{2,4})$").matcher(guard(x));
             if (m.find()) {
                 return new Pair(cleanField(m.group(1)), cleanField(m.group(2)));
             }
@@ -388,7 +388,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
     }
 
     private List<String> splitLines(String text) {
-        String[] arr = text.replace("\r", "\n").split("\n");
+        String[] arr = splitByNewlineCr(text);
         List<String> lines = new ArrayList<>();
         for (String line : arr) {
             lines.add(line == null ? "" : line.trim());
@@ -733,7 +733,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
 
     private String normalizeDate(String value) {
         if (!notEmpty(value)) return null;
-        Matcher m = SALE_DATE.matcher(value);
+        Matcher m = SALE_DATE.matcher(guard(value));
         if (!m.find()) return null;
 
         String y = m.group(1);
@@ -754,7 +754,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
         if (notEmpty(withDash)) return withDash;
 
         String digitsOnly = value.replaceAll("[^0-9]", "");
-        Matcher m = BIZNO_10.matcher(digitsOnly);
+        Matcher m = BIZNO_10.matcher(guard(digitsOnly));
         if (m.find()) {
             String digits = m.group(1);
             return digits.substring(0, 3) + "-" + digits.substring(3, 5) + "-" + digits.substring(5);
@@ -786,7 +786,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
                 "(?i)\\b([0-9]{1,4})\\s*(개|ea|입|팩|봉|병|캔|세트)\\b"
         };
         for (String p : patterns) {
-            Matcher m = Pattern.compile(p).matcher(productName);
+            Matcher m = Pattern.compile(p).matcher(guard(productName));
             if (m.find()) {
                 try {
                     return Integer.parseInt(m.group(1));
@@ -800,7 +800,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
     private Integer firstMoney(String src) {
         if (!notEmpty(src)) return null;
 
-        Matcher m = MONEY.matcher(src);
+        Matcher m = MONEY.matcher(guard(src));
         while (m.find()) {
             String num = m.group(1);
             String full = m.group(0);
@@ -824,7 +824,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
 
     private String firstPattern(Pattern p, String src) {
         if (p == null || src == null) return null;
-        Matcher m = p.matcher(src);
+        Matcher m = p.matcher(guard(src));
         return m.find() ? m.group(0).trim() : null;
     }
 
@@ -841,7 +841,7 @@ public class HeadOfficeAuctionReceiptParser extends BaseReceiptParser {
     private boolean looksLikeDateLikeText(String value) {
         if (!notEmpty(value)) return false;
         String compact = value.replaceAll("\\s+", "");
-        if (SALE_DATE.matcher(compact).find()) return true;
+        if (SALE_DATE.matcher(guard(compact)).find()) return true;
         return compact.matches("^20\\d{2}[./-]\\d{1,2}[./-]\\d{1,2}$");
     }
 
@@ -0,0 +1,192 @@
+package com.example.demo.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.example.demo.classify.KeywordAutomaton;
+
+/**
+ * 본사 법인카드 영수증 채널(auction/gmarket/11post/naver/homeplus/coupang/daiso) 자동 감지
+ * - 채널별 시그니처(가맹점번호 문구, 상단 브랜드/헤더, 하단 발행 문구)를 키워드 오토마톤 1회 스캔으로 점수화
+ * - 상단 HEADER_LINES 줄 안에서 찾은 브랜드 키워드는 가산점 (본문 중간의 상품명/광고 문구보다 신뢰도 높음)
+ * - confidence 는 1위 점수 크기와 2위와의 격차로 0~1 산출
+ */
+public final class HeadOfficeChannelDetector {
+
+    // 상단 헤더로 보는 줄 수
+    private static final int HEADER_LINES = 8;
+    private static final int HEADER_BONUS = 2;
+
+    // 이 점수 이상이면 격차와 무관하게 점수 측면은 만점
+    private static final int SATURATION_SCORE = 10;
+
+    public static final List<String> CHANNELS =
+            List.of("auction", "gmarket", "11post", "naver", "homeplus", "coupang", "daiso");
+
+    /**
+     * 감지 결과
+     */
+    public static final class Detection {
+        public final String channel;       // 없으면 null
+        public final double confidence;
+        public final String runnerUp;      // 2위 채널 (없으면 null)
+        public final Map<String, Integer> scores;
+
+        Detection(String channel, double confidence, String runnerUp, Map<String, Integer> scores) {
+            this.channel = channel;
+            this.confidence = confidence;
+            this.runnerUp = runnerUp;
+            this.scores = scores;
+        }
+
+        public int score(String channel) {
+            return scores.getOrDefault(channel, 0);
+        }
+    }
+
+    private static final class Signature {
+        final String channel;
+        final int weight;
+        final boolean brand;   // 헤더 가산 대상
+        final Pattern pattern; // 키워드가 없을 때 보조 정규식 (gate 키워드가 보일 때만 실행)
+        final String gate;
+        final String[] keywords;
+
+        Signature(String channel, int weight, boolean brand, Pattern pattern, String gate, String... keywords) {
+            this.channel = channel;
+            this.weight = weight;
+            this.brand = brand;
+            this.pattern = pattern;
+            this.gate = gate;
+            this.keywords = keywords;
+        }
+    }
+
+    private static Signature brand(String channel, int weight, String... keywords) {
+        return new Signature(channel, weight, true, null, null, keywords);
+    }
+
+    private static Signature field(String channel, int weight, String... keywords) {
+        return new Signature(channel, weight, false, null, null, keywords);
+    }
+
+    private static final Signature[] SIGNATURES = {
+            // 옥션: 가맹점번호 칸에 "Auction전자지불" (OCR 공백 흔들림 허용)
+            new Signature("auction", 10, false, Pattern.compile("(?i)auction\\s*전\\s*자\\s*지\\s*불"), "AUCTION",
+                    "AUCTION전자지불"),
+            brand("auction", 4, "옥션"),
+
+            // G마켓: 브랜드 / 하단 발행 문구 (옥션 전표에도 붙으므로 가중치 낮게)
+            brand("gmarket", 6, "G마켓", "GMARKET"),
+            field("gmarket", 3, "지마켓에서 발행한", "G마켓에서 발행한"),
+            field("gmarket", 2, "지마켓"),
+
+            // 11번가
+            brand("11post", 6, "11번가", "11ST", "11STREET"),
+            field("11post", 2, "SEQ NO", "SHOP NAME", "SELLER ADDRESS"),
+
+            // 네이버
+            brand("naver", 6, "네이버", "NAVER", "네이버페이", "NPAY"),
+            field("naver", 3, "카드사/승인번호"),
+            field("naver", 2, "상품주문번호", "상품 주문번호", "거래종류/할부"),
+
+            // 홈플러스
+            brand("homeplus", 7, "홈플러스", "HOMEPLUS"),
+
+            // 쿠팡 (앱 결제내역 / 카드영수증)
+            brand("coupang", 6, "쿠팡", "COUPANG"),
+            field("coupang", 3, "쿠팡(쿠페이)", "쿠페이", "쿠팡페이"),
+
+            // 다이소: 열전사 POS 영수증 상단 "아성다이소" (띄어쓰기 깨짐 허용)
+            brand("daiso", 8, "아성다이소"),
+            new Signature("daiso", 5, true, Pattern.compile("다\\s*이\\s*소"), "다", "다이소"),
+            field("daiso", 2, "다이소멤버십", "국민가게"),
+    };
+
+    private static final KeywordAutomaton AUTOMATON;
+    private static final int[][] SIGNATURE_KEYWORDS;
+    private static final int[] SIGNATURE_GATE;
+
+    static {
+        Set<String> dict = new LinkedHashSet<>();
+        for (Signature s : SIGNATURES) {
+            for (String k : s.keywords) dict.add(k.toUpperCase());
+            if (s.gate != null) dict.add(s.gate.toUpperCase());
+        }
+        List<String> keywords = new ArrayList<>(dict);
+        AUTOMATON = new KeywordAutomaton(keywords);
+
+        SIGNATURE_KEYWORDS = new int[SIGNATURES.length][];
+        SIGNATURE_GATE = new int[SIGNATURES.length];
+        for (int i = 0; i < SIGNATURES.length; i++) {
+            Signature s = SIGNATURES[i];
+            SIGNATURE_KEYWORDS[i] = new int[s.keywords.length];
+            for (int j = 0; j < s.keywords.length; j++) {
+                SIGNATURE_KEYWORDS[i][j] = keywords.indexOf(s.keywords[j].toUpperCase());
+            }
+            SIGNATURE_GATE[i] = s.gate == null ? -1 : keywords.indexOf(s.gate.toUpperCase());
+        }
+    }
+
+    private HeadOfficeChannelDetector() {
+    }
+
+    public static Detection detect(ReceiptText rt) {
+        String text = rt.raw();
+        boolean[] hit = AUTOMATON.scan(text);
+        boolean[] headerHit = AUTOMATON.scan(header(rt));
+
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (String c : CHANNELS) scores.put(c, 0);
+
+        for (int i = 0; i < SIGNATURES.length; i++) {
+            Signature s = SIGNATURES[i];
+            if (!fires(i, hit, text)) continue;
+            int add = s.weight;
+            if (s.brand && fires(i, headerHit, null)) add += HEADER_BONUS;
+            scores.merge(s.channel, add, Integer::sum);
+        }
+
+        // 1위/2위 (동점이면 CHANNELS 순서 우선)
+        String best = null, second = null;
+        int bestScore = 0, secondScore = 0;
+        for (String c : CHANNELS) {
+            int s = scores.get(c);
+            if (s > bestScore) {
+                second = best;
+                secondScore = bestScore;
+                best = c;
+                bestScore = s;
+            } else if (s > secondScore) {
+                second = c;
+                secondScore = s;
+            }
+        }
+        if (best == null) return new Detection(null, 0.0, null, scores);
+
+        double strength = Math.min(1.0, (double) bestScore / SATURATION_SCORE);
+        double margin = (double) (bestScore - secondScore) / bestScore;
+        double confidence = Math.round((0.5 * strength + 0.5 * margin) * 100) / 100.0;
+        return new Detection(best, confidence, second, scores);
+    }
+
+    private static boolean fires(int i, boolean[] hit, String text) {
+        for (int id : SIGNATURE_KEYWORDS[i]) {
+            if (hit[id]) return true;
+        }
+        Signature s = SIGNATURES[i];
+        if (text == null || s.pattern == null) return false;
+        if (SIGNATURE_GATE[i] >= 0 && !hit[SIGNATURE_GATE[i]]) return false;
+        return s.pattern.matcher(text).find();
+    }
+
+    private static String header(ReceiptText rt) {
+        List<String> lines = rt.normalizedLines();
+        return String.join("\n", lines.subList(0, Math.min(HEADER_LINES, lines.size())));
+    }
+}
@@ -140,7 +140,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         System.out.println("[CARD] cardMasked=" + safe(r.payment.cardMasked));
 
         // 거래일시
-        Matcher dtm = DATE_TIME.matcher(joined);
+        Matcher dtm = DATE_TIME.matcher(guard(joined));
         if (dtm.find()) {
             r.meta.saleDate = dtm.group(1);
             r.meta.saleTime = dtm.group(2);
@@ -343,7 +343,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
             for (String s : tail) {
                 String t = s.trim();
                 if (t.isEmpty()) continue;
-                if (ORDER_NO.matcher(t).matches()) continue;
+                if (ORDER_NO.matcher(guard(t)).matches()) continue;
                 if (parseMoneyStrict(t) != null) break;
                 sb.append(t).append(" ");
             }
@@ -378,7 +378,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         String stripped = x.replaceAll("원$", "").trim();
         if (!stripped.matches("[0-9,\\s]+")) return null;
 
-        Matcher m = MONEY.matcher(x);
+        Matcher m = MONEY.matcher(guard(x));
         if (!m.find()) return null;
 
         boolean hasWon = x.endsWith("원");
@@ -412,7 +412,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         System.out.println("[PRODUCT] raw=" + safe(raw));
         System.out.println("[PRODUCT] compact=" + safe(x));
 
-        x = JUNK_LABELS.matcher(x).replaceAll(" ");
+        x = JUNK_LABELS.matcher(guard(x)).replaceAll(" ");
         x = x.replaceAll("\\s{2,}", " ").trim();
         System.out.println("[PRODUCT] removedLabels=" + safe(x));
 
@@ -434,13 +434,13 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         if (text == null) return null;
 
         // "총 N건" 우선 (쿠팡 묶음 주문)
-        Matcher mt = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(text);
+        Matcher mt = Pattern.compile("총\\s*([0-9]+)\\s*건").matcher(guard(text));
         if (mt.find()) {
             Integer v = toInt(mt.group(1));
             if (v != null && v > 0) return v;
         }
 
-        Matcher m = QTY_UNIT.matcher(text);
+        Matcher m = QTY_UNIT.matcher(guard(text));
         Integer best = null;
         while (m.find()) {
             Integer v = toInt(m.group(1));
@@ -448,7 +448,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         }
 
         if (best == null) {
-            Matcher mx = QTY_X.matcher(text);
+            Matcher mx = QTY_X.matcher(guard(text));
             if (mx.find()) {
                 Integer v = toInt(firstNonNull(mx.group(1), mx.group(2)));
                 if (v != null && v > 0) best = v;
@@ -456,7 +456,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         }
 
         // 용량만 있는 경우는 qty로 보지 않음
-        if (best != null && SIZE_UNIT.matcher(text).matches()) return null;
+        if (best != null && SIZE_UNIT.matcher(guard(text)).matches()) return null;
 
         return best;
     }
@@ -511,10 +511,10 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
             for (int i = bizLabel - 1; i >= 0; i--) {
                 String t = lines.get(i).trim();
                 if (t.isEmpty()) continue;
-                if (JUNK_LABELS.matcher(t).find()) continue;
-                if (BIZNO_DASH.matcher(t).find()) continue;
-                if (ORDER_NO.matcher(t).matches()) continue;
-                if (APPROVAL_NO.matcher(t).matches()) continue;
+                if (JUNK_LABELS.matcher(guard(t)).find()) continue;
+                if (BIZNO_DASH.matcher(guard(t)).find()) continue;
+                if (ORDER_NO.matcher(guard(t)).matches()) continue;
+                if (APPROVAL_NO.matcher(guard(t)).matches()) continue;
                 if (parseMoneyStrict(t) != null) continue;
                 return t;
             }
@@ -524,10 +524,10 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
 
     private String findBizNo(List<String> lines) {
         String joined = String.join("\n", lines);
-        Matcher m1 = BIZNO_DASH.matcher(joined);
+        Matcher m1 = BIZNO_DASH.matcher(guard(joined));
         if (m1.find()) return m1.group(1);
 
-        Matcher m2 = BIZNO_10.matcher(joined.replaceAll("[^0-9]", " "));
+        Matcher m2 = BIZNO_10.matcher(guard(joined.replaceAll("[^0-9]", " ")));
         if (m2.find()) {
             String d = m2.group(1);
             return d.substring(0, 3) + "-" + d.substring(3, 5) + "-" + d.substring(5);
@@ -540,7 +540,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         String x = s.trim();
         if (x.isEmpty()) return null;
 
-        Matcher m1 = BIZNO_DASH.matcher(x);
+        Matcher m1 = BIZNO_DASH.matcher(guard(x));
         if (m1.find()) return m1.group(1);
 
         String digits = x.replaceAll("[^0-9]", "");
@@ -573,7 +573,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
     private String findApprovalAfterDateTime(List<String> lines) {
         int dtIdx = -1;
         for (int i = 0; i < lines.size(); i++) {
-            if (DATE_TIME.matcher(lines.get(i)).find()) {
+            if (DATE_TIME.matcher(guard(lines.get(i))).find()) {
                 dtIdx = i;
                 break;
             }
@@ -581,7 +581,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         if (dtIdx >= 0) {
             for (int j = dtIdx + 1; j < Math.min(lines.size(), dtIdx + 8); j++) {
                 String t = lines.get(j).trim();
-                if (APPROVAL_NO.matcher(t).matches()) return t;
+                if (APPROVAL_NO.matcher(guard(t)).matches()) return t;
             }
         }
         return findFirst(APPROVAL_NO, String.join("\n", lines));
@@ -675,7 +675,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
         int bizValIdx = -1;
         int searchFrom = bizLabelIdx >= 0 ? bizLabelIdx + 1 : labelIdx + 1;
         for (int j = searchFrom; j < lines.size(); j++) {
-            if (BIZNO_DASH.matcher(lines.get(j).trim()).matches()) { bizValIdx = j; break; }
+            if (BIZNO_DASH.matcher(guard(lines.get(j).trim())).matches()) { bizValIdx = j; break; }
         }
 
         // 패턴1: 사업자등록번호 라벨 바로 앞에서 역방향 탐색
@@ -683,9 +683,9 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
             for (int j = bizLabelIdx - 1; j > labelIdx; j--) {
                 String t = lines.get(j).trim();
                 if (t.isEmpty()) continue;
-                if (JUNK_LABELS.matcher(t).find()) continue;
+                if (JUNK_LABELS.matcher(guard(t)).find()) continue;
                 if (t.contains("사업자등록번호") || t.contains("판매자주소") || t.contains("판매자상호")) continue;
-                if (ORDER_NO.matcher(t).matches()) continue;
+                if (ORDER_NO.matcher(guard(t)).matches()) continue;
                 if (parseMoneyStrict(t) != null) continue;
                 if (t.matches("[^가-힣A-Za-z0-9()\\[\\]]+")) continue;
                 return t;
@@ -697,9 +697,9 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
             for (int j = bizValIdx - 1; j > labelIdx; j--) {
                 String t = lines.get(j).trim();
                 if (t.isEmpty()) continue;
-                if (JUNK_LABELS.matcher(t).find()) continue;
+                if (JUNK_LABELS.matcher(guard(t)).find()) continue;
                 if (t.contains("사업자등록번호") || t.contains("판매자주소") || t.contains("판매자상호")) continue;
-                if (ORDER_NO.matcher(t).matches()) continue;
+                if (ORDER_NO.matcher(guard(t)).matches()) continue;
                 if (parseMoneyStrict(t) != null) continue;
                 if (t.matches("[^가-힣A-Za-z0-9()\\[\\]]+")) continue;
                 return t;
@@ -724,7 +724,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
             }
             if (stop) break;
 
-            if (JUNK_LABELS.matcher(t).find()) continue;
+            if (JUNK_LABELS.matcher(guard(t)).find()) continue;
             sb.append(t).append(" ");
         }
         String out = sb.toString().replaceAll("\\s{2,}", " ").trim();
@@ -733,7 +733,7 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
 
     private String findFirst(Pattern p, String text) {
         if (text == null) return null;
-        Matcher m = p.matcher(text);
+        Matcher m = p.matcher(guard(text));
         return m.find() ? m.group(0).trim() : null;
     }
 
@@ -771,11 +771,13 @@ public class HeadOfficeCoupangReceiptParser extends BaseReceiptParser {
 
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (!m.find()) return null;
+            Matcher m = findCached(text, regex, 0);
+            if (m == null) return null;
             int g = Math.min(group, m.groupCount());
             String v = (g <= 0) ? m.group(0) : m.group(g);
             return v == null ? null : v.trim();
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
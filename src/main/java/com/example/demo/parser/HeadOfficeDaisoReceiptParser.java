@@ -68,7 +68,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         String saleDateRaw = null;
         String saleTimeRaw = null;
 
-        Matcher dtm = DATE_TIME.matcher(normalized);
+        Matcher dtm = DATE_TIME.matcher(guard(normalized));
         if (dtm.find()) {
             saleDateRaw = dtm.group(1);
             saleTimeRaw = dtm.group(2);
@@ -241,7 +241,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
             }
 
             // 블록에는 상품명 후보/금액트리플 후보만 넣어 노이즈를 줄인다.
-            if (looksLikeProductLine(line) || amountTriple.matcher(line).find()) {
+            if (looksLikeProductLine(line) || amountTriple.matcher(guard(line)).find()) {
                 block.add(line);
             }
         }
@@ -306,7 +306,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
 
     private Item parseInlineItemLine(String line, Pattern itemInline, String taxFlag) {
         if (!notEmpty(line) || itemInline == null) return null;
-        Matcher m = itemInline.matcher(line);
+        Matcher m = itemInline.matcher(guard(line));
         if (!m.find()) return null;
 
         Item it = new Item();
@@ -330,7 +330,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         for (String raw : block) {
             String line = cleanField(raw);
             if (!notEmpty(line)) continue;
-            Matcher mInline = itemInline.matcher(line);
+            Matcher mInline = itemInline.matcher(guard(line));
             if (mInline.find()) {
                 name = cleanItemName(mInline.group(1));
                 unitPrice = toInt(mInline.group(2));
@@ -354,7 +354,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         if (unitPrice == null || qty == null || amount == null) {
             for (String raw : block) {
                 String line = cleanField(raw);
-                Matcher mTriple = amountTriple.matcher(line);
+                Matcher mTriple = amountTriple.matcher(guard(line));
                 if (!mTriple.find()) continue;
                 unitPrice = firstNonNullInt(unitPrice, toInt(mTriple.group(1)));
                 qty = firstNonNullInt(qty, toInt(mTriple.group(2)));
@@ -416,7 +416,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         for (int i = 0; i < lines.size(); i++) {
             String line = cleanField(lines.get(i));
             if (!notEmpty(line)) continue;
-            if (DATE_TIME.matcher(line).find()) return i;
+            if (DATE_TIME.matcher(guard(line)).find()) return i;
         }
         return -1;
     }
@@ -482,7 +482,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         for (int i = 0; i < lines.size(); i++) {
             String line = cleanField(lines.get(i));
             if (!notEmpty(line)) continue;
-            if (!label.matcher(line).find()) continue;
+            if (!label.matcher(guard(line)).find()) continue;
 
             Integer inLine = lastMoney(line);
             if (inLine != null) return inLine;
@@ -626,13 +626,13 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
     // "면세사업자" 문구가 있으면 부가세 0원 판단 보정에 사용한다.
     private boolean containsTaxExemptBusiness(String text) {
         if (!notEmpty(text)) return false;
-        return Pattern.compile("면\\s*세\\s*사\\s*업\\s*자").matcher(text).find();
+        return Pattern.compile("면\\s*세\\s*사\\s*업\\s*자").matcher(guard(text)).find();
     }
 
     // 다이소 문구(띄어쓰기 깨짐 포함) 존재 여부로 전표 종류를 판별한다.
     private boolean isDaisoSlip(String text) {
         if (!notEmpty(text)) return false;
-        return DAISO_MARKER.matcher(text).find();
+        return DAISO_MARKER.matcher(guard(text)).find();
     }
 
     // 주소 후보 탐색: 일반 주소 키워드를 포함하면서 안내/전화 라인은 제외
@@ -671,7 +671,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
     // YYYY-MM-DD 형태로 날짜를 통일한다.
     private String normalizeDate(String value) {
         if (!notEmpty(value)) return null;
-        Matcher m = SALE_DATE.matcher(value);
+        Matcher m = SALE_DATE.matcher(guard(value));
         if (!m.find()) return null;
 
         String y = m.group(1);
@@ -683,7 +683,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
     // HH:mm(또는 HH:mm:ss) 형태로 시간 문자열을 정리한다.
     private String normalizeTime(String value) {
         if (!notEmpty(value)) return null;
-        Matcher m = SALE_TIME.matcher(value);
+        Matcher m = SALE_TIME.matcher(guard(value));
         if (!m.find()) return null;
         String t = m.group(1);
         if (t.length() == 4) t = "0" + t; // 9:01 -> 09:01
@@ -705,7 +705,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
         String dashed = firstPattern(BIZNO_DASH, src);
         if (notEmpty(dashed)) return dashed;
         String digitsOnly = src.replaceAll("[^0-9]", "");
-        Matcher m = BIZNO_10.matcher(digitsOnly);
+        Matcher m = BIZNO_10.matcher(guard(digitsOnly));
         if (!m.find()) return null;
         String d = m.group(1);
         return d.substring(0, 3) + "-" + d.substring(3, 5) + "-" + d.substring(5);
@@ -728,7 +728,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
     // 문자열 내 마지막 금액 토큰을 반환(한 줄에 금액이 여러 개 있을 수 있음)
     private Integer lastMoney(String src) {
         if (!notEmpty(src)) return null;
-        Matcher m = MONEY.matcher(src);
+        Matcher m = MONEY.matcher(guard(src));
         Integer out = null;
         while (m.find()) {
             out = toInt(m.group(1));
@@ -745,7 +745,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
     // Pattern 기반 첫 매칭값(group 1) 추출 래퍼
     private String firstPattern(Pattern p, String src) {
         if (p == null || !notEmpty(src)) return null;
-        Matcher m = p.matcher(src);
+        Matcher m = p.matcher(guard(src));
         if (!m.find()) return null;
         return m.group(1).trim();
     }
@@ -760,7 +760,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
 
     // 개행 기준 라인 분리(각 라인은 trim 처리)
     private List<String> splitLines(String text) {
-        String[] arr = text.replace("\r", "\n").split("\n");
+        String[] arr = splitByNewlineCr(text);
         List<String> out = new ArrayList<>();
         for (String s : arr) {
             out.add(s == null ? "" : s.trim());
@@ -798,7 +798,7 @@ public class HeadOfficeDaisoReceiptParser extends BaseReceiptParser {
 
         // 꼬리에 금액 토큰이 여러 개 붙는 경우를 대비해 반복 제거
         for (int i = 0; i < 3; i++) {
-            Matcher m = tailMoney.matcher(out.trim());
+            Matcher m = tailMoney.matcher(guard(out.trim()));
             if (!m.matches()) break;
 
             Integer money = toInt(m.group(2));
@@ -251,7 +251,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
         if (DEBUG) System.out.println("---- [DEBUG] parseSalesSlipEnglish ----");
 
         // 라인 목록 출력
-        String[] allLines = text.replace("\r", "\n").split("\n");
+        String[] allLines = splitByNewlineCr(text);
         for (int i = 0; i < allLines.length; i++) {
             System.out.printf("[GMARKET] L%02d: %s%n", i, allLines[i]);
         }
@@ -286,7 +286,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
         System.out.println("[GMARKET] approvalNo=" + safe(r.approval.approvalNo));
 
         // 거래일자: "2026-03-23 11:13:32 AM" 형태
-        Matcher dtm = Pattern.compile("(20\\d{2}[./-]\\d{2}[./-]\\d{2})\\s+([0-2]?\\d:[0-5]\\d:[0-5]\\d(?:\\s*(?:AM|PM))?)").matcher(text);
+        Matcher dtm = Pattern.compile("(20\\d{2}[./-]\\d{2}[./-]\\d{2})\\s+([0-2]?\\d:[0-5]\\d:[0-5]\\d(?:\\s*(?:AM|PM))?)").matcher(guard(text));
         if (dtm.find()) {
             r.meta.saleDate = dtm.group(1).replace(".", "-").replace("/", "-");
             r.meta.saleTime = dtm.group(2).trim();
@@ -361,7 +361,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
     /** 지마켓 OCR 라벨-값 분리 구조에서 상호명 추출 */
     private String extractGmarketSellerName(String section) {
         if (section == null) return null;
-        String[] lines = section.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(section);
 
         Pattern BIZ = Pattern.compile("^[0-9]{3}-[0-9]{2}-[0-9]{5}$");
         Set<String> LABELS = new HashSet<>(Arrays.asList(
@@ -371,7 +371,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
         // 사업자번호 위치 찾기
         int bizIdx = -1;
         for (int i = 0; i < lines.length; i++) {
-            if (BIZ.matcher(lines[i].trim()).matches()) { bizIdx = i; break; }
+            if (BIZ.matcher(guard(lines[i].trim())).matches()) { bizIdx = i; break; }
         }
 
         if (bizIdx > 0) {
@@ -381,7 +381,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
                 String t = lines[j].trim();
                 if (t.isEmpty()) continue;
                 if (LABELS.contains(t.replace(" ", ""))) continue;
-                if (BIZ.matcher(t).matches()) continue;
+                if (BIZ.matcher(guard(t)).matches()) continue;
                 if (t.matches("[0-9\\-/\\*\\s]+")) continue;
                 if (t.matches(".*[시도군구].*")) continue;
                 if (t.matches("(일반과세자|간이과세자|면세사업자)")) continue;
@@ -406,7 +406,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
     /** 지마켓 주소 추출 (과세유형 라인 제외) */
     private String extractGmarketAddress(String section) {
         if (section == null) return null;
-        String[] lines = section.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(section);
         boolean inAddr = false;
         StringBuilder sb = new StringBuilder();
         for (String line : lines) {
@@ -424,7 +424,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
 
     /** 승인번호: 6~12자리 독립 숫자, 카드번호/주문번호/날짜와 구분 */
     private String extractApprovalNoGmarket(String text) {
-        String[] lines = text.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(text);
         for (String line : lines) {
             String t = line.trim();
             // 순수 6~12자리 숫자 라인
@@ -461,7 +461,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
 
         // 라인 단위 숫자만 수집 (bizNo/전화번호/카드번호 등은 대부분 걸러짐)
         List<Integer> nums = new ArrayList<>();
-        Matcher m = Pattern.compile("(?m)^\\s*(\\d{1,3}(?:,\\d{3})+|\\d{1,8})\\s*$").matcher(tail);
+        Matcher m = Pattern.compile("(?m)^\\s*(\\d{1,3}(?:,\\d{3})+|\\d{1,8})\\s*$").matcher(guard(tail));
         while (m.find()) {
             Integer v = toInt(m.group(1));
             if (v != null) nums.add(v);
@@ -650,8 +650,10 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
 
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            return m.find() ? m.group(Math.min(group, m.groupCount())).trim() : null;
+            Matcher m = findCached(text, regex, 0);
+            return m != null ? m.group(Math.min(group, m.groupCount())).trim() : null;
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
@@ -733,7 +735,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
         if (idx < 0) return null;
         int end = Math.min(text.length(), idx + 160);
         String near = text.substring(idx, end);
-        Matcher m = Pattern.compile("(20\\d{2}[./-]\\d{1,2}[./-]\\d{1,2})").matcher(near);
+        Matcher m = Pattern.compile("(20\\d{2}[./-]\\d{1,2}[./-]\\d{1,2})").matcher(guard(near));
         return m.find() ? m.group(1) : null;
     }
 
@@ -754,7 +756,7 @@ public class HeadOfficeGMarketReceiptParser extends BaseReceiptParser {
         if (block == null) return null;
 
         // 줄 단위로 후보 생성
-        String[] lines = block.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(block);
         List<String> candidates = new ArrayList<>();
         for (String ln : lines) {
             String t = cleanField(ln);
@@ -153,7 +153,7 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
 
         if (notEmpty(approveDT)) {
             Matcher m = Pattern.compile("^(20\\d{2}[-./]\\d{1,2}[-./]\\d{1,2})\\s+([0-2]?\\d:[0-5]\\d:[0-5]\\d)$")
-                    .matcher(approveDT.trim());
+                    .matcher(guard(approveDT.trim()));
             if (m.find()) {
                 r.meta.saleDate = normalizeDate(m.group(1));
                 r.meta.saleTime = normalizeTime(m.group(2));
@@ -247,7 +247,7 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
         // ✅ 콤마 포함된 금액만 뽑는다: 52,546 / 5,254원 / 57,800원
         List<Integer> money = new ArrayList<>();
         if (paySection != null) {
-            Matcher m = Pattern.compile("(\\d{1,3}(?:,\\d{3})+)\\s*원?").matcher(paySection);
+            Matcher m = Pattern.compile("(\\d{1,3}(?:,\\d{3})+)\\s*원?").matcher(guard(paySection));
             while (m.find()) {
                 Integer v = toInt(m.group(1));
                 if (v != null) money.add(v);
@@ -311,7 +311,7 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
 
     private String[] toLines(String text) {
         if (text == null) return new String[0];
-        return text.replace("\r", "\n").split("\n");
+        return splitByNewlineCr(text);
     }
 
     private int indexOfLineContains(String[] lines, String needle) {
@@ -334,13 +334,13 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
 
     private String findNextMatch(String[] lines, int from, int limit, String regex) {
         if (lines == null) return null;
-        Pattern p = Pattern.compile(regex);
+        Pattern p = RegexCache.get(regex, 0);
         int end = Math.min(lines.length, from + limit);
         for (int i = Math.max(0, from); i < end; i++) {
             String t = cleanField(lines[i]);
             if (!notEmpty(t)) continue;
             if (isLooksLikeLabel(t)) continue;
-            if (p.matcher(t).matches()) return t;
+            if (p.matcher(guard(t)).matches()) return t;
         }
         return null;
     }
@@ -408,8 +408,8 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
 
     private String firstMatch(String text, String regex) {
         if (text == null) return null;
-        Matcher m = Pattern.compile(regex).matcher(text);
-        return m.find() ? m.group(1) : null;
+        Matcher m = findCached(text, regex, 0);
+        return m != null ? m.group(1) : null;
     }
 
     private boolean isLooksLikeLabel(String s) {
@@ -528,7 +528,7 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
     private String normalizeDate(String date) {
         if (date == null) return null;
         String d = date.trim().replace(".", "-").replace("/", "-").replaceAll("\\s+", " ");
-        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(d);
+        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(guard(d));
         if (m.find()) {
             String yy = m.group(1);
             int mm = Integer.parseInt(m.group(2));
@@ -545,9 +545,9 @@ public class HeadOfficeHomePlusReceiptParser extends BaseReceiptParser {
 
     protected String extract(String text, String regex, int group) {
         try {
-            Matcher m = Pattern.compile(regex).matcher(text);
-            return m.find() ? m.group(Math.min(group, m.groupCount())).trim() : null;
-        } catch (Exception e) { return null; }
+            Matcher m = findCached(text, regex, 0);
+            return m != null ? m.group(Math.min(group, m.groupCount())).trim() : null;
+        } catch (ParseAbortedException e) { throw e; } catch (Exception e) { return null; }
     }
 
     protected Integer toInt(String s) {
@@ -87,7 +87,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         System.out.println("[NAVER] ---- parseNaverCardReceipt 시작 ----");
 
         // 라인 목록 출력 (쿠팡 파서 스타일)
-        String[] allLines = text.replace("\r", "\n").split("\n");
+        String[] allLines = splitByNewlineCr(text);
         for (int i = 0; i < allLines.length; i++) {
             System.out.printf("[NAVER] L%02d: %s%n", i, allLines[i]);
         }
@@ -98,7 +98,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         System.out.println("[NAVER] ---- 결제정보 파싱 ----");
 
         // 카드사/승인번호: "비씨/32009723" 형태
-        Matcher cm = Pattern.compile("([가-힣A-Za-z]+)\\s*/\\s*([0-9]{6,12})").matcher(text);
+        Matcher cm = Pattern.compile("([가-힣A-Za-z]+)\\s*/\\s*([0-9]{6,12})").matcher(guard(text));
         if (cm.find()) {
             r.payment.cardBrand = normalizeCardBrand(cleanField(cm.group(1)));
             r.approval.approvalNo = cleanField(cm.group(2));
@@ -115,7 +115,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
 
         // 거래종류/할부
         Matcher tradeMatcher = Pattern.compile("(신용|체크|직불)\\s*[（(]?(법인|개인)?[）)]?\\s*/\\s*(일시불|[0-9]+개월)")
-                .matcher(text);
+                .matcher(guard(text));
         String tradeType = tradeMatcher.find() ? tradeMatcher.group().trim() : null;
         if (notEmpty(tradeType)) {
             r.payment.type = tradeType;
@@ -136,7 +136,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
                 "(?s)결제일자\\s*(20\\d{2}[-./]\\d{1,2}[-./]\\d{1,2}\\s+[0-2]?\\d:[0-5]\\d:[0-5]\\d)", 1);
         String dateTarget = notEmpty(paymentDateTime) ? paymentDateTime : text;
         Matcher dtm = Pattern.compile("(20\\d{2}[-./]\\d{1,2}[-./]\\d{1,2})\\s+([0-2]?\\d:[0-5]\\d:[0-5]\\d)")
-                .matcher(dateTarget);
+                .matcher(guard(dateTarget));
         if (dtm.find()) {
             r.meta.saleDate = normalizeDate(dtm.group(1));
             r.meta.saleTime = normalizeTime(dtm.group(2));
@@ -156,7 +156,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
             orderNo = extract(productBlock, "([PDF][A-Z]?[0-9]{10,})");
             // 상품명 블록에서 노이즈 줄 제거 후 후보 선택
             StringBuilder pnSb = new StringBuilder();
-            for (String ln : productBlock.replace("\r", "\n").split("\n")) {
+            for (String ln : splitByNewlineCr(productBlock)) {
                 String t = ln.trim();
                 if (t.isEmpty())
                     continue;
@@ -275,7 +275,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
     private String extractNaverSellerName(String text) {
         if (text == null)
             return null;
-        String[] lines = text.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(text);
 
         // "판매자 정보" 구간 시작/끝 인덱스
         int sellerSectionStart = -1;
@@ -299,7 +299,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         int bizIdx = -1;
         for (int i = sellerSectionStart; i < sellerSectionEnd; i++) {
             String t = lines[i].trim();
-            if (BIZ.matcher(t).matches() && !"524-86-01528".equals(t)) {
+            if (BIZ.matcher(guard(t)).matches() && !"524-86-01528".equals(t)) {
                 bizIdx = i;
                 break;
             }
@@ -327,7 +327,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
                     break;
                 if (t.matches("[0-9]{2,4}-[0-9]{3,4}-[0-9]{4}"))
                     break;
-                if (BIZ.matcher(t).matches())
+                if (BIZ.matcher(guard(t)).matches())
                     break;
                 if (t.matches("[0-9\\-/\\*\\s]+"))
                     continue;
@@ -350,7 +350,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
                 if (tNoSpc.equals("판매자상호") || tNoSpc.equals("대표자명") || tNoSpc.equals("사업자등록번호")
                         || tNoSpc.equals("전화번호") || tNoSpc.equals("사업장주소") || tNoSpc.equals("판매자정보"))
                     continue;
-                if (BIZ.matcher(t).matches())
+                if (BIZ.matcher(guard(t)).matches())
                     continue;
                 if (t.matches("[0-9\\-/\\*\\s]+"))
                     continue;
@@ -392,7 +392,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         if (text == null)
             return null;
 
-        String[] lines = text.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(text);
 
         // 금액 섹션 시작 찾기
         int amtSectionStart = -1;
@@ -510,7 +510,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
     private String extractNaverCardNo(String text) {
         if (text == null)
             return null;
-        String[] lines = text.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(text);
         for (int i = 0; i < lines.length; i++) {
             String label = lines[i].trim().replace(" ", "");
             if (!label.startsWith("카드번호"))
@@ -547,7 +547,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
     private String extractValueAfterLabel(String text, String label, int maxLines) {
         if (text == null)
             return null;
-        String[] lines = text.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(text);
         for (int i = 0; i < lines.length; i++) {
             String ln = cleanField(lines[i]);
             if (!notEmpty(ln))
@@ -595,7 +595,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
     private String findCompanyLikeLine(String section, String... blacklistContains) {
         if (section == null)
             return null;
-        String[] lines = section.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(section);
         String best = null;
 
         for (String line : lines) {
@@ -633,7 +633,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         List<String> list = new ArrayList<>();
         if (text == null)
             return list;
-        Matcher m = Pattern.compile("([0-9]{3}-[0-9]{2}-[0-9]{5})").matcher(text);
+        Matcher m = Pattern.compile("([0-9]{3}-[0-9]{2}-[0-9]{5})").matcher(guard(text));
         while (m.find()) {
             String v = m.group(1);
             if (!list.contains(v))
@@ -659,7 +659,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
     private String pickBestProductLine(String block) {
         if (block == null)
             return null;
-        String[] lines = block.replace("\r", "\n").split("\n");
+        String[] lines = splitByNewlineCr(block);
         String best = null;
         for (String ln : lines) {
             String t = cleanField(ln);
@@ -737,7 +737,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         String itemCore = itemName;
 
         if (notEmpty(itemName)) {
-            Matcher m = Pattern.compile("(?s)(.+?)\\s*외\\s*([0-9]+)\\s*건\\s*$").matcher(itemName);
+            Matcher m = Pattern.compile("(?s)(.+?)\\s*외\\s*([0-9]+)\\s*건\\s*$").matcher(guard(itemName));
             if (m.find()) {
                 itemCore = cleanField(m.group(1));
                 Integer extra = toInt(m.group(2));
@@ -1208,7 +1208,7 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
                 .replace("/", "-")
                 .replaceAll("\\s+", " ");
 
-        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(d);
+        Matcher m = Pattern.compile("(20\\d{2})-([0-9]{1,2})-([0-9]{1,2})").matcher(guard(d));
         if (m.find()) {
             String yy = m.group(1);
             int mm = Integer.parseInt(m.group(2));
@@ -1232,11 +1232,13 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         try {
             if (text == null)
                 return null;
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (!m.find())
+            Matcher m = findCached(text, regex, 0);
+            if (m == null)
                 return null;
             int g = Math.min(group, m.groupCount());
             return m.group(g).trim();
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
@@ -1246,11 +1248,13 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         try {
             if (text == null)
                 return null;
-            Matcher m = Pattern.compile(regex, Pattern.DOTALL).matcher(text);
-            if (!m.find())
+            Matcher m = findCached(text, regex, Pattern.DOTALL);
+            if (m == null)
                 return null;
             int g = Math.min(group, m.groupCount());
             return m.group(g).trim();
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception e) {
             return null;
         }
@@ -1276,9 +1280,11 @@ public class HeadOfficeNaverReceiptParser extends BaseReceiptParser {
         try {
             if (text == null)
                 return null;
-            Matcher m = Pattern.compile(regex).matcher(text);
-            if (m.find())
+            Matcher m = findCached(text, regex, 0);
+            if (m != null)
                 return toInt(m.group(m.groupCount()));
+        } catch (ParseAbortedException e) {
+            throw e; // 시간 예산 초과/취소는 파서 밖으로 전달
         } catch (Exception ignore) {
         }
         return null;
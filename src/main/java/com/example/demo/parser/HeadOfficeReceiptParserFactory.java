@@ -2,52 +2,140 @@ package com.example.demo.parser;
 
 import com.google.cloud.documentai.v1.Document;
 
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.ParserRace;
+
+@Component
 public class HeadOfficeReceiptParserFactory {
 
-    public static BaseReceiptParser.ReceiptResult parse(Document doc, String type) {
+    private static final String AUTO = "auto";
+
+    // 자동 감지 confidence 가 이보다 낮으면 1·2위 파서를 동시에 실행
+    private static final double LOW_CONFIDENCE = 0.6;
+
+    // 지정 채널을 감지 결과로 교정하는 최소 confidence
+    private static final double CORRECTION_CONFIDENCE = 0.85;
+
+    // 2위 파서 결과 대기 상한 (호출측 파싱 타임아웃 10초 안쪽)
+    private static final long RUNNER_UP_WAIT_MS = 5000;
+
+    private final ReceiptParserRegistry registry;
+    private final ParserRace parserRace;
+
+    public HeadOfficeReceiptParserFactory(ReceiptParserRegistry registry, ParserRace parserRace) {
+        this.registry = registry;
+        this.parserRace = parserRace;
+    }
+
+    public BaseReceiptParser.ReceiptResult parse(Document doc, String type) {
+        return parse(ReceiptText.of(doc), type);
+    }
+
+    public BaseReceiptParser.ReceiptResult parse(ReceiptText rt, String type) {
         String normalizedType = normalizeType(type);
-        BaseReceiptParser parser;
-
-        switch (normalizedType) {
-            case "11post":
-                parser = new HeadOffice11PostReceiptParser();
-                break;
-            case "coupang":
-                parser = new HeadOfficeCoupangReceiptParser();
-                break;
-            case "auction":
-                parser = new HeadOfficeAuctionReceiptParser();
-                break;
-            case "gmarket":
-                parser = new HeadOfficeGMarketReceiptParser();
-                break;
-            case "homeplus":
-                parser = new HeadOfficeHomePlusReceiptParser();
-                break;
-            case "naver":
-                parser = new HeadOfficeNaverReceiptParser();
-                break;
-            case "daiso":
-                parser = new HeadOfficeDaisoReceiptParser();
-                break;
-            case "mart_itemized":
-                parser = new MartReceiptParser();
-                break;
-            case "convenience":
-                parser = new ConvenienceReceiptParser();
-                break;
-            default:
-                if (isAuctionSlip(doc)) {
-                    parser = new HeadOfficeAuctionReceiptParser();
-                    break;
-                }
-                throw new IllegalArgumentException("지원하지 않는 영수증 타입: " + type);
+        BaseReceiptParser parser = lookup(normalizedType);
+
+        if (parser == null) {
+            // 타입 미지정/미지원 → 채널 자동 감지
+            if (!normalizedType.isEmpty() && !AUTO.equals(normalizedType)) {
+                System.out.println("⚠ 지원하지 않는 영수증 타입(" + type + ") → 채널 자동 감지");
+            }
+            return parseAuto(rt, type);
+        }
+
+        // 지정 채널의 시그니처가 전혀 없고 다른 채널이 확실하면 잘못 지정된 것으로 보고 감지 결과 사용
+        if (HeadOfficeChannelDetector.CHANNELS.contains(normalizedType)) {
+            HeadOfficeChannelDetector.Detection d = HeadOfficeChannelDetector.detect(rt);
+            if (d.channel != null && !d.channel.equals(normalizedType)
+                    && d.score(normalizedType) == 0 && d.confidence >= CORRECTION_CONFIDENCE) {
+                System.out.println("⚠ 지정 채널(" + normalizedType + ") 시그니처 없음 → 감지 채널 " + d.channel
+                        + " 사용 (confidence=" + d.confidence + ")");
+                return finish(run(d.channel, rt), d.channel, d.confidence);
+            }
+        }
+
+        return finish(registry.parse(parser, rt), normalizedType, 1.0);
+    }
+
+    /**
+     * 채널 자동 감지 후 파싱.
+     * confidence 가 낮으면 1·2위 파서를 동시에 돌려 ReceiptResultScorer 점수가 높은 결과를 채택한다.
+     */
+    public BaseReceiptParser.ReceiptResult parseAuto(ReceiptText rt, String requestedType) {
+        HeadOfficeChannelDetector.Detection d = HeadOfficeChannelDetector.detect(rt);
+        System.out.println("🧭 본사 채널 자동 감지: " + d.channel + " (confidence=" + d.confidence
+                + ", 2위=" + d.runnerUp + ", scores=" + d.scores + ")");
+
+        if (d.channel == null) {
+            throw new IllegalArgumentException("지원하지 않는 영수증 타입: " + requestedType);
+        }
+        if (d.confidence >= LOW_CONFIDENCE || d.runnerUp == null) {
+            return finish(run(d.channel, rt), d.channel, d.confidence);
         }
 
-        BaseReceiptParser.ReceiptResult result = parser.parse(doc);
+        // 2위 파서는 ParserRace 풀에서 동시에 실행 (호출 스레드가 이미 ocrExecutor 워커라 같은 풀에 넣지 않음)
+        String runnerUp = d.runnerUp;
+        Future<BaseReceiptParser.ReceiptResult> second = parserRace.submit(() -> run(runnerUp, rt));
+
+        BaseReceiptParser.ReceiptResult first = null;
+        try {
+            first = run(d.channel, rt);
+        } catch (ParseAbortedException e) {
+            // 시간 예산 초과/취소 → 2위 결과로 대체하지 않고 그대로 전달
+            second.cancel(true);
+            throw e;
+        } catch (RuntimeException e) {
+            System.out.println("⚠ " + d.channel + " 파서 실패: " + e.getMessage());
+        }
+
+        BaseReceiptParser.ReceiptResult other = null;
+        try {
+            other = second.get(RUNNER_UP_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            second.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println("⚠ " + runnerUp + " 파서 실패: " + e.getCause());
+        } catch (Exception e) {
+            // 기한 초과 → 파싱 스레드 인터럽트 (BaseReceiptParser 정규식 가드가 중단시킴)
+            second.cancel(true);
+            System.out.println("⚠ " + runnerUp + " 파서 지연: " + e);
+        }
+
+        int firstScore = ReceiptResultScorer.score(first);
+        int otherScore = ReceiptResultScorer.score(other);
+        System.out.println("🧭 동시 파싱 비교: " + d.channel + "=" + firstScore + ", " + runnerUp + "=" + otherScore);
+
+        if (first == null && other == null) {
+            throw new IllegalStateException("본사 영수증 파싱 실패: " + d.channel + "/" + runnerUp);
+        }
+        if (otherScore > firstScore) {
+            return finish(other, runnerUp, d.confidence);
+        }
+        return finish(first, d.channel, d.confidence);
+    }
+
+    // ReceiptParserRegistry(Route.HEAD_OFFICE)에 등록된 싱글톤 파서
+    private BaseReceiptParser lookup(String normalizedType) {
+        return registry.find(ReceiptParserRegistry.Route.HEAD_OFFICE, normalizedType);
+    }
+
+    private BaseReceiptParser.ReceiptResult run(String normalizedType, ReceiptText rt) {
+        return registry.parse(lookup(normalizedType), rt);
+    }
+
+    private static BaseReceiptParser.ReceiptResult finish(BaseReceiptParser.ReceiptResult result,
+                                                          String channel, double confidence) {
         BaseReceiptParser.capItems(result, 3);
+        if (result != null && result.extra != null) {
+            result.extra.put("__headoffice_channel", channel);
+            result.extra.put("__headoffice_confidence", confidence);
+        }
         return result;
     }
 
@@ -75,17 +163,8 @@ public class HeadOfficeReceiptParserFactory {
             return "mart_itemized";
         if (t.contains("편의점") || t.equals("convenience"))
             return "convenience";
+        if (t.equals("auto") || t.equals("headoffice") || t.contains("자동"))
+            return AUTO;
         return t;
     }
-
-    private static boolean isAuctionSlip(Document doc) {
-        if (doc == null || doc.getText() == null) {
-            return false;
-        }
-
-        String text = doc.getText();
-        // OCR 공백/줄바꿈 흔들림 대응: Auction 전자 지불 / Auction전자지불 모두 허용
-        Pattern auctionMerchantNo = Pattern.compile("(?i)auction\\s*전자\\s*지불");
-        return auctionMerchantNo.matcher(text).find();
-    }
 }
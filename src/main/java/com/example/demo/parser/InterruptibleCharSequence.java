@@ -0,0 +1,53 @@
+package com.example.demo.parser;
+
+/**
+ * 정규식 매칭 중에도 취소/시간 예산을 확인하는 CharSequence 래퍼.
+ * java.util.regex 는 인터럽트를 보지 않으므로 Future.cancel(true) 로는 폭주한 매칭을 멈출 수 없다.
+ * Matcher 가 charAt 을 호출할 때 CHECK_INTERVAL 회마다 인터럽트 플래그/마감 시각을 확인하고,
+ * 넘었으면 ParseAbortedException 을 던진다. (인스턴스는 한 스레드의 Matcher 에서만 사용)
+ */
+final class InterruptibleCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL_MASK = 0x3FF; // 1024회마다 확인
+
+    private final CharSequence inner;
+    private final long deadlineNanos; // 0 = 마감 없음 (인터럽트만 확인)
+    private int ticks;
+
+    InterruptibleCharSequence(CharSequence inner, long deadlineNanos) {
+        this.inner = inner;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if ((++ticks & CHECK_INTERVAL_MASK) == 0) {
+            check(deadlineNanos);
+        }
+        return inner.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return inner.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new InterruptibleCharSequence(inner.subSequence(start, end), deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return inner.toString();
+    }
+
+    static void check(long deadlineNanos) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new ParseAbortedException("파싱 취소됨 (interrupted)");
+        }
+        if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new ParseAbortedException("파싱 시간 예산 초과");
+        }
+    }
+}
@@ -97,7 +97,7 @@ public class MartReceiptParser extends BaseReceiptParser {
     // -------------------- 섹션 분리 --------------------
     private String pickValidDate(String text) {
         Pattern p = Pattern.compile("\\b((?:20)?\\d{2})[./-](\\d{1,2})[./-](\\d{1,2})\\b");
-        Matcher m = p.matcher(text);
+        Matcher m = p.matcher(guard(text));
 
         String best = null;
         while (m.find()) {
@@ -280,7 +280,7 @@ public class MartReceiptParser extends BaseReceiptParser {
             while (j < lines.size()) {
                 String s = lines.get(j).trim();
                 if (s.isEmpty()) { j++; continue; }
-                if (nextItemStart.matcher(s).find()) break;
+                if (nextItemStart.matcher(guard(s)).find()) break;
                 buf.add(s);
                 j++;
             }
@@ -298,7 +298,7 @@ public class MartReceiptParser extends BaseReceiptParser {
                 else if (val > 1000 && it.amount == null) it.amount = val;
             }
 
-            Matcher inline = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(nameLine);
+            Matcher inline = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(guard(nameLine));
             if (inline.find()) {
                 it.unitPrice = it.unitPrice != null ? it.unitPrice : toInt(inline.group(1));
                 it.qty = it.qty != null ? it.qty : toInt(inline.group(2));
@@ -324,7 +324,7 @@ public class MartReceiptParser extends BaseReceiptParser {
     private List<Item> parseInlineItems(List<String> lines) {
         List<Item> items = new ArrayList<>();
         for (String line : lines) {
-            Matcher m = Pattern.compile("^(.*?)(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(line);
+            Matcher m = Pattern.compile("^(.*?)(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(guard(line));
             if (m.find()) {
                 String n = m.group(1).trim();
                 if (n.isEmpty() || n.matches("^[0-9,. ]+$")) continue;
@@ -356,7 +356,7 @@ public class MartReceiptParser extends BaseReceiptParser {
 
         for (String line : lines) {
             // (A) "1개 29,000" 한 줄
-            Matcher sm = P_QTY_SINGLE.matcher(line);
+            Matcher sm = P_QTY_SINGLE.matcher(guard(line));
             if (sm.matches()) {
                 if (!pendingNames.isEmpty()) {
                     int qty = Integer.parseInt(sm.group(1));
@@ -368,14 +368,14 @@ public class MartReceiptParser extends BaseReceiptParser {
             }
 
             // (B-1) "1개" 단독
-            Matcher qm = P_QTY_ONLY.matcher(line);
+            Matcher qm = P_QTY_ONLY.matcher(guard(line));
             if (qm.matches()) {
                 pendingQty = Integer.parseInt(qm.group(1));
                 continue;
             }
 
             // (B-2) 금액 단독 — 바로 앞에 수량이 있었던 경우만
-            Matcher pm = P_PRICE_ONLY.matcher(line);
+            Matcher pm = P_PRICE_ONLY.matcher(guard(line));
             if (pm.matches() && pendingQty != null) {
                 if (!pendingNames.isEmpty()) {
                     int amt = Integer.parseInt(pm.group(1).replace(",", ""));
@@ -386,7 +386,7 @@ public class MartReceiptParser extends BaseReceiptParser {
             }
 
             // 이름 라인
-            if (line.matches("^[가-힣A-Za-z(].*") && !P_NOISE.matcher(line).matches()) {
+            if (line.matches("^[가-힣A-Za-z(].*") && !P_NOISE.matcher(guard(line)).matches()) {
                 pendingNames.add(line);
                 pendingQty = null;
             }
@@ -444,7 +444,7 @@ public class MartReceiptParser extends BaseReceiptParser {
             List<Integer> nums = new ArrayList<>();
 
             for (String s : block) {
-                Matcher m = priceSet.matcher(s);
+                Matcher m = priceSet.matcher(guard(s));
                 while (m.find()) {
                     Integer v = toInt(m.group(1));
                     if (v != null && v > 0) nums.add(v);
@@ -520,7 +520,7 @@ public class MartReceiptParser extends BaseReceiptParser {
 
         for (int i = 0; i < lines.size(); i++) {
             String line = lines.get(i).trim();
-            if (!startLine.matcher(line).find()) continue;
+            if (!startLine.matcher(guard(line)).find()) continue;
 
             String twoLineName = line.replaceFirst("^\\d{1,3}\\s+", "").trim();
             if (twoLineName.isEmpty() || twoLineName.matches("^[0-9,. ]+$")) continue;
@@ -533,14 +533,14 @@ public class MartReceiptParser extends BaseReceiptParser {
             }
             
             // 다음 줄이 바코드인 경우 건너뛰기
-            if (i + 1 < lines.size() && barcode.matcher(lines.get(i + 1)).find()) {
+            if (i + 1 < lines.size() && barcode.matcher(guard(lines.get(i + 1))).find()) {
                 i++;
             }
 
             // 단가/수량/금액이 그 다음 줄
             if (i + 1 < lines.size()) {
                 String next = lines.get(i + 1);
-                Matcher m = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(next);
+                Matcher m = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)\\s+(\\d{1,2})\\s+(\\d{1,3}(?:,\\d{3})*)").matcher(guard(next));
                 if (m.find()) {
                     it.unitPrice = toInt(m.group(1));
                     it.qty = toInt(m.group(2));
@@ -621,7 +621,7 @@ public class MartReceiptParser extends BaseReceiptParser {
             if (line.isEmpty()) continue;
             if (line.matches(".*(합계|총액|부가세|면세|과세|신용카드|카드지불|승인번호|거래NO|감사합니다).*")) continue;
 
-            Matcher m4 = pInline4.matcher(line);
+            Matcher m4 = pInline4.matcher(guard(line));
             if (m4.find()) {
                 String name = normalizeName(m4.group(1));
                 if (shouldSkipName(name)) continue;
@@ -635,7 +635,7 @@ public class MartReceiptParser extends BaseReceiptParser {
                 continue;
             }
 
-            Matcher mn = pNameOnly.matcher(line);
+            Matcher mn = pNameOnly.matcher(guard(line));
             if (!mn.find()) continue;
 
             String name = normalizeName(mn.group(1));
@@ -645,7 +645,7 @@ public class MartReceiptParser extends BaseReceiptParser {
             String taxFlag = "과세";
             for (int j = i + 1; j < Math.min(lines.size(), i + 4); j++) {
                 String nxt = lines.get(j).trim();
-                Matcher nm = pNums.matcher(nxt);
+                Matcher nm = pNums.matcher(guard(nxt));
                 if (nm.find()) {
                     unit = toInt(nm.group(1));
                     qty = toInt(nm.group(2));
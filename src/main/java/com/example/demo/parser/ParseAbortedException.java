@@ -0,0 +1,11 @@
+package com.example.demo.parser;
+
+/**
+ * 파싱 시간 예산 초과 또는 작업 취소(인터럽트)로 파서 실행을 중단함
+ */
+public class ParseAbortedException extends RuntimeException {
+
+    public ParseAbortedException(String message) {
+        super(message);
+    }
+}
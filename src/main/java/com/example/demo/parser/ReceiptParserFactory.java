@@ -1,33 +1,30 @@
 package com.example.demo.parser;
 
+import org.springframework.stereotype.Component;
+
 import com.google.cloud.documentai.v1.Document;
 
+@Component
 public class ReceiptParserFactory {
 
-    public static BaseReceiptParser.ReceiptResult parse(Document doc, String type) {
-        BaseReceiptParser parser;
-        //System.out.println("type.toLowerCase() == " + type.toLowerCase());
-        switch (type) {
-            case "MART_ITEMIZED":
-                parser = new MartReceiptParser();
-                break;
-            case "CONVENIENCE":
-                parser = new ConvenienceReceiptParser();
-                break;
-            case "COUPANG_CARD":
-                parser = new CoupangReceiptParser();
-                break;
-            case "COUPANG_APP":
-                parser = new DeliveryReceiptParser();
-                break;
-            case "TRANSACTION":
-                parser = new TransactionStatementParser();
-                break;
-            default:
-                throw new IllegalArgumentException("지원하지 않는 영수증 타입: " + type);
+    private final ReceiptParserRegistry registry;
+
+    public ReceiptParserFactory(ReceiptParserRegistry registry) {
+        this.registry = registry;
+    }
+
+    public BaseReceiptParser.ReceiptResult parse(Document doc, String type) {
+        return parse(ReceiptText.of(doc), type);
+    }
+
+    public BaseReceiptParser.ReceiptResult parse(ReceiptText rt, String type) {
+        // 파서는 ReceiptParserRegistry(Route.SCAN)에 등록된 싱글톤을 사용
+        BaseReceiptParser parser = registry.find(ReceiptParserRegistry.Route.SCAN, type);
+        if (parser == null) {
+            throw new IllegalArgumentException("지원하지 않는 영수증 타입: " + type);
         }
 
-        BaseReceiptParser.ReceiptResult result = parser.parse(doc);
+        BaseReceiptParser.ReceiptResult result = registry.parse(parser, rt);
         BaseReceiptParser.capItems(result, 3);
         return result;
     }
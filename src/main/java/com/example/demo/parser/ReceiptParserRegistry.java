@@ -0,0 +1,179 @@
+package com.example.demo.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.model.CardReceiptType;
+
+/**
+ * 영수증 파서 레지스트리
+ * - 파서는 상태가 없으므로 클래스당 1개 인스턴스만 만들어 모든 요청/스레드가 공유한다.
+ * - 경로(Route)별로 타입 별칭 → 파서를 등록한다. 같은 타입명이라도 경로마다 다른 파서를 쓸 수 있다.
+ *   (예: 스캔 경로 COUPANG_APP → DeliveryReceiptParser, 카드영수증 경로 COUPANG_APP → CoupangReceiptParser)
+ * - 새 파서는 register(...) 한 줄로 추가한다. 팩토리 switch 수정 불필요.
+ * - 파서별 실행 횟수/실패/중단/빈 결과/소요시간을 집계해 /ocr/stats 로 노출한다.
+ * 팩토리(ReceiptParserFactory/HeadOfficeReceiptParserFactory/CardReceiptParserFactory)는 이 빈을 생성자 주입으로 받는다.
+ */
+@Component
+public class ReceiptParserRegistry {
+
+    /** 파서 선택 경로 */
+    public enum Route {
+        /** ReceiptParserFactory: 일반 영수증 스캔 (OcrController V4/V5/develop) */
+        SCAN,
+        /** CardReceiptParserFactory: CardReceiptType 기반 카드 영수증 */
+        CARD,
+        /** HeadOfficeReceiptParserFactory: 본사 법인카드 채널 */
+        HEAD_OFFICE
+    }
+
+    // 파서 1회 실행 시간 예산 (컨트롤러 파싱 타임아웃 10초보다 짧게). 넘기면 매칭 중단 → ParseAbortedException
+    @Value("${ocr.parse.budget-ms:8000}")
+    private long budgetMillis = 8000;
+
+    private static final class Metrics {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder empty = new LongAdder();
+        final LongAdder aborted = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong worstNanos = new AtomicLong();
+    }
+
+    // 파서 이름(클래스 단순명) → 싱글톤 인스턴스
+    private final Map<String, BaseReceiptParser> instances = new ConcurrentHashMap<>();
+    private final Map<Route, Map<String, BaseReceiptParser>> routes = new ConcurrentHashMap<>();
+    private final Map<String, Metrics> metrics = new ConcurrentHashMap<>();
+
+    public ReceiptParserRegistry() {
+        registerDefaults();
+    }
+
+    private void registerDefaults() {
+        register(Route.SCAN, new MartReceiptParser(), "MART_ITEMIZED");
+        register(Route.SCAN, new ConvenienceReceiptParser(), "CONVENIENCE");
+        register(Route.SCAN, new CoupangReceiptParser(), "COUPANG_CARD");
+        register(Route.SCAN, new DeliveryReceiptParser(), "COUPANG_APP");
+        register(Route.SCAN, new TransactionStatementParser(), "TRANSACTION");
+
+        register(Route.CARD, new ConvenienceReceiptParser(), CardReceiptType.CONVENIENCE.name());
+        register(Route.CARD, new CoupangReceiptParser(),
+                CardReceiptType.COUPANG_APP.name(), CardReceiptType.COUPANG_CARD.name());
+        register(Route.CARD, new MartReceiptParser(), CardReceiptType.MART_ITEMIZED.name());
+        register(Route.CARD, new DeliveryReceiptParser(), CardReceiptType.DELIVERY.name());
+        register(Route.CARD, new GenericCardSlipParser(),
+                CardReceiptType.CARD_SLIP_GENERIC.name(), CardReceiptType.UNKNOWN.name());
+
+        register(Route.HEAD_OFFICE, new HeadOffice11PostReceiptParser(), "11post");
+        register(Route.HEAD_OFFICE, new HeadOfficeCoupangReceiptParser(), "coupang");
+        register(Route.HEAD_OFFICE, new HeadOfficeAuctionReceiptParser(), "auction");
+        register(Route.HEAD_OFFICE, new HeadOfficeGMarketReceiptParser(), "gmarket");
+        register(Route.HEAD_OFFICE, new HeadOfficeHomePlusReceiptParser(), "homeplus");
+        register(Route.HEAD_OFFICE, new HeadOfficeNaverReceiptParser(), "naver");
+        register(Route.HEAD_OFFICE, new HeadOfficeDaisoReceiptParser(), "daiso");
+        register(Route.HEAD_OFFICE, new MartReceiptParser(), "mart_itemized");
+        register(Route.HEAD_OFFICE, new ConvenienceReceiptParser(), "convenience");
+    }
+
+    /**
+     * 경로에 파서를 등록한다. 같은 클래스의 파서가 이미 있으면 기존 인스턴스를 재사용한다.
+     */
+    public void register(Route route, BaseReceiptParser parser, String... aliases) {
+        String name = nameOf(parser);
+        BaseReceiptParser instance = instances.computeIfAbsent(name, k -> parser);
+        metrics.computeIfAbsent(name, k -> new Metrics());
+        Map<String, BaseReceiptParser> table = routes.computeIfAbsent(route, k -> new ConcurrentHashMap<>());
+        for (String alias : aliases) {
+            table.put(key(alias), instance);
+        }
+    }
+
+    /**
+     * 별칭으로 파서 조회 (대소문자/앞뒤 공백 무시). 없으면 null
+     */
+    public BaseReceiptParser find(Route route, String alias) {
+        if (alias == null) return null;
+        Map<String, BaseReceiptParser> table = routes.get(route);
+        return table == null ? null : table.get(key(alias));
+    }
+
+    /**
+     * 파서 실행 + 지표 집계 (시간 예산 적용, 예산 초과/취소 시 ParseAbortedException)
+     */
+    public BaseReceiptParser.ReceiptResult parse(BaseReceiptParser parser, ReceiptText rt) {
+        Metrics m = metrics.computeIfAbsent(nameOf(parser), k -> new Metrics());
+        long started = System.nanoTime();
+        try {
+            BaseReceiptParser.ReceiptResult result = BaseReceiptParser.withBudget(budgetMillis, () -> parser.parse(rt));
+            if (completeness(result) <= 0) m.empty.increment();
+            return result;
+        } catch (ParseAbortedException e) {
+            m.aborted.increment();
+            System.out.println("⏱ 파싱 중단: " + nameOf(parser) + " (" + e.getMessage() + ")");
+            throw e;
+        } catch (RuntimeException e) {
+            m.failures.increment();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - started;
+            m.invocations.increment();
+            m.totalNanos.add(nanos);
+            m.worstNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * 결과가 얼마나 채워졌는지 (핵심 필드 개수, 결과 없음 = -1)
+     */
+    public static int completeness(BaseReceiptParser.ReceiptResult r) {
+        if (r == null) return -1;
+        int n = 0;
+        if (r.meta != null && notBlank(r.meta.saleDate)) n++;
+        if (r.meta != null && notBlank(r.meta.saleTime)) n++;
+        if (r.totals != null && r.totals.total != null && r.totals.total > 0) n++;
+        if (r.approval != null && notBlank(r.approval.approvalNo)) n++;
+        if (r.payment != null && notBlank(r.payment.cardMasked)) n++;
+        if (r.merchant != null && notBlank(r.merchant.name)) n++;
+        if (r.items != null && !r.items.isEmpty()) n++;
+        return n;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        metrics.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> {
+                    Metrics m = e.getValue();
+                    long n = m.invocations.sum();
+                    long bad = m.failures.sum() + m.aborted.sum() + m.empty.sum();
+                    Map<String, Object> s = new LinkedHashMap<>();
+                    s.put("invocations", n);
+                    s.put("failures", m.failures.sum());
+                    s.put("aborted", m.aborted.sum());
+                    s.put("emptyResults", m.empty.sum());
+                    s.put("successRate", n == 0 ? 0.0 : (double) (n - bad) / n);
+                    s.put("avgMs", n == 0 ? 0.0 : m.totalNanos.sum() / n / 1_000_000.0);
+                    s.put("worstMs", m.worstNanos.get() / 1_000_000.0);
+                    out.put(e.getKey(), s);
+                });
+        return out;
+    }
+
+    private static String nameOf(BaseReceiptParser parser) {
+        return parser.getClass().getSimpleName();
+    }
+
+    private static String key(String alias) {
+        return alias.trim().toLowerCase();
+    }
+
+    private static boolean notBlank(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.parser;
+
+import java.time.LocalDate;
+
+import com.example.demo.utils.BizNoUtils;
+import com.example.demo.utils.DateUtils;
+
+/**
+ * 파싱 결과 품질 점수
+ * 여러 파서 결과 중 하나를 고를 때 사용한다. (저장 가능 여부에 직접 영향을 주는 필드일수록 가중치 높음)
+ * - 거래일자: 형식이 맞고 미래가 아니면 +3 (없으면 컨트롤러가 fallback 저장으로 빠짐)
+ * - 합계: 있으면 +2, 품목 금액 합/공급가액+부가세와 맞으면 각각 +2/+1
+ * - 승인번호(6~12자리) +2, 사업자번호 체크섬 통과 +2
+ * - 상호/거래시각/마스킹 카드번호 각 +1
+ */
+public final class ReceiptResultScorer {
+
+    private ReceiptResultScorer() {
+    }
+
+    /**
+     * @return 점수 (결과 없음 = -1)
+     */
+    public static int score(BaseReceiptParser.ReceiptResult r) {
+        if (r == null) return -1;
+        int s = 0;
+
+        if (r.meta != null && validSaleDate(r.meta.saleDate)) s += 3;
+        if (r.meta != null && notBlank(r.meta.saleTime)) s += 1;
+
+        Integer total = r.totals != null ? r.totals.total : null;
+        if (total != null && total > 0) {
+            s += 2;
+            if (itemsMatchTotal(r, total)) s += 2;
+            if (vatMatchesTotal(r.totals, total)) s += 1;
+        }
+
+        if (r.approval != null && r.approval.approvalNo != null
+                && r.approval.approvalNo.replaceAll("\\D", "").matches("\\d{6,12}")) {
+            s += 2;
+        }
+        if (r.merchant != null && BizNoUtils.isValidBizNo(r.merchant.bizNo)) s += 2;
+        if (r.merchant != null && notBlank(r.merchant.name)) s += 1;
+        if (r.payment != null && notBlank(r.payment.cardMasked)) s += 1;
+        return s;
+    }
+
+    private static boolean validSaleDate(String saleDate) {
+        if (!notBlank(saleDate)) return false;
+        try {
+            LocalDate d = DateUtils.parseFlexibleDate(saleDate);
+            return !d.isAfter(LocalDate.now().plusDays(1)) && d.getYear() >= 2000;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 품목 금액 합 == 합계 (할인 반영 허용)
+    private static boolean itemsMatchTotal(BaseReceiptParser.ReceiptResult r, int total) {
+        if (r.items == null || r.items.isEmpty()) return false;
+        long sum = 0;
+        for (BaseReceiptParser.Item it : r.items) {
+            if (it.amount == null) return false;
+            sum += it.amount;
+        }
+        int discount = (r.totals.discount != null) ? Math.abs(r.totals.discount) : 0;
+        return Math.abs(sum - total) <= 1 || Math.abs(sum - discount - total) <= 1;
+    }
+
+    // 과세금액 + 부가세 (+ 면세) == 합계, 또는 부가세 ≈ 합계/11
+    private static boolean vatMatchesTotal(BaseReceiptParser.Totals t, int total) {
+        if (t.vat == null || t.vat <= 0) return false;
+        if (t.taxable != null) {
+            int taxFree = t.taxFree != null ? t.taxFree : 0;
+            if (Math.abs(t.taxable + t.vat + taxFree - total) <= 1) return true;
+        }
+        return Math.abs(t.vat - Math.round(total / 11.0)) <= 1;
+    }
+
+    private static boolean notBlank(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * Document 1건에 대한 공유 텍스트.
+ * 같은 Document 를 여러 파서(레이스/채널 감지)가 볼 때 원문 텍스트와 줄 분리를 한 번만 만든다.
+ * - raw / lines / normalizedLines : 원문 / 원문 줄 / 공백 정리된 줄 (채널 감지)
+ * - split 메모 : 파서가 같은 문자열 인스턴스(주로 text(doc) 결과)를 여러 번 줄 단위로 자를 때 결과를 재사용
+ *   인스턴스 기준이라 내용이 같아도 새로 만든 문자열(replaceAll 결과 등)은 메모되지 않는다.
+ * 파서 내부의 날짜/금액 정규식 추출은 파서별 규칙 그대로 text(doc) 에서 수행한다.
+ * 각 항목은 처음 요청될 때 계산된다. 인스턴스는 여러 파서/스레드가 공유해도 안전하다.
+ */
+public final class ReceiptText {
+
+    private static final Pattern NEWLINE = Pattern.compile("\\n");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    // split 메모에 보관할 최대 문자열 수 (파서 1회 실행 동안 쓰이는 정규화 문자열은 몇 개 안 됨)
+    private static final int SPLIT_MEMO_LIMIT = 32;
+
+    private final Document document;
+    private final String raw;
+
+    private List<String> lines;
+    private List<String> normalizedLines;
+
+    private final Map<String, String[]> lfSplits = new IdentityHashMap<>();
+    private final Map<String, String[]> crlfSplits = new IdentityHashMap<>();
+
+    private ReceiptText(Document document, String raw) {
+        this.document = document;
+        this.raw = raw;
+    }
+
+    public static ReceiptText of(Document doc) {
+        String raw = (doc == null || doc.getText() == null) ? "" : doc.getText();
+        return new ReceiptText(doc, raw);
+    }
+
+    /** 테스트/재파싱용: Document 없이 텍스트만으로 생성 */
+    public static ReceiptText ofText(String text) {
+        return new ReceiptText(null, text == null ? "" : text);
+    }
+
+    public Document document() {
+        return document;
+    }
+
+    public String raw() {
+        return raw;
+    }
+
+    /** raw.split("\\n") 과 동일한 줄 목록 (수정 불가) */
+    public synchronized List<String> lines() {
+        if (lines == null) {
+            lines = Collections.unmodifiableList(List.of(splitLf(raw)));
+        }
+        return lines;
+    }
+
+    /** 앞뒤 공백 제거 + 연속 공백 1칸으로 정리한 줄 목록 (줄 번호는 lines()와 동일) */
+    public synchronized List<String> normalizedLines() {
+        if (normalizedLines == null) {
+            List<String> src = lines();
+            List<String> out = new ArrayList<>(src.size());
+            for (String l : src) {
+                out.add(SPACES.matcher(l).replaceAll(" ").trim());
+            }
+            normalizedLines = Collections.unmodifiableList(out);
+        }
+        return normalizedLines;
+    }
+
+    /**
+     * text.split("\\n") 메모. 같은 문자열 인스턴스를 여러 번 자르면 이전 결과의 사본을 돌려준다.
+     */
+    public String[] split(String text) {
+        return memo(lfSplits, text, false);
+    }
+
+    /**
+     * text.replace("\r", "\n").split("\n") 메모.
+     */
+    public String[] splitCr(String text) {
+        return memo(crlfSplits, text, true);
+    }
+
+    private String[] memo(Map<String, String[]> cache, String text, boolean cr) {
+        String[] cached;
+        synchronized (cache) {
+            cached = cache.get(text);
+        }
+        if (cached == null) {
+            cached = cr ? text.replace("\r", "\n").split("\n") : splitLf(text);
+            synchronized (cache) {
+                if (cache.size() < SPLIT_MEMO_LIMIT) cache.put(text, cached);
+            }
+        }
+        // 호출측이 배열을 수정해도 메모가 오염되지 않도록 사본 반환
+        return cached.clone();
+    }
+
+    private static String[] splitLf(String text) {
+        return NEWLINE.split(text);
+    }
+}
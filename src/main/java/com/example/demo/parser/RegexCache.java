@@ -0,0 +1,103 @@
+package com.example.demo.parser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 파서 공용 정규식 캐시 + 패턴별 실행 지표.
+ * BaseReceiptParser.extract()/firstInt() 와 파서별 extract/firstInt 헬퍼(findCached 경유)가 호출마다 Pattern.compile 하던 것을 대체한다.
+ * 파서의 정규식은 대부분 리터럴이라 종류가 한정적이지만, 동적 문자열이 섞여도 메모리가 늘지 않도록
+ * 최대 MAX_PATTERNS 개까지만 보관하고 이후 새 패턴은 캐시 없이 컴파일한다.
+ */
+public final class RegexCache {
+
+    private static final int MAX_PATTERNS = 2048;
+
+    /** 패턴 1개에 대한 컴파일 결과 + 누적 지표 */
+    static final class Entry {
+        final Pattern pattern;
+        final LongAdder invocations = new LongAdder();
+        final LongAdder matches = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong worstNanos = new AtomicLong();
+
+        Entry(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder uncachedCompiles = new LongAdder();
+
+    private RegexCache() {
+    }
+
+    /** 캐시된 Pattern (잘못된 정규식이면 PatternSyntaxException) */
+    public static Pattern get(String regex, int flags) {
+        Entry e = entry(regex, flags);
+        return e != null ? e.pattern : Pattern.compile(regex, flags);
+    }
+
+    static Entry entry(String regex, int flags) {
+        String key = flags + ":" + regex;
+        Entry e = CACHE.get(key);
+        if (e != null) return e;
+        if (CACHE.size() >= MAX_PATTERNS) {
+            uncachedCompiles.increment();
+            return null;
+        }
+        return CACHE.computeIfAbsent(key, k -> new Entry(Pattern.compile(regex, flags)));
+    }
+
+    static void record(Entry e, long nanos, boolean matched) {
+        if (e == null) return;
+        e.invocations.increment();
+        if (matched) e.matches.increment();
+        e.totalNanos.add(nanos);
+        e.worstNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 누적 실행시간 상위 topN 패턴 지표
+     */
+    public static Map<String, Object> stats(int topN) {
+        List<Map.Entry<String, Entry>> all = new ArrayList<>(CACHE.entrySet());
+        all.sort(Comparator.comparingLong((Map.Entry<String, Entry> x) -> x.getValue().totalNanos.sum()).reversed());
+
+        long invocations = 0;
+        long totalNanos = 0;
+        for (Map.Entry<String, Entry> x : all) {
+            invocations += x.getValue().invocations.sum();
+            totalNanos += x.getValue().totalNanos.sum();
+        }
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (Map.Entry<String, Entry> x : all.subList(0, Math.min(topN, all.size()))) {
+            Entry e = x.getValue();
+            long n = e.invocations.sum();
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("pattern", e.pattern.pattern());
+            m.put("invocations", n);
+            m.put("matches", e.matches.sum());
+            m.put("totalMs", e.totalNanos.sum() / 1_000_000.0);
+            m.put("avgUs", n == 0 ? 0 : e.totalNanos.sum() / n / 1_000.0);
+            m.put("worstMs", e.worstNanos.get() / 1_000_000.0);
+            top.add(m);
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("cachedPatterns", all.size());
+        out.put("uncachedCompiles", uncachedCompiles.sum());
+        out.put("invocations", invocations);
+        out.put("totalMs", totalNanos / 1_000_000.0);
+        out.put("top", top);
+        return out;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 거래명세서 좌표 기반 품목 파싱용 페이지 토큰 인덱스
+ * - 토큰을 y좌표(동률이면 x) 순으로 한 번 정렬해 두고, "같은 줄" 조회는 이진 탐색으로 y 구간만 본다.
+ * - 행 묶기는 y 순 스윕: 현재 토큰보다 허용오차 이상 위에 있는 행은 다시 열리지 않으므로 열린 행만 비교한다.
+ * 토큰 수 n, 행 수 r 일 때 헤더 탐색 O(n²) → O(n log n), 행 묶기 O(n·r) → O(n log n).
+ */
+final class StatementTokenIndex {
+
+    // 좌표 기반 품목 파싱에서 사용하는 OCR 토큰 정보
+    static final class OcrToken {
+        final String text;
+        final String compact; // 공백 제거본 (라벨 비교용)
+        final float x;
+        final float y;
+        final float minX;
+
+        OcrToken(String text, float x, float y, float minX) {
+            this.text = text;
+            this.compact = removeSpaces(text);
+            this.x = x;
+            this.y = y;
+            this.minX = minX;
+        }
+    }
+
+    // 헤더 라벨(수량/단가/금액)을 같은 줄로 보는 y 허용오차
+    static final float HEADER_LINE_TOLERANCE = 0.035f;
+    // 품목 행으로 묶는 y 허용오차 (행 평균 y 기준)
+    static final float ROW_TOLERANCE = 0.012f;
+
+    private final List<OcrToken> readingOrder;
+    private final OcrToken[] byY;
+    private final float[] ys;
+
+    StatementTokenIndex(List<OcrToken> tokens) {
+        this.readingOrder = tokens;
+        this.byY = tokens.toArray(new OcrToken[0]);
+        // 안정 정렬 → y/x 가 같으면 원래(읽기) 순서 유지
+        Arrays.sort(byY, Comparator.comparingDouble((OcrToken t) -> t.y).thenComparingDouble(t -> t.x));
+        this.ys = new float[byY.length];
+        for (int i = 0; i < byY.length; i++) ys[i] = byY[i].y;
+    }
+
+    boolean isEmpty() {
+        return byY.length == 0;
+    }
+
+    // 품목/규격과 수량/단가/금액 라벨이 같은 줄에 있는 품목 헤더 y좌표를 찾는다. (읽기 순서상 첫 후보)
+    Float findItemHeaderY() {
+        for (OcrToken token : readingOrder) {
+            if (!(token.compact.contains("품목") || token.compact.contains("규격"))) continue;
+
+            float y = token.y;
+            boolean hasQty = hasTokenNearY(y, "수량");
+            boolean hasUnitPrice = hasTokenNearY(y, "단가");
+            boolean hasAmount = hasTokenNearY(y, "금액");
+            if (hasQty && (hasUnitPrice || hasAmount)) return y;
+        }
+        return null;
+    }
+
+    // 같은 헤더 줄로 볼 수 있는 y좌표 범위에서 특정 라벨 토큰을 찾는다.
+    boolean hasTokenNearY(float y, String keyword) {
+        for (int i = firstWithin(y, HEADER_LINE_TOLERANCE); i < byY.length; i++) {
+            if (ys[i] - y > HEADER_LINE_TOLERANCE) break;
+            if (byY[i].compact.contains(keyword)) return true;
+        }
+        return false;
+    }
+
+    // 품목 영역이 끝나는 지점을 합계/여백 라벨 위치로 판단한다. (헤더 아래 첫 라벨 = 최소 y)
+    float findItemTableBottomY(float headerY) {
+        for (int i = firstAbove(headerY); i < byY.length; i++) {
+            String compact = byY[i].compact;
+            if (compact.contains("이하여백") || compact.contains("공급가액") || compact.contains("합계")) {
+                return Math.min(1.0f, ys[i]);
+            }
+        }
+        return 1.0f;
+    }
+
+    // 품목 영역(topY < y < bottomY) 안의 토큰을 y좌표 기준으로 같은 행 단위로 묶는다. 각 행은 x 순 정렬
+    List<List<OcrToken>> rowsBetween(float topY, float bottomY) {
+        List<List<OcrToken>> rows = new ArrayList<>();
+        List<float[]> sums = new ArrayList<>(); // 행별 {y 합, 토큰 수}
+        int open = 0; // 이 번호 이전 행은 닫힘 (평균 y 가 현재 토큰보다 허용오차 이상 위)
+
+        for (int i = firstAbove(topY); i < byY.length && ys[i] < bottomY; i++) {
+            OcrToken token = byY[i];
+            if (token.compact.contains("이하여백")) continue;
+
+            while (open < rows.size() && token.y - average(sums.get(open)) > ROW_TOLERANCE) open++;
+
+            int target = -1;
+            for (int r = open; r < rows.size(); r++) {
+                if (Math.abs(average(sums.get(r)) - token.y) <= ROW_TOLERANCE) {
+                    target = r;
+                    break;
+                }
+            }
+            if (target < 0) {
+                rows.add(new ArrayList<>());
+                sums.add(new float[2]);
+                target = rows.size() - 1;
+            }
+            rows.get(target).add(token);
+            float[] s = sums.get(target);
+            s[0] += token.y;
+            s[1]++;
+        }
+
+        for (List<OcrToken> row : rows) {
+            row.sort(Comparator.comparingDouble(t -> t.x));
+        }
+        return rows;
+    }
+
+    private static float average(float[] sum) {
+        return sum[0] / sum[1];
+    }
+
+    // y - ys[i] <= tolerance 를 만족하는 첫 위치
+    private int firstWithin(float y, float tolerance) {
+        int lo = 0, hi = ys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (y - ys[mid] > tolerance) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ys[i] > y 를 만족하는 첫 위치
+    private int firstAbove(float y) {
+        int lo = 0, hi = ys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ys[mid] <= y) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // replaceAll("\\s+", "") 와 같은 결과 (정규식 없이)
+    static String removeSpaces(String s) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSpace(c)) {
+                if (sb == null) sb = new StringBuilder(s.length()).append(s, 0, i);
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    // 정규식 \s 와 같은 범위
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
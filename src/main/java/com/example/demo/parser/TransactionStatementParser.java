@@ -1,5 +1,6 @@
 package com.example.demo.parser;
 
+import com.example.demo.parser.StatementTokenIndex.OcrToken;
 import com.google.cloud.documentai.v1.Document;
 import com.google.cloud.documentai.v1.NormalizedVertex;
 import com.google.cloud.documentai.v1.Vertex;
@@ -243,7 +244,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (res == null) return;
         if (text == null) text = "";
 
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         // 1) "상호" 라벨 값들을 순서대로 수집
         List<String> names = new ArrayList<>();
@@ -254,7 +255,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
             String line = safeTrim(lines[i]);
             if (line.isEmpty()) continue;
 
-            Matcher m = pSanghoLine.matcher(line);
+            Matcher m = pSanghoLine.matcher(guard(line));
             if (m.find()) {
                 String tail = safeTrim(m.group(1));
                 if (tail.isEmpty()) {
@@ -300,7 +301,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
             String line = safeTrim(lines[i]);
             if (line.isEmpty()) continue;
 
-            Matcher m = pCeo.matcher(line);
+            Matcher m = pCeo.matcher(guard(line));
             if (m.find()) {
                 String name = safeTrim(m.group(1));
                 name = cleanPartyText(name);
@@ -412,7 +413,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         String companySuffix = findDetachedCompanySuffix(p.name, p.address);
         if (companySuffix != null) p.name = p.name + " " + companySuffix;
 
-        Matcher nameWithCeo = Pattern.compile("^(.+?)\\s+([가-힣]{2,5})\\s*(?:®|인)?$").matcher(p.name);
+        Matcher nameWithCeo = Pattern.compile("^(.+?)\\s+([가-힣]{2,5})\\s*(?:®|인)?$").matcher(guard(p.name));
         if (nameWithCeo.find()) {
             String name = cleanPartyNameText(nameWithCeo.group(1));
             String ceo = nameWithCeo.group(2);
@@ -431,7 +432,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         String cleanedAddress = cleanPartyText(address);
         if (cleanedAddress == null) return null;
 
-        Matcher m = Pattern.compile("^([가-힣A-Za-z0-9()]{2,12})\\s+(경기도|서울|인천|부산|대구|광주|대전|울산|세종|강원|충청|전라|경상|제주|우편|주소|사업장)").matcher(cleanedAddress);
+        Matcher m = Pattern.compile("^([가-힣A-Za-z0-9()]{2,12})\\s+(경기도|서울|인천|부산|대구|광주|대전|울산|세종|강원|충청|전라|경상|제주|우편|주소|사업장)").matcher(guard(cleanedAddress));
         if (!m.find()) return null;
 
         String suffix = m.group(1);
@@ -445,10 +446,10 @@ public class TransactionStatementParser extends BaseReceiptParser {
         String compactName = res.supplier.name.replaceAll("\\s+", "");
         if (!compactName.matches("^(유한회사|주식회사|농업회사법인|회사법인)$")) return;
 
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
         Pattern suffixPattern = Pattern.compile(Pattern.quote(res.supplier.name) + "\\s+(.+)");
         for (String raw : lines) {
-            Matcher m = suffixPattern.matcher(safeTrim(raw));
+            Matcher m = suffixPattern.matcher(guard(safeTrim(raw)));
             if (!m.find()) continue;
 
             String suffix = m.group(1);
@@ -475,7 +476,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private void salvagePartyNamesAroundBizNo(String text, TransactionStatementResult res) {
         if (res == null || text == null) return;
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         if (res.supplier != null && (res.supplier.name == null || isSuspiciousPartyName(res.supplier.name) || isOurPartyText(res.supplier.name))
                 && res.supplier.bizNo != null) {
@@ -493,7 +494,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private void salvagePartyNamesByDocumentHints(String text, TransactionStatementResult res) {
         if (res == null || text == null) return;
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         if (res.supplier != null && (res.supplier.name == null || isSuspiciousPartyName(res.supplier.name) || isOurPartyText(res.supplier.name))) {
             String external = pickExternalCompanyName(lines);
@@ -561,7 +562,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     }
 
     private String extractBuyerNameFromGeoraecheo(String text) {
-        Matcher m = Pattern.compile("(거\\s*래\\s*처|거래처)\\s*[:：]?\\s*([^\\n]+)").matcher(text);
+        Matcher m = Pattern.compile("(거\\s*래\\s*처|거래처)\\s*[:：]?\\s*([^\\n]+)").matcher(guard(text));
         if (!m.find()) return null;
 
         String value = m.group(2);
@@ -571,22 +572,22 @@ public class TransactionStatementParser extends BaseReceiptParser {
     }
 
     private String extractBuyerCeoFromGeoraecheo(String text) {
-        Matcher m = Pattern.compile("(거\\s*래\\s*처|거래처)\\s*[:：]?\\s*([^\\n]+)").matcher(text);
+        Matcher m = Pattern.compile("(거\\s*래\\s*처|거래처)\\s*[:：]?\\s*([^\\n]+)").matcher(guard(text));
         if (!m.find()) return null;
 
         String value = m.group(2);
-        Matcher slash = Pattern.compile("/\\s*([가-힣]{2,5})").matcher(value);
+        Matcher slash = Pattern.compile("/\\s*([가-힣]{2,5})").matcher(guard(value));
         return slash.find() ? slash.group(1) : null;
     }
 
     private String extractSupplierNameFromSanghoSection(String text) {
-        Matcher m = Pattern.compile("상\\s*호\\s*[:：]?\\s*([^\\n]+)").matcher(text);
+        Matcher m = Pattern.compile("상\\s*호\\s*[:：]?\\s*([^\\n]+)").matcher(guard(text));
         while (m.find()) {
             String value = cleanPartyNameText(m.group(1));
             if (isGoodNameCandidate(value) && !isOurPartyText(value)) return value;
         }
 
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
         for (int i = 0; i < lines.length; i++) {
             String compact = safeTrim(lines[i]).replaceAll("\\s+", "");
             if (!"상".equals(compact) && !"호".equals(compact) && !"상호".equals(compact)) continue;
@@ -639,7 +640,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         String s = safeTrim(line);
         if (s.isEmpty()) return null;
 
-        Matcher m = Pattern.compile("상\\s*호\\s*[:：]?\\s*(.+)$").matcher(s);
+        Matcher m = Pattern.compile("상\\s*호\\s*[:：]?\\s*(.+)$").matcher(guard(s));
         if (!m.find()) return null;
 
         String tail = cleanPartyNameText(m.group(1));
@@ -656,7 +657,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (supplierOk) return;
 
         // 사업자번호 기반으로 supplier 구간을 잡는다 (첫 bizno 주변)
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
         if (lines.length == 0) return;
 
         String supplierBiz = (res.supplier == null) ? null : res.supplier.bizNo;
@@ -670,7 +671,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (idxSupBiz < 0) {
             // supplierBiz가 없으면 첫 bizno 등장 라인
             for (int i = 0; i < lines.length; i++) {
-                if (P_BIZNO.matcher(lines[i]).find()) { idxSupBiz = i; break; }
+                if (P_BIZNO.matcher(guard(lines[i])).find()) { idxSupBiz = i; break; }
             }
         }
         if (idxSupBiz < 0) return;
@@ -720,7 +721,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         // 3) 대표자 휴리스틱: "대표 홍길동" / "성명 홍길동"
         if (res.supplier.ceo == null) {
             String joined = String.join(" ", win).replaceAll("\\s{2,}", " ").trim();
-            Matcher m = Pattern.compile("(대표자|대표|성명|성)\\s*[:：]?\\s*([가-힣]{2,5})").matcher(joined);
+            Matcher m = Pattern.compile("(대표자|대표|성명|성)\\s*[:：]?\\s*([가-힣]{2,5})").matcher(guard(joined));
             if (m.find()) res.supplier.ceo = m.group(2);
         }
 
@@ -732,7 +733,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     private String pickValueByLabel(List<String> win, Pattern label, int forward) {
         for (int i = 0; i < win.size(); i++) {
             String line = win.get(i);
-            if (!label.matcher(line).find()) continue;
+            if (!label.matcher(guard(line)).find()) continue;
 
             // 같은 줄에서 ":" 이후나 라벨 제거한 꼬리
             String tail = line;
@@ -791,7 +792,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (v.length() < 2) return false;
         if (v.matches("^[0-9,]+$")) return false;
         if (v.contains("￦")) return false;
-        if (P_PHONE.matcher(v).find()) return false;
+        if (P_PHONE.matcher(guard(v)).find()) return false;
         if (isPartyNameLabelNoise(v)) return false;
         if (v.matches(".*\\d{2,4}[./\\-]\\d{1,2}[./\\-]\\d{1,2}.*")) return false;
         // 너무 주소처럼 보이면 제외
@@ -966,7 +967,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private String cleanBizNo(String s) {
         if (s == null) return null;
-        Matcher m = P_BIZNO.matcher(s);
+        Matcher m = P_BIZNO.matcher(guard(s));
         return m.find() ? m.group() : null;
     }
 
@@ -1178,21 +1179,6 @@ public class TransactionStatementParser extends BaseReceiptParser {
         return out;
     }
 
-    // 좌표 기반 품목 파싱에서 사용하는 OCR 토큰 정보
-    private static class OcrToken {
-        String text;
-        float x;
-        float y;
-        float minX;
-
-        OcrToken(String text, float x, float y, float minX) {
-            this.text = text;
-            this.x = x;
-            this.y = y;
-            this.minX = minX;
-        }
-    }
-
     // 품목 테이블 영역을 OCR 토큰 좌표로 나누어 품목 목록을 추출한다.
     private List<StatementItem> parseItemsFromTokenPositions(Document doc) {
         if (doc == null || doc.getPagesCount() == 0) return null;
@@ -1200,15 +1186,15 @@ public class TransactionStatementParser extends BaseReceiptParser {
         List<StatementItem> items = new ArrayList<>();
 
         for (Document.Page page : doc.getPagesList()) {
-            List<OcrToken> tokens = pageTokens(doc, page);
-            if (tokens.isEmpty()) continue;
+            StatementTokenIndex index = new StatementTokenIndex(pageTokens(doc, page));
+            if (index.isEmpty()) continue;
 
-            Float headerY = findItemHeaderY(tokens);
+            Float headerY = index.findItemHeaderY();
             if (headerY == null) continue;
 
-            float bottomY = findItemTableBottomY(tokens, headerY);
+            float bottomY = index.findItemTableBottomY(headerY);
             // 헤더 아래부터 합계 영역 전까지 같은 y축에 있는 토큰을 한 행으로 묶는다.
-            List<List<OcrToken>> rows = groupTokensByRow(tokens, headerY + 0.025f, bottomY);
+            List<List<OcrToken>> rows = index.rowsBetween(headerY + 0.025f, bottomY);
 
             for (List<OcrToken> row : rows) {
                 StatementItem item = parsePositionedItemRow(row);
@@ -1244,87 +1230,6 @@ public class TransactionStatementParser extends BaseReceiptParser {
         return tokens;
     }
 
-    // 품목/규격과 수량/단가/금액 라벨이 같은 줄에 있는 품목 헤더 y좌표를 찾는다.
-    private Float findItemHeaderY(List<OcrToken> tokens) {
-        for (OcrToken token : tokens) {
-            String compact = token.text.replaceAll("\\s+", "");
-            if (!(compact.contains("품목") || compact.contains("규격"))) continue;
-
-            float y = token.y;
-            boolean hasQty = hasTokenNearY(tokens, y, "수량");
-            boolean hasUnitPrice = hasTokenNearY(tokens, y, "단가");
-            boolean hasAmount = hasTokenNearY(tokens, y, "금액");
-            if (hasQty && (hasUnitPrice || hasAmount)) return y;
-        }
-        return null;
-    }
-
-    // 같은 헤더 줄로 볼 수 있는 y좌표 범위에서 특정 라벨 토큰을 찾는다.
-    private boolean hasTokenNearY(List<OcrToken> tokens, float y, String keyword) {
-        for (OcrToken token : tokens) {
-            if (Math.abs(token.y - y) > 0.035f) continue;
-            if (token.text.replaceAll("\\s+", "").contains(keyword)) return true;
-        }
-        return false;
-    }
-
-    // 품목 영역이 끝나는 지점을 합계/여백 라벨 위치로 판단한다.
-    private float findItemTableBottomY(List<OcrToken> tokens, float headerY) {
-        float bottomY = 1.0f;
-        for (OcrToken token : tokens) {
-            if (token.y <= headerY) continue;
-            String compact = token.text.replaceAll("\\s+", "");
-            if (compact.contains("이하여백") || compact.contains("공급가액") || compact.contains("합계")) {
-                bottomY = Math.min(bottomY, token.y);
-            }
-        }
-        return bottomY;
-    }
-
-    // 품목 영역 안의 토큰을 y좌표 기준으로 같은 행 단위로 묶는다.
-    private List<List<OcrToken>> groupTokensByRow(List<OcrToken> tokens, float topY, float bottomY) {
-        List<OcrToken> body = new ArrayList<>();
-        for (OcrToken token : tokens) {
-            if (token.y <= topY || token.y >= bottomY) continue;
-            if (token.text.replaceAll("\\s+", "").contains("이하여백")) continue;
-            body.add(token);
-        }
-
-        body.sort(Comparator.comparingDouble((OcrToken t) -> t.y).thenComparingDouble(t -> t.x));
-
-        List<List<OcrToken>> rows = new ArrayList<>();
-        for (OcrToken token : body) {
-            List<OcrToken> target = null;
-            for (List<OcrToken> row : rows) {
-                float rowY = averageY(row);
-                if (Math.abs(rowY - token.y) <= 0.012f) {
-                    target = row;
-                    break;
-                }
-            }
-            if (target == null) {
-                target = new ArrayList<>();
-                rows.add(target);
-            }
-            target.add(token);
-        }
-
-        for (List<OcrToken> row : rows) {
-            row.sort(Comparator.comparingDouble(t -> t.x));
-        }
-
-        return rows;
-    }
-
-    private float averageY(List<OcrToken> row) {
-        if (row == null || row.isEmpty()) return 0f;
-        float sum = 0f;
-        for (OcrToken token : row) {
-            sum += token.y;
-        }
-        return sum / row.size();
-    }
-
     // 한 행의 토큰을 x좌표 기준 품목명/단위/수량/단가/금액/세액 열로 분리한다.
     private StatementItem parsePositionedItemRow(List<OcrToken> row) {
         if (row == null || row.isEmpty()) return null;
@@ -1537,7 +1442,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     // =========================================================
     private void parseHeader(String text, TransactionStatementResult res) {
         Pattern p = Pattern.compile("일\\s*자\\s*(20\\d{2})\\s*년\\s*(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일\\s*([0-9\\-]{3,})?");
-        Matcher m = p.matcher(text);
+        Matcher m = p.matcher(guard(text));
         if (m.find()) {
             res.issueDate = m.group(1) + "-" + pad2(m.group(2)) + "-" + pad2(m.group(3));
             String docNo = m.group(4);
@@ -1546,14 +1451,14 @@ public class TransactionStatementParser extends BaseReceiptParser {
         }
 
         Pattern p2 = Pattern.compile("(20\\d{2})\\s*년\\s*(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일");
-        Matcher m2 = p2.matcher(text);
+        Matcher m2 = p2.matcher(guard(text));
         if (m2.find()) {
             res.issueDate = m2.group(1) + "-" + pad2(m2.group(2)) + "-" + pad2(m2.group(3));
             return;
         }
 
         Pattern p2Loose = Pattern.compile("((?:\\d\\s*){4})\\s*년\\s*(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일");
-        Matcher m2Loose = p2Loose.matcher(text);
+        Matcher m2Loose = p2Loose.matcher(guard(text));
         if (m2Loose.find()) {
             String year = m2Loose.group(1).replaceAll("[^0-9]", "");
             res.issueDate = year + "-" + pad2(m2Loose.group(2)) + "-" + pad2(m2Loose.group(3));
@@ -1561,7 +1466,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         }
 
         Pattern p3 = Pattern.compile("(납품\\s*일자|작성\\s*일자|거래\\s*일자|일\\s*자)\\s*[:：]?\\s*(20\\d{2}|\\d{2})[./\\-]\\s*(\\d{1,2})[./\\-]\\s*(\\d{1,2})");
-        Matcher m3 = p3.matcher(text);
+        Matcher m3 = p3.matcher(guard(text));
         if (m3.find()) {
             String year = m3.group(2);
             if (year.length() == 2) year = "20" + year;
@@ -1570,7 +1475,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         }
 
         Pattern p4 = Pattern.compile("(20\\d{2})[./\\-]\\s*(\\d{1,2})[./\\-]\\s*(\\d{1,2})\\s*(?:\\([^)]*\\))?");
-        Matcher m4 = p4.matcher(text);
+        Matcher m4 = p4.matcher(guard(text));
         if (m4.find()) {
             res.issueDate = m4.group(1) + "-" + pad2(m4.group(2)) + "-" + pad2(m4.group(3));
         }
@@ -1585,11 +1490,11 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private Integer moneyAfterLabelInSameLine(String line, Pattern label) {
         if (line == null) return null;
-        Matcher lm = label.matcher(line);
+        Matcher lm = label.matcher(guard(line));
         if (!lm.find()) return null;
 
         String after = line.substring(lm.end());
-        Matcher m = Pattern.compile("(?:￦\\s*)?(\\d{1,3}(?:,\\d{3})+)").matcher(after);
+        Matcher m = Pattern.compile("(?:￦\\s*)?(\\d{1,3}(?:,\\d{3})+)").matcher(guard(after));
         if (m.find()) return toIntSafe(m.group(1));
         return null;
     }
@@ -1602,7 +1507,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (bizNos.size() >= 1) res.supplier.bizNo = bizNos.get(0);
         if (bizNos.size() >= 2) res.buyer.bizNo = bizNos.get(1);
 
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         int idxItemsHdr = indexOfFirst(lines, 0,
                 Pattern.compile(".*품\\s*목.*\\(\\s*규\\s*격\\s*\\).*|.*품\\s*목.*규\\s*격.*"));
@@ -1662,16 +1567,16 @@ public class TransactionStatementParser extends BaseReceiptParser {
             String line = safeTrim(raw);
             if (line.isEmpty()) continue;
 
-            if (P_PARTY_NOISE_LINE.matcher(line).find()) continue;
+            if (P_PARTY_NOISE_LINE.matcher(guard(line)).find()) continue;
             if (isNoiseTokenLine(line)) continue;
 
             String nextField = null;
-            if (P_LABEL_SANGHO.matcher(line).find()) nextField = "name";
-            else if (P_LABEL_SEONGMYEONG.matcher(line).find()) nextField = "ceo";
-            else if (P_LABEL_SEONG.matcher(line).find()) nextField = "ceo";
-            else if (P_LABEL_JUSO.matcher(line).find()) nextField = "address";
-            else if (P_LABEL_UPTAE.matcher(line).find()) nextField = "bizType";
-            else if (P_LABEL_JONGMOK.matcher(line).find()) nextField = "bizItem";
+            if (P_LABEL_SANGHO.matcher(guard(line)).find()) nextField = "name";
+            else if (P_LABEL_SEONGMYEONG.matcher(guard(line)).find()) nextField = "ceo";
+            else if (P_LABEL_SEONG.matcher(guard(line)).find()) nextField = "ceo";
+            else if (P_LABEL_JUSO.matcher(guard(line)).find()) nextField = "address";
+            else if (P_LABEL_UPTAE.matcher(guard(line)).find()) nextField = "bizType";
+            else if (P_LABEL_JONGMOK.matcher(guard(line)).find()) nextField = "bizItem";
 
             if (nextField != null) {
                 flushField(fields, current, buf);
@@ -1683,7 +1588,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
                 continue;
             }
 
-            if ("ceo".equals(current) && P_LABEL_MYEONG.matcher(line).find()) continue;
+            if ("ceo".equals(current) && P_LABEL_MYEONG.matcher(guard(line)).find()) continue;
 
             if (current != null) {
                 if (buf.length() > 0) buf.append(" ");
@@ -1707,7 +1612,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
         // 1) CEO fallback: "... 성 유인식" / "... 성명 최희영"
         if (p.ceo == null) {
-            Matcher m = Pattern.compile("(성\\s*명|성)\\s*([가-힣]{2,5})").matcher(joined);
+            Matcher m = Pattern.compile("(성\\s*명|성)\\s*([가-힣]{2,5})").matcher(guard(joined));
             if (m.find()) p.ceo = m.group(2);
         }
 
@@ -1716,16 +1621,16 @@ public class TransactionStatementParser extends BaseReceiptParser {
         for (String raw : lines) {
             String s = safeTrim(raw);
             if (s.isEmpty()) continue;
-            if (P_PARTY_NOISE_LINE.matcher(s).find()) continue;
+            if (P_PARTY_NOISE_LINE.matcher(guard(s)).find()) continue;
             if (isNoiseTokenLine(s)) continue;
 
             // 라벨 줄은 제외
-            if (P_LABEL_SANGHO.matcher(s).find()
-                    || P_LABEL_JUSO.matcher(s).find()
-                    || P_LABEL_SEONG.matcher(s).find()
-                    || P_LABEL_SEONGMYEONG.matcher(s).find()
-                    || P_LABEL_UPTAE.matcher(s).find()
-                    || P_LABEL_JONGMOK.matcher(s).find()) {
+            if (P_LABEL_SANGHO.matcher(guard(s)).find()
+                    || P_LABEL_JUSO.matcher(guard(s)).find()
+                    || P_LABEL_SEONG.matcher(guard(s)).find()
+                    || P_LABEL_SEONGMYEONG.matcher(guard(s)).find()
+                    || P_LABEL_UPTAE.matcher(guard(s)).find()
+                    || P_LABEL_JONGMOK.matcher(guard(s)).find()) {
                 continue;
             }
 
@@ -1818,7 +1723,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
             v = v.substring(0, honorIdx).trim();
 
             int lastBizEnd = -1;
-            Matcher biz = P_BIZNO.matcher(v);
+            Matcher biz = P_BIZNO.matcher(guard(v));
             while (biz.find()) lastBizEnd = biz.end();
             if (lastBizEnd >= 0 && lastBizEnd < v.length()) {
                 v = v.substring(lastBizEnd).trim();
@@ -1850,10 +1755,10 @@ public class TransactionStatementParser extends BaseReceiptParser {
         if (isPartyNameLabelNoise(v)) return null;
         if (v.matches(".*(권\\s*호|명\\s*세\\s*표|거래명세표|공급받는자\\s*보관용).*")) return null;
 
-        Matcher explicit = Pattern.compile("(성\\s*명|대표\\s*자|대표)\\s*[:：]?\\s*([가-힣]{2,5})").matcher(v);
+        Matcher explicit = Pattern.compile("(성\\s*명|대표\\s*자|대표)\\s*[:：]?\\s*([가-힣]{2,5})").matcher(guard(v));
         if (explicit.find()) return explicit.group(2);
 
-        Matcher stampedName = Pattern.compile("([가-힣]{2,5})\\s*(?:®|인)").matcher(v);
+        Matcher stampedName = Pattern.compile("([가-힣]{2,5})\\s*(?:®|인)").matcher(guard(v));
         if (stampedName.find()) {
             String name = stampedName.group(1);
             if (partyName == null || !partyName.replaceAll("\\s+", "").contains(name)) return name;
@@ -1885,7 +1790,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         String v = cleanPartyText(s);
         if (v == null) return false;
         if (v.matches(".*\\b\\d{3}-\\d{2}-\\d{5}\\b.*")) return true;
-        if (P_PHONE.matcher(v).find()) return true;
+        if (P_PHONE.matcher(guard(v)).find()) return true;
         if (v.matches(".*(권\\s*호|명\\s*세\\s*표|거래명세표|공급받는자\\s*보관용|사업장\\s*소재지|사업장\\s*주소|귀하|공급가액|전미수|미수금).*")) return true;
         return v.length() > 40;
     }
@@ -1895,7 +1800,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     // =========================================================
     private List<StatementItem> parseItems(String text) {
         List<StatementItem> items = new ArrayList<>();
-        String[] lines = text.split("\\n");
+        String[] lines = splitByNewline(text);
 
         boolean inTable = false;
         boolean seenItemHeader = false;
@@ -2002,11 +1907,11 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private boolean isTotalsStartLine(String line) {
         boolean hasLabel =
-                P_TOTAL_LABEL_SUPPLY.matcher(line).find()
-                        || P_TOTAL_LABEL_TAX.matcher(line).find()
-                        || P_TOTAL_LABEL_GRAND.matcher(line).find()
-                        || P_TOTAL_LABEL_PREV.matcher(line).find()
-                        || P_TOTAL_LABEL_BAL.matcher(line).find();
+                P_TOTAL_LABEL_SUPPLY.matcher(guard(line)).find()
+                        || P_TOTAL_LABEL_TAX.matcher(guard(line)).find()
+                        || P_TOTAL_LABEL_GRAND.matcher(guard(line)).find()
+                        || P_TOTAL_LABEL_PREV.matcher(guard(line)).find()
+                        || P_TOTAL_LABEL_BAL.matcher(guard(line)).find();
 
         if (!hasLabel) {
             if (line.contains("￦") && line.matches(".*\\d{1,3}(?:,\\d{3})+.*")) return true;
@@ -2064,7 +1969,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     }
 
     private StatementItem tryParseInlineRow(String line) {
-        Matcher m = P_UNIT_FOLLOWED_BY_QTY.matcher(line);
+        Matcher m = P_UNIT_FOLLOWED_BY_QTY.matcher(guard(line));
         int lastStart = -1;
         String lastUnit = null;
 
@@ -2157,7 +2062,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private List<String> extractNumbers(String s) {
         List<String> out = new ArrayList<>();
-        Matcher m = P_NUM.matcher(s);
+        Matcher m = P_NUM.matcher(guard(s));
         while (m.find()) out.add(m.group());
         return out;
     }
@@ -2167,16 +2072,16 @@ public class TransactionStatementParser extends BaseReceiptParser {
     // =========================================================
     private void parseTotals(String text, TransactionStatementResult res) {
         String tail = tailWindow(text, 2600);
-        String[] lines = tail.split("\\n");
+        String[] lines = splitByNewline(tail);
 
         // totals 구간을 좀 더 안전하게: '전미수'/'미수금'/'공급가액'/'합계' 또는 '￦' 처음 등장으로 시작
         int idxStart = -1;
         for (int i = 0; i < lines.length; i++) {
             String s = lines[i] == null ? "" : lines[i];
-            if (P_TOTAL_LABEL_PREV.matcher(s).find()
-                    || P_TOTAL_LABEL_BAL.matcher(s).find()
-                    || P_TOTAL_LABEL_SUPPLY.matcher(s).find()
-                    || P_TOTAL_LABEL_GRAND.matcher(s).find()
+            if (P_TOTAL_LABEL_PREV.matcher(guard(s)).find()
+                    || P_TOTAL_LABEL_BAL.matcher(guard(s)).find()
+                    || P_TOTAL_LABEL_SUPPLY.matcher(guard(s)).find()
+                    || P_TOTAL_LABEL_GRAND.matcher(guard(s)).find()
                     || s.contains("￦")) {
                 idxStart = i;
                 break;
@@ -2199,7 +2104,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         List<Integer> wonList = new ArrayList<>();
         for (String l : L) {
             if (l == null) continue;
-            Matcher m = Pattern.compile("￦\\s*(\\d{1,3}(?:,\\d{3})+)").matcher(l);
+            Matcher m = Pattern.compile("￦\\s*(\\d{1,3}(?:,\\d{3})+)").matcher(guard(l));
             while (m.find()) wonList.add(toIntSafe(m.group(1)));
         }
 
@@ -2235,7 +2140,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         for (int i = 0; i < lines.length; i++) {
             String line = safeTrim(lines[i]);
             if (line.isEmpty()) continue;
-            if (!label.matcher(line).find()) continue;
+            if (!label.matcher(guard(line)).find()) continue;
 
             // ✅ 같은 줄: 라벨 뒤 금액
             Integer after = moneyAfterLabelInSameLine(line, label);
@@ -2261,7 +2166,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
         for (int i = 0; i < lines.length; i++) {
             String line = safeTrim(lines[i]);
             if (line.isEmpty()) continue;
-            if (!label.matcher(line).find()) continue;
+            if (!label.matcher(guard(line)).find()) continue;
 
             // ✅ 같은 줄 우선
             Integer after = moneyAfterLabelInSameLine(line, label);
@@ -2290,7 +2195,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private Integer firstMoneyInLine(String line) {
         if (line == null) return null;
-        Matcher m = Pattern.compile("(?:￦\\s*)?(\\d{1,3}(?:,\\d{3})+)").matcher(line);
+        Matcher m = Pattern.compile("(?:￦\\s*)?(\\d{1,3}(?:,\\d{3})+)").matcher(guard(line));
         if (m.find()) return toIntSafe(m.group(1));
         return null;
     }
@@ -2328,7 +2233,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
 
     private List<String> findAll(String text, Pattern p) {
         List<String> out = new ArrayList<>();
-        Matcher m = p.matcher(text);
+        Matcher m = p.matcher(guard(text));
         while (m.find()) out.add(m.group());
         return out;
     }
@@ -2336,7 +2241,7 @@ public class TransactionStatementParser extends BaseReceiptParser {
     private int indexOfFirst(String[] lines, int from, Pattern p) {
         for (int i = Math.max(0, from); i < lines.length; i++) {
             String s = lines[i] == null ? "" : lines[i];
-            if (p.matcher(s).find()) return i;
+            if (p.matcher(guard(s)).find()) return i;
         }
         return -1;
     }
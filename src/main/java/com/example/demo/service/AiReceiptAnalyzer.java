@@ -89,6 +89,7 @@ public class AiReceiptAnalyzer {
      * 텍스트에 키워드 포함 여부 검사
      */
     private boolean containsAny(String text, List<String> keywords) {
+        if (keywords == null) return false; // 키워드 파일 미로드
         for (String keyword : keywords) {
             if (text.contains(keyword.toLowerCase())) return true;
         }
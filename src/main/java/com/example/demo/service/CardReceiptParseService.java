@@ -1,65 +1,103 @@
 package com.example.demo.service;
 
-import java.io.File;
-
 import org.springframework.stereotype.Service;
 
+import com.example.demo.classify.CardReceiptClassifier;
+import com.example.demo.classify.CardReceiptClassifier.Classified;
 import com.example.demo.model.CardReceiptType;
-import com.example.demo.model.CardReceiptResponse;
 import com.example.demo.parser.BaseReceiptParser;
 import com.example.demo.parser.CardReceiptParserFactory;
 import com.example.demo.parser.HeadOfficeReceiptParserFactory;
-import com.google.cloud.documentai.v1.Document;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.parser.ReceiptText;
 
 @Service
 public class CardReceiptParseService {
 
-    private final OcrService ocrService;
     private final CardReceiptParserFactory factory;
+    private final CardReceiptClassifier classifier;
+    private final ParserRace parserRace;
+    private final HeadOfficeReceiptParserFactory headOfficeParserFactory;
 
-    public CardReceiptParseService(OcrService ocrService, CardReceiptParserFactory factory) {
-        this.ocrService = ocrService;
+    public CardReceiptParseService(CardReceiptParserFactory factory, CardReceiptClassifier classifier,
+                                   ParserRace parserRace, HeadOfficeReceiptParserFactory headOfficeParserFactory) {
         this.factory = factory;
+        this.classifier = classifier;
+        this.parserRace = parserRace;
+        this.headOfficeParserFactory = headOfficeParserFactory;
     }
 
-    public CardReceiptResponse parseFile(File file, String typeOverride) throws Exception {
+    /**
+     * 파이프라인 CLASSIFY 단계: 본사 채널 정규화 또는 카드 영수증 자동 분류(+지정 타입 우선)
+     * 자동감지 confidence 가 낮으면 분류 결과만 넘기고, 상위 후보 파서 경쟁은 parse(PARSE 단계)에서 실행한다.
+     */
+    public ReceiptIngestPipeline.Typing classify(ReceiptText rt, String typeOverride) {
         System.out.println("=== 🧾 CARD RECEIPT PARSE SERVICE START ===");
         System.out.println("📌 요청 receipt_type: " + typeOverride);
-        Document doc = ocrService.processDocumentFile(file);
-        System.out.println("📌 OCR 문서 처리 완료");
 
         // 본사 법인카드(auction/gmarket/11post/naver/homeplus/coupang/daiso)는 전용 파서 라우팅
         String headOfficeType = normalizeHeadOfficeType(typeOverride);
         if (isHeadOfficeType(headOfficeType)) {
             System.out.println("📌 본사 전용 파서 타입: " + headOfficeType);
-            BaseReceiptParser.ReceiptResult result = HeadOfficeReceiptParserFactory.parse(doc, headOfficeType);
-            attachRawText(result, doc);
-            printParsedSummary(result);
-            return new CardReceiptResponse(CardReceiptType.CARD_SLIP_GENERIC, 1.0, result);
+            return ReceiptIngestPipeline.Typing.of(ReceiptParserRegistry.Route.HEAD_OFFICE, headOfficeType);
         }
 
         CardReceiptType type;
         double conf;
 
+        // 분류는 본문 1회 스캔이라 타입이 지정된 요청에도 항상 수행 (지정값과 다르면 로그로 남김)
+        Classified c = classifier.classify(rt);
         CardReceiptType forced = toTypeOrNull(typeOverride);
         if (forced != null) {
             type = forced;
             conf = 1.0;
+            if (c.type != forced && c.type != CardReceiptType.UNKNOWN) {
+                System.out.println("⚠ 지정 타입(" + forced + ")과 자동감지(" + c.type + ", " + c.confidence + ") 불일치");
+            }
         } else {
-            // ✅ 간단 자동감지(운영중 classifier가 있으면 여기만 교체하면 됨)
-            Classified c = classifyByHeuristic(doc);
             type = c.type;
             conf = c.confidence;
         }
 
-        System.out.println("📌 사용 파서 타입: " + type + " / confidence=" + conf);
-        BaseReceiptParser parser = factory.get(type);
-        BaseReceiptParser.ReceiptResult result = parser.parse(doc);
-        BaseReceiptParser.capItems(result, 3);
-        attachRawText(result, doc);
-        printParsedSummary(result);
+        // 경쟁 대상이면 분류 결과를 넘겨 PARSE 단계(파싱 타임아웃/취소 적용)에서 경쟁
+        Classified race = forced == null && parserRace.shouldRace(c) ? c : null;
+
+        System.out.println("📌 사용 파서 타입: " + type + " / confidence=" + conf + (race != null ? " (후보 파서 경쟁 예정)" : ""));
+        return new ReceiptIngestPipeline.Typing(ReceiptParserRegistry.Route.CARD, type.name(), type.name(), conf, race);
+    }
+
+    /**
+     * 파이프라인 PARSE 단계 (classify 결과 기준)
+     * budgetMillis: 스펙의 파싱 타임아웃 (0이면 제한 없음) → 후보 파서 경쟁 기한도 이 안으로 줄인다.
+     */
+    public BaseReceiptParser.ReceiptResult parse(ReceiptText rt, ReceiptIngestPipeline.Typing typing, long budgetMillis) {
+        BaseReceiptParser.ReceiptResult result = null;
+        if (typing.detail instanceof Classified) {
+            ParserRace.Outcome outcome = parserRace.race((Classified) typing.detail, rt, budgetMillis);
+            if (outcome != null) {
+                System.out.println("📌 후보 파서 경쟁 결과: " + outcome.type + " (scores=" + outcome.scores + ")");
+                result = outcome.result;
+                // 이긴 파서 타입으로 판정 결과 갱신 (Document 보관/재파싱 기준)
+                if (result != null && result.extra != null) {
+                    result.extra.put(ReceiptIngestPipeline.Typing.PARSED_TYPE_KEY, outcome.type.name());
+                }
+            }
+        }
 
-        return new CardReceiptResponse(type, conf, result);
+        // 경쟁하지 않았거나 기한 내 끝난 후보가 없으면 판정 타입으로 단일 파싱
+        if (result == null) {
+            if (typing.route == ReceiptParserRegistry.Route.HEAD_OFFICE) {
+                result = headOfficeParserFactory.parse(rt, typing.parserType);
+            } else {
+                result = factory.parse(CardReceiptType.valueOf(typing.parserType), rt);
+            }
+        }
+        if (typing.route == ReceiptParserRegistry.Route.CARD) {
+            BaseReceiptParser.capItems(result, 3);
+        }
+        attachRawText(result, rt);
+        printParsedSummary(result);
+        return result;
     }
 
     private void printParsedSummary(BaseReceiptParser.ReceiptResult result) {
@@ -77,17 +115,17 @@ public class CardReceiptParseService {
                 + ", merchant=" + merchantName + ", total=" + total + ", itemCount=" + itemCount);
     }
 
-    private void attachRawText(BaseReceiptParser.ReceiptResult result, Document doc) {
-        if (result == null || result.extra == null || doc == null) return;
-        String raw = doc.getText();
-        if (raw == null || raw.isBlank()) return;
+    private void attachRawText(BaseReceiptParser.ReceiptResult result, ReceiptText rt) {
+        if (result == null || result.extra == null) return;
+        String raw = rt.raw();
+        if (raw.isBlank()) return;
         result.extra.putIfAbsent("__raw_text", raw);
     }
 
     private boolean isHeadOfficeType(String normalized) {
         if (normalized == null) return false;
         return switch (normalized) {
-            case "auction", "gmarket", "11post", "naver", "homeplus", "coupang", "daiso" -> true;
+            case "auction", "gmarket", "11post", "naver", "homeplus", "coupang", "daiso", "auto" -> true;
             default -> false;
         };
     }
@@ -104,6 +142,8 @@ public class CardReceiptParseService {
         if (t.contains("홈플러스") || t.equals("homeplus")) return "homeplus";
         if (t.contains("쿠팡") || t.equals("coupang")) return "coupang";
         if (t.contains("다이소") || t.equals("daiso")) return "daiso";
+        // 본사 법인카드인데 채널을 모르는 경우 → 채널 자동 감지
+        if (t.equals("auto") || t.equals("headoffice")) return "auto";
 
         return t;
     }
@@ -126,54 +166,4 @@ public class CardReceiptParseService {
             default -> null;
         };
     }
-
-    // --------------------------------------------
-    // 간단 자동 분류(필요하면 너 기존 classifier로 대체)
-    // --------------------------------------------
-    private Classified classifyByHeuristic(Document doc) {
-        String text = (doc == null) ? "" : doc.getText();
-        String t = text == null ? "" : text.toUpperCase();
-
-        // 편의점
-        if (t.contains("GS25") || t.contains("세븐일레븐") || t.contains("7-ELEVEN") || t.contains(" CU ")
-                || t.contains("\nCU") || t.contains("CU\n")) {
-            return new Classified(CardReceiptType.CONVENIENCE, 0.85);
-        }
-
-        // 쿠팡
-        if (t.contains("쿠팡") || t.contains("COUPANG") || t.contains("쿠페이") || t.contains("COUPAY")) {
-            // 앱 결제내역 힌트
-            if (t.contains("거래메모") && t.contains("쿠팡(쿠페이)") && !t.contains("카드영수증")) {
-                return new Classified(CardReceiptType.COUPANG_APP, 0.85);
-            }
-            return new Classified(CardReceiptType.COUPANG_CARD, 0.75);
-        }
-
-        // 배달
-        if (t.contains("배달의민족") || t.contains("배민") || t.contains("요기요") || t.contains("쿠팡이츠")
-                || t.contains("주문메뉴") || t.contains("라이더님께")) {
-            return new Classified(CardReceiptType.DELIVERY, 0.8);
-        }
-
-        // 마트
-        if (t.contains("NO.") && t.contains("상품명") && (t.contains("단가") || t.contains("수량") || t.contains("금액"))) {
-            return new Classified(CardReceiptType.MART_ITEMIZED, 0.75);
-        }
-
-        // 기본 전표
-        if (t.contains("승인번호") || t.contains("가맹점") || t.contains("TID") || t.contains("VAN")) {
-            return new Classified(CardReceiptType.CARD_SLIP_GENERIC, 0.6);
-        }
-
-        return new Classified(CardReceiptType.UNKNOWN, 0.3);
-    }
-
-    private static class Classified {
-        final CardReceiptType type;
-        final double confidence;
-        Classified(CardReceiptType type, double confidence) {
-            this.type = type;
-            this.confidence = confidence;
-        }
-    }
 }
@@ -0,0 +1,314 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.documentai.v1.DocumentProcessorServiceClient;
+import com.google.cloud.documentai.v1.ProcessRequest;
+import com.google.cloud.documentai.v1.ProcessResponse;
+import com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * Document AI 호출 보호막 (서킷 브레이커 + 선택적 헤징)
+ * - 연속 N회 실패/시간초과 시 OPEN
+ *   실패로 세는 것은 응답 시간 초과와 서버/전송 오류(UNAVAILABLE, DEADLINE_EXCEEDED, INTERNAL, RESOURCE_EXHAUSTED)뿐.
+ *   손상된 이미지 등 요청측 오류(INVALID_ARGUMENT 등)와 호출측 취소/인터럽트는 브레이커 상태를 바꾸지 않는다. → open-ms 동안 즉시 실패(컨트롤러는 requestParam 기반 fallback 저장)
+ * - open-ms 경과 후 HALF_OPEN: 탐색 요청 1건만 통과, 성공 시 CLOSED / 실패 시 다시 OPEN
+ * - 헤징(ocr.hedge.enabled): 첫 요청이 최근 p95 지연을 넘기면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+ *   (호출 비용이 최대 2배가 될 수 있으므로 기본 비활성)
+ */
+@Component
+public class DocumentAiGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentAiGuard.class);
+
+    private static final int LATENCY_WINDOW = 200;
+
+    // 브레이커 실패로 집계하는 Document AI 응답 코드 (서버/전송 오류)
+    private static final Set<StatusCode.Code> SERVER_ERRORS = EnumSet.of(StatusCode.Code.UNAVAILABLE,
+            StatusCode.Code.DEADLINE_EXCEEDED, StatusCode.Code.INTERNAL, StatusCode.Code.RESOURCE_EXHAUSTED);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 브레이커 OPEN 또는 호출 시간 초과로 Document AI를 사용할 수 없음
+     */
+    public static class UnavailableException extends RuntimeException {
+        public UnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 호출측 취소/인터럽트(컨트롤러 타임아웃 등)로 중단됨 → Document AI 장애가 아니므로 브레이커 실패로 집계하지 않음
+     */
+    public static class CancelledException extends UnavailableException {
+        public CancelledException(String message) {
+            super(message);
+        }
+    }
+
+    @Value("${ocr.breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${ocr.breaker.open-ms:30000}")
+    private long openMillis;
+
+    // 컨트롤러 10초 타임아웃보다 약간 짧게 → 느린 호출도 실패로 집계되고 워커 스레드를 오래 잡지 않음
+    @Value("${ocr.breaker.call-timeout-ms:9000}")
+    private long callTimeoutMillis;
+
+    @Value("${ocr.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${ocr.hedge.min-delay-ms:1500}")
+    private long hedgeMinDelayMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean probeInFlight = false;
+
+    // 최근 성공 호출 지연(ms) 링버퍼 → p95로 헤지 지연 산정
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount = 0;
+    private int latencyPos = 0;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    public ProcessResponse process(DocumentProcessorServiceClient client, ProcessRequest request) {
+        acquire();
+        calls.incrementAndGet();
+        long started = System.nanoTime();
+        try {
+            ProcessResponse response = hedgeEnabled ? callHedged(client, request) : callOnce(client, request);
+            onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return response;
+        } catch (RuntimeException e) {
+            if (e instanceof CancelledException || e instanceof CancellationException
+                    || Thread.currentThread().isInterrupted() || !isServerFailure(e)) {
+                releaseProbe();
+            } else {
+                onFailure(e);
+            }
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return currentState();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        synchronized (this) {
+            m.put("state", currentState().name());
+            m.put("consecutiveFailures", consecutiveFailures);
+            m.put("p95LatencyMs", p95());
+        }
+        long h = hedged.get();
+        m.put("calls", calls.get());
+        m.put("failures", failures.get());
+        m.put("rejected", rejected.get());
+        m.put("opened", opened.get());
+        m.put("hedgeEnabled", hedgeEnabled);
+        m.put("hedged", h);
+        m.put("hedgeWins", hedgeWins.get());
+        m.put("hedgeWinRate", h == 0 ? 0.0 : (double) hedgeWins.get() / h);
+        return m;
+    }
+
+    // ===============================
+    // 브레이커 상태 전이
+    // ===============================
+    private synchronized void acquire() {
+        State s = currentState();
+        if (s == State.OPEN || (s == State.HALF_OPEN && probeInFlight)) {
+            rejected.incrementAndGet();
+            throw new UnavailableException("Document AI 일시 차단 중 (circuit " + s + ")");
+        }
+        if (s == State.HALF_OPEN) {
+            state = State.HALF_OPEN;
+            probeInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess(long latencyMs) {
+        if (state != State.CLOSED) {
+            log.info("[DocumentAiGuard] 탐색 요청 성공 → CLOSED");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+
+        latencies[latencyPos] = latencyMs;
+        latencyPos = (latencyPos + 1) % LATENCY_WINDOW;
+        if (latencyCount < LATENCY_WINDOW) latencyCount++;
+    }
+
+    // 취소/요청측 오류로 끝난 탐색 요청은 다음 요청이 다시 탐색하도록 자리만 비움 (상태/연속 실패 횟수 유지)
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    // 응답 시간 초과 또는 서버/전송 오류만 Document AI 장애로 본다
+    private static boolean isServerFailure(Throwable e) {
+        if (e instanceof UnavailableException) return true;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ApiException) {
+                return SERVER_ERRORS.contains(((ApiException) t).getStatusCode().getCode());
+            }
+        }
+        return false;
+    }
+
+    private synchronized void onFailure(RuntimeException e) {
+        failures.incrementAndGet();
+        consecutiveFailures++;
+        boolean probeFailed = state == State.HALF_OPEN;
+        probeInFlight = false;
+        if (probeFailed || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) opened.incrementAndGet();
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            log.warn("[DocumentAiGuard] 연속 {}회 실패 → OPEN ({}ms 동안 즉시 실패) 원인: {}",
+                    consecutiveFailures, openMillis, e.getMessage());
+        }
+    }
+
+    // OPEN 유지 시간이 지나면 HALF_OPEN으로 본다 (실제 전이는 acquire에서)
+    private State currentState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private long p95() {
+        if (latencyCount == 0) return 0;
+        long[] copy = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(copy);
+        return copy[Math.min(latencyCount - 1, (int) Math.ceil(latencyCount * 0.95) - 1)];
+    }
+
+    // ===============================
+    // 호출 (단일 / 헤징)
+    // ===============================
+    private ProcessResponse callOnce(DocumentProcessorServiceClient client, ProcessRequest request) {
+        ApiFuture<ProcessResponse> future = client.processDocumentCallable().futureCall(request);
+        return await(future, callTimeoutMillis, future);
+    }
+
+    private ProcessResponse callHedged(DocumentProcessorServiceClient client, ProcessRequest request) {
+        long hedgeDelay;
+        synchronized (this) {
+            hedgeDelay = Math.max(hedgeMinDelayMillis, p95());
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(callTimeoutMillis);
+
+        ApiFuture<ProcessResponse> primary = client.processDocumentCallable().futureCall(request);
+        try {
+            return primary.get(Math.min(hedgeDelay, callTimeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException te) {
+            // 헤지 지연 초과 → 아래에서 두 번째 요청 발사
+        } catch (ExecutionException ee) {
+            throw unwrap(ee);
+        } catch (InterruptedException ie) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancelledException("Document AI 호출 중단");
+        }
+
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+            primary.cancel(true);
+            throw new UnavailableException("Document AI 응답 시간 초과");
+        }
+
+        hedged.incrementAndGet();
+        ApiFuture<ProcessResponse> secondary = client.processDocumentCallable().futureCall(request);
+
+        // 둘 중 먼저 성공한 응답 사용 (둘 다 실패하면 나중 실패 전달)
+        CompletableFuture<ProcessResponse> first = new CompletableFuture<>();
+        AtomicLong failed = new AtomicLong();
+        firstSuccess(primary, first, failed, false);
+        firstSuccess(secondary, first, failed, true);
+
+        try {
+            return await(first, remaining, primary, secondary);
+        } finally {
+            primary.cancel(true);
+            secondary.cancel(true);
+        }
+    }
+
+    private void firstSuccess(ApiFuture<ProcessResponse> f, CompletableFuture<ProcessResponse> first,
+                              AtomicLong failed, boolean isHedge) {
+        ApiFutures.addCallback(f, new ApiFutureCallback<ProcessResponse>() {
+            @Override
+            public void onSuccess(ProcessResponse result) {
+                if (first.complete(result) && isHedge) {
+                    hedgeWins.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                if (failed.incrementAndGet() == 2) {
+                    first.completeExceptionally(t);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private ProcessResponse await(Future<ProcessResponse> future, long timeoutMillis,
+                                  Future<?>... toCancel) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException te) {
+            for (Future<?> f : toCancel) f.cancel(true);
+            throw new UnavailableException("Document AI 응답 시간 초과 (" + timeoutMillis + "ms)");
+        } catch (ExecutionException ee) {
+            throw unwrap(ee);
+        } catch (CancellationException ce) {
+            throw new CancelledException("Document AI 호출 취소");
+        } catch (InterruptedException ie) {
+            // 컨트롤러 타임아웃으로 OCR 작업이 취소됨
+            for (Future<?> f : toCancel) f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancelledException("Document AI 호출 중단");
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException ee) {
+        Throwable cause = ee.getCause();
+        if (cause instanceof CancellationException) return new CancelledException("Document AI 호출 취소");
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.Size;
+import org.opencv.imgcodecs.Imgcodecs;
+import org.opencv.imgproc.Imgproc;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표 용량 JPEG 인코더.
+ * 용량 상한(ocr.image.max-bytes) 안에서 가장 높은 JPEG 품질을 이진 탐색으로 찾고,
+ * 최저 품질로도 초과할 때만 해상도를 줄인다. (해상도 축소는 OCR 정확도에 직접 영향)
+ */
+@Component
+public class JpegTargetEncoder {
+
+    @Value("${ocr.image.max-bytes:5000000}")
+    private long maxBytes;
+
+    @Value("${ocr.image.max-edge:1800}")
+    private int maxEdge;
+
+    // 해상도 축소 하한 (이보다 작으면 영수증 글자가 뭉개짐)
+    @Value("${ocr.image.min-edge:800}")
+    private int minEdge;
+
+    @Value("${ocr.image.min-quality:40}")
+    private int minQuality;
+
+    @Value("${ocr.image.max-quality:85}")
+    private int maxQuality;
+
+    // 영수증은 흑백이어도 인식률 차이가 거의 없고 용량이 줄어든다
+    @Value("${ocr.image.grayscale:false}")
+    private boolean grayscale;
+
+    private final LongAdder encoded = new LongAdder();
+    private final LongAdder totalEncodePasses = new LongAdder();
+    private final LongAdder totalQuality = new LongAdder();
+    private final LongAdder totalOutputBytes = new LongAdder();
+    private final LongAdder downscaled = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+
+    /**
+     * 인코딩 결과 + 선택된 파라미터
+     */
+    public static class Result {
+        public final byte[] bytes;
+        public final int quality;
+        public final int width;
+        public final int height;
+        public final boolean grayscale;
+        public final int passes;
+
+        Result(byte[] bytes, int quality, int width, int height, boolean grayscale, int passes) {
+            this.bytes = bytes;
+            this.quality = quality;
+            this.width = width;
+            this.height = height;
+            this.grayscale = grayscale;
+            this.passes = passes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%dx%d q=%d gray=%s passes=%d (%.2f MB)",
+                    width, height, quality, grayscale, passes, bytes.length / 1024.0 / 1024.0);
+        }
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    public boolean isGrayscale() {
+        return grayscale;
+    }
+
+    /**
+     * BGR(또는 GRAY) Mat을 용량 상한 이내 JPEG으로 인코딩한다. src는 변경하지 않는다.
+     */
+    public Result encode(Mat src) {
+        Mat img = src;
+        boolean gray = src.channels() == 1;
+        if (grayscale && !gray) {
+            img = new Mat();
+            Imgproc.cvtColor(src, img, Imgproc.COLOR_BGR2GRAY);
+            gray = true;
+        }
+        if (Math.max(img.width(), img.height()) > maxEdge) {
+            img = swap(src, img, resize(img, maxEdge));
+        }
+
+        int passes = 0;
+        boolean scaled = false;
+        Result result;
+        try {
+            while (true) {
+                // 1) 최고 품질로 먼저 시도 (대부분 여기서 끝남)
+                byte[] best = encodeJpeg(img, maxQuality);
+                passes++;
+                int bestQuality = maxQuality;
+
+                if (best.length > maxBytes) {
+                    // 2) 품질 이진 탐색: 상한 이내를 만족하는 가장 높은 품질
+                    best = null;
+                    byte[] smallest = null;
+                    int lo = minQuality;
+                    int hi = maxQuality - 1;
+                    while (lo <= hi) {
+                        int mid = (lo + hi) >>> 1;
+                        byte[] b = encodeJpeg(img, mid);
+                        passes++;
+                        if (b.length <= maxBytes) {
+                            best = b;
+                            bestQuality = mid;
+                            lo = mid + 1;
+                        } else {
+                            smallest = b;
+                            hi = mid - 1;
+                        }
+                    }
+
+                    if (best == null) {
+                        // 3) 최저 품질로도 초과 → 해상도 축소 후 재탐색 (용량은 대략 픽셀 수에 비례)
+                        // 탐색이 모두 실패하면 마지막 시도가 최저 품질 결과이다
+                        if (smallest == null) {
+                            smallest = encodeJpeg(img, minQuality);
+                            passes++;
+                        }
+                        int edge = Math.max(img.width(), img.height());
+                        if (edge <= minEdge) {
+                            // 더 줄이면 OCR이 불가능해지므로 상한 초과를 감수하고 최저 품질로 전송
+                            overBudget.increment();
+                            result = new Result(smallest, minQuality, img.width(), img.height(), gray, passes);
+                            break;
+                        }
+                        double ratio = Math.sqrt((double) maxBytes / smallest.length) * 0.95;
+                        int target = Math.max(minEdge, (int) (edge * ratio));
+                        img = swap(src, img, resize(img, target));
+                        scaled = true;
+                        continue;
+                    }
+                }
+
+                result = new Result(best, bestQuality, img.width(), img.height(), gray, passes);
+                break;
+            }
+        } finally {
+            if (img != src) img.release();
+        }
+
+        encoded.increment();
+        totalEncodePasses.add(result.passes);
+        totalQuality.add(result.quality);
+        totalOutputBytes.add(result.bytes.length);
+        if (scaled) downscaled.increment();
+        return result;
+    }
+
+    public Map<String, Object> stats() {
+        long n = encoded.sum();
+        Map<String, Object> m = new HashMap<>();
+        m.put("encoded", n);
+        m.put("maxBytes", maxBytes);
+        m.put("maxEdge", maxEdge);
+        m.put("grayscale", grayscale);
+        m.put("avgQuality", n == 0 ? 0 : (double) totalQuality.sum() / n);
+        m.put("avgPasses", n == 0 ? 0 : (double) totalEncodePasses.sum() / n);
+        m.put("avgOutputBytes", n == 0 ? 0 : totalOutputBytes.sum() / n);
+        m.put("downscaled", downscaled.sum());
+        m.put("overBudget", overBudget.sum());
+        return m;
+    }
+
+    // 중간 Mat 교체 시 원본이 아닌 이전 중간 결과는 해제
+    private static Mat swap(Mat src, Mat prev, Mat next) {
+        if (prev != src) prev.release();
+        return next;
+    }
+
+    private static Mat resize(Mat src, int edge) {
+        double scale = Math.min((double) edge / src.width(), (double) edge / src.height());
+        int newW = Math.max(1, (int) (src.width() * scale));
+        int newH = Math.max(1, (int) (src.height() * scale));
+
+        Mat resized = new Mat();
+        // 축소에는 INTER_AREA가 계단 현상이 적다
+        Imgproc.resize(src, resized, new Size(newW, newH), 0, 0, Imgproc.INTER_AREA);
+        return resized;
+    }
+
+    private static byte[] encodeJpeg(Mat img, int quality) {
+        MatOfByte buf = new MatOfByte();
+        try {
+            Imgcodecs.imencode(".jpg", img, buf, new MatOfInt(Imgcodecs.IMWRITE_JPEG_QUALITY, quality));
+            return buf.toArray();
+        } finally {
+            buf.release();
+        }
+    }
+}
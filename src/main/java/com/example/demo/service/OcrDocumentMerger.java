@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.cloud.documentai.v1.Document;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+/**
+ * 장별 OCR Document → 하나의 논리 Document 병합 (여러 장으로 나눠 찍은 영수증)
+ * - text 는 장 순서대로 이어 붙이고 (장 사이 줄바꿈 보장), 각 장의 textAnchor 인덱스를 이어 붙인 위치만큼 이동
+ * - pages 는 순서대로 합치고 pageNumber 를 1부터 다시 매김 (pageAnchor 의 페이지 참조도 같이 이동)
+ * - 좌표(boundingPoly)는 페이지 기준이라 그대로 둔다.
+ */
+public final class OcrDocumentMerger {
+
+    private OcrDocumentMerger() {
+    }
+
+    public static Document merge(List<Document> docs) {
+        if (docs.size() == 1) return docs.get(0);
+
+        Document.Builder out = Document.newBuilder();
+        StringBuilder text = new StringBuilder();
+        int pageCount = 0;
+        for (Document doc : docs) {
+            if (text.length() > 0 && text.charAt(text.length() - 1) != '\n') {
+                text.append('\n');
+            }
+            long textOffset = text.length();
+            int pageOffset = pageCount;
+            text.append(doc.getText());
+
+            for (Document.Page page : doc.getPagesList()) {
+                Document.Page shifted = shift(page, textOffset, pageOffset);
+                out.addPages(shifted.toBuilder().setPageNumber(++pageCount));
+            }
+            for (Document.Entity entity : doc.getEntitiesList()) {
+                out.addEntities(shift(entity, textOffset, pageOffset));
+            }
+            if (out.getMimeType().isEmpty()) {
+                out.setMimeType(doc.getMimeType());
+            }
+        }
+        return out.setText(text.toString()).build();
+    }
+
+    /**
+     * 메시지 트리를 따라 내려가며 TextAnchor/PageRef 만 고친다. 바뀐 것이 없는 하위 메시지(좌표 등)는 그대로 재사용.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Message> T shift(T msg, long textOffset, int pageOffset) {
+        if (msg instanceof Document.TextAnchor) {
+            if (textOffset == 0) return msg;
+            Document.TextAnchor.Builder b = ((Document.TextAnchor) msg).toBuilder();
+            for (Document.TextAnchor.TextSegment.Builder seg : b.getTextSegmentsBuilderList()) {
+                seg.setStartIndex(seg.getStartIndex() + textOffset).setEndIndex(seg.getEndIndex() + textOffset);
+            }
+            return (T) b.build();
+        }
+        if (msg instanceof Document.PageAnchor.PageRef) {
+            if (pageOffset == 0) return msg;
+            Document.PageAnchor.PageRef ref = (Document.PageAnchor.PageRef) msg;
+            return (T) ref.toBuilder().setPage(ref.getPage() + pageOffset).build();
+        }
+
+        Message.Builder b = null;
+        for (Map.Entry<FieldDescriptor, Object> e : msg.getAllFields().entrySet()) {
+            FieldDescriptor fd = e.getKey();
+            if (fd.getJavaType() != FieldDescriptor.JavaType.MESSAGE) continue;
+            if (fd.isRepeated()) {
+                List<?> list = (List<?>) e.getValue();
+                for (int i = 0; i < list.size(); i++) {
+                    Message child = (Message) list.get(i);
+                    Message shifted = shift(child, textOffset, pageOffset);
+                    if (shifted != child) {
+                        if (b == null) b = msg.toBuilder();
+                        b.setRepeatedField(fd, i, shifted);
+                    }
+                }
+            } else {
+                Message child = (Message) e.getValue();
+                Message shifted = shift(child, textOffset, pageOffset);
+                if (shifted != child) {
+                    if (b == null) b = msg.toBuilder();
+                    b.setField(fd, shifted);
+                }
+            }
+        }
+        return b == null ? msg : (T) b.build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.demo.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.ReceiptOcrDocumentMapper;
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.google.cloud.documentai.v1.Document;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * 영수증 OCR Document 보관소 (tb_receipt_ocr_document, sale_id 기준)
+ * 파서를 고친 뒤 과거 영수증을 OCR 재호출(비용) 없이 다시 파싱할 수 있도록 결제 행 저장 직후 Document 를 같이 남긴다.
+ * - 페이지 이미지/원본 바이트는 파서가 쓰지 않으므로 제거 후 deflate (텍스트 + 레이아웃만)
+ * - 저장 당시 파싱 결과(parsed)도 함께 남겨 재파싱 시 "사용자가 수정한 값"과 "파서가 바꾼 값"을 구분하는 기준으로 쓴다.
+ * - 보관 실패는 영수증 저장 흐름에 영향을 주지 않는다. (로그 + 실패 건수만)
+ */
+@Component
+public class OcrDocumentStore {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrDocumentStore.class);
+
+    /**
+     * 파싱 결과가 저장된 결제 테이블
+     */
+    public enum Target {
+        /** tb_account_purchase_tally (+ _detail) : /receipt-scan */
+        PURCHASE,
+        /** tb_account_corporate_card_payment_list (+ detail) : /card-receipt/parse saveType=account */
+        ACCOUNT_CARD,
+        /** tb_headoffice_corporate_card_payment_list (+ detail) : /card-receipt/parse 본사 */
+        HEAD_OFFICE_CARD
+    }
+
+    /**
+     * 보관 Document 1건
+     */
+    public static class Stored {
+        public final String saleId;
+        public final Target target;
+        public final ReceiptParserRegistry.Route route;
+        public final String receiptType;
+        public final Document document;
+        public final BaseReceiptParser.ReceiptResult parsed;
+
+        Stored(String saleId, Target target, ReceiptParserRegistry.Route route, String receiptType,
+               Document document, BaseReceiptParser.ReceiptResult parsed) {
+            this.saleId = saleId;
+            this.target = target;
+            this.route = route;
+            this.receiptType = receiptType;
+            this.document = document;
+            this.parsed = parsed;
+        }
+    }
+
+    private final ReceiptOcrDocumentMapper documentMapper;
+    private final Gson gson = new Gson();
+
+    @Value("${ocr.document-store.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicLong saved = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rawBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    public OcrDocumentStore(ReceiptOcrDocumentMapper documentMapper) {
+        this.documentMapper = documentMapper;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 결제 행 저장 직후 호출. 같은 sale_id 재업로드는 마지막 Document 로 덮어쓴다.
+     */
+    public void save(String saleId, Target target, ReceiptParserRegistry.Route route, String receiptType,
+                     Document doc, BaseReceiptParser.ReceiptResult parsed) {
+        if (!enabled || saleId == null || saleId.isBlank() || doc == null) return;
+        try {
+            byte[] raw = compact(doc).toByteArray();
+            byte[] packed = deflate(raw);
+
+            Map<String, Object> param = new HashMap<>();
+            param.put("sale_id", saleId);
+            param.put("target", target.name());
+            param.put("route", route.name());
+            param.put("receipt_type", receiptType);
+            param.put("document", packed);
+            param.put("raw_bytes", raw.length);
+            param.put("stored_bytes", packed.length);
+            param.put("parsed", toJson(parsed));
+            documentMapper.ReceiptOcrDocumentSave(param);
+
+            saved.incrementAndGet();
+            rawBytes.addAndGet(raw.length);
+            storedBytes.addAndGet(packed.length);
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("[OcrDocumentStore] Document 보관 실패 sale_id={} ({})", saleId, e.getMessage());
+        }
+    }
+
+    /**
+     * 목록 조회 행 → Stored (document 복원 실패 시 IOException)
+     */
+    public Stored fromRow(Map<String, Object> row) throws IOException {
+        Object parsedJson = row.get("parsed");
+        BaseReceiptParser.ReceiptResult parsed = parsedJson == null ? null
+                : gson.fromJson(String.valueOf(parsedJson), BaseReceiptParser.ReceiptResult.class);
+        return new Stored(
+                String.valueOf(row.get("sale_id")),
+                Target.valueOf(String.valueOf(row.get("target"))),
+                ReceiptParserRegistry.Route.valueOf(String.valueOf(row.get("route"))),
+                row.get("receipt_type") == null ? null : String.valueOf(row.get("receipt_type")),
+                Document.parseFrom(inflate((byte[]) row.get("document"))),
+                parsed);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        long raw = rawBytes.get();
+        long stored = storedBytes.get();
+        m.put("enabled", enabled);
+        m.put("saved", saved.get());
+        m.put("failures", failures.get());
+        m.put("rawBytes", raw);
+        m.put("storedBytes", stored);
+        m.put("compressionRatio", raw == 0 ? 0.0 : (double) stored / raw);
+        return m;
+    }
+
+    // 파서는 text + pages 레이아웃만 사용 → 페이지 이미지, 원본 바이트/URI 제거
+    static Document compact(Document doc) {
+        Document.Builder b = doc.toBuilder().clearContent().clearUri();
+        for (int i = 0; i < b.getPagesCount(); i++) {
+            b.getPagesBuilder(i).clearImage();
+        }
+        return b.build();
+    }
+
+    // 디버그용 원문(__raw_text)은 Document 에 이미 있으므로 제외
+    private String toJson(BaseReceiptParser.ReceiptResult parsed) {
+        if (parsed == null) return null;
+        JsonObject tree = gson.toJsonTree(parsed).getAsJsonObject();
+        tree.remove("extra");
+        return gson.toJson(tree);
+    }
+
+    static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] packed) throws IOException {
+        if (packed == null) throw new IOException("보관 Document 없음");
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length * 4);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("보관 Document 손상 (압축 스트림 불완전)");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("보관 Document 손상", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 애플리케이션 공용 OCR/파싱 실행기
+ * - 스캔 컨트롤러마다 요청당 스레드 풀을 만들던 방식을 대체한다.
+ * - 풀/큐 크기가 제한되어 있고, 가득 차면 RejectedExecutionException을 던진다.
+ *   (컨트롤러는 예외 시 requestParam 기반 fallback 저장으로 처리)
+ */
+@Component
+public class OcrExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrExecutor.class);
+
+    @Value("${ocr.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${ocr.executor.queue-capacity:32}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "ocr-exec-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, ex) -> {
+                    rejected.incrementAndGet();
+                    log.warn("[OcrExecutor] 작업 거부 (active={}, queue={})", ex.getActiveCount(), ex.getQueue().size());
+                    throw new RejectedExecutionException("OCR 실행 대기열이 가득 찼습니다.");
+                });
+        log.info("[OcrExecutor] 초기화: poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 제출. 대기 시간(큐) + 실행 시간을 함께 기록한다.
+     *
+     * @throws RejectedExecutionException 풀과 대기열이 모두 찬 경우
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        long enqueued = System.nanoTime();
+        return executor.submit(() -> {
+            long started = System.nanoTime();
+            totalQueueWaitNanos.add(started - enqueued);
+            try {
+                return task.call();
+            } finally {
+                long latency = System.nanoTime() - enqueued;
+                completed.increment();
+                totalLatencyNanos.add(latency);
+                maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            }
+        });
+    }
+
+    public Map<String, Object> stats() {
+        long done = completed.sum();
+        Map<String, Object> m = new HashMap<>();
+        m.put("poolSize", poolSize);
+        m.put("active", executor.getActiveCount());
+        m.put("queueDepth", executor.getQueue().size());
+        m.put("queueCapacity", queueCapacity);
+        m.put("completed", done);
+        m.put("rejected", rejected.get());
+        m.put("avgLatencyMs", done == 0 ? 0 : totalLatencyNanos.sum() / done / 1_000_000);
+        m.put("avgQueueWaitMs", done == 0 ? 0 : totalQueueWaitNanos.sum() / done / 1_000_000);
+        m.put("maxLatencyMs", maxLatencyNanos.get() / 1_000_000);
+        return m;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.documentai.v1.Document;
+import com.google.protobuf.ByteString;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Document AI 결과 캐시.
+ * 최적화된 이미지 바이트의 SHA-256을 키로 Document protobuf를 로컬 디스크에 저장하고,
+ * 메모리에는 LRU 인덱스(키 → 파일 크기)만 유지하여 용량 초과 시 오래된 항목부터 삭제한다.
+ */
+@Component
+public class OcrResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrResultCache.class);
+
+    private static final String FILE_SUFFIX = ".pb";
+
+    @Value("${ocr.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ocr.cache.dir:${java.io.tmpdir}/ocr-cache}")
+    private String cacheDir;
+
+    @Value("${ocr.cache.max-bytes:536870912}")
+    private long maxBytes;
+
+    // accessOrder=true → get 시 최근 사용 순서로 재배치(LRU)
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Path root;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("[OcrResultCache] 비활성화 상태");
+            return;
+        }
+        try {
+            root = Paths.get(cacheDir);
+            Files.createDirectories(root);
+            loadIndex();
+            log.info("[OcrResultCache] 초기화 완료: dir={}, entries={}, bytes={}", root, index.size(), totalBytes);
+        } catch (IOException e) {
+            log.error("[OcrResultCache] 캐시 디렉터리 초기화 실패, 캐시 비활성화: {}", cacheDir, e);
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 프로세서 이름 + 이미지 바이트로 캐시 키 생성.
+     * 프로세서가 바뀌면 결과도 달라지므로 키에 함께 포함한다.
+     */
+    public String keyOf(String processorName, ByteString content) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(processorName.getBytes(StandardCharsets.UTF_8));
+            md.update(content.asReadOnlyByteBuffer());
+            StringBuilder sb = new StringBuilder(64);
+            for (byte b : md.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+
+    /**
+     * 캐시 조회. 없으면 null.
+     *
+     * @param payloadBytes 히트 시 절감된 업로드 바이트 수(통계용)
+     */
+    public Document get(String key, long payloadBytes) {
+        if (!enabled) return null;
+
+        synchronized (index) {
+            if (index.get(key) == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+        }
+
+        try {
+            Document doc = Document.parseFrom(Files.readAllBytes(fileOf(key)));
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(payloadBytes);
+            return doc;
+        } catch (IOException e) {
+            // 동시 eviction 또는 손상된 파일 → 인덱스에서 제거 후 miss 처리
+            log.warn("[OcrResultCache] 캐시 파일 읽기 실패, 항목 제거: {} ({})", key, e.getMessage());
+            remove(key);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장. 임시 파일에 쓴 뒤 원자적으로 이동하여 반쯤 쓰인 파일이 읽히지 않게 한다.
+     */
+    public void put(String key, Document doc) {
+        if (!enabled || doc == null) return;
+
+        byte[] bytes = doc.toByteArray();
+        if (bytes.length > maxBytes) return;
+
+        Path target = fileOf(key);
+        try {
+            Path tmp = Files.createTempFile(root, key, ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[OcrResultCache] 캐시 저장 실패: {} ({})", key, e.getMessage());
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (index) {
+            Long prev = index.put(key, (long) bytes.length);
+            if (prev != null) totalBytes -= prev;
+            totalBytes += bytes.length;
+
+            Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                if (eldest.getKey().equals(key)) continue;
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+
+        for (String k : evicted) {
+            deleteQuietly(fileOf(k));
+            evictions.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        long h = hits.get();
+        long mi = misses.get();
+        m.put("enabled", enabled);
+        m.put("hits", h);
+        m.put("misses", mi);
+        m.put("hitRate", (h + mi) == 0 ? 0.0 : (double) h / (h + mi));
+        m.put("bytesSaved", bytesSaved.get());
+        m.put("evictions", evictions.get());
+        synchronized (index) {
+            m.put("entries", index.size());
+            m.put("diskBytes", totalBytes);
+        }
+        m.put("maxBytes", maxBytes);
+        return m;
+    }
+
+    private void remove(String key) {
+        synchronized (index) {
+            Long size = index.remove(key);
+            if (size != null) totalBytes -= size;
+        }
+        deleteQuietly(fileOf(key));
+    }
+
+    private Path fileOf(String key) {
+        return root.resolve(key + FILE_SUFFIX);
+    }
+
+    // 재기동 시 디스크에 남아있는 캐시 파일을 수정시각 순으로 인덱스에 복원
+    private void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(root)) {
+            for (Path p : ds) {
+                String name = p.getFileName().toString();
+                if (name.endsWith(FILE_SUFFIX)) {
+                    files.add(p);
+                } else if (name.endsWith(".tmp")) {
+                    deleteQuietly(p);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(p -> p.toFile().lastModified()));
+
+        synchronized (index) {
+            for (Path p : files) {
+                String name = p.getFileName().toString();
+                long size = p.toFile().length();
+                index.put(name.substring(0, name.length() - FILE_SUFFIX.length()), size);
+                totalBytes += size;
+            }
+            Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                totalBytes -= eldest.getValue();
+                deleteQuietly(fileOf(eldest.getKey()));
+                it.remove();
+            }
+        }
+    }
+
+    private void deleteQuietly(Path p) {
+        try {
+            Files.deleteIfExists(p);
+        } catch (IOException ignore) {
+        }
+    }
+}
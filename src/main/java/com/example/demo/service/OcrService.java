@@ -1,13 +1,21 @@
 package com.example.demo.service;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
 
 import javax.annotation.PreDestroy;
 
 import org.opencv.core.Mat;
-import org.opencv.core.MatOfInt;
+import org.opencv.core.MatOfByte;
 import org.opencv.imgcodecs.Imgcodecs;
 import org.opencv.imgproc.Imgproc;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,9 +55,26 @@ public class OcrService {
 
     private final DocumentProcessorServiceClient docAiClient;
 
+    private final OcrResultCache ocrResultCache;
+
+    private final JpegTargetEncoder jpegEncoder;
+
+    private final ReceiptRegionDetector receiptRegionDetector;
+
+    private final DocumentAiGuard documentAiGuard;
+
+    private final OcrExecutor ocrExecutor;
+
     @Autowired
-    public OcrService(DocumentProcessorServiceClient docAiClient) {
+    public OcrService(DocumentProcessorServiceClient docAiClient, OcrResultCache ocrResultCache,
+                      JpegTargetEncoder jpegEncoder, ReceiptRegionDetector receiptRegionDetector,
+                      DocumentAiGuard documentAiGuard, OcrExecutor ocrExecutor) {
         this.docAiClient = docAiClient;
+        this.ocrResultCache = ocrResultCache;
+        this.jpegEncoder = jpegEncoder;
+        this.receiptRegionDetector = receiptRegionDetector;
+        this.documentAiGuard = documentAiGuard;
+        this.ocrExecutor = ocrExecutor;
         System.out.println("✅ Google Document AI Client 주입 성공!");
     }
 
@@ -61,26 +86,49 @@ public class OcrService {
      * 추출된 데이터는 후처리 로직(별도 구현 필요)으로 처리해야 합니다.
      */
     public Document processDocument(MultipartFile file) throws IOException {
-        File tempFile = File.createTempFile("docai_input_", ".jpg");
-        file.transferTo(tempFile);
-        return processDocumentFile(tempFile);
+        return processDocumentBytes(file.getBytes());
     }
 
     public Document processDocumentFile(File file) throws IOException {
+        return processDocumentBytes(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * 업로드 바이트를 메모리에서 바로 처리한다.
+     * 디코딩 1회 → Mat 상에서 변환/리사이즈 → 인코딩 1회 후 그대로 요청에 실어 보내며, 임시 파일을 만들지 않는다.
+     */
+    public Document processDocumentBytes(byte[] imageBytes) throws IOException {
+        return processDocumentBytes(imageBytes, null);
+    }
+
+    /**
+     * @param optimizeNanos 이미지 최적화 소요 시간 수신 (파이프라인 단계별 계측용, null 가능)
+     */
+    public Document processDocumentBytes(byte[] imageBytes, LongConsumer optimizeNanos) throws IOException {
     	
-        // 1️⃣ 이미지 크기/용량 최적화 (유지)
+        // 1️⃣ 이미지 크기/용량 최적화
         // OCR 처리량을 늘리고 전송 시간을 줄이는 데 도움이 됩니다.
-    	File optimized = autoOptimizeImage(file);
+        long optimizeStart = System.nanoTime();
+        ByteString content = ByteString.copyFrom(autoOptimizeImage(imageBytes));
+        if (optimizeNanos != null) {
+            optimizeNanos.accept(System.nanoTime() - optimizeStart);
+        }
     	
         // 2️⃣ Google Document AI 요청 생성
         // 이 요청은 이제 구조화된 데이터 추출(Expense Parser)이 아닌
         // 문서 내 모든 텍스트를 인식하는 (일반 OCR) 기능을 수행합니다.
         String name = String.format("projects/%s/locations/%s/processors/%s",
                 projectId, location, processorId);
-        
-        ByteString content;
-        try (FileInputStream inputStream = new FileInputStream(optimized)) {
-            content = ByteString.readFrom(inputStream);
+
+        // 동일 이미지 재업로드(타임아웃 재시도, sale_id 재업로드)는 캐시된 결과로 Document AI 호출 생략
+        String cacheKey = null;
+        if (ocrResultCache.isEnabled()) {
+            cacheKey = ocrResultCache.keyOf(name, content);
+            Document cached = ocrResultCache.get(cacheKey, content.size());
+            if (cached != null) {
+                System.out.println("♻️ OCR 캐시 적중: " + cacheKey);
+                return cached;
+            }
         }
     	
         RawDocument rawDocument = RawDocument.newBuilder()
@@ -94,88 +142,135 @@ public class OcrService {
                 .setRawDocument(rawDocument)
                 .build();
         
-        // 3️⃣ Document AI 호출
+        // 3️⃣ Document AI 호출 (서킷 브레이커/헤징 경유 — 차단 중이면 즉시 예외 → 컨트롤러 fallback 저장)
         // 반환되는 Document 객체는 텍스트(document.getText())와 레이아웃 정보만 포함합니다.
-        ProcessResponse response = docAiClient.processDocument(request);
-        
-        return response.getDocument();
+        ProcessResponse response = documentAiGuard.process(docAiClient, request);
+
+        Document document = response.getDocument();
+        if (cacheKey != null) {
+            ocrResultCache.put(cacheKey, document);
+        }
+        return document;
         
         // Expense Parser를 사용했다면 여기서 
         // document.getEntitiesList() 등을 사용하여 구조화된 영수증 항목을 추출합니다.
         // 현재는 이 엔티티 추출 로직이 비활성화되었으므로, 별도의 후처리 로직을 추가해야 합니다.
     }
 
-    // ===============================
-    // 이미지 자동 최적화 (유지)
-    // ===============================
-    private File autoOptimizeImage(File file) throws IOException {
-        // ... (내용 변화 없음 - OpenCV 로직)
-        Mat src = Imgcodecs.imread(file.getAbsolutePath(), Imgcodecs.IMREAD_UNCHANGED);
-        if (src.empty()) {
-            System.err.println("⚠️ 이미지 로드 실패: " + file.getName());
-            return file;
-        }
-
-        // PNG → BGR 변환 (투명 채널 제거)
-        if (src.channels() == 4) {
-            Imgproc.cvtColor(src, src, Imgproc.COLOR_BGRA2BGR);
+    /**
+     * 여러 장(최대 3장) 영수증: 장마다 공용 OCR 실행기에서 동시에 OCR 후 하나의 Document 로 병합한다.
+     * 장별로 전처리(크롭/인코딩)와 OCR 캐시가 그대로 적용되고, 전체 소요 시간은 가장 느린 1장 수준.
+     * - 첫 장은 필수: 실패/시간 초과 시 예외 (호출부 fallback 저장)
+     * - 2장 이후는 부가 정보: 실패/시간 초과/대기열 포화 시 해당 장만 빼고 병합
+     * 호출 스레드에서 대기하므로 OCR 실행기 작업 안에서 호출하지 않는다.
+     *
+     * @param timeoutMs     전체 장 대기 한도 (0 이하 = 제한 없음)
+     * @param optimizeNanos 장별 이미지 최적화 소요 시간 수신 (OCR 실행기 스레드에서 호출됨, null 가능)
+     */
+    public Document processDocumentPages(List<byte[]> pages, long timeoutMs, LongConsumer optimizeNanos) throws Exception {
+        if (pages.size() == 1) {
+            return await(ocrExecutor.submit(() -> processDocumentBytes(pages.get(0), optimizeNanos)), timeoutMs);
         }
 
-        int width = src.width();
-        int height = src.height();
-        long beforeSize = file.length();
-
-        System.out.printf("🖼️ 원본 이미지: %dx%d (%.2f MB)%n", width, height, beforeSize / 1024.0 / 1024.0);
+        long deadline = timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : Long.MAX_VALUE;
+        List<Future<Document>> futures = new ArrayList<>(pages.size());
+        try {
+            for (int i = 0; i < pages.size(); i++) {
+                byte[] page = pages.get(i);
+                try {
+                    futures.add(ocrExecutor.submit(() -> processDocumentBytes(page, optimizeNanos)));
+                } catch (RejectedExecutionException e) {
+                    if (i == 0) throw e;
+                    System.err.println("⚠️ OCR 대기열 포화 → " + (i + 1) + "번째 장 제외");
+                    futures.add(null);
+                }
+            }
 
-        // 📏 1단계: 해상도 1800px 이하로 강제 축소
-        if (width > 1800 || height > 1800) {
-            file = resizeImage(file, 1800, 1800);
+            List<Document> docs = new ArrayList<>(pages.size());
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Document> f = futures.get(i);
+                if (f == null) continue;
+                long remaining = timeoutMs > 0 ? Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) : 0;
+                try {
+                    docs.add(await(f, remaining));
+                } catch (Exception e) {
+                    if (i == 0) throw e;
+                    System.err.println("⚠️ " + (i + 1) + "번째 장 OCR 실패 → 제외: " + e.getMessage());
+                }
+            }
+            System.out.println("📄 다중 장 OCR 병합: " + docs.size() + "/" + pages.size() + "장");
+            return OcrDocumentMerger.merge(docs);
+        } finally {
+            for (Future<Document> f : futures) {
+                if (f != null) f.cancel(true); // 완료된 작업에는 영향 없음, 시간 초과분만 중단
+            }
         }
+    }
 
-        // 📦 2단계: 5MB 이하로 자동 축소 루프
-        File optimized = file;
-        int pass = 1;
-        while (optimized.length() > 5_000_000) {
-            System.out.printf("⚠️ [%d차] 용량 초과 (%.2f MB) → 추가 축소 중...%n",
-                    pass++, optimized.length() / 1024.0 / 1024.0);
-            optimized = resizeImage(optimized, 1600, 1600);
+    private static Document await(Future<Document> f, long timeoutMs) throws Exception {
+        try {
+            return timeoutMs > 0 ? f.get(timeoutMs, TimeUnit.MILLISECONDS) : f.get();
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
         }
-
-        System.out.printf("✅ 최종 이미지: %.2f MB%n", optimized.length() / 1024.0 / 1024.0);
-        return optimized;
     }
 
     // ===============================
-    // 이미지 리사이즈 + 압축 (유지)
+    // 이미지 자동 최적화 (메모리 내 처리)
     // ===============================
-    public File resizeImage(File inputFile, int maxWidth, int maxHeight) throws IOException {
-        // ... (내용 변화 없음 - OpenCV 로직)
-        Mat src = Imgcodecs.imread(inputFile.getAbsolutePath(), Imgcodecs.IMREAD_COLOR);
-        if (src.empty()) return inputFile;
+    private byte[] autoOptimizeImage(byte[] imageBytes) {
+        Mat src = Imgcodecs.imdecode(new MatOfByte(imageBytes), Imgcodecs.IMREAD_UNCHANGED);
+        if (src.empty()) {
+            System.err.println("⚠️ 이미지 디코딩 실패 → 원본 그대로 전송");
+            return imageBytes;
+        }
 
-        int width = src.width();
-        int height = src.height();
+        try {
+            int width = src.width();
+            int height = src.height();
+            System.out.printf("🖼️ 원본 이미지: %dx%d (%.2f MB)%n", width, height, imageBytes.length / 1024.0 / 1024.0);
 
-        double scale = Math.min((double) maxWidth / width, (double) maxHeight / height);
-        if (scale >= 1.0) return inputFile; // 줄일 필요 없음
+            // PNG → BGR 변환 (투명 채널 제거), 그레이스케일은 JPEG 인코딩 가능하므로 그대로 둔다
+            if (src.channels() == 4) {
+                Imgproc.cvtColor(src, src, Imgproc.COLOR_BGRA2BGR);
+            }
 
-        int newW = (int) (width * scale);
-        int newH = (int) (height * scale);
+            // ✂️ 영수증 영역 검출 + 원근 보정 (배경 제거)
+            Mat img = receiptRegionDetector.detectAndCrop(src);
+            boolean cropped = img != src;
 
-        Mat resized = new Mat();
-        Imgproc.resize(src, resized, new org.opencv.core.Size(newW, newH));
+            // 크롭하지 않았고, 이미 JPEG이며 크기/용량 기준 이내라면 재인코딩 없이 원본 전송 (불필요한 화질 손실/CPU 방지)
+            if (!cropped && !jpegEncoder.isGrayscale() && isJpeg(imageBytes)
+                    && Math.max(width, height) <= jpegEncoder.getMaxEdge()
+                    && imageBytes.length <= jpegEncoder.getMaxBytes()) {
+                System.out.println("✅ 최적화 불필요 → 원본 전송");
+                return imageBytes;
+            }
 
-        File resizedFile = File.createTempFile("resized_", ".jpg");
-        Imgcodecs.imwrite(resizedFile.getAbsolutePath(), resized,
-                new MatOfInt(Imgcodecs.IMWRITE_JPEG_QUALITY, 70)); // ✅ 압축률 70 적용
+            // 📦 용량 상한 이내 최고 품질로 1회 인코딩 (품질 이진 탐색 → 필요 시에만 해상도 축소)
+            JpegTargetEncoder.Result encoded;
+            try {
+                encoded = jpegEncoder.encode(img);
+            } finally {
+                if (cropped) img.release();
+            }
+            System.out.println("✅ 최종 이미지: " + encoded);
+            return encoded.bytes;
+        } finally {
+            src.release();
+        }
+    }
 
-        System.out.printf("📏 리사이즈 완료 → %dx%d (%.2f MB)%n",
-                newW, newH, resizedFile.length() / 1024.0 / 1024.0);
-        return resizedFile;
+    private static boolean isJpeg(byte[] b) {
+        return b.length > 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF;
     }
 
     // ===============================
-    // 클라이언트 및 임시파일 정리 (유지)
+    // 클라이언트 정리
     // ===============================
     @PreDestroy
     public void closeClients() {
@@ -184,13 +279,6 @@ public class OcrService {
             System.out.println("🧹 Document AI 클라이언트 종료 완료");
         }
 
-        // 임시 파일 정리
-        File tmpDir = new File(System.getProperty("java.io.tmpdir"));
-        File[] files = tmpDir.listFiles((dir, name) ->
-                name.startsWith("resized_") || name.startsWith("docai_input_"));
-        if (files != null) {
-            for (File f : files) f.delete();
-            System.out.println("🧽 임시 파일 정리 완료");
-        }
+        // 이전 버전이 남긴 임시 파일(resized_/docai_input_)은 TempFileSweepScheduler가 주기적으로 정리
     }
 }
@@ -0,0 +1,221 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.classify.CardReceiptClassifier.Classified;
+import com.example.demo.model.CardReceiptType;
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.CardReceiptParserFactory;
+import com.example.demo.parser.ReceiptResultScorer;
+import com.example.demo.parser.ReceiptText;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 분류 confidence 가 낮은 영수증에 대해 상위 N개 후보 파서를 동시에 실행하고
+ * ReceiptResultScorer 점수가 가장 높은 결과를 고른다. (기한 내 끝난 결과만 비교)
+ * 파싱은 CPU 작업이고 OCR 결과를 공유하므로 추가 지연은 가장 느린 후보 파서 수준이다.
+ * 파이프라인 PARSE 단계(CardReceiptParseService.parse)에서 호출된다.
+ * - 기한: min(ocr.parse.race.deadline-ms, 스펙 파싱 타임아웃). 기한을 넘긴 후보는 cancel(true) 로 인터럽트
+ * - 파싱 타임아웃으로 호출 스레드가 인터럽트되면 남은 후보를 모두 취소
+ * - 파싱 타임아웃이 0인 스펙(/card-receipt/parse)은 race.deadline-ms 만 적용
+ * 호출 스레드가 ocrExecutor 워커일 수 있으므로 후보 파서는 별도 소형 풀에서 실행한다 (같은 풀에 넣으면 교착 위험).
+ */
+@Component
+public class ParserRace {
+
+    private static final Logger log = LoggerFactory.getLogger(ParserRace.class);
+
+    @Value("${ocr.parse.race.enabled:true}")
+    private boolean enabled;
+
+    // 분류 confidence 가 이 값 이하일 때만 경쟁 실행
+    @Value("${ocr.parse.race.max-confidence:0.60}")
+    private double maxConfidence;
+
+    @Value("${ocr.parse.race.candidates:3}")
+    private int candidates;
+
+    @Value("${ocr.parse.race.deadline-ms:3000}")
+    private long deadlineMillis;
+
+    @Value("${ocr.parse.race.pool-size:0}")
+    private int poolSize;
+
+    private final CardReceiptParserFactory factory;
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong races = new AtomicLong();
+    private final AtomicLong overridden = new AtomicLong();
+    private final AtomicLong deadlineMisses = new AtomicLong();
+    private final Map<String, AtomicLong> wins = new HashMap<>();
+
+    /**
+     * 경쟁 결과
+     */
+    public static class Outcome {
+        public final CardReceiptType type;
+        public final BaseReceiptParser.ReceiptResult result;
+        public final int score;
+        public final Map<String, Integer> scores;
+
+        Outcome(CardReceiptType type, BaseReceiptParser.ReceiptResult result, int score, Map<String, Integer> scores) {
+            this.type = type;
+            this.result = result;
+            this.score = score;
+            this.scores = scores;
+        }
+    }
+
+    public ParserRace(CardReceiptParserFactory factory) {
+        this.factory = factory;
+    }
+
+    @PostConstruct
+    public void init() {
+        int size = poolSize > 0 ? poolSize : Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        // 풀/대기열이 차면 호출 스레드에서 직접 실행 (경쟁 자체는 포기하지 않음)
+        executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(size * 8),
+                r -> {
+                    Thread t = new Thread(r, "parse-race-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 경쟁 풀에서 파서 작업 실행 (본사 채널 1·2위 동시 파싱 등).
+     * 기한 초과 시 호출측이 cancel(true) 하면 파싱 스레드가 인터럽트된다.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    public boolean shouldRace(Classified c) {
+        return enabled && candidates > 1 && c != null && c.confidence <= maxConfidence;
+    }
+
+    /**
+     * 분류 점수 상위 후보 파서를 동시에 실행하고 최고 점수 결과를 돌려준다.
+     * budgetMillis 가 0보다 크면 경쟁 기한을 그 안으로 줄인다. (스펙 파싱 타임아웃)
+     * 후보가 1개뿐이거나 기한 내 끝난 후보가 없으면 null
+     */
+    public Outcome race(Classified c, ReceiptText rt, long budgetMillis) {
+        List<CardReceiptType> types = candidateTypes(c);
+        if (types.size() < 2) return null; // 비교할 후보 없음 → 호출측 단일 파싱
+        races.incrementAndGet();
+
+        Map<CardReceiptType, Future<BaseReceiptParser.ReceiptResult>> futures = new LinkedHashMap<>();
+        for (CardReceiptType t : types) {
+            futures.put(t, executor.submit(() -> factory.parse(t, rt)));
+        }
+
+        long limitMillis = budgetMillis > 0 ? Math.min(deadlineMillis, budgetMillis) : deadlineMillis;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(limitMillis);
+        CardReceiptType bestType = null;
+        BaseReceiptParser.ReceiptResult best = null;
+        int bestScore = Integer.MIN_VALUE;
+        Map<String, Integer> scores = new LinkedHashMap<>();
+
+        // 후보 순서(분류 점수 순)대로 수집 → 동점이면 분류 1순위 유지
+        for (Map.Entry<CardReceiptType, Future<BaseReceiptParser.ReceiptResult>> e : futures.entrySet()) {
+            BaseReceiptParser.ReceiptResult r;
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                r = e.getValue().get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException te) {
+                e.getValue().cancel(true);
+                deadlineMisses.incrementAndGet();
+                log.warn("[ParserRace] {} 기한({}ms) 초과", e.getKey(), limitMillis);
+                continue;
+            } catch (InterruptedException ie) {
+                futures.values().forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException ee) {
+                log.warn("[ParserRace] {} 파서 실패: {}", e.getKey(), ee.getCause() != null ? ee.getCause().getMessage() : ee);
+                continue;
+            }
+            int s = ReceiptResultScorer.score(r);
+            scores.put(e.getKey().name(), s);
+            if (s > bestScore) {
+                bestScore = s;
+                best = r;
+                bestType = e.getKey();
+            }
+        }
+
+        if (best == null) return null;
+        if (bestType != types.get(0)) overridden.incrementAndGet();
+        synchronized (wins) {
+            wins.computeIfAbsent(bestType.name(), k -> new AtomicLong()).incrementAndGet();
+        }
+        log.info("[ParserRace] 후보 {} → {} 선택 (scores={})", types, bestType, scores);
+        return new Outcome(bestType, best, bestScore, scores);
+    }
+
+    // 분류 점수 상위 N개, 같은 파서를 쓰는 타입(COUPANG_APP/COUPANG_CARD 등)은 하나만
+    private List<CardReceiptType> candidateTypes(Classified c) {
+        List<Map.Entry<CardReceiptType, Integer>> ranked = new ArrayList<>();
+        if (c.scores != null) ranked.addAll(c.scores.entrySet());
+        ranked.sort(Map.Entry.<CardReceiptType, Integer>comparingByValue(Comparator.reverseOrder()));
+
+        List<CardReceiptType> out = new ArrayList<>();
+        Map<BaseReceiptParser, Boolean> seen = new IdentityHashMap<>();
+        add(out, seen, c.type);
+        for (Map.Entry<CardReceiptType, Integer> e : ranked) {
+            if (out.size() >= candidates) break;
+            if (e.getValue() <= 0) break;
+            add(out, seen, e.getKey());
+        }
+        // 신호가 하나뿐이면 범용 전표 파서와 비교
+        if (out.size() < candidates) add(out, seen, CardReceiptType.CARD_SLIP_GENERIC);
+        return out;
+    }
+
+    private void add(List<CardReceiptType> out, Map<BaseReceiptParser, Boolean> seen, CardReceiptType t) {
+        if (seen.putIfAbsent(factory.get(t), Boolean.TRUE) == null) out.add(t);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        m.put("enabled", enabled);
+        m.put("maxConfidence", maxConfidence);
+        m.put("races", races.get());
+        m.put("overridden", overridden.get());
+        m.put("deadlineMisses", deadlineMisses.get());
+        Map<String, Long> w = new LinkedHashMap<>();
+        synchronized (wins) {
+            wins.forEach((k, v) -> w.put(k, v.get()));
+        }
+        m.put("wins", w);
+        return m;
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.demo.service;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.demo.mapper.ReceiptIdempotencyMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 영수증 업로드 멱등 처리 (tb_receipt_idempotency)
+ * 모바일 클라이언트가 응답을 못 받고 같은 업로드를 재시도하면 OCR 이 다시 돌고 새 sale_id 로 결제 행이 한 번 더 생긴다.
+ * Idempotency-Key 가 있는 요청은 키를 먼저 선점하고, 같은 키의 재시도에는 첫 응답을 그대로 돌려준다.
+ * - 처리 중 재시도 : 첫 요청이 끝날 때까지 잠시 대기 후 그 응답 재전송 (대기 한도 초과 시 409)
+ * - 같은 키 + 다른 파일 : 422 (업로드 파일 SHA-256 비교)
+ * - 5xx/예외 : 선점을 풀어 재시도가 다시 처리되도록 한다. (2xx/4xx 만 보관)
+ * - 중단된 선점(서버 재기동 등)은 running-timeout 후 다음 재시도가 가져간다.
+ * - 키 테이블 장애 시에는 멱등 처리 없이 그대로 처리한다. (업로드 자체를 막지 않음)
+ */
+@Service
+public class ReceiptIdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptIdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final long POLL_INTERVAL_MS = 250;
+
+    private final ReceiptIdempotencyMapper idempotencyMapper;
+    // 응답 본문은 HTTP 응답과 같은 직렬화(Spring MVC ObjectMapper)로 보관해야 재전송 결과가 동일하다.
+    private final ObjectMapper objectMapper;
+
+    @Value("${ocr.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ocr.idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${ocr.idempotency.running-timeout-seconds:120}")
+    private long runningTimeoutSeconds;
+
+    @Value("${ocr.idempotency.wait-ms:15000}")
+    private long waitMs;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong mismatches = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public ReceiptIdempotencyService(ReceiptIdempotencyMapper idempotencyMapper, ObjectMapper objectMapper) {
+        this.idempotencyMapper = idempotencyMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 키가 없으면 action 을 그대로 실행. 키가 있으면 선점 → 실행 → 응답 보관, 이미 처리된 키면 보관 응답 재전송.
+     *
+     * @param endpoint 키 범위 (엔드포인트별로 같은 키를 따로 관리)
+     * @param files    같은 키로 다른 파일이 오는지 확인하는 지문 대상
+     */
+    public ResponseEntity<?> execute(String endpoint, String key, List<MultipartFile> files,
+            Supplier<ResponseEntity<?>> action) {
+        if (!enabled || key == null || key.isBlank()) {
+            return action.get();
+        }
+        key = key.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            return error(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Map<String, Object> param = new HashMap<>();
+        param.put("endpoint", endpoint);
+        param.put("idem_key", key);
+
+        String fingerprint;
+        boolean claimed;
+        try {
+            fingerprint = fingerprint(files);
+            param.put("fingerprint", fingerprint);
+            param.put("running_timeout_seconds", runningTimeoutSeconds);
+            idempotencyMapper.ReceiptIdempotencyExpire(param);
+            claimed = idempotencyMapper.ReceiptIdempotencyClaim(param) > 0;
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            log.warn("[ReceiptIdempotency] 키 확인 실패, 멱등 처리 없이 진행 endpoint={} key={} ({})",
+                    endpoint, key, e.getMessage());
+            return action.get();
+        }
+        if (!claimed) {
+            return replay(param, fingerprint);
+        }
+
+        executed.incrementAndGet();
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(param);
+            throw e;
+        }
+        finish(param, response);
+        return response;
+    }
+
+    /**
+     * 이미 선점된 키: 지문 확인 후 완료 응답 재전송, 처리 중이면 완료까지 대기
+     */
+    private ResponseEntity<?> replay(Map<String, Object> param, String fingerprint) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        try {
+            while (true) {
+                Map<String, Object> row = idempotencyMapper.ReceiptIdempotencyInfo(param);
+                if (row == null) {
+                    // 첫 요청이 실패해 선점이 풀림 → 이번 요청은 409, 클라이언트 재시도가 새로 처리
+                    break;
+                }
+                if (!fingerprint.equals(String.valueOf(row.get("fingerprint")))) {
+                    mismatches.incrementAndGet();
+                    return error(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 파일이 전송되었습니다.");
+                }
+                if ("DONE".equals(row.get("status"))) {
+                    replayed.incrementAndGet();
+                    Object contentType = row.get("content_type");
+                    return ResponseEntity.status(((Number) row.get("http_status")).intValue())
+                            .header("Idempotent-Replayed", "true")
+                            .contentType(contentType == null ? MediaType.APPLICATION_JSON
+                                    : MediaType.parseMediaType(String.valueOf(contentType)))
+                            .body(row.get("response") == null ? "" : String.valueOf(row.get("response")));
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    break;
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 조회 실패 시 중복 처리 대신 재시도 유도
+            errors.incrementAndGet();
+            log.warn("[ReceiptIdempotency] 선점 키 조회 실패 key={} ({})", param.get("idem_key"), e.getMessage());
+        }
+        conflicts.incrementAndGet();
+        Map<String, Object> body = new HashMap<>();
+        body.put("code", 409);
+        body.put("message", "같은 Idempotency-Key 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).header("Retry-After", "2").body(body);
+    }
+
+    private void finish(Map<String, Object> param, ResponseEntity<?> response) {
+        int status = response.getStatusCode().value();
+        if (status >= 500) {
+            release(param);
+            return;
+        }
+        try {
+            Object body = response.getBody();
+            boolean text = body instanceof String;
+            param.put("http_status", status);
+            param.put("content_type", text ? MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8" : MediaType.APPLICATION_JSON_VALUE);
+            param.put("response", body == null ? null : text ? (String) body : objectMapper.writeValueAsString(body));
+            param.put("ttl_minutes", ttlMinutes);
+            idempotencyMapper.ReceiptIdempotencyFinish(param);
+        } catch (Exception e) {
+            // 응답은 이미 만들어졌으므로 보관 실패만 기록 (선점은 running-timeout 후 만료)
+            errors.incrementAndGet();
+            log.warn("[ReceiptIdempotency] 응답 보관 실패 key={} ({})", param.get("idem_key"), e.getMessage());
+        }
+    }
+
+    private void release(Map<String, Object> param) {
+        try {
+            idempotencyMapper.ReceiptIdempotencyRelease(param);
+            released.incrementAndGet();
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            log.warn("[ReceiptIdempotency] 선점 해제 실패 key={} ({})", param.get("idem_key"), e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 키 정리 (스케줄러)
+     */
+    public int sweep() {
+        if (!enabled) return 0;
+        Map<String, Object> param = new HashMap<>();
+        param.put("limit", 1000);
+        return idempotencyMapper.ReceiptIdempotencySweep(param);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        m.put("enabled", enabled);
+        m.put("executed", executed.get());
+        m.put("replayed", replayed.get());
+        m.put("conflicts", conflicts.get());
+        m.put("mismatches", mismatches.get());
+        m.put("released", released.get());
+        m.put("errors", errors.get());
+        return m;
+    }
+
+    private static String fingerprint(List<MultipartFile> files) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] buf = new byte[64 * 1024];
+        for (MultipartFile f : files) {
+            try (InputStream in = f.getInputStream()) {
+                int n;
+                while ((n = in.read(buf)) > 0) {
+                    digest.update(buf, 0, n);
+                }
+            }
+            digest.update((byte) 0); // 장 경계
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static ResponseEntity<?> error(HttpStatus status, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("code", status.value());
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.demo.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.parser.ReceiptText;
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * 영수증 스캔 공통 파이프라인 (모든 스캔 컨트롤러 공유)
+ * 단계: INGEST(업로드 읽기) → OPTIMIZE(이미지 최적화) → OCR → CLASSIFY(영수증 타입) → PARSE → ENRICH(저장 payload) → PERSIST(DB)
+ * - 버전(엔드포인트)별 차이는 Spec(장 수, 단계 타임아웃, 타입 판정, 파서 경로)으로만 표현한다.
+ * - OCR/PARSE 는 공용 OCR 실행기에서 수행하고 (PARSE 는 제한 시간이 있을 때만), 실패/시간 초과는 예외 대신 Run.status 로 돌려준다. (호출부 fallback 저장)
+ * - ENRICH/PERSIST 는 컨트롤러별 저장 로직이 그대로 수행하고 Run.enter()/end() 로 구간만 계측한다.
+ * - 단계별 소요 시간은 구간이 닫힐 때마다 Spec 별로 집계해서 /ocr/stats 의 pipeline 으로 노출한다.
+ *   (OPTIMIZE 는 장별 1건씩, OCR 은 최적화를 포함한 벽시계 시간)
+ */
+@Service
+public class ReceiptIngestPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptIngestPipeline.class);
+
+    public enum Stage { INGEST, OPTIMIZE, OCR, CLASSIFY, PARSE, ENRICH, PERSIST }
+
+    public enum Status { PARSED, OCR_TIMEOUT, OCR_FAILED, PARSE_TIMEOUT, PARSE_FAILED }
+
+    /**
+     * OCR 결과 → 파서 경로/타입 판정 (요청 타입이 있으면 보통 그대로 사용)
+     */
+    @FunctionalInterface
+    public interface Classifier {
+        Typing classify(ReceiptText rt, String requestedType) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Parser {
+        BaseReceiptParser.ReceiptResult parse(ReceiptText rt, Typing typing) throws Exception;
+    }
+
+    /**
+     * 타입 판정 결과
+     * - parserType : 파서에 넘기는 타입 (Document 보관/재파싱 기준)
+     * - label      : 저장 행(receipt_type)에 기록하는 타입
+     */
+    public static final class Typing {
+        // 파서가 PARSE 단계에서 다른 파서 타입을 골랐을 때(후보 파서 경쟁) 결과 extra 에 남기는 키 → 파이프라인이 판정 결과를 갱신
+        public static final String PARSED_TYPE_KEY = "__parsed_type";
+
+        public final ReceiptParserRegistry.Route route;
+        public final String parserType;
+        public final String label;
+        public final double confidence;
+        final Object detail; // 경로별 파서가 쓰는 판정 부가정보 (카드 분류 점수 등)
+
+        public Typing(ReceiptParserRegistry.Route route, String parserType, String label, double confidence, Object detail) {
+            this.route = route;
+            this.parserType = parserType;
+            this.label = label;
+            this.confidence = confidence;
+            this.detail = detail;
+        }
+
+        public static Typing of(ReceiptParserRegistry.Route route, String type) {
+            return new Typing(route, type, type, 1.0, null);
+        }
+
+        Typing withParserType(String type) {
+            return new Typing(route, type, type, confidence, null);
+        }
+    }
+
+    /**
+     * 엔드포인트별 파이프라인 설정
+     */
+    public static final class Spec {
+        final String name;
+        final int maxPages;
+        final long ocrTimeoutMs;
+        final long parseTimeoutMs;
+        final Classifier classifier;
+        final Parser parser;
+
+        private Spec(Builder b) {
+            this.name = b.name;
+            this.maxPages = b.maxPages;
+            this.ocrTimeoutMs = b.ocrTimeoutMs;
+            this.parseTimeoutMs = b.parseTimeoutMs;
+            this.classifier = b.classifier;
+            this.parser = b.parser;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public static Builder builder(String name) {
+            return new Builder(name);
+        }
+
+        public static final class Builder {
+            private final String name;
+            private int maxPages = 1;
+            private long ocrTimeoutMs = 10_000;
+            private long parseTimeoutMs = 10_000;
+            private Classifier classifier;
+            private Parser parser;
+
+            private Builder(String name) {
+                this.name = name;
+            }
+
+            /** OCR 대상 장 수 (여러 장이면 장별 동시 OCR 후 병합, 나머지 장은 이미지로만 저장) */
+            public Builder maxPages(int maxPages) {
+                this.maxPages = maxPages;
+                return this;
+            }
+
+            /** 0 이하 = 제한 없음 */
+            public Builder ocrTimeoutMs(long ms) {
+                this.ocrTimeoutMs = ms;
+                return this;
+            }
+
+            /** 0 이하 = 제한 없음 */
+            public Builder parseTimeoutMs(long ms) {
+                this.parseTimeoutMs = ms;
+                return this;
+            }
+
+            public Builder classifier(Classifier classifier) {
+                this.classifier = classifier;
+                return this;
+            }
+
+            public Builder parser(Parser parser) {
+                this.parser = parser;
+                return this;
+            }
+
+            public Spec build() {
+                if (classifier == null || parser == null) {
+                    throw new IllegalStateException("파이프라인 설정 누락: " + name);
+                }
+                return new Spec(this);
+            }
+        }
+    }
+
+    /**
+     * 요청 1건 실행 상태 (단계 구간 계측 + 결과)
+     */
+    public final class Run {
+        private final Spec spec;
+        private Stage current;
+        private long stageStart;
+
+        public Status status;
+        public Document document;
+        public Typing typing;
+        public BaseReceiptParser.ReceiptResult result;
+        public Exception error;
+
+        private Run(Spec spec) {
+            this.spec = spec;
+        }
+
+        public boolean parsed() {
+            return status == Status.PARSED;
+        }
+
+        /**
+         * 현재 구간을 닫고 다음 단계 구간 시작 (컨트롤러의 ENRICH/PERSIST 계측용)
+         */
+        public void enter(Stage stage) {
+            long now = System.nanoTime();
+            close(now);
+            current = stage;
+            stageStart = now;
+        }
+
+        /**
+         * 마지막 구간을 닫는다. (저장 구간은 예외가 나도 집계되도록 finally 에서 호출)
+         */
+        public void end() {
+            close(System.nanoTime());
+        }
+
+        private void close(long now) {
+            if (current != null) {
+                recordStage(spec, current, now - stageStart);
+                current = null;
+            }
+        }
+    }
+
+    private final OcrService ocrService;
+    private final OcrExecutor ocrExecutor;
+
+    private final Map<String, SpecStats> stats = new ConcurrentHashMap<>();
+
+    public ReceiptIngestPipeline(OcrService ocrService, OcrExecutor ocrExecutor) {
+        this.ocrService = ocrService;
+        this.ocrExecutor = ocrExecutor;
+    }
+
+    /**
+     * 업로드 파일 → OCR → 타입 판정 → 파싱. 실패해도 예외 대신 status 로 돌려준다.
+     * 파싱까지 끝나면 ENRICH 구간이 열린 상태로 반환되며, 호출부가 enter(PERSIST) → 저장 → end() 로 이어간다.
+     * (실패 시에는 구간을 모두 닫은 상태)
+     */
+    public Run run(Spec spec, List<MultipartFile> uploads, String requestedType) {
+        Run run = new Run(spec);
+        run.enter(Stage.INGEST);
+        List<byte[]> pages = new ArrayList<>();
+        try {
+            for (MultipartFile f : uploads) {
+                if (pages.size() >= spec.maxPages) break;
+                pages.add(f.getBytes());
+            }
+        } catch (Exception e) {
+            return fail(run, Status.OCR_FAILED, e);
+        }
+        return process(run, pages, requestedType);
+    }
+
+    /**
+     * 디스크에 저장된 이미지(스테이징/업로드 보관본) 기준 실행
+     */
+    public Run runFiles(Spec spec, List<Path> files, String requestedType) {
+        Run run = new Run(spec);
+        run.enter(Stage.INGEST);
+        List<byte[]> pages = new ArrayList<>();
+        try {
+            for (Path p : files) {
+                if (pages.size() >= spec.maxPages) break;
+                pages.add(Files.readAllBytes(p));
+            }
+        } catch (Exception e) {
+            return fail(run, Status.OCR_FAILED, e);
+        }
+        return process(run, pages, requestedType);
+    }
+
+    private Run process(Run run, List<byte[]> pages, String requestedType) {
+        Spec spec = run.spec;
+
+        run.enter(Stage.OCR);
+        try {
+            run.document = ocrService.processDocumentPages(pages, spec.ocrTimeoutMs,
+                    n -> recordStage(spec, Stage.OPTIMIZE, n));
+        } catch (TimeoutException e) {
+            return fail(run, Status.OCR_TIMEOUT, e);
+        } catch (Exception e) {
+            return fail(run, Status.OCR_FAILED, e);
+        }
+
+        run.enter(Stage.CLASSIFY);
+        // 텍스트 분석은 1회만 수행하고 판정/파싱이 공유
+        ReceiptText rt = ReceiptText.of(run.document);
+        try {
+            run.typing = spec.classifier.classify(rt, requestedType);
+        } catch (Exception e) {
+            return fail(run, Status.PARSE_FAILED, e);
+        }
+
+        run.enter(Stage.PARSE);
+        Typing typing = run.typing;
+        if (spec.parseTimeoutMs <= 0) {
+            // 제한 없음 → 호출 스레드에서 바로 파싱 (작업 워커/요청 스레드가 이미 전용이므로 실행기 경유 불필요)
+            try {
+                run.result = spec.parser.parse(rt, typing);
+            } catch (Exception e) {
+                return fail(run, Status.PARSE_FAILED, e);
+            }
+        } else {
+            Future<BaseReceiptParser.ReceiptResult> parseFuture;
+            try {
+                parseFuture = ocrExecutor.submit(() -> spec.parser.parse(rt, typing));
+            } catch (Exception e) {
+                return fail(run, Status.PARSE_FAILED, e);
+            }
+            try {
+                run.result = parseFuture.get(spec.parseTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                parseFuture.cancel(true); // 인터럽트 시도 (정규식 매칭은 인터럽트 시 중단)
+                return fail(run, Status.PARSE_TIMEOUT, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                return fail(run, Status.PARSE_FAILED, cause instanceof Exception ? (Exception) cause : e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                parseFuture.cancel(true);
+                return fail(run, Status.PARSE_FAILED, e);
+            }
+        }
+
+        Object parsedType = run.result != null && run.result.extra != null
+                ? run.result.extra.remove(Typing.PARSED_TYPE_KEY) : null;
+        if (parsedType != null) {
+            run.typing = typing.withParserType(String.valueOf(parsedType));
+        }
+
+        run.enter(Stage.ENRICH);
+        run.status = Status.PARSED;
+        recordStatus(spec, Status.PARSED);
+        return run;
+    }
+
+    private Run fail(Run run, Status status, Exception e) {
+        run.end();
+        run.status = status;
+        run.error = e;
+        recordStatus(run.spec, status);
+        log.warn("[ReceiptIngestPipeline] {} {} ({})", run.spec.name, status, e.getMessage());
+        return run;
+    }
+
+    // ---------------- 집계 ----------------
+
+    private static final class StageStats {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long n) {
+            count.increment();
+            totalNanos.add(n);
+            maxNanos.accumulateAndGet(n, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long c = count.sum();
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", c);
+            m.put("avgMs", c == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / c);
+            m.put("maxMs", maxNanos.get() / 1_000_000.0);
+            return m;
+        }
+    }
+
+    private static final class SpecStats {
+        final Map<Status, LongAdder> statuses = new EnumMap<>(Status.class);
+        final Map<Stage, StageStats> stages = new EnumMap<>(Stage.class);
+
+        SpecStats() {
+            for (Status s : Status.values()) statuses.put(s, new LongAdder());
+            for (Stage s : Stage.values()) stages.put(s, new StageStats());
+        }
+    }
+
+    private SpecStats statsOf(Spec spec) {
+        return stats.computeIfAbsent(spec.name, k -> new SpecStats());
+    }
+
+    private void recordStatus(Spec spec, Status status) {
+        statsOf(spec).statuses.get(status).increment();
+    }
+
+    private void recordStage(Spec spec, Stage stage, long nanos) {
+        statsOf(spec).stages.get(stage).add(nanos);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        for (Map.Entry<String, SpecStats> e : stats.entrySet()) {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            for (Map.Entry<Status, LongAdder> st : e.getValue().statuses.entrySet()) {
+                statuses.put(st.getKey().name(), st.getValue().sum());
+            }
+            Map<String, Object> stages = new LinkedHashMap<>();
+            for (Map.Entry<Stage, StageStats> st : e.getValue().stages.entrySet()) {
+                if (st.getValue().count.sum() > 0) {
+                    stages.put(st.getKey().name(), st.getValue().toMap());
+                }
+            }
+            spec.put("status", statuses);
+            spec.put("stages", stages);
+            m.put(e.getKey(), spec);
+        }
+        return m;
+    }
+}
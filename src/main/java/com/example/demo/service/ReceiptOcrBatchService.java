@@ -0,0 +1,298 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 영수증 일괄 업로드 (월 마감 시 수십~수백 장)
+ * - ZIP 은 업로드 스트림에서 항목 단위로 바로 스테이징 파일에 기록 (아카이브 전체를 메모리에 올리지 않음)
+ * - 항목마다 tb_receipt_ocr_job 에 batch_id/batch_seq 로 등록 → 기존 비동기 작업 워커 풀(ocr.job.workers)이 처리
+ *   (워커 큐가 가득 차면 QUEUED 로 남아 스케줄러가 순차 배정하므로 동시 실행 수는 항상 제한됨)
+ * - 진행 상황은 SSE 로 항목별 상태 변화 + 전체 집계를 주기적으로 전송
+ */
+@Service
+public class ReceiptOcrBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptOcrBatchService.class);
+
+    // 한국어 Windows 압축 프로그램은 UTF-8 플래그 없이 CP949 파일명을 쓴다 (UTF-8 플래그가 있으면 UTF-8 우선)
+    private static final Charset ZIP_FALLBACK_CHARSET = Charset.forName("MS949");
+
+    private final ReceiptOcrJobService receiptOcrJobService;
+
+    @Value("${ocr.batch.max-items:500}")
+    private int maxItems;
+
+    @Value("${ocr.batch.max-entry-bytes:20971520}")
+    private long maxEntryBytes;
+
+    @Value("${ocr.batch.progress-interval-ms:1000}")
+    private long progressIntervalMs;
+
+    @Value("${ocr.batch.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private final ScheduledExecutorService progressScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "receipt-batch-progress");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReceiptOcrBatchService(ReceiptOcrJobService receiptOcrJobService) {
+        this.receiptOcrJobService = receiptOcrJobService;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        progressScheduler.shutdownNow();
+    }
+
+    /**
+     * 일괄 등록. archive(ZIP)와 files 를 함께 보내면 files → ZIP 항목 순으로 번호를 매긴다.
+     * 이미지가 아니거나 용량/건수 상한을 넘는 항목은 건너뛰고 사유를 돌려준다.
+     */
+    public Map<String, Object> submit(ReceiptScanService.ScanRequest req, MultipartFile archive,
+            List<MultipartFile> files) throws IOException {
+        String batchId = UUID.randomUUID().toString();
+        Submission sub = new Submission(batchId, req);
+
+        if (files != null) {
+            for (MultipartFile f : files) {
+                if (f == null || f.isEmpty()) continue;
+                String name = f.getOriginalFilename();
+                if (!sub.admit(name)) continue;
+                if (f.getSize() > maxEntryBytes) {
+                    sub.skip(name, "용량 초과");
+                    continue;
+                }
+                // Spring 이 이미 디스크에 받아 둔 파일이라 transferTo 는 이동/복사만 수행
+                sub.stage(name, null, f);
+            }
+        }
+
+        if (archive != null && !archive.isEmpty()) {
+            try (ZipInputStream zip = new ZipInputStream(archive.getInputStream(), ZIP_FALLBACK_CHARSET)) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    if (entry.isDirectory()) continue;
+                    String name = baseName(entry.getName());
+                    if (name.startsWith(".") || entry.getName().startsWith("__MACOSX/")) continue;
+                    if (!sub.admit(name)) continue;
+                    sub.stage(name, zip, null);
+                }
+            } catch (IllegalArgumentException | ZipException e) {
+                // 파일명 디코딩 실패 등 손상된 아카이브 → 이미 등록된 항목은 그대로 처리
+                sub.skip(archive.getOriginalFilename(), "ZIP 읽기 실패: " + e.getMessage());
+            }
+        }
+
+        log.info("[ReceiptOcrBatch] batch={} accepted={} skipped={}", batchId, sub.accepted, sub.skipped.size());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("batch_id", batchId);
+        body.put("accepted", sub.accepted);
+        body.put("skipped", sub.skipped);
+        return body;
+    }
+
+    /**
+     * 묶음 현황 스냅샷 (SSE 를 못 쓰는 클라이언트/재접속용). 없는 batch_id 면 null
+     */
+    public Map<String, Object> status(String batchId) {
+        List<Map<String, Object>> items = receiptOcrJobService.batchStatus(batchId);
+        if (items.isEmpty()) return null;
+        Map<String, Object> body = summary(batchId, items);
+        body.put("items", items);
+        return body;
+    }
+
+    /**
+     * 진행 상황 구독. 이벤트:
+     * - item     : 상태가 바뀐 항목 (처음 연결 시 전체 항목)
+     * - progress : 전체 집계 (매 주기)
+     * - complete : 모든 항목 종료 후 1회, 이후 스트림 종료
+     */
+    public SseEmitter subscribe(String batchId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Map<String, String> lastStatus = new HashMap<>();
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+
+        Runnable tick = () -> {
+            try {
+                List<Map<String, Object>> items = receiptOcrJobService.batchStatus(batchId);
+                if (items.isEmpty()) {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("code", 404);
+                    error.put("message", "일괄 업로드 작업을 찾을 수 없습니다.");
+                    emitter.send(SseEmitter.event().name("error").data(error));
+                    stop(task, emitter);
+                    return;
+                }
+                for (Map<String, Object> item : items) {
+                    String jobId = String.valueOf(item.get("job_id"));
+                    String status = String.valueOf(item.get("status"));
+                    if (!status.equals(lastStatus.put(jobId, status))) {
+                        emitter.send(SseEmitter.event().name("item").data(item));
+                    }
+                }
+                Map<String, Object> summary = summary(batchId, items);
+                emitter.send(SseEmitter.event().name("progress").data(summary));
+                if (Boolean.TRUE.equals(summary.get("completed"))) {
+                    emitter.send(SseEmitter.event().name("complete").data(summary));
+                    stop(task, emitter);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                cancel(task);
+            } catch (Exception e) {
+                log.warn("[ReceiptOcrBatch] 진행 상황 전송 오류 batch={} ({})", batchId, e.getMessage());
+                cancel(task);
+                emitter.completeWithError(e);
+            }
+        };
+
+        emitter.onCompletion(() -> cancel(task));
+        emitter.onTimeout(() -> cancel(task));
+        emitter.onError(e -> cancel(task));
+        task.set(progressScheduler.scheduleWithFixedDelay(tick, 0, progressIntervalMs, TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    private Map<String, Object> summary(String batchId, List<Map<String, Object>> items) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String s : new String[] { "QUEUED", "RUNNING", "DONE", "FALLBACK", "FAILED" }) {
+            counts.put(s, 0);
+        }
+        for (Map<String, Object> item : items) {
+            counts.merge(String.valueOf(item.get("status")), 1, Integer::sum);
+        }
+        int finished = counts.get("DONE") + counts.get("FALLBACK") + counts.get("FAILED");
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("batch_id", batchId);
+        m.put("total", items.size());
+        m.put("finished", finished);
+        m.put("counts", counts);
+        m.put("completed", finished == items.size());
+        return m;
+    }
+
+    private static void stop(AtomicReference<ScheduledFuture<?>> task, SseEmitter emitter) {
+        cancel(task);
+        emitter.complete();
+    }
+
+    private static void cancel(AtomicReference<ScheduledFuture<?>> task) {
+        ScheduledFuture<?> f = task.get();
+        if (f != null) f.cancel(false);
+    }
+
+    private static String baseName(String entryName) {
+        String n = entryName.replace('\\', '/');
+        return n.substring(n.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * 등록 진행 상태 (순번/건수 상한/건너뛴 항목)
+     */
+    private class Submission {
+        final String batchId;
+        final ReceiptScanService.ScanRequest req;
+        int accepted;
+        int seq;
+        final List<Map<String, Object>> skipped = new ArrayList<>();
+
+        Submission(String batchId, ReceiptScanService.ScanRequest req) {
+            this.batchId = batchId;
+            this.req = req;
+        }
+
+        boolean admit(String name) {
+            if (!isImage(name)) {
+                skip(name, "이미지 파일 아님");
+                return false;
+            }
+            if (accepted >= maxItems) {
+                skip(name, "건수 상한(" + maxItems + ") 초과");
+                return false;
+            }
+            return true;
+        }
+
+        void skip(String name, String reason) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("name", name);
+            m.put("reason", reason);
+            skipped.add(m);
+        }
+
+        /**
+         * 항목 1건 스테이징 + 작업 등록. upload 가 있으면 MultipartFile 이동, 없으면 in 을 상한까지 복사.
+         */
+        void stage(String name, InputStream in, MultipartFile upload) throws IOException {
+            String jobId = UUID.randomUUID().toString();
+            // 건너뜀/등록 실패 시 스코프 close 가 스테이징 삭제, 등록되면 keep
+            try (TempFileManager.Scope staging = receiptOcrJobService.openStaging(jobId)) {
+                Path staged = staging.dir().resolve("0" + receiptOcrJobService.extensionOf(name));
+                if (upload != null) {
+                    upload.transferTo(staged.toFile());
+                } else if (!copyBounded(in, staged)) {
+                    skip(name, "용량 초과");
+                    return;
+                }
+                List<Map<String, String>> files = new ArrayList<>(1);
+                files.add(receiptOcrJobService.stagedFile(staged, name));
+                receiptOcrJobService.enqueueStaged(jobId, req, files, batchId, seq++);
+                staging.keep();
+                accepted++;
+            }
+        }
+    }
+
+    // ZIP 항목 → 파일 (maxEntryBytes 초과 시 false, 나머지 바이트는 다음 getNextEntry 가 건너뜀)
+    private boolean copyBounded(InputStream in, Path target) throws IOException {
+        byte[] buf = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                total += n;
+                if (total > maxEntryBytes) return false;
+                out.write(buf, 0, n);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImage(String name) {
+        if (name == null) return false;
+        String n = name.toLowerCase();
+        return n.matches(".*\\.(jpg|jpeg|png|tiff?|bmp|webp)$");
+    }
+}
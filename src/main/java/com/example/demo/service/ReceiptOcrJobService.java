@@ -0,0 +1,447 @@
+package com.example.demo.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.demo.mapper.ReceiptOcrJobMapper;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 영수증 OCR 비동기 작업 큐
+ * - 업로드 시 이미지를 스테이징 디렉터리에 저장하고 tb_receipt_ocr_job에 QUEUED로 등록 후 job_id 즉시 반환
+ * - 제한된 워커 풀이 OCR + 파싱을 수행하고 매입집계 행을 저장한다. (10초 타임아웃 fallback 없음)
+ * - 워커 큐가 가득 차거나 서버가 재기동되어도 작업은 테이블에 남아 스케줄러가 다시 배정한다.
+ */
+@Service
+public class ReceiptOcrJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptOcrJobService.class);
+
+    public static final String JOB_TYPE_RECEIPT_SCAN = "receipt-scan";
+
+    private static final Type FILE_LIST_TYPE = new TypeToken<List<Map<String, String>>>() {}.getType();
+
+    private final ReceiptOcrJobMapper jobMapper;
+    private final ReceiptIngestPipeline pipeline;
+    private final ReceiptPipelineSpecs specs;
+    private final ReceiptScanService receiptScanService;
+    private final TempFileManager tempFileManager;
+    private final String uploadDir;
+    private final Gson gson = new Gson();
+
+    @Value("${ocr.job.workers:4}")
+    private int workers;
+
+    @Value("${ocr.job.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${ocr.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ocr.job.stale-minutes:30}")
+    private int staleMinutes;
+
+    private ThreadPoolExecutor executor;
+
+    // 작업 스테이징 루트 (ocr.temp.dir/receipt-job) → /ocr/stats 임시 디렉터리 사용량에 포함
+    private Path stagingRoot;
+
+    // 워커 큐에 들어가 있지만 아직 점유되지 않은 작업 (스케줄러 중복 배정 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong done = new AtomicLong();
+    private final AtomicLong fallback = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    public ReceiptOcrJobService(ReceiptOcrJobMapper jobMapper, ReceiptIngestPipeline pipeline,
+            ReceiptPipelineSpecs specs, ReceiptScanService receiptScanService, TempFileManager tempFileManager,
+            @Value("${file.upload-dir}") String uploadDir) {
+        this.jobMapper = jobMapper;
+        this.pipeline = pipeline;
+        this.specs = specs;
+        this.receiptScanService = receiptScanService;
+        this.tempFileManager = tempFileManager;
+        this.uploadDir = uploadDir;
+    }
+
+    @PostConstruct
+    public void init() {
+        stagingRoot = tempFileManager.ownedDir("receipt-job");
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "receipt-ocr-job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 등록: 이미지 스테이징 저장 → 테이블 등록 → 워커 배정 시도
+     */
+    public String enqueue(ReceiptScanService.ScanRequest req, List<MultipartFile> uploadFiles) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        // 등록 실패 시 스코프 close 가 스테이징 파일을 즉시 삭제 (고아 방지)
+        try (TempFileManager.Scope staging = openStaging(jobId)) {
+            List<Map<String, String>> files = new ArrayList<>();
+            for (int i = 0; i < uploadFiles.size(); i++) {
+                MultipartFile f = uploadFiles.get(i);
+                // OpenCV가 한글 경로를 읽지 못하므로 스테이징 파일명은 순번+확장자만 사용하고 원본명은 따로 보관
+                Path staged = staging.dir().resolve(i + extensionOf(f.getOriginalFilename()));
+                f.transferTo(staged.toFile());
+                files.add(stagedFile(staged, f.getOriginalFilename()));
+            }
+            register(jobId, req, files, null, null);
+            // 작업 행 등록 완료 → 스테이징은 워커가 처리 후 삭제
+            staging.keep();
+        }
+        return jobId;
+    }
+
+    /**
+     * 일괄 업로드 1건 등록: 호출부가 openStaging(jobId) 스코프 안에 이미지를 이미 써 둔 상태.
+     * 등록이 끝나면 호출부가 스코프를 keep 한다.
+     */
+    public void enqueueStaged(String jobId, ReceiptScanService.ScanRequest req, List<Map<String, String>> files,
+            String batchId, int batchSeq) {
+        register(jobId, req, files, batchId, batchSeq);
+    }
+
+    /**
+     * 작업 스테이징 디렉터리 스코프 (keep 없이 close 하면 디렉터리 삭제)
+     */
+    public TempFileManager.Scope openStaging(String jobId) throws IOException {
+        return tempFileManager.openScope(stagingRoot.resolve(jobId));
+    }
+
+    public Map<String, String> stagedFile(Path staged, String originalName) {
+        Map<String, String> entry = new HashMap<>();
+        entry.put("path", staged.toAbsolutePath().toString());
+        entry.put("name", originalName);
+        return entry;
+    }
+
+    private void register(String jobId, ReceiptScanService.ScanRequest req, List<Map<String, String>> files,
+            String batchId, Integer batchSeq) {
+        Map<String, Object> job = new HashMap<>();
+        job.put("job_id", jobId);
+        job.put("job_type", JOB_TYPE_RECEIPT_SCAN);
+        job.put("params", gson.toJson(req));
+        job.put("files", gson.toJson(files));
+        job.put("batch_id", batchId);
+        job.put("batch_seq", batchSeq);
+        jobMapper.ReceiptOcrJobSave(job);
+
+        job.put("attempts", 0);
+        dispatch(job);
+    }
+
+    /**
+     * 일괄 업로드 묶음의 작업 목록 (batch_seq 순, files 는 원본 파일명 name 으로 변환)
+     */
+    public List<Map<String, Object>> batchStatus(String batchId) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("batch_id", batchId);
+        List<Map<String, Object>> rows = jobMapper.ReceiptOcrJobBatchList(param);
+        for (Map<String, Object> row : rows) {
+            Object filesJson = row.remove("files");
+            List<Map<String, String>> files = filesJson == null ? null
+                    : gson.fromJson(String.valueOf(filesJson), FILE_LIST_TYPE);
+            row.put("name", files == null || files.isEmpty() ? null : files.get(0).get("name"));
+        }
+        return rows;
+    }
+
+    /**
+     * 스테이징 파일 확장자 (이미지/PDF 외에는 .jpg)
+     */
+    public String extensionOf(String originalName) {
+        if (originalName != null && originalName.contains(".")) {
+            String raw = originalName.substring(originalName.lastIndexOf(".")).toLowerCase();
+            if (raw.matches("\\.(jpg|jpeg|png|pdf|tiff?|bmp|webp)")) {
+                return raw;
+            }
+        }
+        return ".jpg";
+    }
+
+    public Map<String, Object> status(String jobId) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("job_id", jobId);
+        Map<String, Object> info = jobMapper.ReceiptOcrJobInfo(param);
+        if (info == null) return null;
+
+        Object result = info.get("result");
+        if (result != null) {
+            info.put("result", gson.fromJson(String.valueOf(result), Map.class));
+        }
+        return info;
+    }
+
+    /**
+     * 스케줄러: 중단된 작업 복구 + 대기중 작업을 워커 여유분만큼 배정
+     */
+    public int dispatchQueued() {
+        Map<String, Object> staleParam = new HashMap<>();
+        staleParam.put("stale_minutes", staleMinutes);
+        staleParam.put("max_attempts", maxAttempts);
+        staleParam.put("error_message", "작업 중단 후 재시도 횟수(" + maxAttempts + ") 초과");
+        int exhausted = jobMapper.ReceiptOcrJobFailStale(staleParam);
+        if (exhausted > 0) {
+            // 스테이징은 종료 상태가 됐으므로 고아 스테이징 정리 대상
+            failed.addAndGet(exhausted);
+            log.error("[ReceiptOcrJob] 재시도 횟수를 다 쓴 중단 작업 {}건 실패 처리", exhausted);
+        }
+        int recovered = jobMapper.ReceiptOcrJobResetStale(staleParam);
+        if (recovered > 0) {
+            log.warn("[ReceiptOcrJob] 중단된 작업 {}건 재대기 처리", recovered);
+        }
+
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity <= 0) return 0;
+
+        Map<String, Object> param = new HashMap<>();
+        param.put("limit", capacity + inFlight.size());
+        int dispatched = 0;
+        for (Map<String, Object> job : jobMapper.ReceiptOcrJobQueuedList(param)) {
+            if (dispatch(job)) dispatched++;
+        }
+        return dispatched;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        m.put("workers", workers);
+        m.put("active", executor.getActiveCount());
+        m.put("queued", executor.getQueue().size());
+        m.put("queueCapacity", queueCapacity);
+        m.put("done", done.get());
+        m.put("fallback", fallback.get());
+        m.put("failed", failed.get());
+        m.put("retried", retried.get());
+        long[] staging = tempFileManager.usage(stagingRoot, null);
+        m.put("stagingBytes", staging[0]);
+        m.put("stagingFiles", staging[1]);
+        return m;
+    }
+
+    private boolean dispatch(Map<String, Object> job) {
+        String jobId = String.valueOf(job.get("job_id"));
+        if (!inFlight.add(jobId)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참 → 테이블에 QUEUED로 남아 있으므로 스케줄러가 다시 배정
+            inFlight.remove(jobId);
+            return false;
+        }
+    }
+
+    private void run(Map<String, Object> job) {
+        String jobId = String.valueOf(job.get("job_id"));
+        Map<String, Object> claimParam = new HashMap<>();
+        claimParam.put("job_id", jobId);
+        if (jobMapper.ReceiptOcrJobClaim(claimParam) == 0) {
+            return; // 다른 워커가 이미 처리중/완료
+        }
+        int attempt = toInt(job.get("attempts")) + 1;
+
+        ReceiptScanService.ScanRequest req = gson.fromJson(String.valueOf(job.get("params")),
+                ReceiptScanService.ScanRequest.class);
+        List<Map<String, String>> files = gson.fromJson(String.valueOf(job.get("files")), FILE_LIST_TYPE);
+        Map<String, Object> purchase = receiptScanService.newPurchase(req);
+        ReceiptScanService.ImageSink images = stagedSink(files);
+
+        // 재시도 대기(keep) 외에는 처리 결과와 관계없이 스코프 close 가 스테이징을 삭제
+        try (TempFileManager.Scope staging = openStaging(jobId)) {
+            try {
+                // 스테이징된 모든 장을 장별 동시 OCR 후 병합 (2장 이후 실패는 해당 장만 제외)
+                List<Path> pages = new ArrayList<>(files.size());
+                for (Map<String, String> f : files) {
+                    pages.add(Paths.get(f.get("path")));
+                }
+                ReceiptIngestPipeline.Run run = pipeline.runFiles(specs.receiptScanAsync, pages, req.receiptType);
+
+                if (run.status == ReceiptIngestPipeline.Status.OCR_FAILED
+                        || run.status == ReceiptIngestPipeline.Status.OCR_TIMEOUT) {
+                    String reason = run.error.getMessage();
+                    if (attempt < maxAttempts) {
+                        log.warn("[ReceiptOcrJob] OCR 실패, 재시도 대기 job={} attempt={} ({})", jobId, attempt, reason);
+                        Map<String, Object> requeue = new HashMap<>();
+                        requeue.put("job_id", jobId);
+                        requeue.put("error_message", truncate(reason));
+                        jobMapper.ReceiptOcrJobRequeue(requeue);
+                        retried.incrementAndGet();
+                        staging.keep();
+                        return;
+                    }
+                    log.warn("[ReceiptOcrJob] OCR 재시도 초과, fallback 저장 job={} ({})", jobId, reason);
+                    finish(jobId, "FALLBACK", receiptScanService.saveWithRequestParamsOnly(purchase, images), reason);
+                    fallback.incrementAndGet();
+                    return;
+                }
+
+                if (!run.parsed()) {
+                    finish(jobId, "FALLBACK", receiptScanService.saveWithRequestParamsOnly(purchase, images),
+                            run.error.getMessage());
+                    fallback.incrementAndGet();
+                    return;
+                }
+                purchase.put("receipt_type", run.typing.label);
+
+                ReceiptScanService.ScanResult saved;
+                run.enter(ReceiptIngestPipeline.Stage.PERSIST);
+                try {
+                    saved = receiptScanService.saveParsed(req, purchase, run.result, images, run.document);
+                } finally {
+                    run.end();
+                }
+                if (saved.badRequest) {
+                    finish(jobId, "FAILED", saved.body, String.valueOf(saved.body.get("message")));
+                    failed.incrementAndGet();
+                } else {
+                    finish(jobId, "DONE", saved.body, null);
+                    done.incrementAndGet();
+                }
+            } catch (Exception e) {
+                log.error("[ReceiptOcrJob] 작업 처리 중 오류 job={}", jobId, e);
+                try {
+                    finish(jobId, "FALLBACK", receiptScanService.saveWithRequestParamsOnly(purchase, images),
+                            e.getMessage());
+                    fallback.incrementAndGet();
+                } catch (Exception e1) {
+                    finish(jobId, "FAILED", null, e1.getMessage());
+                    failed.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            // 스테이징 디렉터리 열기 실패 → RUNNING 으로 남아 stale 복구 대상
+            log.error("[ReceiptOcrJob] 스테이징 디렉터리 열기 실패 job={}", jobId, e);
+        }
+    }
+
+    private void finish(String jobId, String status, Map<String, Object> body, String errorMessage) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("job_id", jobId);
+        param.put("status", status);
+        param.put("sale_id", body != null ? body.get("sale_id") : null);
+        param.put("result", body != null ? gson.toJson(body) : null);
+        param.put("error_message", truncate(errorMessage));
+        jobMapper.ReceiptOcrJobFinish(param);
+    }
+
+    // 스테이징 파일을 receipt/{sale_id}/ 로 이동하고 슬롯에 경로를 세팅한다.
+    private ReceiptScanService.ImageSink stagedSink(List<Map<String, String>> files) {
+        return new ReceiptScanService.ImageSink() {
+            @Override
+            public int size() {
+                return files.size();
+            }
+
+            @Override
+            public void attach(Map<String, Object> purchase, int index, String saleId, String targetKey) throws Exception {
+                Map<String, String> f = files.get(index);
+                Path dirPath = Paths.get(new File(uploadDir).getAbsolutePath(), "receipt", saleId);
+                Files.createDirectories(dirPath);
+
+                String uniqueFileName = UUID.randomUUID() + "_" + f.get("name");
+                Files.move(Paths.get(f.get("path")), dirPath.resolve(uniqueFileName), StandardCopyOption.REPLACE_EXISTING);
+                purchase.put(targetKey, "/image/" + "receipt" + "/" + saleId + "/" + uniqueFileName);
+            }
+        };
+    }
+
+    /**
+     * 고아 스테이징 디렉터리 정리: 작업 행이 없거나 이미 종료(DONE/FALLBACK/FAILED)됐는데 남아 있는 것.
+     * (완료 직후 서버 중단 등) 대기/처리중 작업의 스테이징은 건드리지 않는다.
+     * @return 삭제한 디렉터리 수
+     */
+    public int sweepOrphanStaging() {
+        // 이전 버전이 업로드 디렉터리에 만든 스테이징도 남은 작업이 끝나면 정리
+        return sweepOrphanStaging(stagingRoot) + sweepOrphanStaging(legacyStagingRoot());
+    }
+
+    private int sweepOrphanStaging(Path root) {
+        if (!Files.isDirectory(root)) return 0;
+
+        long cutoff = System.currentTimeMillis() - tempFileManager.getOrphanMinutes() * 60_000L;
+        int removed = 0;
+        File[] dirs = root.toFile().listFiles(File::isDirectory);
+        if (dirs == null) return 0;
+        for (File dir : dirs) {
+            if (dir.lastModified() >= cutoff || inFlight.contains(dir.getName())
+                    || tempFileManager.isOpen(dir.toPath())) continue;
+
+            Map<String, Object> param = new HashMap<>();
+            param.put("job_id", dir.getName());
+            Map<String, Object> info = jobMapper.ReceiptOcrJobInfo(param);
+            String status = info != null ? String.valueOf(info.get("status")) : null;
+            if (info == null || "DONE".equals(status) || "FALLBACK".equals(status) || "FAILED".equals(status)) {
+                tempFileManager.deleteRecursively(dir.toPath());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private Path legacyStagingRoot() {
+        return Paths.get(new File(uploadDir).getAbsolutePath(), "receipt-job");
+    }
+
+    private int toInt(Object v) {
+        if (v == null) return 0;
+        try {
+            return Integer.parseInt(String.valueOf(v));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String truncate(String s) {
+        if (s == null) return null;
+        return s.length() > 1000 ? s.substring(0, 1000) : s;
+    }
+}
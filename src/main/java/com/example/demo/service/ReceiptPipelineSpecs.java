@@ -0,0 +1,137 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.parser.HeadOfficeReceiptParserFactory;
+import com.example.demo.parser.ReceiptParserFactory;
+import com.example.demo.parser.ReceiptParserRegistry.Route;
+import com.example.demo.parser.ReceiptText;
+import com.example.demo.service.ReceiptIngestPipeline.Spec;
+import com.example.demo.service.ReceiptIngestPipeline.Typing;
+
+/**
+ * 스캔 엔드포인트별 파이프라인 설정 (버전 간 차이는 여기서만 관리)
+ * - receipt-scan / receipt-scan-async : 최대 3장, 요청 타입 없으면 자동 감지한 타입을 저장 행에 기록 (파서는 요청 타입 그대로)
+ * - corporate-receipt-scan(V2)         : 본사 채널 파서, 타입은 컨트롤러가 type/receiptType 으로 결정
+ * - receipt-scanV4 / V5                : 일반 스캔 파서, 요청 타입 그대로
+ * - receipt-scan-develop               : 일반 스캔 파서, 요청 타입 없으면 자동 감지한 타입으로 파싱
+ * - receipt-scanV3 / develop 법인카드 / card-receipt : 카드 영수증 분류 + 본사 채널 라우팅
+ */
+@Component
+public class ReceiptPipelineSpecs {
+
+    private final CardReceiptParseService cardReceiptParseService;
+
+    @Autowired(required = false)
+    private AiReceiptAnalyzer aiAnalyzer;
+
+    public final Spec receiptScan;
+    public final Spec receiptScanAsync;
+    public final Spec corporateReceiptScan;
+    public final Spec receiptScanV3;
+    public final Spec receiptScanV4;
+    public final Spec receiptScanV5;
+    public final Spec receiptScanDevelop;
+    public final Spec receiptScanDevelopCard;
+    public final Spec cardReceipt;
+
+    public ReceiptPipelineSpecs(CardReceiptParseService cardReceiptParseService,
+                                ReceiptParserFactory receiptParserFactory,
+                                HeadOfficeReceiptParserFactory headOfficeParserFactory,
+                                @Value("${ocr.pipeline.ocr-timeout-ms:${ocr.pages.timeout-ms:10000}}") long ocrTimeoutMs,
+                                @Value("${ocr.pipeline.parse-timeout-ms:10000}") long parseTimeoutMs) {
+        this.cardReceiptParseService = cardReceiptParseService;
+        ReceiptIngestPipeline.Parser scanParser = (rt, t) -> receiptParserFactory.parse(rt, t.parserType);
+        ReceiptIngestPipeline.Parser cardParser = (rt, t) -> cardReceiptParseService.parse(rt, t, parseTimeoutMs);
+
+        receiptScan = Spec.builder("receipt-scan")
+                .maxPages(3)
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier(this::detectLabelOnly)
+                .parser(scanParser)
+                .build();
+
+        // 작업 워커 스레드에서 실행 → OCR 만 제한, 파싱은 워커에서 바로 수행
+        receiptScanAsync = Spec.builder("receipt-scan-async")
+                .maxPages(3)
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(0)
+                .classifier(this::detectLabelOnly)
+                .parser(scanParser)
+                .build();
+
+        corporateReceiptScan = Spec.builder("corporate-receipt-scan")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier((rt, type) -> Typing.of(Route.HEAD_OFFICE, type))
+                .parser((rt, t) -> headOfficeParserFactory.parse(rt, t.parserType))
+                .build();
+
+        receiptScanV3 = Spec.builder("receipt-scanV3")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier(cardReceiptParseService::classify)
+                .parser(cardParser)
+                .build();
+
+        receiptScanV4 = Spec.builder("receipt-scanV4")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier((rt, type) -> Typing.of(Route.SCAN, type))
+                .parser(scanParser)
+                .build();
+
+        receiptScanV5 = Spec.builder("receipt-scanV5")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier((rt, type) -> Typing.of(Route.SCAN, type))
+                .parser(scanParser)
+                .build();
+
+        receiptScanDevelop = Spec.builder("receipt-scan-develop")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier((rt, type) -> Typing.of(Route.SCAN, detectType(rt, type)))
+                .parser(scanParser)
+                .build();
+
+        receiptScanDevelopCard = Spec.builder("receipt-scan-develop-card")
+                .ocrTimeoutMs(ocrTimeoutMs)
+                .parseTimeoutMs(parseTimeoutMs)
+                .classifier(cardReceiptParseService::classify)
+                .parser(cardParser)
+                .build();
+
+        // 카드영수증 화면은 기존처럼 시간 제한 없이 대기 (OCR 실행기 대기열 포화만 거절)
+        cardReceipt = Spec.builder("card-receipt")
+                .ocrTimeoutMs(0)
+                .parseTimeoutMs(0)
+                .classifier(cardReceiptParseService::classify)
+                .parser((rt, t) -> cardReceiptParseService.parse(rt, t, 0))
+                .build();
+    }
+
+    // 저장 행 receipt_type 만 감지 타입으로 채우고 파서는 요청 타입 그대로 (기존 /receipt-scan 동작)
+    private Typing detectLabelOnly(ReceiptText rt, String requestedType) {
+        return new Typing(Route.SCAN, requestedType, detectType(rt, requestedType), 1.0, null);
+    }
+
+    /**
+     * receiptType 자동 감지 (요청 타입 우선 → AI 감지 → 기본 MART_ITEMIZED)
+     */
+    private String detectType(ReceiptText rt, String requestedType) {
+        if (requestedType != null && !requestedType.isBlank()) {
+            return requestedType;
+        }
+        if (aiAnalyzer != null) {
+            String detected = aiAnalyzer.detectType(rt.document());
+            if (detected != null && !detected.isBlank()) {
+                return detected;
+            }
+        }
+        return "MART_ITEMIZED";
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opencv.core.Core;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfPoint;
+import org.opencv.core.MatOfPoint2f;
+import org.opencv.core.Point;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사진 속 영수증 영역 검출 + 원근 보정 크롭.
+ * 책상/바닥 등 배경 픽셀을 잘라내 Document AI 전송 용량을 줄이고,
+ * 기울어진 영수증을 펴서 토큰 좌표(행 정렬)를 안정시킨다.
+ * 검출은 축소본에서 수행하고, 보정은 원본 해상도에서 1회만 수행한다.
+ */
+@Component
+public class ReceiptRegionDetector {
+
+    // 윤곽 검출용 축소 기준 (긴 변)
+    private static final int DETECT_EDGE = 800;
+
+    @Value("${ocr.image.crop.enabled:true}")
+    private boolean enabled;
+
+    // 영수증 후보 사각형의 최소 면적 비율 (너무 작으면 영수증 내부 박스/로고일 가능성)
+    @Value("${ocr.image.crop.min-area-ratio:0.2}")
+    private double minAreaRatio;
+
+    // 이 비율 이상이면 이미 영수증만 찍힌 사진으로 보고 크롭 생략
+    @Value("${ocr.image.crop.max-area-ratio:0.95}")
+    private double maxAreaRatio;
+
+    private final LongAdder attempted = new LongAdder();
+    private final LongAdder cropped = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder totalPixelsBefore = new LongAdder();
+    private final LongAdder totalPixelsAfter = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * 영수증 영역을 찾아 원근 보정한 새 Mat을 반환한다.
+     * 찾지 못했거나 크롭이 의미 없으면 src를 그대로 반환한다. (src는 변경/해제하지 않음)
+     */
+    public Mat detectAndCrop(Mat src) {
+        if (!enabled || src.empty()) return src;
+
+        long started = System.nanoTime();
+        attempted.increment();
+        try {
+            Point[] quad = findReceiptQuad(src);
+            if (quad == null) {
+                notFound.increment();
+                return src;
+            }
+
+            Mat warped = warp(src, quad);
+            cropped.increment();
+            totalPixelsBefore.add((long) src.width() * src.height());
+            totalPixelsAfter.add((long) warped.width() * warped.height());
+            System.out.printf("✂️ 영수증 영역 크롭: %dx%d → %dx%d%n",
+                    src.width(), src.height(), warped.width(), warped.height());
+            return warped;
+        } catch (Exception e) {
+            // 전처리 실패는 OCR 자체를 막지 않는다
+            System.err.println("⚠️ 영수증 영역 검출 실패 → 원본 사용: " + e.getMessage());
+            notFound.increment();
+            return src;
+        } finally {
+            totalNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long n = attempted.sum();
+        long c = cropped.sum();
+        long before = totalPixelsBefore.sum();
+        Map<String, Object> m = new HashMap<>();
+        m.put("enabled", enabled);
+        m.put("attempted", n);
+        m.put("cropped", c);
+        m.put("notFound", notFound.sum());
+        m.put("avgPixelRatio", before == 0 ? 1.0 : (double) totalPixelsAfter.sum() / before);
+        m.put("avgDetectMs", n == 0 ? 0 : totalNanos.sum() / n / 1_000_000);
+        return m;
+    }
+
+    /**
+     * 축소본에서 가장 큰 볼록 사각형 윤곽을 찾아 원본 좌표로 돌려준다. 없으면 null.
+     */
+    private Point[] findReceiptQuad(Mat src) {
+        double scale = Math.min(1.0, (double) DETECT_EDGE / Math.max(src.width(), src.height()));
+
+        Mat small = new Mat();
+        Mat gray = new Mat();
+        Mat edges = new Mat();
+        Mat kernel = Imgproc.getStructuringElement(Imgproc.MORPH_RECT, new Size(5, 5));
+        List<MatOfPoint> contours = new ArrayList<>();
+        Mat hierarchy = new Mat();
+        try {
+            if (scale < 1.0) {
+                Imgproc.resize(src, small, new Size(src.width() * scale, src.height() * scale), 0, 0, Imgproc.INTER_AREA);
+            } else {
+                src.copyTo(small);
+            }
+            if (small.channels() == 3) {
+                Imgproc.cvtColor(small, gray, Imgproc.COLOR_BGR2GRAY);
+            } else {
+                small.copyTo(gray);
+            }
+
+            // 노이즈 제거 → 에지 → 끊긴 테두리 연결
+            Imgproc.GaussianBlur(gray, gray, new Size(5, 5), 0);
+            Imgproc.Canny(gray, edges, 50, 150);
+            Imgproc.morphologyEx(edges, edges, Imgproc.MORPH_CLOSE, kernel);
+            Imgproc.dilate(edges, edges, kernel);
+
+            Imgproc.findContours(edges, contours, hierarchy, Imgproc.RETR_EXTERNAL, Imgproc.CHAIN_APPROX_SIMPLE);
+
+            double imageArea = (double) small.width() * small.height();
+            contours.sort((a, b) -> Double.compare(Imgproc.contourArea(b), Imgproc.contourArea(a)));
+
+            for (MatOfPoint c : contours) {
+                double area = Imgproc.contourArea(c);
+                double ratio = area / imageArea;
+                if (ratio < minAreaRatio) break;   // 면적 내림차순이므로 이후는 모두 작음
+                if (ratio > maxAreaRatio) continue;    // 프레임 전체(이미 영수증만 찍힘 또는 배경 테두리)
+
+                MatOfPoint2f c2f = new MatOfPoint2f(c.toArray());
+                MatOfPoint2f approx = new MatOfPoint2f();
+                try {
+                    double peri = Imgproc.arcLength(c2f, true);
+                    Imgproc.approxPolyDP(c2f, approx, 0.02 * peri, true);
+                    Point[] pts = approx.toArray();
+                    if (pts.length == 4 && Imgproc.isContourConvex(new MatOfPoint(pts))) {
+                        for (Point p : pts) {
+                            p.x /= scale;
+                            p.y /= scale;
+                        }
+                        return orderCorners(pts);
+                    }
+                } finally {
+                    c2f.release();
+                    approx.release();
+                }
+            }
+            return null;
+        } finally {
+            small.release();
+            gray.release();
+            edges.release();
+            kernel.release();
+            hierarchy.release();
+            for (MatOfPoint c : contours) c.release();
+        }
+    }
+
+    // 좌상, 우상, 우하, 좌하 순서로 정렬 (x+y 최소=좌상, 최대=우하 / y-x 최소=우상, 최대=좌하)
+    private static Point[] orderCorners(Point[] pts) {
+        Point tl = pts[0], tr = pts[0], br = pts[0], bl = pts[0];
+        for (Point p : pts) {
+            if (p.x + p.y < tl.x + tl.y) tl = p;
+            if (p.x + p.y > br.x + br.y) br = p;
+            if (p.y - p.x < tr.y - tr.x) tr = p;
+            if (p.y - p.x > bl.y - bl.x) bl = p;
+        }
+        return new Point[] { tl, tr, br, bl };
+    }
+
+    private static Mat warp(Mat src, Point[] q) {
+        double width = Math.max(dist(q[0], q[1]), dist(q[3], q[2]));
+        double height = Math.max(dist(q[0], q[3]), dist(q[1], q[2]));
+        int w = Math.max(1, (int) Math.round(width));
+        int h = Math.max(1, (int) Math.round(height));
+
+        MatOfPoint2f from = new MatOfPoint2f(q);
+        MatOfPoint2f to = new MatOfPoint2f(
+                new Point(0, 0), new Point(w - 1, 0), new Point(w - 1, h - 1), new Point(0, h - 1));
+        Mat m = Imgproc.getPerspectiveTransform(from, to);
+        Mat out = new Mat();
+        try {
+            Imgproc.warpPerspective(src, out, m, new Size(w, h), Imgproc.INTER_LINEAR, Core.BORDER_REPLICATE);
+            return out;
+        } finally {
+            from.release();
+            to.release();
+            m.release();
+        }
+    }
+
+    private static double dist(Point a, Point b) {
+        return Math.hypot(a.x - b.x, a.y - b.y);
+    }
+}
@@ -0,0 +1,607 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.classify.ItemCategoryClassifier;
+import com.example.demo.mapper.ReceiptOcrDocumentMapper;
+import com.example.demo.model.CardReceiptType;
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.CardReceiptParserFactory;
+import com.example.demo.parser.HeadOfficeReceiptParserFactory;
+import com.example.demo.parser.ReceiptParserFactory;
+import com.example.demo.parser.ReceiptText;
+import com.example.demo.service.OcrDocumentStore.Stored;
+import com.example.demo.service.OcrDocumentStore.Target;
+import com.example.demo.utils.BizNoUtils;
+import com.example.demo.utils.DateUtils;
+
+/**
+ * 보관 Document 일괄 재파싱 (OCR 재호출 없이 현재 파서로 과거 영수증 보정)
+ * - tb_receipt_ocr_document 를 sale_id 순으로 batch-size 씩 읽어 전용 풀에서 병렬 재파싱
+ * - 저장 당시 파싱값(parsed) / 재파싱값 / 현재 DB 행을 필드별로 3-way 비교
+ *     · 재파싱값 == DB 행            → 변경 없음
+ *     · DB 행 == 저장 당시 파싱값     → 파서 개선분으로 보고 보정 (APPLY)
+ *     · 그 외 (사용자가 수정한 값)    → 건드리지 않고 충돌로 보고 (CONFLICT)
+ * - 합계/거래일자는 집계표 일자 칸·손익/예산 집계에 연결되어 있어 자동 반영하지 않고 검토 대상(REVIEW)으로만 보고
+ * - 상세 품목은 목록 전체 단위로 비교해서 교체 (기존 행과 같은 품목명은 사용자가 지정한 구분(itemType) 유지)
+ * - dryRun=false 일 때만 배치 단위로 한 트랜잭션 안에서 JDBC batch 로 반영
+ */
+@Service
+public class ReceiptReparseService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptReparseService.class);
+
+    public static final String APPLY = "APPLY";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String REVIEW = "REVIEW";
+
+    private static final String ITEMS = "items";
+
+    // 파싱 결과로 저장되는 컬럼 (대상 테이블별) → 보정 대상
+    private static final List<String> PURCHASE_FIELDS = List.of("use_name", "bizNo", "vat", "taxFree", "discount", "cardNo", "cardBrand");
+    private static final List<String> CARD_FIELDS = List.of("use_name", "bizNo", "vat", "taxFree", "tax");
+    // 집계표/손익 연동 컬럼 → 보고만
+    private static final List<String> REVIEW_FIELDS = List.of("total", "saleDate");
+
+    /**
+     * 재파싱 요청 조건 (null/빈 값 = 조건 없음)
+     */
+    public static class Request {
+        public String target;
+        public String route;
+        public String receiptType;
+        public String fromSaleId;
+        public String toSaleId;
+        public int limit;
+        public boolean dryRun = true;
+    }
+
+    private static class Outcome {
+        final String saleId;
+        final Stored stored;
+        final BaseReceiptParser.ReceiptResult result;
+        final Exception error;
+
+        Outcome(String saleId, Stored stored, BaseReceiptParser.ReceiptResult result, Exception error) {
+            this.saleId = saleId;
+            this.stored = stored;
+            this.result = result;
+            this.error = error;
+        }
+    }
+
+    private final ReceiptOcrDocumentMapper documentMapper;
+    private final ReceiptOcrDocumentMapper batchMapper;
+    private final OcrDocumentStore documentStore;
+    private final CardReceiptParserFactory cardParserFactory;
+    private final ReceiptParserFactory receiptParserFactory;
+    private final HeadOfficeReceiptParserFactory headOfficeParserFactory;
+    private final ReceiptScanService receiptScanService;
+    private final ItemCategoryClassifier itemCategoryClassifier;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${ocr.reparse.threads:0}")
+    private int threads;
+
+    @Value("${ocr.reparse.batch-size:200}")
+    private int batchSize;
+
+    @Value("${ocr.reparse.max-limit:20000}")
+    private int maxLimit;
+
+    @Value("${ocr.reparse.sample-limit:100}")
+    private int sampleLimit;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastRun;
+
+    public ReceiptReparseService(ReceiptOcrDocumentMapper documentMapper, OcrDocumentStore documentStore,
+                                 CardReceiptParserFactory cardParserFactory, ReceiptParserFactory receiptParserFactory,
+                                 HeadOfficeReceiptParserFactory headOfficeParserFactory, ReceiptScanService receiptScanService,
+                                 ItemCategoryClassifier itemCategoryClassifier, SqlSessionFactory sqlSessionFactory,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentMapper = documentMapper;
+        this.documentStore = documentStore;
+        this.cardParserFactory = cardParserFactory;
+        this.receiptParserFactory = receiptParserFactory;
+        this.headOfficeParserFactory = headOfficeParserFactory;
+        this.receiptScanService = receiptScanService;
+        this.itemCategoryClassifier = itemCategoryClassifier;
+        // 보정 반영 전용 세션: 트랜잭션 안의 UPDATE/DELETE/INSERT 를 모아서 커밋 시 한 번에 전송
+        this.batchMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH)
+                .getMapper(ReceiptOcrDocumentMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 조건에 맞는 보관 Document 를 최대 limit 건 재파싱. 한 번에 하나만 실행 (실행 중이면 IllegalStateException)
+     * 결과의 nextSaleId 를 다음 요청의 fromSaleId 로 넘기면 이어서 처리한다.
+     */
+    public Map<String, Object> run(Request req) throws InterruptedException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("재파싱 작업이 이미 실행 중입니다.");
+        }
+        long started = System.nanoTime();
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "receipt-reparse-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        Report report = new Report(req.dryRun, sampleLimit);
+        try {
+            int limit = Math.min(req.limit > 0 ? req.limit : 1000, maxLimit);
+            String after = req.fromSaleId == null ? "" : req.fromSaleId;
+            while (report.scanned < limit) {
+                Map<String, Object> param = new HashMap<>();
+                param.put("after_sale_id", after);
+                param.put("to_sale_id", req.toSaleId);
+                param.put("target", req.target);
+                param.put("route", req.route);
+                param.put("receipt_type", req.receiptType);
+                param.put("limit", Math.min(batchSize, limit - report.scanned));
+                List<Map<String, Object>> rows = documentMapper.ReceiptOcrDocumentList(param);
+                if (rows.isEmpty()) break;
+
+                List<Outcome> outcomes = reparse(pool, rows);
+                processBatch(outcomes, report);
+                after = String.valueOf(rows.get(rows.size() - 1).get("sale_id"));
+                report.nextSaleId = after;
+                if (rows.size() < (int) param.get("limit")) {
+                    report.nextSaleId = null; // 끝까지 처리
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+        Map<String, Object> body = report.toMap(System.nanoTime() - started);
+        lastRun = body;
+        log.info("[ReceiptReparse] dryRun={} scanned={} failed={} apply={} conflict={} review={} applied={}",
+                req.dryRun, report.scanned, report.failed, report.applySales, report.conflictSales,
+                report.reviewSales, report.appliedRows);
+        return body;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new HashMap<>();
+        m.put("running", running.get());
+        Map<String, Object> last = lastRun;
+        if (last != null) {
+            Map<String, Object> summary = new LinkedHashMap<>(last);
+            summary.remove("samples");
+            m.put("lastRun", summary);
+        }
+        return m;
+    }
+
+    // ---------------- 재파싱 ----------------
+
+    private List<Outcome> reparse(ExecutorService pool, List<Map<String, Object>> rows) throws InterruptedException {
+        List<Callable<Outcome>> tasks = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            tasks.add(() -> {
+                String saleId = String.valueOf(row.get("sale_id"));
+                Stored stored = null;
+                try {
+                    stored = documentStore.fromRow(row);
+                    return new Outcome(saleId, stored, parse(stored), null);
+                } catch (Exception e) {
+                    return new Outcome(saleId, stored, null, e);
+                }
+            });
+        }
+        List<Outcome> out = new ArrayList<>(rows.size());
+        for (Future<Outcome> f : pool.invokeAll(tasks)) {
+            try {
+                out.add(f.get());
+            } catch (ExecutionException e) {
+                log.warn("[ReceiptReparse] 재파싱 작업 오류 ({})", e.getMessage());
+            }
+        }
+        return out;
+    }
+
+    // 저장 당시와 같은 진입점으로 파싱 (경로별 팩토리 그대로 사용 → 지표/시간 예산/품목 상한 동일)
+    private BaseReceiptParser.ReceiptResult parse(Stored stored) {
+        ReceiptText rt = ReceiptText.of(stored.document);
+        switch (stored.route) {
+            case SCAN:
+                return receiptParserFactory.parse(rt, stored.receiptType);
+            case HEAD_OFFICE:
+                return headOfficeParserFactory.parse(rt, stored.receiptType);
+            default:
+                BaseReceiptParser.ReceiptResult result = cardParserFactory.parse(cardType(stored.receiptType), rt);
+                BaseReceiptParser.capItems(result, 3);
+                return result;
+        }
+    }
+
+    private CardReceiptType cardType(String alias) {
+        try {
+            return alias == null ? CardReceiptType.UNKNOWN : CardReceiptType.valueOf(alias);
+        } catch (IllegalArgumentException e) {
+            return CardReceiptType.UNKNOWN;
+        }
+    }
+
+    // ---------------- 비교 / 반영 ----------------
+
+    private void processBatch(List<Outcome> outcomes, Report report) {
+        Map<Target, List<Outcome>> byTarget = new LinkedHashMap<>();
+        for (Outcome o : outcomes) {
+            report.scanned++;
+            if (o.error != null) {
+                report.failed++;
+                report.failure(o.saleId, o.error);
+                continue;
+            }
+            report.reparsed++;
+            byTarget.computeIfAbsent(o.stored.target, k -> new ArrayList<>()).add(o);
+        }
+
+        List<Map<String, Object>> headerUpdates = new ArrayList<>();
+        Map<Target, List<Map<String, Object>>> detailInserts = new LinkedHashMap<>();
+        Map<Target, List<String>> detailReplaced = new LinkedHashMap<>();
+        List<String> touched = new ArrayList<>();
+
+        for (Map.Entry<Target, List<Outcome>> e : byTarget.entrySet()) {
+            Target target = e.getKey();
+            List<String> saleIds = new ArrayList<>();
+            for (Outcome o : e.getValue()) saleIds.add(o.saleId);
+
+            Map<String, Object> param = new HashMap<>();
+            param.put("target", target.name());
+            param.put("sale_ids", saleIds);
+            Map<String, Map<String, Object>> headers = new HashMap<>();
+            for (Map<String, Object> h : documentMapper.ReparseHeaderList(param)) {
+                headers.put(String.valueOf(h.get("sale_id")), h);
+            }
+            Map<String, List<Map<String, Object>>> details = new HashMap<>();
+            for (Map<String, Object> d : documentMapper.ReparseDetailList(param)) {
+                details.computeIfAbsent(String.valueOf(d.get("sale_id")), k -> new ArrayList<>()).add(d);
+            }
+
+            for (Outcome o : e.getValue()) {
+                Map<String, Object> row = headers.get(o.saleId);
+                if (row == null) {
+                    report.missingRow++; // 결제 행이 삭제됨
+                    continue;
+                }
+                List<Map<String, Object>> rowItems = details.getOrDefault(o.saleId, List.of());
+                List<Map<String, Object>> changes = new ArrayList<>();
+                Map<String, Object> update = diffHeader(target, o, row, changes);
+                List<Map<String, Object>> newItems = diffItems(target, o, rowItems, changes);
+
+                report.count(o, changes);
+                if (update != null) headerUpdates.add(update);
+                if (newItems != null) {
+                    detailReplaced.computeIfAbsent(target, k -> new ArrayList<>()).add(o.saleId);
+                    detailInserts.computeIfAbsent(target, k -> new ArrayList<>()).addAll(newItems);
+                }
+                if (update != null || newItems != null) touched.add(o.saleId);
+            }
+        }
+
+        if (report.dryRun || touched.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Map<String, Object> u : headerUpdates) {
+                batchMapper.ReparseHeaderUpdate(u);
+            }
+            for (Map.Entry<Target, List<String>> e : detailReplaced.entrySet()) {
+                Map<String, Object> del = new HashMap<>();
+                del.put("target", e.getKey().name());
+                del.put("sale_ids", e.getValue());
+                batchMapper.ReparseDetailDelete(del);
+                List<Map<String, Object>> items = detailInserts.get(e.getKey());
+                if (items != null && !items.isEmpty()) {
+                    Map<String, Object> ins = new HashMap<>();
+                    ins.put("target", e.getKey().name());
+                    ins.put("items", items);
+                    batchMapper.ReparseDetailInsert(ins);
+                }
+            }
+            Map<String, Object> mark = new HashMap<>();
+            mark.put("sale_ids", touched);
+            batchMapper.ReceiptOcrDocumentReparsed(mark);
+        });
+        report.appliedRows += touched.size();
+    }
+
+    /**
+     * @return 반영할 UPDATE 파라미터 (보정할 컬럼이 없으면 null)
+     */
+    private Map<String, Object> diffHeader(Target target, Outcome o, Map<String, Object> row,
+                                           List<Map<String, Object>> changes) {
+        Map<String, Object> before = columns(target, o.stored.parsed);
+        Map<String, Object> after = columns(target, o.result);
+        Map<String, Object> update = null;
+
+        for (String field : target == Target.PURCHASE ? PURCHASE_FIELDS : CARD_FIELDS) {
+            String action = decide(field, before.get(field), after.get(field), row.get(field), false);
+            if (action == null) continue;
+            changes.add(change(field, action, row.get(field), before.get(field), after.get(field)));
+            if (APPLY.equals(action)) {
+                if (update == null) {
+                    update = new HashMap<>();
+                    update.put("target", target.name());
+                    update.put("sale_id", o.saleId);
+                }
+                update.put(field, after.get(field));
+            }
+        }
+        for (String field : REVIEW_FIELDS) {
+            String action = decide(field, before.get(field), after.get(field), row.get(field), true);
+            if (action != null) {
+                changes.add(change(field, action, row.get(field), before.get(field), after.get(field)));
+            }
+        }
+        return update;
+    }
+
+    /**
+     * 3-way 판정. null = 할 일 없음
+     */
+    private String decide(String field, Object before, Object after, Object row, boolean reviewOnly) {
+        String b = norm(field, before);
+        String a = norm(field, after);
+        String r = norm(field, row);
+        if (Objects.equals(a, r) || Objects.equals(a, b)) return null;
+        if (reviewOnly) return REVIEW;
+        return Objects.equals(r, b) ? APPLY : CONFLICT;
+    }
+
+    /**
+     * @return 교체할 상세 행 (교체하지 않으면 null)
+     */
+    private List<Map<String, Object>> diffItems(Target target, Outcome o, List<Map<String, Object>> rowItems,
+                                                List<Map<String, Object>> changes) {
+        List<String> before = itemKeys(o.stored.parsed == null ? null : toRows(o.stored.parsed.items));
+        List<String> after = itemKeys(toRows(o.result.items));
+        List<String> rows = itemKeys(rowItems);
+        if (after.equals(rows) || after.equals(before)) return null;
+        boolean apply = rows.equals(before);
+        changes.add(change(ITEMS, apply ? APPLY : CONFLICT, rows, before, after));
+        if (!apply) return null;
+
+        // 같은 품목명의 기존 구분(itemType)은 유지 (사용자 수정 가능 값)
+        Map<String, Object> keptType = new HashMap<>();
+        for (Map<String, Object> r : rowItems) {
+            keptType.putIfAbsent(squash(r.get("name")), r.get("itemType"));
+        }
+        List<Map<String, Object>> out = new ArrayList<>();
+        if (o.result.items == null) return out;
+        for (BaseReceiptParser.Item it : o.result.items) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("sale_id", o.saleId);
+            m.put("name", it.name);
+            m.put("qty", it.qty);
+            m.put("amount", it.amount);
+            m.put("unitPrice", it.unitPrice);
+            m.put("taxType", ReceiptScanService.taxify(it.taxFlag));
+            Object type = keptType.get(squash(it.name));
+            if (type == null) {
+                type = target == Target.PURCHASE
+                        ? receiptScanService.classify(it.name, o.stored.receiptType)
+                        : itemCategoryClassifier.classify(it.name, ItemCategoryClassifier.FOOD);
+            }
+            m.put("itemType", type);
+            out.add(m);
+        }
+        return out;
+    }
+
+    // 저장 경로와 같은 규칙으로 파싱 결과 → 컬럼 값
+    private Map<String, Object> columns(Target target, BaseReceiptParser.ReceiptResult r) {
+        Map<String, Object> m = new HashMap<>();
+        if (r == null) return m;
+        String name = r.merchant != null ? r.merchant.name : null;
+        m.put("use_name", target == Target.PURCHASE ? name : cleanMerchantName(name));
+        m.put("bizNo", normalizeBizNo(r.merchant != null ? r.merchant.bizNo : null));
+        if (r.totals != null) {
+            m.put("vat", r.totals.vat);
+            m.put("taxFree", r.totals.taxFree);
+            m.put("discount", r.totals.discount);
+            m.put("tax", r.totals.taxable);
+            m.put("total", r.totals.total);
+        }
+        if (target == Target.PURCHASE) {
+            if (r.payment != null) {
+                m.put("cardNo", r.payment.cardNo);
+                m.put("cardBrand", r.payment.cardBrand);
+            }
+            // saveParsed 는 빈 금액을 0 으로 저장
+            for (String f : List.of("discount", "vat", "taxFree")) {
+                if (m.get(f) == null) m.put(f, 0);
+            }
+        }
+        m.put("saleDate", r.meta != null ? r.meta.saleDate : null);
+        return m;
+    }
+
+    private static String normalizeBizNo(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return BizNoUtils.normalizeBizNo(raw);
+        } catch (IllegalArgumentException e) {
+            return raw;
+        }
+    }
+
+    // CardReceiptController.cleanMerchantName 과 동일 규칙
+    private static String cleanMerchantName(String value) {
+        if (value == null) return null;
+        String x = value.trim();
+        if (x.isEmpty()) return null;
+        x = x.replaceAll("(?i)auction\\s*전자\\s*지불", "").trim();
+        x = x.replaceAll("(대표자|사업자등록번호|가맹점번호|가맹점주소|문의연락처).*", "").trim();
+        x = x.replaceAll("\\s{2,}", " ").trim();
+        return x.isEmpty() ? null : x;
+    }
+
+    private static List<Map<String, Object>> toRows(List<BaseReceiptParser.Item> items) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        if (items == null) return out;
+        for (BaseReceiptParser.Item it : items) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("name", it.name);
+            m.put("qty", it.qty);
+            m.put("amount", it.amount);
+            m.put("unitPrice", it.unitPrice);
+            out.add(m);
+        }
+        return out;
+    }
+
+    private static List<String> itemKeys(List<Map<String, Object>> items) {
+        List<String> keys = new ArrayList<>();
+        if (items == null) return keys;
+        for (Map<String, Object> it : items) {
+            keys.add(squash(it.get("name")) + "|" + norm("qty", it.get("qty")) + "|"
+                    + norm("amount", it.get("amount")) + "|" + norm("unitPrice", it.get("unitPrice")));
+        }
+        return keys;
+    }
+
+    // 비교용 정규화: 빈 값 = null, 숫자는 표기 통일, 사업자번호는 숫자만, 날짜는 yyyy-MM-dd
+    static String norm(String field, Object v) {
+        if (v == null) return null;
+        if (v instanceof Number) return new BigDecimal(v.toString()).stripTrailingZeros().toPlainString();
+        String s = v.toString().trim().replaceAll("\\s+", " ");
+        if (s.isEmpty()) return null;
+        if ("bizNo".equals(field)) return s.replaceAll("\\D", "");
+        if ("saleDate".equals(field)) {
+            try {
+                return DateUtils.parseFlexibleDate(s).toString();
+            } catch (RuntimeException e) {
+                return s;
+            }
+        }
+        if (s.matches("-?[\\d,]+(\\.\\d+)?")) {
+            return new BigDecimal(s.replace(",", "")).stripTrailingZeros().toPlainString();
+        }
+        return s;
+    }
+
+    private static String squash(Object name) {
+        return name == null ? "" : name.toString().replaceAll("\\s+", "");
+    }
+
+    private static Map<String, Object> change(String field, String action, Object row, Object before, Object after) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("field", field);
+        m.put("action", action);
+        m.put("row", row);
+        m.put("parsed", before);
+        m.put("reparsed", after);
+        return m;
+    }
+
+    /**
+     * 실행 결과 집계 (dry-run 보고서)
+     */
+    private static class Report {
+        final boolean dryRun;
+        final int sampleLimit;
+        int scanned;
+        int reparsed;
+        int failed;
+        int missingRow;
+        int unchanged;
+        int applySales;
+        int conflictSales;
+        int reviewSales;
+        int appliedRows;
+        String nextSaleId;
+        final Map<String, Map<String, Integer>> fields = new LinkedHashMap<>();
+        final List<Map<String, Object>> samples = new ArrayList<>();
+        final List<Map<String, Object>> failures = new ArrayList<>();
+
+        Report(boolean dryRun, int sampleLimit) {
+            this.dryRun = dryRun;
+            this.sampleLimit = sampleLimit;
+        }
+
+        void count(Outcome o, List<Map<String, Object>> changes) {
+            if (changes.isEmpty()) {
+                unchanged++;
+                return;
+            }
+            boolean apply = false, conflict = false, review = false;
+            for (Map<String, Object> c : changes) {
+                String action = (String) c.get("action");
+                fields.computeIfAbsent((String) c.get("field"), k -> new LinkedHashMap<>()).merge(action, 1, Integer::sum);
+                apply |= APPLY.equals(action);
+                conflict |= CONFLICT.equals(action);
+                review |= REVIEW.equals(action);
+            }
+            if (apply) applySales++;
+            if (conflict) conflictSales++;
+            if (review) reviewSales++;
+            if (samples.size() < sampleLimit) {
+                Map<String, Object> s = new LinkedHashMap<>();
+                s.put("sale_id", o.saleId);
+                s.put("target", o.stored.target.name());
+                s.put("route", o.stored.route.name());
+                s.put("receipt_type", o.stored.receiptType);
+                s.put("changes", changes);
+                samples.add(s);
+            }
+        }
+
+        void failure(String saleId, Exception e) {
+            if (failures.size() >= sampleLimit) return;
+            Map<String, Object> f = new LinkedHashMap<>();
+            f.put("sale_id", saleId);
+            f.put("error", String.valueOf(e.getMessage()));
+            failures.add(f);
+        }
+
+        Map<String, Object> toMap(long elapsedNanos) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            m.put("dryRun", dryRun);
+            m.put("scanned", scanned);
+            m.put("reparsed", reparsed);
+            m.put("failed", failed);
+            m.put("missingRow", missingRow);
+            m.put("unchanged", unchanged);
+            m.put("apply", applySales);
+            m.put("conflict", conflictSales);
+            m.put("review", reviewSales);
+            m.put("appliedRows", appliedRows);
+            m.put("nextSaleId", nextSaleId);
+            m.put("elapsedMs", elapsedNanos / 1_000_000);
+            m.put("docsPerSec", seconds == 0 ? 0.0 : scanned / seconds);
+            m.put("fields", fields);
+            m.put("samples", samples);
+            m.put("failures", failures);
+            return m;
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.classify.ItemCategoryClassifier;
+import com.example.demo.parser.BaseReceiptParser;
+import com.example.demo.parser.BaseReceiptParser.Item;
+import com.example.demo.parser.ReceiptParserRegistry;
+import com.example.demo.utils.BizNoUtils;
+import com.example.demo.utils.DateUtils;
+import com.google.cloud.documentai.v1.Document;
+
+/**
+ * /receipt-scan 공통 처리 (OCR 이후 단계)
+ * - 영수증 타입 감지, 파싱 결과 → 매입집계(purchase) 맵 구성, 이미지 슬롯 배정, DB 저장
+ * - 동기 요청(OcrController)과 비동기 작업(ReceiptOcrJobService)이 같은 로직을 사용한다.
+ */
+@Service
+public class ReceiptScanService {
+
+    // 사랑의(20250819193632) 일 때 영수증 파싱 금액보다 사용자 입력 금액을 우선 적용한다.
+    private static final String USER_INPUT_TOTAL_ACCOUNT_ID = "20250819193632";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private OcrDocumentStore ocrDocumentStore;
+
+    private static final DateTimeFormatter SALE_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    // 날짜별 마지막으로 발급한 sale_id 시각 (같은 날짜 + 같은 밀리초 충돌 방지)
+    private final Map<LocalDate, IssuedSaleId> lastIssuedSaleTime = new HashMap<>();
+
+    private static final class IssuedSaleId {
+        final LocalDateTime saleTime;
+        final long issuedAtMillis; // 발급한 실제 시각 (정리 기준)
+
+        IssuedSaleId(LocalDateTime saleTime, long issuedAtMillis) {
+            this.saleTime = saleTime;
+            this.issuedAtMillis = issuedAtMillis;
+        }
+    }
+
+    @Autowired
+    private ItemCategoryClassifier itemCategoryClassifier;
+
+    // ✅ 과면세 케이스
+    private static final String VAT = "과세";
+    private static final String TAX_FREE = "면세";
+
+    /**
+     * /receipt-scan 요청 파라미터
+     */
+    public static class ScanRequest {
+        public Integer type;
+        public String accountId;
+        public String cellDay;
+        public String cellDate;
+        public String saleDate;
+        public String saveType;
+        public String receiptType;
+        public String userId;
+        public String saleId;
+        public Integer total;
+
+        // saleDate: cell_date 우선, 없으면 saleDate 파라미터 사용
+        public String resolvedSaleDate() {
+            return (cellDate != null && !cellDate.trim().isEmpty()) ? cellDate : saleDate;
+        }
+    }
+
+    /**
+     * 영수증 이미지 저장 방식 (MultipartFile 직접 저장 / 비동기 작업의 스테이징 파일 이동)
+     */
+    public interface ImageSink {
+        int size();
+
+        void attach(Map<String, Object> purchase, int index, String saleId, String targetKey) throws Exception;
+    }
+
+    /**
+     * 처리 결과. badRequest=true 이면 body는 오류 응답(code/message)
+     */
+    public static class ScanResult {
+        public final boolean badRequest;
+        public final Map<String, Object> body;
+
+        private ScanResult(boolean badRequest, Map<String, Object> body) {
+            this.badRequest = badRequest;
+            this.body = body;
+        }
+
+        public static ScanResult ok(Map<String, Object> body) {
+            return new ScanResult(false, body);
+        }
+
+        public static ScanResult badRequest(Map<String, Object> body) {
+            return new ScanResult(true, body);
+        }
+    }
+
+    // ✅ purchase는 "기본적으로 다 들어간다" 전제: requestParam 기반 기본값을 먼저 세팅
+    public Map<String, Object> newPurchase(ScanRequest req) {
+        String resolvedSaleDate = req.resolvedSaleDate();
+        Map<String, Object> purchase = new HashMap<>();
+        purchase.put("account_id", req.accountId);
+        purchase.put("type", req.type != null ? req.type : 0);
+        purchase.put("user_id", req.userId);
+        purchase.put("saveType", req.saveType);
+        purchase.put("cell_day", req.cellDay);
+        purchase.put("saleDate", resolvedSaleDate);
+        purchase.put("payment_dt", resolvedSaleDate);
+        purchase.put("receipt_type", req.receiptType);
+        purchase.put("total", req.total);
+        // 기존 행 재업로드 시 sale_id 유지
+        if (req.saleId != null && !req.saleId.trim().isEmpty()) {
+            purchase.put("sale_id", req.saleId.trim());
+        }
+        return purchase;
+    }
+
+    /**
+     * 파싱 결과를 purchase/detail 로 변환하여 저장
+     * 결과가 비어 있으면 requestParam 기반 fallback 저장
+     * 저장에 성공하면 재파싱용으로 OCR Document(doc)를 sale_id 기준으로 보관한다.
+     */
+    public ScanResult saveParsed(ScanRequest req, Map<String, Object> purchase,
+            BaseReceiptParser.ReceiptResult result, ImageSink images, Document doc) throws Exception {
+
+        // 파싱 결과가 없거나 핵심 meta가 없으면 fallback
+        if (result == null || result.meta == null) {
+            return ScanResult.ok(saveWithRequestParamsOnly(purchase, images));
+        }
+
+        Integer type = req.type;
+        String account_id = req.accountId;
+        String cell_date = req.cellDate;
+        String cell_day = req.cellDay;
+        String receiptType = req.receiptType;
+        Integer total = req.total;
+        String resolvedSaleDate = req.resolvedSaleDate();
+
+        // saleId 생성 - OCR 날짜 우선, 없으면 requestParam 날짜 사용
+        String effectiveSaleDate = (result.meta.saleDate != null && !result.meta.saleDate.isBlank())
+                ? result.meta.saleDate
+                : resolvedSaleDate;
+        if (effectiveSaleDate == null || effectiveSaleDate.isBlank()) {
+            return ScanResult.ok(saveWithRequestParamsOnly(purchase, images));
+        }
+        boolean useCellDateForType45 = Integer.valueOf(45).equals(type)
+                && cell_date != null && !cell_date.isBlank();
+        LocalDate date = DateUtils.parseFlexibleDate(useCellDateForType45 ? cell_date : effectiveSaleDate);
+        if (cell_date != null && !cell_date.isBlank()) {
+            LocalDate cellDate = DateUtils.parseFlexibleDate(cell_date);
+            if (!useCellDateForType45 && !date.equals(cellDate)
+                    && date.getMonthValue() == cellDate.getMonthValue()
+                    && date.getDayOfMonth() == cellDate.getDayOfMonth()) {
+                date = cellDate;
+            }
+        }
+        LocalTime nowTime = LocalTime.now();
+        LocalDateTime dateTime = LocalDateTime.of(date, nowTime);
+
+        // 손익표, 예산 적용을 위해 SaleDate 에서 연도와 월을 추출.
+        int year = date.getYear(); // 2026
+        int month = date.getMonthValue(); // 1~12
+
+        purchase.put("year", year);
+        purchase.put("month", month);
+
+        String receiptDate = dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        boolean skipDateMismatchCheck = useCellDateForType45;
+
+        // 집계표 날짜 불일치면 기존 로직 유지(원하면 이 케이스도 fallback으로 바꿀 수 있음)
+        if (!skipDateMismatchCheck && cell_date != null && !cell_date.isBlank() && !receiptDate.equals(cell_date)) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 400);
+            error.put("message", "선택된 집계표 일자와 영수증 거래일자가 일치하지 않습니다.\n");
+            error.put("[집계표]", cell_date);
+            error.put("[거래일자]", receiptDate);
+            return ScanResult.badRequest(error);
+        }
+
+        String yearStr = date.format(DateTimeFormatter.ofPattern("yyyy"));
+        String monthStr = date.format(DateTimeFormatter.ofPattern("MM"));
+
+        // 재업로드 시 기존 sale_id 유지, 없을 때만 새로 생성
+        Object existingSaleIdObj = purchase.get("sale_id");
+        String finalSaleId = (existingSaleIdObj != null && !String.valueOf(existingSaleIdObj).trim().isEmpty())
+                ? String.valueOf(existingSaleIdObj).trim()
+                : nextSaleId(dateTime);
+        System.out.println("[receipt-scan] received sale_id=" + existingSaleIdObj + " → finalSaleId=" + finalSaleId);
+        purchase.put("sale_id", finalSaleId);
+        purchase.put("saleDate", receiptDate);
+        purchase.put("payment_dt", receiptDate);
+
+        Integer parsedTotal = result.totals != null ? result.totals.total : null;
+        boolean useUserInputTotal = isUserInputTotalAccount(account_id);
+        int requestTotal = safeInt(total);
+        int effectiveTotal = useUserInputTotal
+                ? requestTotal
+                : (parsedTotal == null || parsedTotal < 100) ? requestTotal : parsedTotal;
+        if (parsedTotal == null || parsedTotal < 100) {
+            purchase.put("total", total); // total 세팅.
+        } else {
+            purchase.put("total", result.totals.total); // total 세팅.
+        }
+
+        purchase.put("total", effectiveTotal);
+        purchase.put("discount", result.totals.discount);
+        purchase.put("vat", result.totals.vat);
+        purchase.put("taxFree", result.totals.taxFree);
+        purchase.put("use_name", result.merchant != null ? result.merchant.name : null);
+
+        // 결제금액
+        String approvalAmt = (result.payment != null ? result.payment.approvalAmt : null);
+        int iApprovalAmt = 0;
+
+        if (approvalAmt != null && !approvalAmt.isBlank()) {
+            String clean = approvalAmt.replaceAll("[^0-9\\-]", "");
+            if (!clean.isEmpty())
+                iApprovalAmt = Integer.parseInt(clean);
+        }
+        if (useUserInputTotal || iApprovalAmt < 100) {
+            iApprovalAmt = effectiveTotal;
+        }
+
+        if ("cash".equals(result.payment != null ? result.payment.type : null)) {
+            purchase.put("payType", 1);
+            purchase.put("totalCash", iApprovalAmt);
+            purchase.put("totalCard", 0);
+        } else {
+            purchase.put("payType", 2);
+            purchase.put("totalCard", iApprovalAmt);
+            purchase.put("totalCash", 0);
+        }
+
+        if (result.payment != null) {
+            purchase.put("cardNo", result.payment.cardNo);
+            purchase.put("cardBrand", result.payment.cardBrand);
+        } else {
+            purchase.put("cardNo", null);
+            purchase.put("cardBrand", null);
+        }
+
+        // 사업자번호
+        String merchantBizNoRaw = (result.merchant != null ? result.merchant.bizNo : null);
+        String normalizedBizNo = null;
+        if (merchantBizNoRaw != null && !merchantBizNoRaw.isBlank()) {
+            try {
+                normalizedBizNo = BizNoUtils.normalizeBizNo(merchantBizNoRaw);
+            } catch (IllegalArgumentException ex) {
+                normalizedBizNo = merchantBizNoRaw;
+            }
+        }
+        purchase.put("bizNo", normalizedBizNo);
+
+        // 씨엔푸드, 대성상회 제외 사업자번호 체크.
+        if (type != 25 || type != 45 || type != 1011) {
+            // ✅ 매핑 체크 (기존 로직 유지)
+            List<Map<String, Object>> mappingList = accountService.AccountMappingList(account_id);
+            boolean hasMapping = false;
+
+            if (normalizedBizNo != null && mappingList != null) {
+                for (Map<String, Object> m : mappingList) {
+                    try {
+                        Object bizNoObj = m.get("biz_no");
+                        if (bizNoObj == null)
+                            continue;
+                        String formattedBizNo2 = BizNoUtils.normalizeBizNo(bizNoObj.toString());
+                        if (formattedBizNo2.equals(normalizedBizNo)) {
+                            // purchase.put("type", m.get("type"));
+                            hasMapping = true;
+                            break;
+                        }
+                    } catch (IllegalArgumentException ignore) {
+                    }
+                }
+            }
+        }
+
+        // 상세 저장 리스트
+        List<Map<String, Object>> detailList = new ArrayList<>();
+        if (result.items != null) {
+            for (Item r : result.items) {
+                boolean isFirstDetail = detailList.isEmpty();
+                Map<String, Object> detailMap = new HashMap<>();
+                detailMap.put("sale_id", finalSaleId);
+                detailMap.put("name", r.name);
+                detailMap.put("qty", r.qty);
+                detailMap.put("amount", resolveDetailAmount(r.amount, effectiveTotal, useUserInputTotal, isFirstDetail));
+                detailMap.put("unitPrice", resolveDetailAmount(r.unitPrice, effectiveTotal, useUserInputTotal, isFirstDetail));
+                detailMap.put("taxType", taxify(r.taxFlag));
+                detailMap.put("itemType", classify(r.name, receiptType));
+                detailList.add(detailMap);
+            }
+        }
+
+        Map<String, Object> imageParam = new HashMap<>();
+        imageParam.put("sale_id", finalSaleId);
+        imageParam.put("account_id", account_id);
+        Map<String, Object> existingImages = accountService.AccountPurchaseReceiptImagesBySaleId(imageParam);
+        List<String> availableKeys = resolveNextReceiptImageKeys(existingImages);
+        if (availableKeys.isEmpty() || images.size() > availableKeys.size()) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", 400);
+            error.put("message", "영수증 이미지는 최대 3장까지 등록할 수 있습니다.");
+            return ScanResult.badRequest(error);
+        }
+
+        // 첫 번째 파일은 파싱 결과와 함께 기본 슬롯에, 나머지는 다음 슬롯에 저장한다.
+        for (int i = 0; i < images.size(); i++) {
+            images.attach(purchase, i, finalSaleId, availableKeys.get(i));
+        }
+
+        // tally 저장값
+        String day = "day_" + cell_day;
+        int total2 = safeInt(purchase.get("total"));
+        purchase.put(day, total2);
+        purchase.put("count_year", yearStr);
+        purchase.put("count_month", monthStr);
+
+        int iResult = 0;
+        iResult += accountService.AccountPurchaseSave(purchase);
+
+        // 재파싱용 Document 보관 (실패해도 저장 흐름에 영향 없음)
+        ocrDocumentStore.save(finalSaleId, OcrDocumentStore.Target.PURCHASE, ReceiptParserRegistry.Route.SCAN,
+                req.receiptType, doc, result);
+
+        // TallySheetPaymentSave 실패해도 이미 purchase 저장은 완료 — 예외가 catch로 빠지지 않게 처리
+        try {
+            accountService.TallySheetPaymentSave(purchase);
+        } catch (Exception tallyEx) {
+            System.err.println("[receipt-scan] TallySheetPaymentSave 실패 (무시): " + tallyEx.getMessage());
+        }
+
+        for (Map<String, Object> m : detailList) {
+            try {
+                accountService.AccountPurchaseDetailSave(m);
+            } catch (Exception detailEx) {
+                System.err.println("[receipt-scan] AccountPurchaseDetailSave 실패 (무시): " + detailEx.getMessage());
+            }
+        }
+
+        return ScanResult.ok(purchase);
+    }
+
+    /**
+     * 새 sale_id 발급 (yyyyMMddHHmmssSSS, 날짜 = 영수증 날짜, 시각 = 현재)
+     * 일괄 업로드 워커가 같은 날짜 영수증을 같은 밀리초에 저장하면 같은 값이 나오므로,
+     * 같은 날짜에 이미 발급한 시각 이하이면 마지막 발급 시각 + 1ms 로 올린다. (프로세스 내 유일)
+     */
+    synchronized String nextSaleId(LocalDateTime candidate) {
+        LocalDate day = candidate.toLocalDate();
+        LocalDateTime t = candidate.truncatedTo(ChronoUnit.MILLIS);
+        IssuedSaleId last = lastIssuedSaleTime.get(day);
+        if (last != null && !t.isAfter(last.saleTime)) {
+            t = last.saleTime.plus(1, ChronoUnit.MILLIS);
+        }
+        long now = System.currentTimeMillis();
+        if (lastIssuedSaleTime.size() > 1000) {
+            // 최근 1초 안에 발급한 날짜는 남김 (그 이전 발급분은 새 후보 시각이 이미 더 뒤라 충돌하지 않음)
+            lastIssuedSaleTime.values().removeIf(e -> e.issuedAtMillis < now - 1000);
+        }
+        lastIssuedSaleTime.put(day, new IssuedSaleId(t, now));
+        return t.format(SALE_ID_FORMAT);
+    }
+
+    // =========================
+    // ✅ fallback: OCR/파싱 실패 시 requestParam만으로 저장
+    // =========================
+    public Map<String, Object> saveWithRequestParamsOnly(Map<String, Object> purchase, ImageSink images)
+            throws Exception {
+        // 재업로드 시 기존 sale_id 유지, 없을 때만 새로 생성
+        LocalDateTime now = LocalDateTime.now();
+        String saleId;
+        Object existingSaleId = purchase.get("sale_id");
+        if (existingSaleId == null || String.valueOf(existingSaleId).trim().isEmpty()) {
+            saleId = nextSaleId(now);
+            purchase.put("sale_id", saleId);
+        } else {
+            saleId = String.valueOf(existingSaleId).trim();
+        }
+
+        // saleDate: resolvedSaleDate(=cell_date or saleDate param) 우선, 없으면 현재
+        LocalDate baseDate;
+        String saleDateVal = purchase.get("saleDate") != null ? String.valueOf(purchase.get("saleDate")).trim() : "";
+        String cellDate = purchase.get("cell_date") != null ? String.valueOf(purchase.get("cell_date")).trim() : "";
+        String dateStr = !saleDateVal.isEmpty() ? saleDateVal : (!cellDate.isEmpty() ? cellDate : "");
+        try {
+            baseDate = !dateStr.isEmpty() ? DateUtils.parseFlexibleDate(dateStr) : LocalDate.now();
+        } catch (Exception ignore) {
+            baseDate = LocalDate.now();
+        }
+        // saleDate가 없으면 baseDate로 세팅
+        if (saleDateVal.isEmpty()) {
+            purchase.put("saleDate", baseDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        }
+        purchase.put("count_year", baseDate.format(DateTimeFormatter.ofPattern("yyyy")));
+        purchase.put("count_month", baseDate.format(DateTimeFormatter.ofPattern("MM")));
+
+        // total은 requestparam에 없으니 0 (혹은 saveType에 따라 다른 정책 가능)
+        purchase.putIfAbsent("discount", 0);
+        purchase.putIfAbsent("vat", 0);
+        purchase.putIfAbsent("taxFree", 0);
+
+        // 손익표, 예산 적용을 위해 SaleDate 에서 연도와 월을 추출.
+        int year = baseDate.getYear(); // 2026
+        int month = baseDate.getMonthValue(); // 1~12
+
+        purchase.put("year", year);
+        purchase.put("month", month);
+
+        Map<String, Object> imageParam = new HashMap<>();
+        imageParam.put("sale_id", saleId);
+        imageParam.put("account_id", asText(purchase.get("account_id")));
+        Map<String, Object> existingImages = accountService.AccountPurchaseReceiptImagesBySaleId(imageParam);
+        List<String> availableKeys = resolveNextReceiptImageKeys(existingImages);
+        if (availableKeys.isEmpty()) {
+            throw new IllegalStateException("영수증 이미지는 최대 3장까지 등록할 수 있습니다.");
+        }
+        if (images.size() > availableKeys.size()) {
+            throw new IllegalStateException("영수증 이미지는 최대 3장까지 등록할 수 있습니다.");
+        }
+
+        // 첫 번째 파일은 기본 슬롯에 저장하고, 나머지는 다음 슬롯에 저장한다.
+        for (int i = 0; i < images.size(); i++) {
+            images.attach(purchase, i, saleId, availableKeys.get(i));
+        }
+
+        // tally 저장값
+        String cellDay = (String) purchase.get("cell_day");
+        if (cellDay != null && !cellDay.isBlank()) {
+            String dayKey = "day_" + cellDay;
+            purchase.put(dayKey, safeInt(purchase.get("total")));
+        }
+
+        int iResult = 0;
+        iResult += accountService.AccountPurchaseSave(purchase);
+        iResult += accountService.TallySheetPaymentSave(purchase);
+        // ✅ detail은 저장하지 않음(파싱값 없으니까)
+
+        return purchase;
+    }
+
+    // DB에 저장된 기존 경로를 기준으로 비어있는 저장 슬롯 목록을 반환한다.
+    private List<String> resolveNextReceiptImageKeys(Map<String, Object> existingImages) {
+        String img1 = asText(existingImages == null ? null : existingImages.get("receipt_image"));
+        String img2 = asText(existingImages == null ? null : existingImages.get("receipt_image2"));
+        String img3 = asText(existingImages == null ? null : existingImages.get("receipt_image3"));
+        List<String> keys = new ArrayList<>();
+        if (img1.isEmpty()) keys.add("receipt_image");
+        if (img2.isEmpty()) keys.add("receipt_image2");
+        if (img3.isEmpty()) keys.add("receipt_image3");
+        return keys;
+    }
+
+    private String asText(Object value) {
+        return value == null ? "" : String.valueOf(value).trim();
+    }
+
+    private int safeInt(Object v) {
+        if (v == null)
+            return 0;
+        try {
+            return Integer.parseInt(String.valueOf(v).replaceAll("[^0-9-]", ""));
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private boolean isUserInputTotalAccount(Object accountId) {
+        return USER_INPUT_TOTAL_ACCOUNT_ID.equals(String.valueOf(accountId == null ? "" : accountId).trim());
+    }
+
+    // 상세 품목 금액이 파싱 금액으로 다시 저장되지 않도록 첫 품목에 입력 금액을 세팅한다.
+    private Object resolveDetailAmount(Object parsedAmount, int userInputTotal, boolean useUserInputTotal, boolean isFirstDetail) {
+        if (!useUserInputTotal) {
+            return parsedAmount;
+        }
+        return isFirstDetail ? userInputTotal : 0;
+    }
+
+    /**
+     * ✅ TaxType 으로 결과 반환
+     *
+     * @return
+     */
+    public static int taxify(String taxFlag) {
+        if (taxFlag == null || taxFlag.isEmpty()) {
+            return 3;
+        }
+
+        if (taxFlag.equals(VAT)) {
+            return 1;
+        }
+
+        if (taxFlag.equals(TAX_FREE)) {
+            return 2;
+        }
+
+        return 3;
+    }
+
+    /**
+     * ✅ 품목명으로부터 분류 결과 반환
+     *
+     * @return
+     */
+    public int classify(String itemName) {
+        return classify(itemName, null);
+    }
+
+    public int classify(String itemName, String receiptType) {
+        // 키워드/학습 사전에 없으면 마트/편의점은 식재료, 나머지는 기타
+        return itemCategoryClassifier.classify(itemName, defaultByReceiptType(receiptType));
+    }
+
+    private static int defaultByReceiptType(String receiptType) {
+        if (receiptType == null) return 3;
+        switch (receiptType) {
+            case "MART_ITEMIZED":
+            case "CONVENIENCE":
+            case "TRANSACTION":
+                return 1; // 마트/편의점 → 식재료
+            default:
+                return 3; // 기타
+        }
+    }
+}
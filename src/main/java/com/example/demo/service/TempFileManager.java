@@ -0,0 +1,265 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * OCR 경로 임시 파일 관리
+ * - 요청(또는 작업) 단위 스코프 디렉터리를 열고, close 시 디렉터리째 삭제한다. (try-with-resources)
+ *   비동기 작업 스테이징(ocr.temp.dir/receipt-job): 등록/일괄 등록/워커 처리 구간마다 스코프를 열고, 작업 행에 넘길 때만 keep.
+ *   대기중 작업의 스테이징은 나이로 판단할 수 없으므로 ownedDir 로 등록해 작업 상태 기준으로 따로 정리한다.
+ * - 스코프 밖으로 새어 나간 파일은 스케줄러가 주기적으로 정리한다. (ocr.temp.dir 안만, 시스템 임시 디렉터리는 건드리지 않음)
+ * - 이전 버전이 java.io.tmpdir 에 남긴 파일(upload_, resized_, docai_input_)은 ocr.temp.legacy-cleanup=true 일 때 기동 시 1회만 정리한다.
+ *   (공용 /tmp 에서 다른 애플리케이션 파일을 지울 수 있으므로 기본 비활성)
+ * - 임시 디렉터리 용량/파일 수를 /ocr/stats 로 노출한다.
+ */
+@Component
+public class TempFileManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TempFileManager.class);
+
+    // 이전 버전 컨트롤러/OcrService가 java.io.tmpdir 에 직접 만들던 파일 접두어
+    private static final String[] LEGACY_PREFIXES = { "upload_", "resized_", "docai_input_" };
+
+    @Value("${ocr.temp.dir:${java.io.tmpdir}/thefull-ocr}")
+    private String tempDir;
+
+    @Value("${ocr.temp.orphan-minutes:60}")
+    private int orphanMinutes;
+
+    @Value("${ocr.temp.legacy-cleanup:false}")
+    private boolean legacyCleanup;
+
+    private Path root;
+    private final Path systemTmp = Paths.get(System.getProperty("java.io.tmpdir"));
+
+    // 열려 있는 스코프 디렉터리 (스위퍼가 사용중인 디렉터리를 지우지 않도록)
+    private final Set<Path> openScopes = ConcurrentHashMap.newKeySet();
+
+    // 다른 서비스가 수명을 관리하는 하위 디렉터리 (나이 기준 정리 제외, 사용량은 집계)
+    private final Set<Path> ownedDirs = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong scopesOpened = new AtomicLong();
+    private final AtomicLong scopesClosed = new AtomicLong();
+    private final AtomicLong deletedFiles = new AtomicLong();
+    private final AtomicLong deletedBytes = new AtomicLong();
+    private volatile long lastSweepAt = 0;
+
+    @PostConstruct
+    public void init() {
+        root = Paths.get(tempDir);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            log.error("[TempFileManager] 임시 디렉터리 생성 실패: {}", root, e);
+        }
+        if (legacyCleanup) {
+            int removed = cleanupLegacy();
+            log.info("[TempFileManager] 이전 버전 임시 파일 {}개 정리 ({})", removed, systemTmp);
+        }
+    }
+
+    /**
+     * 요청/작업 단위 임시 파일 스코프: close 시 디렉터리째 삭제 (keep 이 호출된 경우 제외)
+     */
+    public class Scope implements AutoCloseable {
+
+        private final Path dir;
+        private boolean kept;
+
+        private Scope(Path dir) {
+            this.dir = dir;
+        }
+
+        public Path dir() {
+            return dir;
+        }
+
+        /**
+         * 디렉터리 소유권을 넘김 (예: 작업 행 등록 완료, 재시도 대기) → close 시 삭제하지 않음
+         */
+        public void keep() {
+            kept = true;
+        }
+
+        @Override
+        public void close() {
+            if (!kept) deleteRecursively(dir);
+            openScopes.remove(dir);
+            scopesClosed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 지정 디렉터리를 스코프로 연다. (없으면 생성, 이미 있으면 기존 파일 포함)
+     * 열려 있는 동안은 고아 정리 대상에서 제외된다.
+     */
+    public Scope openScope(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        openScopes.add(dir);
+        scopesOpened.incrementAndGet();
+        return new Scope(dir);
+    }
+
+    public boolean isOpen(Path dir) {
+        return openScopes.contains(dir);
+    }
+
+    /**
+     * 임시 디렉터리 아래 name 하위 디렉터리를 호출측 관리로 등록하고 경로를 돌려준다.
+     * sweep() 에서 제외되며 정리는 호출측이 맡는다. (예: 비동기 작업 스테이징은 작업 상태 기준으로 정리)
+     */
+    public Path ownedDir(String name) {
+        Path dir = root.resolve(name);
+        ownedDirs.add(dir);
+        return dir;
+    }
+
+    /**
+     * 고아 임시 파일 정리 (orphan-minutes 이상 지난 것만)
+     * @return 삭제한 파일 수
+     */
+    public int sweep() {
+        long cutoff = System.currentTimeMillis() - orphanMinutes * 60_000L;
+        int before = (int) deletedFiles.get();
+
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(root)) {
+            for (Path p : ds) {
+                if (openScopes.contains(p) || ownedDirs.contains(p)) continue;
+                if (lastModified(p) < cutoff) deleteRecursively(p);
+            }
+        } catch (IOException e) {
+            log.warn("[TempFileManager] 임시 디렉터리 정리 실패: {} ({})", root, e.getMessage());
+        }
+
+        lastSweepAt = System.currentTimeMillis();
+        return (int) deletedFiles.get() - before;
+    }
+
+    /**
+     * 이전 버전이 시스템 임시 디렉터리에 남긴 파일 1회 정리 (orphan-minutes 이상 지난 것만)
+     */
+    private int cleanupLegacy() {
+        long cutoff = System.currentTimeMillis() - orphanMinutes * 60_000L;
+        int before = (int) deletedFiles.get();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(systemTmp, this::isLegacy)) {
+            for (Path p : ds) {
+                if (lastModified(p) < cutoff) deleteRecursively(p);
+            }
+        } catch (IOException e) {
+            log.warn("[TempFileManager] 시스템 임시 디렉터리 정리 실패: {} ({})", systemTmp, e.getMessage());
+        }
+        return (int) deletedFiles.get() - before;
+    }
+
+    /**
+     * 디렉터리(또는 파일)를 통째로 삭제하고 삭제 통계에 반영한다. (다른 서비스의 고아 정리에서도 사용)
+     */
+    public void deleteRecursively(Path target) {
+        if (!Files.exists(target)) return;
+        try {
+            Files.walkFileTree(target, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    long size = attrs.size();
+                    if (Files.deleteIfExists(file)) {
+                        deletedFiles.incrementAndGet();
+                        deletedBytes.addAndGet(size);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[TempFileManager] 삭제 실패: {} ({})", target, e.getMessage());
+        }
+    }
+
+    public int getOrphanMinutes() {
+        return orphanMinutes;
+    }
+
+    public Map<String, Object> stats() {
+        long[] managed = usage(root, null);
+
+        Map<String, Object> m = new HashMap<>();
+        m.put("dir", root.toString());
+        m.put("bytes", managed[0]);
+        m.put("files", managed[1]);
+        m.put("openScopes", openScopes.size());
+        m.put("scopesOpened", scopesOpened.get());
+        m.put("scopesClosed", scopesClosed.get());
+        m.put("deletedFiles", deletedFiles.get());
+        m.put("deletedBytes", deletedBytes.get());
+        m.put("lastSweepAt", lastSweepAt);
+        return m;
+    }
+
+    /**
+     * 디렉터리 사용량 {bytes, files}. filter가 있으면 최상위 항목에만 적용한다.
+     */
+    public long[] usage(Path dir, DirectoryStream.Filter<Path> filter) {
+        long[] acc = new long[2];
+        if (!Files.isDirectory(dir)) return acc;
+        DirectoryStream.Filter<Path> f = filter != null ? filter : p -> true;
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, f)) {
+            for (Path p : ds) {
+                Files.walkFileTree(p, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        acc[0] += attrs.size();
+                        acc[1]++;
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE; // 집계 중 삭제된 파일
+                    }
+                });
+            }
+        } catch (IOException e) {
+            log.debug("[TempFileManager] 사용량 집계 실패: {} ({})", dir, e.getMessage());
+        }
+        return acc;
+    }
+
+    private boolean isLegacy(Path p) {
+        String name = p.getFileName().toString();
+        for (String prefix : LEGACY_PREFIXES) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE; // 이미 삭제됨 → 건너뜀
+        }
+    }
+}
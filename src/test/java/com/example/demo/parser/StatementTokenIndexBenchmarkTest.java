@@ -0,0 +1,175 @@
+package com.example.demo.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.example.demo.parser.StatementTokenIndex.OcrToken;
+import com.example.demo.parser.StatementTokenIndexTest.Legacy;
+import com.google.cloud.documentai.v1.BoundingPoly;
+import com.google.cloud.documentai.v1.Document;
+import com.google.cloud.documentai.v1.NormalizedVertex;
+
+/**
+ * 거래명세서 좌표 기반 행 묶기 벤치마크 (기존 리스트 반복 스캔 vs y 정렬 인덱스)
+ * 다페이지 거래명세서 OCR 결과와 같은 배치(페이지당 헤더 1줄 + 품목 36줄 + 합계)의 Document 를 만들어
+ * 페이지 단위 처리 시간을 비교한다. (결과 동일성은 StatementTokenIndexTest 에서 항상 확인)
+ * 실행: BENCHMARK=true gradle test --tests '*StatementTokenIndexBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class StatementTokenIndexBenchmarkTest {
+
+	private static final int PAGES = 8;
+	private static final int ROWS_PER_PAGE = 36;
+	private static final int WARMUP = 300;
+	private static final int ITERATIONS = 2000;
+
+	@Test
+	void rowClustering() {
+		Document doc = statement(PAGES, ROWS_PER_PAGE, 42L);
+		List<List<OcrToken>> pages = new ArrayList<>();
+		for (Document.Page page : doc.getPagesList()) {
+			pages.add(tokens(doc, page));
+		}
+
+		// 1) 처리 시간 (페이지 전체를 헤더 탐색 → 하단 → 행 묶기까지)
+		long sink = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			sink += runLegacy(pages) + runIndexed(pages);
+		}
+		long t0 = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) sink += runLegacy(pages);
+		long legacyNanos = System.nanoTime() - t0;
+		t0 = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) sink += runIndexed(pages);
+		long indexedNanos = System.nanoTime() - t0;
+
+		// 2) 파서 전체 (참고용)
+		TransactionStatementParser parser = new TransactionStatementParser();
+		for (int i = 0; i < 20; i++) parser.parse(doc);
+		t0 = System.nanoTime();
+		for (int i = 0; i < 50; i++) sink += parser.parse(doc).items.size();
+		long parseNanos = System.nanoTime() - t0;
+
+		int tokenCount = pages.stream().mapToInt(List::size).sum();
+		System.out.printf("📊 행 묶기 %d페이지/%d토큰: 기존 %.1fµs/op, 인덱스 %.1fµs/op (%.1fx), 파서 전체 %.2fms/op (sink=%d)%n",
+				PAGES, tokenCount,
+				legacyNanos / 1000.0 / ITERATIONS, indexedNanos / 1000.0 / ITERATIONS,
+				(double) legacyNanos / indexedNanos, parseNanos / 1_000_000.0 / 50, sink);
+	}
+
+	private static long runLegacy(List<List<OcrToken>> pages) {
+		long rows = 0;
+		for (List<OcrToken> tokens : pages) {
+			Float headerY = Legacy.findItemHeaderY(tokens);
+			if (headerY == null) continue;
+			float bottomY = Legacy.findItemTableBottomY(tokens, headerY);
+			rows += Legacy.groupTokensByRow(tokens, headerY + 0.025f, bottomY).size();
+		}
+		return rows;
+	}
+
+	private static long runIndexed(List<List<OcrToken>> pages) {
+		long rows = 0;
+		for (List<OcrToken> tokens : pages) {
+			StatementTokenIndex index = new StatementTokenIndex(tokens);
+			Float headerY = index.findItemHeaderY();
+			if (headerY == null) continue;
+			float bottomY = index.findItemTableBottomY(headerY);
+			rows += index.rowsBetween(headerY + 0.025f, bottomY).size();
+		}
+		return rows;
+	}
+
+	// 파서의 pageTokens 와 같은 변환 (normalizedVertices 중심/최소 x)
+	private static List<OcrToken> tokens(Document doc, Document.Page page) {
+		List<OcrToken> out = new ArrayList<>();
+		for (Document.Page.Token token : page.getTokensList()) {
+			Document.TextAnchor.TextSegment seg = token.getLayout().getTextAnchor().getTextSegments(0);
+			String text = doc.getText().substring((int) seg.getStartIndex(), (int) seg.getEndIndex()).trim();
+			float minX = 1f, maxX = 0f, minY = 1f, maxY = 0f;
+			for (NormalizedVertex v : token.getLayout().getBoundingPoly().getNormalizedVerticesList()) {
+				minX = Math.min(minX, v.getX());
+				maxX = Math.max(maxX, v.getX());
+				minY = Math.min(minY, v.getY());
+				maxY = Math.max(maxY, v.getY());
+			}
+			out.add(new OcrToken(text, (minX + maxX) / 2f, (minY + maxY) / 2f, minX));
+		}
+		return out;
+	}
+
+	/**
+	 * 다페이지 거래명세서 모양의 Document (상단 거래처 정보, 품목 헤더, 품목 행, 합계)
+	 * 토큰 y 에 OCR 기울기 수준의 흔들림(±0.003)을 준다.
+	 */
+	static Document statement(int pages, int rowsPerPage, long seed) {
+		Random rnd = new Random(seed);
+		String[] names = { "양파", "대파", "깐마늘", "돼지고기 앞다리", "계란 30구", "두부", "콩나물", "식용유 18L", "부침가루", "고춧가루" };
+		String[] units = { "KG", "EA", "BOX", "봉" };
+		StringBuilder text = new StringBuilder();
+		Document.Builder doc = Document.newBuilder();
+
+		for (int p = 0; p < pages; p++) {
+			Document.Page.Builder page = Document.Page.newBuilder()
+					.setPageNumber(p + 1)
+					.setDimension(Document.Page.Dimension.newBuilder().setWidth(1240).setHeight(1754));
+
+			token(page, text, "거래명세서", 0.42f, 0.04f, rnd);
+			token(page, text, "공급자", 0.08f, 0.09f, rnd);
+			token(page, text, "(주)더풀식자재", 0.25f, 0.09f, rnd);
+			token(page, text, "공급받는자", 0.58f, 0.09f, rnd);
+			token(page, text, "현장식당", 0.75f, 0.09f, rnd);
+			token(page, text, "등록번호", 0.08f, 0.12f, rnd);
+			token(page, text, "123-45-67890", 0.25f, 0.12f, rnd);
+			token(page, text, "거래일자", 0.58f, 0.12f, rnd);
+			token(page, text, "2025-03-" + String.format("%02d", p + 1), 0.75f, 0.12f, rnd);
+
+			float headerY = 0.2f;
+			String[] header = { "품목", "규격", "수량", "단가", "금액", "세액" };
+			float[] headerX = { 0.12f, 0.32f, 0.45f, 0.58f, 0.72f, 0.86f };
+			for (int i = 0; i < header.length; i++) token(page, text, header[i], headerX[i], headerY, rnd);
+
+			int sum = 0;
+			for (int r = 0; r < rowsPerPage; r++) {
+				float y = headerY + 0.04f + r * 0.019f;
+				int qty = 1 + rnd.nextInt(20);
+				int price = (1 + rnd.nextInt(50)) * 500;
+				int amount = qty * price;
+				sum += amount;
+				token(page, text, names[rnd.nextInt(names.length)], 0.12f, y, rnd);
+				token(page, text, units[rnd.nextInt(units.length)], 0.32f, y, rnd);
+				token(page, text, String.valueOf(qty), 0.45f, y, rnd);
+				token(page, text, String.format("%,d", price), 0.58f, y, rnd);
+				token(page, text, String.format("%,d", amount), 0.72f, y, rnd);
+				token(page, text, "0", 0.86f, y, rnd);
+			}
+			float footerY = headerY + 0.04f + rowsPerPage * 0.019f + 0.02f;
+			token(page, text, "합계", 0.12f, footerY, rnd);
+			token(page, text, String.format("%,d", sum), 0.72f, footerY, rnd);
+			doc.addPages(page);
+		}
+		return doc.setText(text.toString()).build();
+	}
+
+	private static void token(Document.Page.Builder page, StringBuilder text, String value, float cx, float cy, Random rnd) {
+		int start = text.length();
+		text.append(value).append('\n');
+		float y = cy + (rnd.nextFloat() - 0.5f) * 0.006f;
+		float halfW = 0.005f * value.length() + 0.01f;
+		float halfH = 0.006f;
+		BoundingPoly poly = BoundingPoly.newBuilder()
+				.addNormalizedVertices(NormalizedVertex.newBuilder().setX(cx - halfW).setY(y - halfH))
+				.addNormalizedVertices(NormalizedVertex.newBuilder().setX(cx + halfW).setY(y - halfH))
+				.addNormalizedVertices(NormalizedVertex.newBuilder().setX(cx + halfW).setY(y + halfH))
+				.addNormalizedVertices(NormalizedVertex.newBuilder().setX(cx - halfW).setY(y + halfH))
+				.build();
+		page.addTokens(Document.Page.Token.newBuilder().setLayout(Document.Page.Layout.newBuilder()
+				.setBoundingPoly(poly)
+				.setTextAnchor(Document.TextAnchor.newBuilder().addTextSegments(
+						Document.TextAnchor.TextSegment.newBuilder().setStartIndex(start).setEndIndex(start + value.length())))));
+	}
+}
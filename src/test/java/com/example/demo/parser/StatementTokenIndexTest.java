@@ -0,0 +1,261 @@
+package com.example.demo.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.parser.StatementTokenIndex.OcrToken;
+
+/**
+ * 거래명세서 y 정렬 토큰 인덱스 ↔ 인덱스 도입 전 리스트 반복 스캔(Legacy) 결과 동일성
+ * 손으로 만든 작은 페이지로 헤더 탐색, 표 하단, 행 묶기를 비교한다. (허용오차 경계 포함)
+ */
+class StatementTokenIndexTest {
+
+	private static final float HEADER_TOL = StatementTokenIndex.HEADER_LINE_TOLERANCE;
+	private static final float ROW_TOL = StatementTokenIndex.ROW_TOLERANCE;
+
+	@Test
+	void emptyPage() {
+		List<OcrToken> tokens = new ArrayList<>();
+		StatementTokenIndex index = new StatementTokenIndex(tokens);
+
+		assertTrue(index.isEmpty());
+		assertNull(index.findItemHeaderY());
+		assertNull(Legacy.findItemHeaderY(tokens));
+		assertEquals(Legacy.findItemTableBottomY(tokens, 0f), index.findItemTableBottomY(0f));
+		assertTrue(index.rowsBetween(-1f, 2f).isEmpty());
+		assertSameRows(tokens, -1f, 2f);
+	}
+
+	@Test
+	void noItemHeader() {
+		// 품목 라벨은 있지만 같은 줄에 수량이 없음 → 헤더 없음
+		List<OcrToken> tokens = new ArrayList<>();
+		tokens.add(token("거래명세서", 0.42f, 0.04f));
+		tokens.add(token("품목", 0.12f, 0.20f));
+		tokens.add(token("단가", 0.58f, 0.20f));
+		tokens.add(token("금액", 0.72f, 0.20f));
+		tokens.add(token("양파", 0.12f, 0.24f));
+		tokens.add(token("12,000", 0.72f, 0.241f));
+		tokens.add(token("합계", 0.12f, 0.30f));
+
+		assertNull(Legacy.findItemHeaderY(tokens));
+		assertNull(new StatementTokenIndex(tokens).findItemHeaderY());
+		assertSameRows(tokens, -1f, 2f);
+	}
+
+	@Test
+	void itemTable() {
+		List<OcrToken> tokens = new ArrayList<>();
+		tokens.add(token("공급자", 0.08f, 0.09f));
+		tokens.add(token("(주)더풀식자재", 0.25f, 0.091f));
+		tokens.add(token("품 목", 0.12f, 0.20f));
+		tokens.add(token("수량", 0.45f, 0.203f));
+		tokens.add(token("단가", 0.58f, 0.198f));
+		tokens.add(token("금액", 0.72f, 0.201f));
+		// 행 안의 y 흔들림 + 읽기 순서와 다른 x 순서
+		tokens.add(token("12,000", 0.72f, 0.242f));
+		tokens.add(token("양파", 0.12f, 0.240f));
+		tokens.add(token("2", 0.45f, 0.238f));
+		tokens.add(token("대파", 0.12f, 0.259f));
+		tokens.add(token("3,000", 0.72f, 0.261f));
+		tokens.add(token("이하 여백", 0.40f, 0.280f));
+		tokens.add(token("합계", 0.12f, 0.300f));
+		tokens.add(token("15,000", 0.72f, 0.300f));
+		// 하단 라벨이 여러 개면 가장 위의 것
+		tokens.add(token("공급가액", 0.12f, 0.320f));
+
+		StatementTokenIndex index = new StatementTokenIndex(tokens);
+		Float headerY = index.findItemHeaderY();
+		assertEquals(Legacy.findItemHeaderY(tokens), headerY);
+		assertEquals(0.20f, headerY);
+
+		float bottomY = index.findItemTableBottomY(headerY);
+		assertEquals(Legacy.findItemTableBottomY(tokens, headerY), bottomY);
+		assertEquals(0.280f, bottomY);
+
+		List<List<OcrToken>> rows = assertSameRows(tokens, headerY + 0.025f, bottomY);
+		assertEquals(2, rows.size());
+		assertEquals(List.of("양파", "2", "12,000"), texts(rows.get(0)));
+		assertEquals(List.of("대파", "3,000"), texts(rows.get(1)));
+	}
+
+	@Test
+	void headerLineToleranceBoundary() {
+		// 수량 라벨이 헤더와 정확히 허용오차만큼 떨어지면 같은 줄, 그보다 조금이라도 멀면 다른 줄
+		List<OcrToken> within = headerWithQtyAt(HEADER_TOL);
+		assertEquals(Legacy.findItemHeaderY(within), new StatementTokenIndex(within).findItemHeaderY());
+		assertEquals(0f, new StatementTokenIndex(within).findItemHeaderY());
+
+		List<OcrToken> beyond = headerWithQtyAt(Math.nextUp(HEADER_TOL));
+		assertNull(Legacy.findItemHeaderY(beyond));
+		assertNull(new StatementTokenIndex(beyond).findItemHeaderY());
+
+		// 헤더 위쪽 경계
+		List<OcrToken> above = headerWithQtyAt(-HEADER_TOL);
+		assertEquals(Legacy.findItemHeaderY(above), new StatementTokenIndex(above).findItemHeaderY());
+		assertEquals(0f, new StatementTokenIndex(above).findItemHeaderY());
+
+		// 부동소수 덧셈으로 만든 경계 근처 좌표도 두 방식이 같은 판정
+		float base = 0.2f;
+		for (float y : new float[] { Math.nextDown(base + HEADER_TOL), base + HEADER_TOL, Math.nextUp(base + HEADER_TOL) }) {
+			List<OcrToken> tokens = new ArrayList<>();
+			tokens.add(token("품목", 0.12f, base));
+			tokens.add(token("수량", 0.45f, y));
+			tokens.add(token("금액", 0.72f, base));
+			assertEquals(Legacy.findItemHeaderY(tokens), new StatementTokenIndex(tokens).findItemHeaderY());
+		}
+	}
+
+	@Test
+	void rowToleranceBoundary() {
+		// 행 평균 y 와 정확히 허용오차만큼 떨어진 토큰은 같은 행
+		List<OcrToken> within = List.of(token("양파", 0.12f, 0f), token("12,000", 0.72f, ROW_TOL));
+		assertEquals(1, assertSameRows(within, -1f, 1f).size());
+
+		List<OcrToken> beyond = List.of(token("양파", 0.12f, 0f), token("12,000", 0.72f, Math.nextUp(ROW_TOL)));
+		assertEquals(2, assertSameRows(beyond, -1f, 1f).size());
+
+		// 평균이 움직인 뒤 경계: 0, tol → 평균 tol/2 → 1.5·tol 은 같은 행, 그보다 위는 새 행
+		List<OcrToken> drift = new ArrayList<>();
+		drift.add(token("a", 0.1f, 0f));
+		drift.add(token("b", 0.2f, ROW_TOL));
+		drift.add(token("c", 0.3f, ROW_TOL / 2 + ROW_TOL));
+		drift.add(token("d", 0.4f, Math.nextUp(ROW_TOL / 2 + ROW_TOL + ROW_TOL)));
+		assertSameRows(drift, -1f, 1f);
+
+		// 영역 경계(topY/bottomY)에 정확히 걸친 토큰은 제외
+		List<OcrToken> edges = List.of(token("top", 0.1f, 0.3f), token("mid", 0.1f, 0.4f), token("bottom", 0.1f, 0.5f));
+		List<List<OcrToken>> rows = assertSameRows(edges, 0.3f, 0.5f);
+		assertEquals(1, rows.size());
+		assertEquals(List.of("mid"), texts(rows.get(0)));
+
+		// 부동소수 덧셈으로 만든 경계 근처 좌표
+		float base = 0.5f;
+		for (float y : new float[] { Math.nextDown(base + ROW_TOL), base + ROW_TOL, Math.nextUp(base + ROW_TOL) }) {
+			assertSameRows(List.of(token("양파", 0.12f, base), token("12,000", 0.72f, y)), 0f, 1f);
+		}
+	}
+
+	@Test
+	void sameYKeepsReadingOrder() {
+		// y/x 가 완전히 같은 토큰은 원래(읽기) 순서 유지
+		List<OcrToken> tokens = List.of(token("첫째", 0.5f, 0.4f), token("둘째", 0.5f, 0.4f), token("셋째", 0.5f, 0.4f));
+		List<List<OcrToken>> rows = assertSameRows(tokens, 0f, 1f);
+		assertEquals(List.of("첫째", "둘째", "셋째"), texts(rows.get(0)));
+	}
+
+	private static List<OcrToken> headerWithQtyAt(float qtyY) {
+		List<OcrToken> tokens = new ArrayList<>();
+		tokens.add(token("품목", 0.12f, 0f));
+		tokens.add(token("수량", 0.45f, qtyY));
+		tokens.add(token("금액", 0.72f, 0f));
+		return tokens;
+	}
+
+	// 두 방식의 행 묶기 결과가 같은 토큰 인스턴스를 같은 순서로 갖는지 확인하고 인덱스 결과를 돌려준다.
+	private static List<List<OcrToken>> assertSameRows(List<OcrToken> tokens, float topY, float bottomY) {
+		List<List<OcrToken>> expected = Legacy.groupTokensByRow(tokens, topY, bottomY);
+		List<List<OcrToken>> actual = new StatementTokenIndex(tokens).rowsBetween(topY, bottomY);
+		assertEquals(expected.size(), actual.size());
+		for (int r = 0; r < expected.size(); r++) {
+			assertEquals(expected.get(r).size(), actual.get(r).size());
+			for (int t = 0; t < expected.get(r).size(); t++) {
+				assertSame(expected.get(r).get(t), actual.get(r).get(t));
+			}
+		}
+		return actual;
+	}
+
+	private static OcrToken token(String text, float x, float y) {
+		return new OcrToken(text, x, y, x - 0.02f);
+	}
+
+	private static List<String> texts(List<OcrToken> row) {
+		List<String> out = new ArrayList<>();
+		for (OcrToken t : row) out.add(t.text);
+		return out;
+	}
+
+	/**
+	 * 인덱스 도입 전 TransactionStatementParser 의 토큰 처리 (비교 기준)
+	 */
+	static final class Legacy {
+
+		static Float findItemHeaderY(List<OcrToken> tokens) {
+			for (OcrToken token : tokens) {
+				String compact = token.text.replaceAll("\\s+", "");
+				if (!(compact.contains("품목") || compact.contains("규격"))) continue;
+
+				float y = token.y;
+				boolean hasQty = hasTokenNearY(tokens, y, "수량");
+				boolean hasUnitPrice = hasTokenNearY(tokens, y, "단가");
+				boolean hasAmount = hasTokenNearY(tokens, y, "금액");
+				if (hasQty && (hasUnitPrice || hasAmount)) return y;
+			}
+			return null;
+		}
+
+		static boolean hasTokenNearY(List<OcrToken> tokens, float y, String keyword) {
+			for (OcrToken token : tokens) {
+				if (Math.abs(token.y - y) > 0.035f) continue;
+				if (token.text.replaceAll("\\s+", "").contains(keyword)) return true;
+			}
+			return false;
+		}
+
+		static float findItemTableBottomY(List<OcrToken> tokens, float headerY) {
+			float bottomY = 1.0f;
+			for (OcrToken token : tokens) {
+				if (token.y <= headerY) continue;
+				String compact = token.text.replaceAll("\\s+", "");
+				if (compact.contains("이하여백") || compact.contains("공급가액") || compact.contains("합계")) {
+					bottomY = Math.min(bottomY, token.y);
+				}
+			}
+			return bottomY;
+		}
+
+		static List<List<OcrToken>> groupTokensByRow(List<OcrToken> tokens, float topY, float bottomY) {
+			List<OcrToken> body = new ArrayList<>();
+			for (OcrToken token : tokens) {
+				if (token.y <= topY || token.y >= bottomY) continue;
+				if (token.text.replaceAll("\\s+", "").contains("이하여백")) continue;
+				body.add(token);
+			}
+
+			body.sort(Comparator.comparingDouble((OcrToken t) -> t.y).thenComparingDouble(t -> t.x));
+
+			List<List<OcrToken>> rows = new ArrayList<>();
+			for (OcrToken token : body) {
+				List<OcrToken> target = null;
+				for (List<OcrToken> row : rows) {
+					float sum = 0f;
+					for (OcrToken t : row) sum += t.y;
+					if (Math.abs(sum / row.size() - token.y) <= 0.012f) {
+						target = row;
+						break;
+					}
+				}
+				if (target == null) {
+					target = new ArrayList<>();
+					rows.add(target);
+				}
+				target.add(token);
+			}
+
+			for (List<OcrToken> row : rows) {
+				row.sort(Comparator.comparingDouble(t -> t.x));
+			}
+			return rows;
+		}
+	}
+}
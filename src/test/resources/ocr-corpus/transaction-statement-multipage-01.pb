@@ -0,0 +1,15730 @@
+
+image/jpeg"M거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-10 페이지 1/6
+품목 규격 수량 단가 금액 세액
+쌀 20kg KG 5 13,000 65,000 0
+두부 망 18 3,500 63,000 0
+양파 15kg KG 17 7,000 119,000 0
+대파 망 3 8,000 24,000 0
+돼지고기 앞다리 망 19 4,000 76,000 0
+콩나물 4kg KG 19 19,000 361,000 0
+깐마늘 1kg BOX 2 18,000 36,000 0
+고춧가루 1kg BOX 18 4,000 72,000 0
+고춧가루 1kg 망 6 3,500 21,000 0
+부침가루 2kg KG 12 3,500 42,000 0
+식용유 18L 망 20 7,000 140,000 0
+고춧가루 1kg 봉 11 15,000 165,000 0
+배추 1망 EA 8 6,000 48,000 0
+식용유 18L BOX 10 17,000 170,000 0
+대파 KG 10 19,500 195,000 0
+두부 EA 6 24,500 147,000 0
+쌀 20kg KG 14 1,500 21,000 0
+두부 BOX 19 10,500 199,500 0
+대파 KG 19 15,000 285,000 0
+쌀 20kg KG 16 22,500 360,000 0
+고춧가루 1kg 봉 10 21,000 210,000 0
+두부 KG 13 21,500 279,500 0
+고춧가루 1kg KG 12 5,500 66,000 0
+계란 30구 EA 7 25,000 175,000 0
+식용유 18L KG 13 13,000 169,000 0
+계란 30구 EA 13 18,000 234,000 0
+배추 1망 봉 18 9,000 162,000 0
+깐마늘 1kg KG 13 7,500 97,500 0
+돼지고기 앞다리 KG 8 21,500 172,000 0
+계란 30구 BOX 19 6,000 114,000 0
+두부 망 14 17,500 245,000 0
+부침가루 2kg 망 5 22,500 112,500 0
+쌀 20kg 망 2 15,000 30,000 0
+대파 봉 13 13,000 169,000 0
+대파 EA 2 6,500 13,000 0
+고춧가루 1kg KG 4 11,000 44,000 0
+이하여백
+공급가액 4,902,000 합계 4,902,000
+인수자 (인)
+거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-11 페이지 2/6
+품목 규격 수량 단가 금액 세액
+부침가루 2kg KG 19 5,000 95,000 0
+대파 EA 20 1,000 20,000 0
+계란 30구 BOX 5 20,500 102,500 0
+대파 봉 16 4,000 64,000 0
+식용유 18L BOX 15 15,500 232,500 0
+두부 BOX 4 24,000 96,000 0
+양파 15kg EA 6 17,000 102,000 0
+깐마늘 1kg 망 17 12,000 204,000 0
+쌀 20kg KG 17 10,000 170,000 0
+두부 EA 9 17,000 153,000 0
+부침가루 2kg 망 8 17,500 140,000 0
+돼지고기 앞다리 EA 8 20,000 160,000 0
+부침가루 2kg 봉 8 6,500 52,000 0
+계란 30구 봉 1 1,000 1,000 0
+식용유 18L BOX 20 11,500 230,000 0
+돼지고기 앞다리 KG 12 3,000 36,000 0
+돼지고기 앞다리 봉 7 11,000 77,000 0
+식용유 18L BOX 20 500 10,000 0
+대파 봉 3 21,500 64,500 0
+깐마늘 1kg 봉 7 15,500 108,500 0
+배추 1망 봉 11 3,000 33,000 0
+깐마늘 1kg EA 3 23,500 70,500 0
+고춧가루 1kg 봉 1 5,000 5,000 0
+고춧가루 1kg 봉 5 20,000 100,000 0
+부침가루 2kg 망 12 5,000 60,000 0
+쌀 20kg KG 1 23,500 23,500 0
+돼지고기 앞다리 EA 5 14,000 70,000 0
+부침가루 2kg EA 7 9,500 66,500 0
+부침가루 2kg 봉 11 8,500 93,500 0
+두부 봉 2 24,000 48,000 0
+부침가루 2kg EA 17 13,500 229,500 0
+양파 15kg 봉 17 16,500 280,500 0
+깐마늘 1kg EA 20 500 10,000 0
+대파 망 20 23,500 470,000 0
+부침가루 2kg 봉 17 17,000 289,000 0
+양파 15kg EA 4 18,000 72,000 0
+이하여백
+공급가액 4,039,000 합계 4,039,000
+인수자 (인)
+거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-12 페이지 3/6
+품목 규격 수량 단가 금액 세액
+대파 망 2 25,000 50,000 0
+대파 봉 1 24,500 24,500 0
+부침가루 2kg EA 17 19,500 331,500 0
+부침가루 2kg 봉 15 16,500 247,500 0
+부침가루 2kg BOX 8 22,500 180,000 0
+깐마늘 1kg 봉 7 14,500 101,500 0
+대파 EA 15 10,500 157,500 0
+계란 30구 KG 7 21,500 150,500 0
+쌀 20kg BOX 5 23,000 115,000 0
+돼지고기 앞다리 KG 5 15,000 75,000 0
+쌀 20kg EA 16 5,500 88,000 0
+콩나물 4kg BOX 14 16,500 231,000 0
+대파 BOX 12 10,500 126,000 0
+식용유 18L KG 18 15,000 270,000 0
+계란 30구 망 17 20,000 340,000 0
+대파 KG 4 7,500 30,000 0
+깐마늘 1kg BOX 2 25,000 50,000 0
+계란 30구 봉 14 22,000 308,000 0
+식용유 18L BOX 17 18,500 314,500 0
+깐마늘 1kg 봉 2 22,500 45,000 0
+쌀 20kg KG 9 1,000 9,000 0
+돼지고기 앞다리 KG 3 19,500 58,500 0
+양파 15kg BOX 4 15,000 60,000 0
+고춧가루 1kg EA 14 9,000 126,000 0
+깐마늘 1kg BOX 8 4,000 32,000 0
+쌀 20kg BOX 7 10,000 70,000 0
+식용유 18L 망 7 9,500 66,500 0
+양파 15kg BOX 9 11,500 103,500 0
+부침가루 2kg 망 1 23,500 23,500 0
+돼지고기 앞다리 봉 17 15,500 263,500 0
+식용유 18L 망 14 21,500 301,000 0
+계란 30구 EA 13 16,500 214,500 0
+배추 1망 EA 11 6,500 71,500 0
+깐마늘 1kg KG 12 2,000 24,000 0
+깐마늘 1kg KG 9 14,000 126,000 0
+쌀 20kg BOX 13 16,500 214,500 0
+이하여백
+공급가액 4,999,500 합계 4,999,500
+인수자 (인)
+거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-13 페이지 4/6
+품목 규격 수량 단가 금액 세액
+식용유 18L EA 10 1,500 15,000 0
+계란 30구 BOX 15 500 7,500 0
+돼지고기 앞다리 KG 18 10,500 189,000 0
+두부 EA 10 7,000 70,000 0
+식용유 18L BOX 13 3,000 39,000 0
+부침가루 2kg KG 7 8,000 56,000 0
+콩나물 4kg 망 3 5,000 15,000 0
+계란 30구 EA 1 10,000 10,000 0
+깐마늘 1kg 망 17 24,500 416,500 0
+식용유 18L EA 11 23,500 258,500 0
+깐마늘 1kg KG 20 21,000 420,000 0
+콩나물 4kg 망 17 20,500 348,500 0
+부침가루 2kg 망 17 24,500 416,500 0
+고춧가루 1kg EA 1 22,000 22,000 0
+쌀 20kg BOX 2 4,500 9,000 0
+부침가루 2kg KG 13 14,500 188,500 0
+돼지고기 앞다리 봉 18 22,000 396,000 0
+배추 1망 망 15 2,500 37,500 0
+부침가루 2kg KG 3 21,500 64,500 0
+대파 BOX 16 8,500 136,000 0
+배추 1망 봉 7 7,500 52,500 0
+식용유 18L BOX 13 2,500 32,500 0
+쌀 20kg EA 20 20,500 410,000 0
+계란 30구 BOX 5 11,000 55,000 0
+식용유 18L KG 5 500 2,500 0
+돼지고기 앞다리 봉 4 22,500 90,000 0
+식용유 18L 봉 17 9,500 161,500 0
+돼지고기 앞다리 BOX 4 18,000 72,000 0
+계란 30구 봉 16 1,000 16,000 0
+계란 30구 봉 17 14,500 246,500 0
+고춧가루 1kg KG 7 2,500 17,500 0
+두부 EA 17 8,500 144,500 0
+대파 BOX 17 9,000 153,000 0
+양파 15kg EA 16 13,000 208,000 0
+식용유 18L 봉 16 22,000 352,000 0
+두부 봉 5 13,500 67,500 0
+이하여백
+공급가액 5,196,000 합계 5,196,000
+인수자 (인)
+거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-14 페이지 5/6
+품목 규격 수량 단가 금액 세액
+두부 BOX 11 500 5,500 0
+배추 1망 KG 4 6,500 26,000 0
+두부 KG 10 8,500 85,000 0
+두부 봉 19 2,500 47,500 0
+대파 KG 2 9,000 18,000 0
+깐마늘 1kg EA 10 20,500 205,000 0
+두부 EA 14 16,500 231,000 0
+쌀 20kg 봉 14 1,000 14,000 0
+돼지고기 앞다리 KG 18 18,000 324,000 0
+고춧가루 1kg EA 14 14,500 203,000 0
+양파 15kg 망 10 16,000 160,000 0
+두부 BOX 16 13,500 216,000 0
+쌀 20kg EA 9 13,000 117,000 0
+콩나물 4kg KG 18 21,500 387,000 0
+돼지고기 앞다리 망 6 2,500 15,000 0
+돼지고기 앞다리 봉 16 18,000 288,000 0
+깐마늘 1kg 망 15 14,000 210,000 0
+두부 망 3 6,000 18,000 0
+계란 30구 망 8 12,000 96,000 0
+콩나물 4kg 봉 1 24,000 24,000 0
+콩나물 4kg BOX 17 7,000 119,000 0
+계란 30구 망 2 16,000 32,000 0
+부침가루 2kg 망 5 22,000 110,000 0
+계란 30구 EA 7 3,000 21,000 0
+계란 30구 KG 15 14,000 210,000 0
+식용유 18L 망 14 23,000 322,000 0
+부침가루 2kg 봉 3 13,000 39,000 0
+돼지고기 앞다리 EA 8 3,500 28,000 0
+배추 1망 봉 4 23,500 94,000 0
+깐마늘 1kg EA 2 500 1,000 0
+배추 1망 BOX 2 21,000 42,000 0
+쌀 20kg 봉 9 17,000 153,000 0
+대파 BOX 4 3,500 14,000 0
+콩나물 4kg BOX 19 6,500 123,500 0
+양파 15kg 망 20 500 10,000 0
+두부 EA 15 9,000 135,000 0
+이하여백
+공급가액 4,143,500 합계 4,143,500
+인수자 (인)
+거 래 명 세 서
+공급자 (주)더풀식자재 공급받는자 동탄현장식당
+등록번호 124-81-00998 등록번호 135-02-45678
+주소 경기 화성시 동탄대로 123 주소 경기 화성시 동탄중앙로 220
+거래일자 2025-03-15 페이지 6/6
+품목 규격 수량 단가 금액 세액
+돼지고기 앞다리 KG 8 18,000 144,000 0
+양파 15kg EA 10 2,000 20,000 0
+계란 30구 EA 14 3,000 42,000 0
+식용유 18L KG 12 7,500 90,000 0
+쌀 20kg 봉 14 12,000 168,000 0
+부침가루 2kg KG 10 24,000 240,000 0
+돼지고기 앞다리 EA 7 10,000 70,000 0
+계란 30구 KG 9 24,500 220,500 0
+깐마늘 1kg EA 16 20,000 320,000 0
+깐마늘 1kg 봉 2 19,500 39,000 0
+깐마늘 1kg 봉 1 19,500 19,500 0
+콩나물 4kg 봉 2 6,000 12,000 0
+대파 KG 11 23,500 258,500 0
+깐마늘 1kg 망 11 6,500 71,500 0
+쌀 20kg 봉 2 10,000 20,000 0
+깐마늘 1kg KG 11 14,500 159,500 0
+두부 봉 9 3,000 27,000 0
+돼지고기 앞다리 봉 4 18,000 72,000 0
+대파 KG 10 14,000 140,000 0
+부침가루 2kg 봉 7 12,000 84,000 0
+식용유 18L KG 12 24,000 288,000 0
+콩나물 4kg KG 8 20,500 164,000 0
+양파 15kg BOX 15 2,500 37,500 0
+두부 BOX 3 19,500 58,500 0
+계란 30구 BOX 20 1,500 30,000 0
+배추 1망 망 10 500 5,000 0
+돼지고기 앞다리 KG 3 1,000 3,000 0
+콩나물 4kg BOX 15 25,000 375,000 0
+식용유 18L EA 16 4,500 72,000 0
+깐마늘 1kg 망 10 22,500 225,000 0
+두부 망 11 15,000 165,000 0
+깐마늘 1kg EA 7 13,000 91,000 0
+부침가루 2kg 망 2 15,500 31,000 0
+대파 BOX 14 3,500 49,000 0
+콩나물 4kg 봉 7 3,500 24,500 0
+돼지고기 앞다리 EA 15 6,000 90,000 0
+이하여백
+공급가액 3,926,000 합계 3,926,000
+인수자 (인)
+2  D @Dpixels:?
+=
+
+
+Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:A
+?
+
+
+$Hz?0
+u=1=
+E?1=
+E?=
+u==:A
+?
+
+$HHz?0
+u=d;=
+V?d;=
+V?=
+u==:A
+?
+
+HoHz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:B
+@
+
+oHz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+Hz?0
+u=n>
+HZ?n>
+HZ?.{>
+u=.{>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?͆>
+u=͆>:C
+A
+
+Hz?0
+u=[>
+HZ?[>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=*۔>
+HZ?*۔>
+HZ? >
+u= >:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=k]>
+HZ?k]>
+HZ?H>
+u=H>:C
+A
+
+Hz?0
+u=&>
+HZ?&>
+HZ?K>
+u=K>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=b>
+HZ?b>
+HZ?@>
+u=@>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=G8>
+HZ?G8>
+HZ?$]>
+u=$]>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=B>
+HZ?B>
+HZ?g>
+u=g>:C
+A
+
+Hz?0
+u=gj>
+HZ?gj>
+HZ?E>
+u=E>:C
+A
+
+Hz?0
+u=&< ?
+HZ?&< ?
+HZ?N?
+u=N?:C
+A
+
+Hz?0
+u=P?
+HZ?P?
+HZ??
+u=?:C
+A
+
+Hz?0
+u=+
+?
+HZ?+
+?
+HZ?a>?
+u=a>?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?W?
+u=W?:C
+A
+
+Hz?0
+u=y?
+HZ?y?
+HZ??
+u=?:C
+A
+
+Hz?0
+u=~?
+HZ?~?
+HZ??
+u=?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?^?
+u=^?:C
+A
+
+Hz?0
+u=!?
+HZ?!?
+HZ?A$?
+u=A$?:C
+A
+
+Hz?0
+u=\'?
+HZ?\'?
+HZ?ko*?
+u=ko*?:C
+A
+
+Hz?0
+u=+?
+HZ?+?
+HZ?o.?
+u=o.?:C
+A
+
+Hz?0
+u=S0?
+HZ?S0?
+HZ?3?
+u=3?:C
+A
+
+Hz?0
+u=)5?
+HZ?)5?
+HZ?;8?
+u=;8?:C
+A
+
+Hz?0
+u=:?
+HZ?:?
+HZ?V=?
+u=V=?:C
+A
+
+Hz?0
+u=??
+HZ???
+HZ?YB?
+u=YB?:C
+A
+
+Hz?0
+u=C?
+HZ?C?
+HZ?!F?
+u=!F?:C
+A
+
+Hz?0
+u=H?
+HZ?H?
+HZ?@L?
+u=@L?:C
+A
+
+Hz?0
+u=PM?
+HZ?PM?
+HZ?acP?
+u=acP?:C
+A
+
+Hz?0
+u=R?
+HZ?R?
+HZ?U?
+u=U?:C
+A
+
+Hz?0
+u=W?
+HZ?W?
+HZ?^Z?
+u=^Z?:C
+A
+
+Hz?0
+u=IN\?
+HZ?IN\?
+HZ?`_?
+u=`_?:C
+A
+
+Hz?0
+u=ja?
+HZ?ja?
+HZ?Q}d?
+u=Q}d?:C
+A
+
+	Hz?0
+u=Mf?
+HZ?Mf?
+HZ?'i?
+u='i?:C
+A
+
+		Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+		Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+		Hz?0
+u=|?
+D>|?
+D>G?
+u=G?B?
+=
+
+Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BA
+?
+
+Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BA
+?
+
+Hz?0
+>C=
+>C=
+>j<=
+>j<=BA
+?
+
+Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BA
+?
+
+
+Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BA
+?
+
+
+Hz?0
+u=1=
+=1=
+==
+u==BA
+?
+
+Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BA
+?
+
+Hz?0
+?1=
+m?1=
+m?=
+?=BA
+?
+
+$Hz?0
+333?1=
+E?1=
+E?=
+333?=BA
+?
+
+$)Hz?0
+u=d;=
+/=d;=
+/==
+u==BA
+?
+
+)6Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BA
+?
+
+6;Hz?0
+?d;=
+?d;=
+?=
+?=BA
+?
+
+;HHz?0
+333?d;=
+V?d;=
+V?=
+333?=BA
+?
+
+HKHz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BA
+?
+
+KNHz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BA
+?
+
+NRHz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BA
+?
+
+RWHz?0
+>L7	>
+/>L7	>
+/>>
+>>BA
+?
+
+W[Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BA
+?
+
+[^Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BA
+?
+
+^aHz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BA
+?
+
+aeHz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BA
+?
+
+ekHz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BA
+?
+
+koHz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BA
+?
+
+otHz?0
+u=">
+/=">
+/=/>
+u=/>BA
+?
+
+tHz?0
+Q8>">
++>">
++>/>
+Q8>/>BB
+@
+
+Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+Hz?0
+u=n>
+=n>
+=.{>
+u=.{>BC
+A
+
+Hz?0
+=n>
+$>n>
+$>.{>
+=.{>BC
+A
+
+Hz?0
+
+ף>n>
+&>n>
+&>.{>
+
+ף>.{>BC
+A
+
+Hz?0
+G>n>
+>n>
+>.{>
+G>.{>BC
+A
+
+Hz?0
+q=
+?n>
+(?n>
+(?.{>
+q=
+?.{>BC
+A
+
+Hz?0
+{.?n>
+  @?n>
+  @?.{>
+{.?.{>BC
+A
+
+Hz?0
+=
+W?n>
+HZ?n>
+HZ?.{>
+=
+W?.{>BC
+A
+
+Hz?0
+u=>
+ =>
+ =͆>
+u=͆>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>͆>
+
+ף>͆>BC
+A
+
+Hz?0
+G>>
+>>
+>͆>
+G>͆>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?͆>
+q=
+?͆>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?͆>
+{.?͆>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?͆>
+=
+W?͆>BC
+A
+
+Hz?0
+u=[>
+ =[>
+ =>
+u=>BC
+A
+
+Hz?0
+=[>
+sh>[>
+sh>>
+=>BC
+A
+
+Hz?0
+
+ף>[>
+&>[>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>[>
+>[>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?[>
+X?[>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?[>
+B?[>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?[>
+HZ?[>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=*۔>
+ =*۔>
+ = >
+u= >BC
+A
+
+Hz?0
+
+ף>*۔>
+>*۔>
+> >
+
+ף> >BC
+A
+
+Hz?0
+G>*۔>
+>*۔>
+> >
+G> >BC
+A
+
+Hz?0
+q=
+?*۔>
+X?*۔>
+X? >
+q=
+? >BC
+A
+
+Hz?0
+{.?*۔>
+  @?*۔>
+  @? >
+{.? >BC
+A
+
+Hz?0
+=
+W?*۔>
+HZ?*۔>
+HZ? >
+=
+W? >BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=k]>
+=k]>
+=H>
+u=H>BC
+A
+
+Hz?0
+=
+=k]>
+sh>k]>
+sh>H>
+=
+=H>BC
+A
+
+Hz?0
+
+ף>k]>
+&>k]>
+&>H>
+
+ף>H>BC
+A
+
+Hz?0
+G>k]>
+>k]>
+>H>
+G>H>BC
+A
+
+Hz?0
+q=
+?k]>
+(?k]>
+(?H>
+q=
+?H>BC
+A
+
+Hz?0
+{.?k]>
+B?k]>
+B?H>
+{.?H>BC
+A
+
+Hz?0
+=
+W?k]>
+HZ?k]>
+HZ?H>
+=
+W?H>BC
+A
+
+Hz?0
+u=&>
+=&>
+=K>
+u=K>BC
+A
+
+Hz?0
+=
+=&>
+sh>&>
+sh>K>
+=
+=K>BC
+A
+
+Hz?0
+
+ף>&>
+ȶ>&>
+ȶ>K>
+
+ף>K>BC
+A
+
+Hz?0
+G>&>
+>&>
+>K>
+G>K>BC
+A
+
+Hz?0
+q=
+?&>
+(?&>
+(?K>
+q=
+?K>BC
+A
+
+Hz?0
+{.?&>
+  @?&>
+  @?K>
+{.?K>BC
+A
+
+Hz?0
+=
+W?&>
+HZ?&>
+HZ?K>
+=
+W?K>BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+ȶ>>
+ȶ>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=b>
+/=b>
+/=@>
+u=@>BC
+A
+
+Hz?0
+h=b>
+>b>
+>@>
+h=@>BC
+A
+
+Hz?0
+
+ף>b>
+>b>
+>@>
+
+ף>@>BC
+A
+
+Hz?0
+G>b>
+>b>
+>@>
+G>@>BC
+A
+
+Hz?0
+q=
+?b>
+X?b>
+X?@>
+q=
+?@>BC
+A
+
+Hz?0
+{.?b>
+  @?b>
+  @?@>
+{.?@>BC
+A
+
+Hz?0
+=
+W?b>
+HZ?b>
+HZ?@>
+=
+W?@>BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=G8>
+=G8>
+=$]>
+u=$]>BC
+A
+
+Hz?0
+=
+=G8>
+sh>G8>
+sh>$]>
+=
+=$]>BC
+A
+
+Hz?0
+
+ף>G8>
+>G8>
+>$]>
+
+ף>$]>BC
+A
+
+Hz?0
+G>G8>
+>G8>
+>$]>
+G>$]>BC
+A
+
+Hz?0
+q=
+?G8>
+X?G8>
+X?$]>
+q=
+?$]>BC
+A
+
+Hz?0
+{.?G8>
+B?G8>
+B?$]>
+{.?$]>BC
+A
+
+Hz?0
+=
+W?G8>
+HZ?G8>
+HZ?$]>
+=
+W?$]>BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=B>
+ =B>
+ =g>
+u=g>BC
+A
+
+Hz?0
+=B>
+=B>
+=g>
+=g>BC
+A
+
+Hz?0
+
+ף>B>
+&>B>
+&>g>
+
+ף>g>BC
+A
+
+Hz?0
+G>B>
+>B>
+>g>
+G>g>BC
+A
+
+Hz?0
+q=
+?B>
+X?B>
+X?g>
+q=
+?g>BC
+A
+
+Hz?0
+{.?B>
+  @?B>
+  @?g>
+{.?g>BC
+A
+
+Hz?0
+=
+W?B>
+HZ?B>
+HZ?g>
+=
+W?g>BC
+A
+
+Hz?0
+u=gj>
+=gj>
+=E>
+u=E>BC
+A
+
+Hz?0
+=
+=gj>
+sh>gj>
+sh>E>
+=
+=E>BC
+A
+
+Hz?0
+
+ף>gj>
+ȶ>gj>
+ȶ>E>
+
+ף>E>BC
+A
+
+Hz?0
+G>gj>
+>gj>
+>E>
+G>E>BC
+A
+
+Hz?0
+q=
+?gj>
+(?gj>
+(?E>
+q=
+?E>BC
+A
+
+Hz?0
+{.?gj>
+B?gj>
+B?E>
+{.?E>BC
+A
+
+Hz?0
+=
+W?gj>
+HZ?gj>
+HZ?E>
+=
+W?E>BC
+A
+
+Hz?0
+u=&< ?
+ =&< ?
+ =N?
+u=N?BC
+A
+
+Hz?0
+
+ף>&< ?
+&>&< ?
+&>N?
+
+ף>N?BC
+A
+
+Hz?0
+G>&< ?
+>&< ?
+>N?
+G>N?BC
+A
+
+Hz?0
+q=
+?&< ?
+(?&< ?
+(?N?
+q=
+?N?BC
+A
+
+Hz?0
+{.?&< ?
+B?&< ?
+B?N?
+{.?N?BC
+A
+
+Hz?0
+=
+W?&< ?
+HZ?&< ?
+HZ?N?
+=
+W?N?BC
+A
+
+Hz?0
+u=P?
+ =P?
+ =?
+u=?BC
+A
+
+Hz?0
+
+ף>P?
+&>P?
+&>?
+
+ף>?BC
+A
+
+Hz?0
+G>P?
+>P?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?P?
+(?P?
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?P?
+B?P?
+B??
+{.??BC
+A
+
+Hz?0
+=
+W?P?
+HZ?P?
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=+
+?
+=+
+?
+=a>?
+u=a>?BC
+A
+
+Hz?0
+=+
+?
+$>+
+?
+$>a>?
+=a>?BC
+A
+
+Hz?0
+
+ף>+
+?
+&>+
+?
+&>a>?
+
+ף>a>?BC
+A
+
+Hz?0
+G>+
+?
+>+
+?
+>a>?
+G>a>?BC
+A
+
+Hz?0
+q=
+?+
+?
+X?+
+?
+X?a>?
+q=
+?a>?BC
+A
+
+Hz?0
+{.?+
+?
+  @?+
+?
+  @?a>?
+{.?a>?BC
+A
+
+Hz?0
+=
+W?+
+?
+HZ?+
+?
+HZ?a>?
+=
+W?a>?BC
+A
+
+Hz?0
+u=?
+ =?
+ =W?
+u=W?BC
+A
+
+Hz?0
+
+ף>?
+ȶ>?
+ȶ>W?
+
+ף>W?BC
+A
+
+Hz?0
+G>?
+>?
+>W?
+G>W?BC
+A
+
+Hz?0
+q=
+??
+(??
+(?W?
+q=
+?W?BC
+A
+
+Hz?0
+{.??
+B??
+B?W?
+{.?W?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?W?
+=
+W?W?BC
+A
+
+Hz?0
+u=y?
+ =y?
+ =?
+u=?BC
+A
+
+Hz?0
+
+ף>y?
+&>y?
+&>?
+
+ף>?BC
+A
+
+Hz?0
+G>y?
+>y?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?y?
+(?y?
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?y?
+B?y?
+B??
+{.??BC
+A
+
+Hz?0
+=
+W?y?
+HZ?y?
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=~?
+=~?
+=?
+u=?BC
+A
+
+Hz?0
+=~?
+$>~?
+$>?
+=?BC
+A
+
+Hz?0
+
+ף>~?
+&>~?
+&>?
+
+ף>?BC
+A
+
+Hz?0
+G>~?
+>~?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?~?
+(?~?
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?~?
+B?~?
+B??
+{.??BC
+A
+
+Hz?0
+=
+W?~?
+HZ?~?
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=?
+/=?
+/=^?
+u=^?BC
+A
+
+Hz?0
+h=?
+>?
+>^?
+h=^?BC
+A
+
+Hz?0
+
+ף>?
+>?
+>^?
+
+ף>^?BC
+A
+
+Hz?0
+G>?
+>?
+>^?
+G>^?BC
+A
+
+Hz?0
+q=
+??
+(??
+(?^?
+q=
+?^?BC
+A
+
+Hz?0
+{.??
+B??
+B?^?
+{.?^?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?^?
+=
+W?^?BC
+A
+
+Hz?0
+u=!?
+ =!?
+ =A$?
+u=A$?BC
+A
+
+Hz?0
+
+ף>!?
+&>!?
+&>A$?
+
+ף>A$?BC
+A
+
+Hz?0
+G>!?
+>!?
+>A$?
+G>A$?BC
+A
+
+Hz?0
+q=
+?!?
+(?!?
+(?A$?
+q=
+?A$?BC
+A
+
+Hz?0
+{.?!?
+B?!?
+B?A$?
+{.?A$?BC
+A
+
+Hz?0
+=
+W?!?
+HZ?!?
+HZ?A$?
+=
+W?A$?BC
+A
+
+Hz?0
+u=\'?
+/=\'?
+/=ko*?
+u=ko*?BC
+A
+
+Hz?0
+h=\'?
+>\'?
+>ko*?
+h=ko*?BC
+A
+
+Hz?0
+
+ף>\'?
+&>\'?
+&>ko*?
+
+ף>ko*?BC
+A
+
+Hz?0
+G>\'?
+>\'?
+>ko*?
+G>ko*?BC
+A
+
+Hz?0
+q=
+?\'?
+X?\'?
+X?ko*?
+q=
+?ko*?BC
+A
+
+Hz?0
+{.?\'?
+  @?\'?
+  @?ko*?
+{.?ko*?BC
+A
+
+Hz?0
+=
+W?\'?
+HZ?\'?
+HZ?ko*?
+=
+W?ko*?BC
+A
+
+Hz?0
+u=+?
+ =+?
+ =o.?
+u=o.?BC
+A
+
+Hz?0
+=+?
+$>+?
+$>o.?
+=o.?BC
+A
+
+Hz?0
+
+ף>+?
+&>+?
+&>o.?
+
+ף>o.?BC
+A
+
+Hz?0
+G>+?
+>+?
+>o.?
+G>o.?BC
+A
+
+Hz?0
+q=
+?+?
+(?+?
+(?o.?
+q=
+?o.?BC
+A
+
+Hz?0
+{.?+?
+B?+?
+B?o.?
+{.?o.?BC
+A
+
+Hz?0
+=
+W?+?
+HZ?+?
+HZ?o.?
+=
+W?o.?BC
+A
+
+Hz?0
+u=S0?
+=S0?
+=3?
+u=3?BC
+A
+
+Hz?0
+=
+=S0?
+sh>S0?
+sh>3?
+=
+=3?BC
+A
+
+Hz?0
+
+ף>S0?
+&>S0?
+&>3?
+
+ף>3?BC
+A
+
+Hz?0
+G>S0?
+>S0?
+>3?
+G>3?BC
+A
+
+Hz?0
+q=
+?S0?
+(?S0?
+(?3?
+q=
+?3?BC
+A
+
+Hz?0
+{.?S0?
+B?S0?
+B?3?
+{.?3?BC
+A
+
+Hz?0
+=
+W?S0?
+HZ?S0?
+HZ?3?
+=
+W?3?BC
+A
+
+Hz?0
+u=)5?
+ =)5?
+ =;8?
+u=;8?BC
+A
+
+Hz?0
+=)5?
+$>)5?
+$>;8?
+=;8?BC
+A
+
+Hz?0
+
+ף>)5?
+&>)5?
+&>;8?
+
+ף>;8?BC
+A
+
+Hz?0
+G>)5?
+>)5?
+>;8?
+G>;8?BC
+A
+
+Hz?0
+q=
+?)5?
+(?)5?
+(?;8?
+q=
+?;8?BC
+A
+
+Hz?0
+{.?)5?
+B?)5?
+B?;8?
+{.?;8?BC
+A
+
+Hz?0
+=
+W?)5?
+HZ?)5?
+HZ?;8?
+=
+W?;8?BC
+A
+
+Hz?0
+u=:?
+ =:?
+ =V=?
+u=V=?BC
+A
+
+Hz?0
+=:?
+=:?
+=V=?
+=V=?BC
+A
+
+Hz?0
+
+ף>:?
+>:?
+>V=?
+
+ף>V=?BC
+A
+
+Hz?0
+G>:?
+>:?
+>V=?
+G>V=?BC
+A
+
+Hz?0
+q=
+?:?
+X?:?
+X?V=?
+q=
+?V=?BC
+A
+
+Hz?0
+{.?:?
+B?:?
+B?V=?
+{.?V=?BC
+A
+
+Hz?0
+=
+W?:?
+HZ?:?
+HZ?V=?
+=
+W?V=?BC
+A
+
+Hz?0
+u=??
+=??
+=YB?
+u=YB?BC
+A
+
+Hz?0
+=
+=??
+sh>??
+sh>YB?
+=
+=YB?BC
+A
+
+Hz?0
+
+ף>??
+&>??
+&>YB?
+
+ף>YB?BC
+A
+
+Hz?0
+G>??
+>??
+>YB?
+G>YB?BC
+A
+
+Hz?0
+q=
+???
+X???
+X?YB?
+q=
+?YB?BC
+A
+
+Hz?0
+{.???
+  @???
+  @?YB?
+{.?YB?BC
+A
+
+Hz?0
+=
+W???
+HZ???
+HZ?YB?
+=
+W?YB?BC
+A
+
+Hz?0
+u=C?
+/=C?
+/=!F?
+u=!F?BC
+A
+
+Hz?0
+h=C?
+>C?
+>!F?
+h=!F?BC
+A
+
+Hz?0
+
+ף>C?
+&>C?
+&>!F?
+
+ף>!F?BC
+A
+
+Hz?0
+G>C?
+>C?
+>!F?
+G>!F?BC
+A
+
+Hz?0
+q=
+?C?
+(?C?
+(?!F?
+q=
+?!F?BC
+A
+
+Hz?0
+{.?C?
+B?C?
+B?!F?
+{.?!F?BC
+A
+
+Hz?0
+=
+W?C?
+HZ?C?
+HZ?!F?
+=
+W?!F?BC
+A
+
+Hz?0
+u=H?
+ =H?
+ =@L?
+u=@L?BC
+A
+
+Hz?0
+=H?
+$>H?
+$>@L?
+=@L?BC
+A
+
+Hz?0
+
+ף>H?
+ȶ>H?
+ȶ>@L?
+
+ף>@L?BC
+A
+
+Hz?0
+G>H?
+>H?
+>@L?
+G>@L?BC
+A
+
+Hz?0
+q=
+?H?
+X?H?
+X?@L?
+q=
+?@L?BC
+A
+
+Hz?0
+{.?H?
+B?H?
+B?@L?
+{.?@L?BC
+A
+
+Hz?0
+=
+W?H?
+HZ?H?
+HZ?@L?
+=
+W?@L?BC
+A
+
+Hz?0
+u=PM?
+ =PM?
+ =acP?
+u=acP?BC
+A
+
+Hz?0
+
+ף>PM?
+>PM?
+>acP?
+
+ף>acP?BC
+A
+
+Hz?0
+G>PM?
+>PM?
+>acP?
+G>acP?BC
+A
+
+Hz?0
+q=
+?PM?
+(?PM?
+(?acP?
+q=
+?acP?BC
+A
+
+Hz?0
+{.?PM?
+B?PM?
+B?acP?
+{.?acP?BC
+A
+
+Hz?0
+=
+W?PM?
+HZ?PM?
+HZ?acP?
+=
+W?acP?BC
+A
+
+Hz?0
+u=R?
+/=R?
+/=U?
+u=U?BC
+A
+
+Hz?0
+h=R?
+>R?
+>U?
+h=U?BC
+A
+
+Hz?0
+
+ף>R?
+>R?
+>U?
+
+ף>U?BC
+A
+
+Hz?0
+G>R?
+>R?
+>U?
+G>U?BC
+A
+
+Hz?0
+q=
+?R?
+(?R?
+(?U?
+q=
+?U?BC
+A
+
+Hz?0
+{.?R?
+B?R?
+B?U?
+{.?U?BC
+A
+
+Hz?0
+=
+W?R?
+HZ?R?
+HZ?U?
+=
+W?U?BC
+A
+
+Hz?0
+u=W?
+=W?
+=^Z?
+u=^Z?BC
+A
+
+Hz?0
+=W?
+$>W?
+$>^Z?
+=^Z?BC
+A
+
+Hz?0
+
+ף>W?
+>W?
+>^Z?
+
+ף>^Z?BC
+A
+
+Hz?0
+G>W?
+>W?
+>^Z?
+G>^Z?BC
+A
+
+Hz?0
+q=
+?W?
+(?W?
+(?^Z?
+q=
+?^Z?BC
+A
+
+Hz?0
+{.?W?
+  @?W?
+  @?^Z?
+{.?^Z?BC
+A
+
+Hz?0
+=
+W?W?
+HZ?W?
+HZ?^Z?
+=
+W?^Z?BC
+A
+
+Hz?0
+u=IN\?
+ =IN\?
+ =`_?
+u=`_?BC
+A
+
+Hz?0
+
+ף>IN\?
+>IN\?
+>`_?
+
+ף>`_?BC
+A
+
+Hz?0
+G>IN\?
+>IN\?
+>`_?
+G>`_?BC
+A
+
+Hz?0
+q=
+?IN\?
+(?IN\?
+(?`_?
+q=
+?`_?BC
+A
+
+Hz?0
+{.?IN\?
+B?IN\?
+B?`_?
+{.?`_?BC
+A
+
+Hz?0
+=
+W?IN\?
+HZ?IN\?
+HZ?`_?
+=
+W?`_?BC
+A
+
+Hz?0
+u=ja?
+ =ja?
+ =Q}d?
+u=Q}d?BC
+A
+
+Hz?0
+
+ף>ja?
+&>ja?
+&>Q}d?
+
+ף>Q}d?BC
+A
+
+Hz?0
+G>ja?
+>ja?
+>Q}d?
+G>Q}d?BC
+A
+
+Hz?0
+q=
+?ja?
+X?ja?
+X?Q}d?
+q=
+?Q}d?BC
+A
+
+Hz?0
+{.?ja?
+  @?ja?
+  @?Q}d?
+{.?Q}d?BC
+A
+
+Hz?0
+=
+W?ja?
+HZ?ja?
+HZ?Q}d?
+=
+W?Q}d?BC
+A
+
+Hz?0
+u=Mf?
+/=Mf?
+/='i?
+u='i?BC
+A
+
+Hz?0
+h=Mf?
+>Mf?
+>'i?
+h='i?BC
+A
+
+Hz?0
+
+ף>Mf?
+&>Mf?
+&>'i?
+
+ף>'i?BC
+A
+
+	Hz?0
+G>Mf?
+>Mf?
+>'i?
+G>'i?BC
+A
+
+		Hz?0
+q=
+?Mf?
+(?Mf?
+(?'i?
+q=
+?'i?BC
+A
+
+		Hz?0
+{.?Mf?
+  @?Mf?
+  @?'i?
+{.?'i?BC
+A
+
+		Hz?0
+=
+W?Mf?
+HZ?Mf?
+HZ?'i?
+=
+W?'i?BC
+A
+
+		Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+		Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+		Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+		Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+		Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+		Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+		Hz?0
+>|?
+D>|?
+D>G?
+>G?2  D @Dpixels:C
+A
+
+		Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:C
+A
+
+		Hz?0
+u=1=
+E?1=
+E?=
+u==:C
+A
+
+	
+Hz?0
+u=d;=
+V?d;=
+V?=
+u==:C
+A
+
+
+
+Hz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:C
+A
+
+
+
+Hz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+
+
+Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+
+
+Hz?0
+u=m>
+HZ?m>
+HZ?}Fz>
+u=}Fz>:C
+A
+
+
+Hz?0
+u=t>
+HZ?t>
+HZ?u>
+u=u>:C
+A
+
+Hz?0
+u=d>
+HZ?d>
+HZ?A>
+u=A>:C
+A
+
+Hz?0
+u=3>
+HZ?3>
+HZ?qX>
+u=qX>:C
+A
+
+Hz?0
+u=ٺ>
+HZ?ٺ>
+HZ?ߥ>
+u=ߥ>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?p>
+u=p>:C
+A
+
+Hz?0
+u=!>
+HZ?!>
+HZ?F>
+u=F>:C
+A
+
+Hz?0
+u=Ӽ>
+HZ?Ӽ>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=z>
+HZ?z>
+HZ?ʟ>
+u=ʟ>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=w>
+HZ?w>
+HZ?u>
+u=u>:C
+A
+
+Hz?0
+u=*2>
+HZ?*2>
+HZ?W>
+u=W>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?M?
+u=M?:C
+A
+
+Hz?0
+u=vT?
+HZ?vT?
+HZ?f?
+u=f?:C
+A
+
+Hz?0
+u=r	?
+HZ?r	?
+HZ?2?
+u=2?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ??
+u=?:C
+A
+
+Hz?0
+u=I?
+HZ?I?
+HZ??
+u=?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?[?
+u=[?:C
+A
+
+Hz?0
+u=z?
+HZ?z?
+HZ?U ?
+u=U ?:C
+A
+
+Hz?0
+u="?
+HZ?"?
+HZ?%?
+u=%?:C
+A
+
+Hz?0
+u=j'?
+HZ?j'?
+HZ?,}*?
+u=,}*?:C
+A
+
+Hz?0
+u=,?
+HZ?,?
+HZ?p)/?
+u=p)/?:C
+A
+
+Hz?0
+u=0?
+HZ?0?
+HZ?3?
+u=3?:C
+A
+
+Hz?0
+u=J 5?
+HZ?J 5?
+HZ?28?
+u=28?:C
+A
+
+Hz?0
+u=-e:?
+HZ?-e:?
+HZ?w=?
+u=w=?:C
+A
+
+Hz?0
+u=>?
+HZ?>?
+HZ?A?
+u=A?:C
+A
+
+Hz?0
+u=]D?
+HZ?]D?
+HZ?!pG?
+u=!pG?:C
+A
+
+Hz?0
+u=^MI?
+HZ?^MI?
+HZ?_L?
+u=_L?:C
+A
+
+Hz?0
+u=M?
+HZ?M?
+HZ?Q?
+u=Q?:C
+A
+
+Hz?0
+u=yR?
+HZ?yR?
+HZ?U?
+u=U?:C
+A
+
+Hz?0
+u=W?
+HZ?W?
+HZ?:Z?
+u=:Z?:C
+A
+
+Hz?0
+u=\?
+HZ?\?
+HZ?_?
+u=_?:C
+A
+
+Hz?0
+u=`?
+HZ?`?
+HZ?;c?
+u=;c?:C
+A
+
+Hz?0
+u=bof?
+HZ?bof?
+HZ?сi?
+u=сi?:C
+A
+
+Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+Hz?0
+u=|?
+D>|?
+D>G?
+u=G?BC
+A
+
+		Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BC
+A
+
+		Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BC
+A
+
+		Hz?0
+>C=
+>C=
+>j<=
+>j<=BC
+A
+
+		Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BC
+A
+
+		Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BC
+A
+
+		Hz?0
+u=1=
+=1=
+==
+u==BC
+A
+
+		Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BC
+A
+
+		Hz?0
+?1=
+m?1=
+m?=
+?=BC
+A
+
+		Hz?0
+333?1=
+E?1=
+E?=
+333?=BC
+A
+
+		Hz?0
+u=d;=
+/=d;=
+/==
+u==BC
+A
+
+		Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BC
+A
+
+		Hz?0
+?d;=
+?d;=
+?=
+?=BC
+A
+
+	
+Hz?0
+333?d;=
+V?d;=
+V?=
+333?=BC
+A
+
+
+
+Hz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BC
+A
+
+
+
+Hz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BC
+A
+
+
+
+Hz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BC
+A
+
+
+
+Hz?0
+>L7	>
+/>L7	>
+/>>
+>>BC
+A
+
+
+
+Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BC
+A
+
+
+
+Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BC
+A
+
+
+
+Hz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BC
+A
+
+
+
+Hz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BC
+A
+
+
+
+Hz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BC
+A
+
+
+
+Hz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BC
+A
+
+
+
+Hz?0
+u=">
+/=">
+/=/>
+u=/>BC
+A
+
+
+
+Hz?0
+Q8>">
++>">
++>/>
+Q8>/>BC
+A
+
+
+
+Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+
+
+Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+
+
+Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+
+
+Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+
+
+Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+
+
+Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+
+
+Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+
+
+Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+
+
+Hz?0
+u=m>
+/=m>
+/=}Fz>
+u=}Fz>BC
+A
+
+
+
+Hz?0
+h=m>
+>m>
+>}Fz>
+h=}Fz>BC
+A
+
+
+
+Hz?0
+
+ף>m>
+&>m>
+&>}Fz>
+
+ף>}Fz>BC
+A
+
+
+
+Hz?0
+G>m>
+>m>
+>}Fz>
+G>}Fz>BC
+A
+
+
+
+Hz?0
+q=
+?m>
+X?m>
+X?}Fz>
+q=
+?}Fz>BC
+A
+
+
+
+Hz?0
+{.?m>
+  @?m>
+  @?}Fz>
+{.?}Fz>BC
+A
+
+
+
+Hz?0
+=
+W?m>
+HZ?m>
+HZ?}Fz>
+=
+W?}Fz>BC
+A
+
+
+
+Hz?0
+u=t>
+ =t>
+ =u>
+u=u>BC
+A
+
+
+
+Hz?0
+
+ף>t>
+&>t>
+&>u>
+
+ף>u>BC
+A
+
+
+
+Hz?0
+G>t>
+>t>
+>u>
+G>u>BC
+A
+
+
+Hz?0
+q=
+?t>
+X?t>
+X?u>
+q=
+?u>BC
+A
+
+Hz?0
+{.?t>
+  @?t>
+  @?u>
+{.?u>BC
+A
+
+Hz?0
+=
+W?t>
+HZ?t>
+HZ?u>
+=
+W?u>BC
+A
+
+Hz?0
+u=d>
+ =d>
+ =A>
+u=A>BC
+A
+
+Hz?0
+=d>
+$>d>
+$>A>
+=A>BC
+A
+
+Hz?0
+
+ף>d>
+ȶ>d>
+ȶ>A>
+
+ף>A>BC
+A
+
+Hz?0
+G>d>
+>d>
+>A>
+G>A>BC
+A
+
+Hz?0
+q=
+?d>
+(?d>
+(?A>
+q=
+?A>BC
+A
+
+Hz?0
+{.?d>
+B?d>
+B?A>
+{.?A>BC
+A
+
+Hz?0
+=
+W?d>
+HZ?d>
+HZ?A>
+=
+W?A>BC
+A
+
+Hz?0
+u=3>
+ =3>
+ =qX>
+u=qX>BC
+A
+
+Hz?0
+
+ף>3>
+>3>
+>qX>
+
+ף>qX>BC
+A
+
+Hz?0
+G>3>
+>3>
+>qX>
+G>qX>BC
+A
+
+Hz?0
+q=
+?3>
+X?3>
+X?qX>
+q=
+?qX>BC
+A
+
+Hz?0
+{.?3>
+  @?3>
+  @?qX>
+{.?qX>BC
+A
+
+Hz?0
+=
+W?3>
+HZ?3>
+HZ?qX>
+=
+W?qX>BC
+A
+
+Hz?0
+u=ٺ>
+=ٺ>
+=ߥ>
+u=ߥ>BC
+A
+
+Hz?0
+=
+=ٺ>
+sh>ٺ>
+sh>ߥ>
+=
+=ߥ>BC
+A
+
+Hz?0
+
+ף>ٺ>
+ȶ>ٺ>
+ȶ>ߥ>
+
+ף>ߥ>BC
+A
+
+Hz?0
+G>ٺ>
+>ٺ>
+>ߥ>
+G>ߥ>BC
+A
+
+Hz?0
+q=
+?ٺ>
+(?ٺ>
+(?ߥ>
+q=
+?ߥ>BC
+A
+
+Hz?0
+{.?ٺ>
+B?ٺ>
+B?ߥ>
+{.?ߥ>BC
+A
+
+Hz?0
+=
+W?ٺ>
+HZ?ٺ>
+HZ?ߥ>
+=
+W?ߥ>BC
+A
+
+Hz?0
+u=>
+ =>
+ =p>
+u=p>BC
+A
+
+Hz?0
+
+ף>>
+ȶ>>
+ȶ>p>
+
+ף>p>BC
+A
+
+Hz?0
+G>>
+>>
+>p>
+G>p>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?p>
+q=
+?p>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?p>
+{.?p>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?p>
+=
+W?p>BC
+A
+
+Hz?0
+u=!>
+ =!>
+ =F>
+u=F>BC
+A
+
+Hz?0
+=!>
+sh>!>
+sh>F>
+=F>BC
+A
+
+Hz?0
+
+ף>!>
+&>!>
+&>F>
+
+ף>F>BC
+A
+
+Hz?0
+G>!>
+>!>
+>F>
+G>F>BC
+A
+
+Hz?0
+q=
+?!>
+(?!>
+(?F>
+q=
+?F>BC
+A
+
+Hz?0
+{.?!>
+B?!>
+B?F>
+{.?F>BC
+A
+
+Hz?0
+=
+W?!>
+HZ?!>
+HZ?F>
+=
+W?F>BC
+A
+
+Hz?0
+u=Ӽ>
+=Ӽ>
+=>
+u=>BC
+A
+
+Hz?0
+=
+=Ӽ>
+sh>Ӽ>
+sh>>
+=
+=>BC
+A
+
+Hz?0
+
+ף>Ӽ>
+>Ӽ>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>Ӽ>
+>Ӽ>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?Ӽ>
+(?Ӽ>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?Ӽ>
+B?Ӽ>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?Ӽ>
+HZ?Ӽ>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=z>
+=z>
+=ʟ>
+u=ʟ>BC
+A
+
+Hz?0
+=z>
+$>z>
+$>ʟ>
+=ʟ>BC
+A
+
+Hz?0
+
+ף>z>
+&>z>
+&>ʟ>
+
+ף>ʟ>BC
+A
+
+Hz?0
+G>z>
+>z>
+>ʟ>
+G>ʟ>BC
+A
+
+Hz?0
+q=
+?z>
+(?z>
+(?ʟ>
+q=
+?ʟ>BC
+A
+
+Hz?0
+{.?z>
+B?z>
+B?ʟ>
+{.?ʟ>BC
+A
+
+Hz?0
+=
+W?z>
+HZ?z>
+HZ?ʟ>
+=
+W?ʟ>BC
+A
+
+Hz?0
+u=>
+ =>
+ =>
+u=>BC
+A
+
+Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=w>
+/=w>
+/=u>
+u=u>BC
+A
+
+Hz?0
+h=w>
+>w>
+>u>
+h=u>BC
+A
+
+Hz?0
+
+ף>w>
+&>w>
+&>u>
+
+ף>u>BC
+A
+
+Hz?0
+G>w>
+>w>
+>u>
+G>u>BC
+A
+
+Hz?0
+q=
+?w>
+(?w>
+(?u>
+q=
+?u>BC
+A
+
+Hz?0
+{.?w>
+B?w>
+B?u>
+{.?u>BC
+A
+
+Hz?0
+=
+W?w>
+HZ?w>
+HZ?u>
+=
+W?u>BC
+A
+
+Hz?0
+u=*2>
+/=*2>
+/=W>
+u=W>BC
+A
+
+Hz?0
+h=*2>
+>*2>
+>W>
+h=W>BC
+A
+
+Hz?0
+
+ף>*2>
+>*2>
+>W>
+
+ף>W>BC
+A
+
+Hz?0
+G>*2>
+>*2>
+>W>
+G>W>BC
+A
+
+Hz?0
+q=
+?*2>
+X?*2>
+X?W>
+q=
+?W>BC
+A
+
+Hz?0
+{.?*2>
+  @?*2>
+  @?W>
+{.?W>BC
+A
+
+Hz?0
+=
+W?*2>
+HZ?*2>
+HZ?W>
+=
+W?W>BC
+A
+
+Hz?0
+u=>
+ =>
+ =>
+u=>BC
+A
+
+Hz?0
+=>
+$>>
+$>>
+=>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+/=?>
+/=?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=>
+=>
+=M?
+u=M?BC
+A
+
+Hz?0
+=
+=>
+sh>>
+sh>M?
+=
+=M?BC
+A
+
+Hz?0
+
+ף>>
+ȶ>>
+ȶ>M?
+
+ף>M?BC
+A
+
+Hz?0
+G>>
+>>
+>M?
+G>M?BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?M?
+q=
+?M?BC
+A
+
+Hz?0
+{.?>
+B?>
+B?M?
+{.?M?BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?M?
+=
+W?M?BC
+A
+
+Hz?0
+u=vT?
+/=vT?
+/=f?
+u=f?BC
+A
+
+Hz?0
+h=vT?
+>vT?
+>f?
+h=f?BC
+A
+
+Hz?0
+
+ף>vT?
+&>vT?
+&>f?
+
+ף>f?BC
+A
+
+Hz?0
+G>vT?
+>vT?
+>f?
+G>f?BC
+A
+
+Hz?0
+q=
+?vT?
+X?vT?
+X?f?
+q=
+?f?BC
+A
+
+Hz?0
+{.?vT?
+  @?vT?
+  @?f?
+{.?f?BC
+A
+
+Hz?0
+=
+W?vT?
+HZ?vT?
+HZ?f?
+=
+W?f?BC
+A
+
+Hz?0
+u=r	?
+/=r	?
+/=2?
+u=2?BC
+A
+
+Hz?0
+h=r	?
+>r	?
+>2?
+h=2?BC
+A
+
+Hz?0
+
+ף>r	?
+>r	?
+>2?
+
+ף>2?BC
+A
+
+Hz?0
+G>r	?
+>r	?
+>2?
+G>2?BC
+A
+
+Hz?0
+q=
+?r	?
+(?r	?
+(?2?
+q=
+?2?BC
+A
+
+Hz?0
+{.?r	?
+  @?r	?
+  @?2?
+{.?2?BC
+A
+
+Hz?0
+=
+W?r	?
+HZ?r	?
+HZ?2?
+=
+W?2?BC
+A
+
+Hz?0
+u=?
+=?
+=?
+u=?BC
+A
+
+Hz?0
+=
+=?
+sh>?
+sh>?
+=
+=?BC
+A
+
+Hz?0
+
+ף>?
+ȶ>?
+ȶ>?
+
+ף>?BC
+A
+
+Hz?0
+G>?
+>?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+??
+F??
+F??
+q=
+??BC
+A
+
+Hz?0
+{.??
+  @??
+  @??
+{.??BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=I?
+ =I?
+ =?
+u=?BC
+A
+
+Hz?0
+
+ף>I?
+>I?
+>?
+
+ף>?BC
+A
+
+Hz?0
+G>I?
+>I?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?I?
+(?I?
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?I?
+  @?I?
+  @??
+{.??BC
+A
+
+Hz?0
+=
+W?I?
+HZ?I?
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=?
+=?
+=[?
+u=[?BC
+A
+
+Hz?0
+=
+=?
+sh>?
+sh>[?
+=
+=[?BC
+A
+
+Hz?0
+
+ף>?
+>?
+>[?
+
+ף>[?BC
+A
+
+Hz?0
+G>?
+>?
+>[?
+G>[?BC
+A
+
+Hz?0
+q=
+??
+(??
+(?[?
+q=
+?[?BC
+A
+
+Hz?0
+{.??
+B??
+B?[?
+{.?[?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?[?
+=
+W?[?BC
+A
+
+Hz?0
+u=z?
+ =z?
+ =U ?
+u=U ?BC
+A
+
+Hz?0
+=z?
+=z?
+=U ?
+=U ?BC
+A
+
+Hz?0
+
+ף>z?
+>z?
+>U ?
+
+ף>U ?BC
+A
+
+Hz?0
+G>z?
+>z?
+>U ?
+G>U ?BC
+A
+
+Hz?0
+q=
+?z?
+X?z?
+X?U ?
+q=
+?U ?BC
+A
+
+Hz?0
+{.?z?
+  @?z?
+  @?U ?
+{.?U ?BC
+A
+
+Hz?0
+=
+W?z?
+HZ?z?
+HZ?U ?
+=
+W?U ?BC
+A
+
+Hz?0
+u="?
+="?
+=%?
+u=%?BC
+A
+
+Hz?0
+=
+="?
+sh>"?
+sh>%?
+=
+=%?BC
+A
+
+Hz?0
+
+ף>"?
+&>"?
+&>%?
+
+ף>%?BC
+A
+
+Hz?0
+G>"?
+>"?
+>%?
+G>%?BC
+A
+
+Hz?0
+q=
+?"?
+(?"?
+(?%?
+q=
+?%?BC
+A
+
+Hz?0
+{.?"?
+  @?"?
+  @?%?
+{.?%?BC
+A
+
+Hz?0
+=
+W?"?
+HZ?"?
+HZ?%?
+=
+W?%?BC
+A
+
+Hz?0
+u=j'?
+/=j'?
+/=,}*?
+u=,}*?BC
+A
+
+Hz?0
+h=j'?
+>j'?
+>,}*?
+h=,}*?BC
+A
+
+Hz?0
+
+ף>j'?
+>j'?
+>,}*?
+
+ף>,}*?BC
+A
+
+Hz?0
+G>j'?
+>j'?
+>,}*?
+G>,}*?BC
+A
+
+Hz?0
+q=
+?j'?
+X?j'?
+X?,}*?
+q=
+?,}*?BC
+A
+
+Hz?0
+{.?j'?
+/=?j'?
+/=?,}*?
+{.?,}*?BC
+A
+
+Hz?0
+=
+W?j'?
+HZ?j'?
+HZ?,}*?
+=
+W?,}*?BC
+A
+
+Hz?0
+u=,?
+/=,?
+/=p)/?
+u=p)/?BC
+A
+
+Hz?0
+h=,?
+>,?
+>p)/?
+h=p)/?BC
+A
+
+Hz?0
+
+ף>,?
+>,?
+>p)/?
+
+ף>p)/?BC
+A
+
+Hz?0
+G>,?
+>,?
+>p)/?
+G>p)/?BC
+A
+
+Hz?0
+q=
+?,?
+(?,?
+(?p)/?
+q=
+?p)/?BC
+A
+
+Hz?0
+{.?,?
+B?,?
+B?p)/?
+{.?p)/?BC
+A
+
+Hz?0
+=
+W?,?
+HZ?,?
+HZ?p)/?
+=
+W?p)/?BC
+A
+
+Hz?0
+u=0?
+/=0?
+/=3?
+u=3?BC
+A
+
+Hz?0
+h=0?
+>0?
+>3?
+h=3?BC
+A
+
+Hz?0
+
+ף>0?
+>0?
+>3?
+
+ף>3?BC
+A
+
+Hz?0
+G>0?
+>0?
+>3?
+G>3?BC
+A
+
+Hz?0
+q=
+?0?
+X?0?
+X?3?
+q=
+?3?BC
+A
+
+Hz?0
+{.?0?
+  @?0?
+  @?3?
+{.?3?BC
+A
+
+Hz?0
+=
+W?0?
+HZ?0?
+HZ?3?
+=
+W?3?BC
+A
+
+Hz?0
+u=J 5?
+=J 5?
+=28?
+u=28?BC
+A
+
+Hz?0
+=J 5?
+$>J 5?
+$>28?
+=28?BC
+A
+
+Hz?0
+
+ף>J 5?
+&>J 5?
+&>28?
+
+ף>28?BC
+A
+
+Hz?0
+G>J 5?
+>J 5?
+>28?
+G>28?BC
+A
+
+Hz?0
+q=
+?J 5?
+(?J 5?
+(?28?
+q=
+?28?BC
+A
+
+Hz?0
+{.?J 5?
+  @?J 5?
+  @?28?
+{.?28?BC
+A
+
+Hz?0
+=
+W?J 5?
+HZ?J 5?
+HZ?28?
+=
+W?28?BC
+A
+
+Hz?0
+u=-e:?
+/=-e:?
+/=w=?
+u=w=?BC
+A
+
+Hz?0
+h=-e:?
+>-e:?
+>w=?
+h=w=?BC
+A
+
+Hz?0
+
+ף>-e:?
+&>-e:?
+&>w=?
+
+ף>w=?BC
+A
+
+Hz?0
+G>-e:?
+>-e:?
+>w=?
+G>w=?BC
+A
+
+Hz?0
+q=
+?-e:?
+(?-e:?
+(?w=?
+q=
+?w=?BC
+A
+
+Hz?0
+{.?-e:?
+  @?-e:?
+  @?w=?
+{.?w=?BC
+A
+
+Hz?0
+=
+W?-e:?
+HZ?-e:?
+HZ?w=?
+=
+W?w=?BC
+A
+
+Hz?0
+u=>?
+/=>?
+/=A?
+u=A?BC
+A
+
+Hz?0
+h=>?
+>>?
+>A?
+h=A?BC
+A
+
+Hz?0
+
+ף>>?
+&>>?
+&>A?
+
+ף>A?BC
+A
+
+Hz?0
+G>>?
+>>?
+>A?
+G>A?BC
+A
+
+Hz?0
+q=
+?>?
+X?>?
+X?A?
+q=
+?A?BC
+A
+
+Hz?0
+{.?>?
+  @?>?
+  @?A?
+{.?A?BC
+A
+
+Hz?0
+=
+W?>?
+HZ?>?
+HZ?A?
+=
+W?A?BC
+A
+
+Hz?0
+u=]D?
+/=]D?
+/=!pG?
+u=!pG?BC
+A
+
+Hz?0
+h=]D?
+>]D?
+>!pG?
+h=!pG?BC
+A
+
+Hz?0
+
+ף>]D?
+>]D?
+>!pG?
+
+ף>!pG?BC
+A
+
+Hz?0
+G>]D?
+>]D?
+>!pG?
+G>!pG?BC
+A
+
+Hz?0
+q=
+?]D?
+X?]D?
+X?!pG?
+q=
+?!pG?BC
+A
+
+Hz?0
+{.?]D?
+  @?]D?
+  @?!pG?
+{.?!pG?BC
+A
+
+Hz?0
+=
+W?]D?
+HZ?]D?
+HZ?!pG?
+=
+W?!pG?BC
+A
+
+Hz?0
+u=^MI?
+ =^MI?
+ =_L?
+u=_L?BC
+A
+
+Hz?0
+
+ף>^MI?
+>^MI?
+>_L?
+
+ף>_L?BC
+A
+
+Hz?0
+G>^MI?
+>^MI?
+>_L?
+G>_L?BC
+A
+
+Hz?0
+q=
+?^MI?
+(?^MI?
+(?_L?
+q=
+?_L?BC
+A
+
+Hz?0
+{.?^MI?
+  @?^MI?
+  @?_L?
+{.?_L?BC
+A
+
+Hz?0
+=
+W?^MI?
+HZ?^MI?
+HZ?_L?
+=
+W?_L?BC
+A
+
+Hz?0
+u=M?
+/=M?
+/=Q?
+u=Q?BC
+A
+
+Hz?0
+h=M?
+>M?
+>Q?
+h=Q?BC
+A
+
+Hz?0
+
+ף>M?
+&>M?
+&>Q?
+
+ף>Q?BC
+A
+
+Hz?0
+G>M?
+>M?
+>Q?
+G>Q?BC
+A
+
+Hz?0
+q=
+?M?
+(?M?
+(?Q?
+q=
+?Q?BC
+A
+
+Hz?0
+{.?M?
+B?M?
+B?Q?
+{.?Q?BC
+A
+
+Hz?0
+=
+W?M?
+HZ?M?
+HZ?Q?
+=
+W?Q?BC
+A
+
+Hz?0
+u=yR?
+ =yR?
+ =U?
+u=U?BC
+A
+
+Hz?0
+=yR?
+sh>yR?
+sh>U?
+=U?BC
+A
+
+Hz?0
+
+ף>yR?
+>yR?
+>U?
+
+ף>U?BC
+A
+
+Hz?0
+G>yR?
+>yR?
+>U?
+G>U?BC
+A
+
+Hz?0
+q=
+?yR?
+(?yR?
+(?U?
+q=
+?U?BC
+A
+
+Hz?0
+{.?yR?
+B?yR?
+B?U?
+{.?U?BC
+A
+
+Hz?0
+=
+W?yR?
+HZ?yR?
+HZ?U?
+=
+W?U?BC
+A
+
+Hz?0
+u=W?
+=W?
+=:Z?
+u=:Z?BC
+A
+
+Hz?0
+=
+=W?
+sh>W?
+sh>:Z?
+=
+=:Z?BC
+A
+
+Hz?0
+
+ף>W?
+&>W?
+&>:Z?
+
+ף>:Z?BC
+A
+
+Hz?0
+G>W?
+>W?
+>:Z?
+G>:Z?BC
+A
+
+Hz?0
+q=
+?W?
+F?W?
+F?:Z?
+q=
+?:Z?BC
+A
+
+Hz?0
+{.?W?
+  @?W?
+  @?:Z?
+{.?:Z?BC
+A
+
+Hz?0
+=
+W?W?
+HZ?W?
+HZ?:Z?
+=
+W?:Z?BC
+A
+
+Hz?0
+u=\?
+ =\?
+ =_?
+u=_?BC
+A
+
+Hz?0
+
+ף>\?
+>\?
+>_?
+
+ף>_?BC
+A
+
+Hz?0
+G>\?
+>\?
+>_?
+G>_?BC
+A
+
+Hz?0
+q=
+?\?
+(?\?
+(?_?
+q=
+?_?BC
+A
+
+Hz?0
+{.?\?
+B?\?
+B?_?
+{.?_?BC
+A
+
+Hz?0
+=
+W?\?
+HZ?\?
+HZ?_?
+=
+W?_?BC
+A
+
+Hz?0
+u=`?
+/=`?
+/=;c?
+u=;c?BC
+A
+
+Hz?0
+h=`?
+>`?
+>;c?
+h=;c?BC
+A
+
+Hz?0
+
+ף>`?
+>`?
+>;c?
+
+ף>;c?BC
+A
+
+Hz?0
+G>`?
+>`?
+>;c?
+G>;c?BC
+A
+
+Hz?0
+q=
+?`?
+(?`?
+(?;c?
+q=
+?;c?BC
+A
+
+Hz?0
+{.?`?
+B?`?
+B?;c?
+{.?;c?BC
+A
+
+Hz?0
+=
+W?`?
+HZ?`?
+HZ?;c?
+=
+W?;c?BC
+A
+
+Hz?0
+u=bof?
+ =bof?
+ =сi?
+u=сi?BC
+A
+
+Hz?0
+=bof?
+sh>bof?
+sh>сi?
+=сi?BC
+A
+
+Hz?0
+
+ף>bof?
+&>bof?
+&>сi?
+
+ף>сi?BC
+A
+
+Hz?0
+G>bof?
+>bof?
+>сi?
+G>сi?BC
+A
+
+Hz?0
+q=
+?bof?
+(?bof?
+(?сi?
+q=
+?сi?BC
+A
+
+Hz?0
+{.?bof?
+  @?bof?
+  @?сi?
+{.?сi?BC
+A
+
+Hz?0
+=
+W?bof?
+HZ?bof?
+HZ?сi?
+=
+W?сi?BC
+A
+
+Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+Hz?0
+>|?
+D>|?
+D>G?
+>G?2  D @Dpixels:C
+A
+
+Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:C
+A
+
+Hz?0
+u=1=
+E?1=
+E?=
+u==:C
+A
+
+Hz?0
+u=d;=
+V?d;=
+V?=
+u==:C
+A
+
+Hz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:C
+A
+
+Hz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+Hz?0
+u=Zn>
+HZ?Zn>
+HZ?z>
+u=z>:C
+A
+
+Hz?0
+u=$p>
+HZ?$p>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=(>
+HZ?(>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u= c>
+HZ? c>
+HZ?݇>
+u=݇>:C
+A
+
+Hz?0
+u=b>
+HZ?b>
+HZ?@>
+u=@>:C
+A
+
+Hz?0
+u=YP>
+HZ?YP>
+HZ?6u>
+u=6u>:C
+A
+
+Hz?0
+u=f>
+HZ?f>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=q>
+HZ?q>
+HZ?Ж>
+u=Ж>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=/>
+HZ?/>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=h>
+HZ?h>
+HZ?ED>
+u=ED>:C
+A
+
+Hz?0
+u=a>
+HZ?a>
+HZ?ۆ>
+u=ۆ>:C
+A
+
+Hz?0
+u=I>
+HZ?I>
+HZ?n>
+u=n>:C
+A
+
+Hz?0
+u=]>
+HZ?]>
+HZ??
+u=?:C
+A
+
+Hz?0
+u=U?
+HZ?U?
+HZ?hh?
+u=hh?:C
+A
+
+Hz?0
+u=|	?
+HZ?|	?
+HZ?X?
+u=X?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?	?
+u=	?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?@+?
+u=@+?:C
+A
+
+Hz?0
+u=M?
+HZ?M?
+HZ??
+u=?:C
+A
+
+Hz?0
+u=?
+HZ??
+HZ?( ?
+u=( ?:C
+A
+
+Hz?0
+u=\["?
+HZ?\["?
+HZ?m%?
+u=m%?:C
+A
+
+Hz?0
+u=&?
+HZ?&?
+HZ?()?
+u=()?:C
+A
+
+Hz?0
+u=<H,?
+HZ?<H,?
+HZ?Z/?
+u=Z/?:C
+A
+
+Hz?0
+u=,0?
+HZ?,0?
+HZ?>3?
+u=>3?:C
+A
+
+Hz?0
+u=)5?
+HZ?)5?
+HZ?8?
+u=8?:C
+A
+
+Hz?0
+u=[f:?
+HZ?[f:?
+HZ?x=?
+u=x=?:C
+A
+
+Hz?0
+u=h??
+HZ?h??
+HZ?zB?
+u=zB?:C
+A
+
+Hz?0
+u=1C?
+HZ?1C?
+HZ?F?
+u=F?:C
+A
+
+Hz?0
+u=sI?
+HZ?sI?
+HZ?L?
+u=L?:C
+A
+
+Hz?0
+u=kM?
+HZ?kM?
+HZ?*~P?
+u=*~P?:C
+A
+
+Hz?0
+u=S?
+HZ?S?
+HZ?GV?
+u=GV?:C
+A
+
+Hz?0
+u=X?
+HZ?X?
+HZ?7[?
+u=7[?:C
+A
+
+Hz?0
+u=Q\?
+HZ?Q\?
+HZ?c_?
+u=c_?:C
+A
+
+Hz?0
+u=&`?
+HZ?&`?
+HZ?c?
+u=c?:C
+A
+
+Hz?0
+u=e?
+HZ?e?
+HZ?_h?
+u=_h?:C
+A
+
+Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+Hz?0
+u=|?
+D>|?
+D>G?
+u=G?BC
+A
+
+Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BC
+A
+
+Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BC
+A
+
+Hz?0
+>C=
+>C=
+>j<=
+>j<=BC
+A
+
+Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BC
+A
+
+Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BC
+A
+
+Hz?0
+u=1=
+=1=
+==
+u==BC
+A
+
+Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BC
+A
+
+Hz?0
+?1=
+m?1=
+m?=
+?=BC
+A
+
+Hz?0
+333?1=
+E?1=
+E?=
+333?=BC
+A
+
+Hz?0
+u=d;=
+/=d;=
+/==
+u==BC
+A
+
+Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BC
+A
+
+Hz?0
+?d;=
+?d;=
+?=
+?=BC
+A
+
+Hz?0
+333?d;=
+V?d;=
+V?=
+333?=BC
+A
+
+Hz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BC
+A
+
+Hz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BC
+A
+
+Hz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BC
+A
+
+Hz?0
+>L7	>
+/>L7	>
+/>>
+>>BC
+A
+
+Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BC
+A
+
+Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BC
+A
+
+Hz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BC
+A
+
+Hz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BC
+A
+
+Hz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BC
+A
+
+Hz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BC
+A
+
+Hz?0
+u=">
+/=">
+/=/>
+u=/>BC
+A
+
+Hz?0
+Q8>">
++>">
++>/>
+Q8>/>BC
+A
+
+Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+Hz?0
+u=Zn>
+ =Zn>
+ =z>
+u=z>BC
+A
+
+Hz?0
+
+ף>Zn>
+>Zn>
+>z>
+
+ף>z>BC
+A
+
+Hz?0
+G>Zn>
+>Zn>
+>z>
+G>z>BC
+A
+
+Hz?0
+q=
+?Zn>
+(?Zn>
+(?z>
+q=
+?z>BC
+A
+
+Hz?0
+{.?Zn>
+  @?Zn>
+  @?z>
+{.?z>BC
+A
+
+Hz?0
+=
+W?Zn>
+HZ?Zn>
+HZ?z>
+=
+W?z>BC
+A
+
+Hz?0
+u=$p>
+ =$p>
+ =>
+u=>BC
+A
+
+Hz?0
+
+ף>$p>
+>$p>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>$p>
+>$p>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?$p>
+(?$p>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?$p>
+  @?$p>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?$p>
+HZ?$p>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=(>
+/=(>
+/=>
+u=>BC
+A
+
+Hz?0
+h=(>
+>(>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>(>
+&>(>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>(>
+>(>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?(>
+(?(>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?(>
+B?(>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?(>
+HZ?(>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u= c>
+/= c>
+/=݇>
+u=݇>BC
+A
+
+Hz?0
+h= c>
+> c>
+>݇>
+h=݇>BC
+A
+
+Hz?0
+
+ף> c>
+> c>
+>݇>
+
+ף>݇>BC
+A
+
+Hz?0
+G> c>
+> c>
+>݇>
+G>݇>BC
+A
+
+Hz?0
+q=
+? c>
+(? c>
+(?݇>
+q=
+?݇>BC
+A
+
+Hz?0
+{.? c>
+B? c>
+B?݇>
+{.?݇>BC
+A
+
+Hz?0
+=
+W? c>
+HZ? c>
+HZ?݇>
+=
+W?݇>BC
+A
+
+Hz?0
+u=b>
+/=b>
+/=@>
+u=@>BC
+A
+
+Hz?0
+h=b>
+>b>
+>@>
+h=@>BC
+A
+
+Hz?0
+
+ף>b>
+ȶ>b>
+ȶ>@>
+
+ף>@>BC
+A
+
+Hz?0
+G>b>
+>b>
+>@>
+G>@>BC
+A
+
+Hz?0
+q=
+?b>
+(?b>
+(?@>
+q=
+?@>BC
+A
+
+Hz?0
+{.?b>
+B?b>
+B?@>
+{.?@>BC
+A
+
+Hz?0
+=
+W?b>
+HZ?b>
+HZ?@>
+=
+W?@>BC
+A
+
+Hz?0
+u=YP>
+=YP>
+=6u>
+u=6u>BC
+A
+
+Hz?0
+=
+=YP>
+sh>YP>
+sh>6u>
+=
+=6u>BC
+A
+
+Hz?0
+
+ף>YP>
+>YP>
+>6u>
+
+ף>6u>BC
+A
+
+Hz?0
+G>YP>
+>YP>
+>6u>
+G>6u>BC
+A
+
+Hz?0
+q=
+?YP>
+(?YP>
+(?6u>
+q=
+?6u>BC
+A
+
+Hz?0
+{.?YP>
+B?YP>
+B?6u>
+{.?6u>BC
+A
+
+Hz?0
+=
+W?YP>
+HZ?YP>
+HZ?6u>
+=
+W?6u>BC
+A
+
+Hz?0
+u=f>
+ =f>
+ =>
+u=>BC
+A
+
+Hz?0
+
+ף>f>
+&>f>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>f>
+>f>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?f>
+(?f>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?f>
+B?f>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?f>
+HZ?f>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=>
+ =>
+ =>
+u=>BC
+A
+
+Hz?0
+=>
+$>>
+$>>
+=>BC
+A
+
+Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=q>
+=q>
+=Ж>
+u=Ж>BC
+A
+
+Hz?0
+=q>
+$>q>
+$>Ж>
+=Ж>BC
+A
+
+Hz?0
+
+ף>q>
+ȶ>q>
+ȶ>Ж>
+
+ף>Ж>BC
+A
+
+Hz?0
+G>q>
+>q>
+>Ж>
+G>Ж>BC
+A
+
+Hz?0
+q=
+?q>
+(?q>
+(?Ж>
+q=
+?Ж>BC
+A
+
+Hz?0
+{.?q>
+B?q>
+B?Ж>
+{.?Ж>BC
+A
+
+Hz?0
+=
+W?q>
+HZ?q>
+HZ?Ж>
+=
+W?Ж>BC
+A
+
+Hz?0
+u=>
+/=>
+/=>
+u=>BC
+A
+
+Hz?0
+h=>
+>>
+>>
+h=>BC
+A
+
+Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=/>
+=/>
+=>
+u=>BC
+A
+
+Hz?0
+=/>
+$>/>
+$>>
+=>BC
+A
+
+Hz?0
+
+ף>/>
+&>/>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>/>
+>/>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?/>
+X?/>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?/>
+  @?/>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?/>
+HZ?/>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=h>
+=h>
+=ED>
+u=ED>BC
+A
+
+Hz?0
+=
+=h>
+sh>h>
+sh>ED>
+=
+=ED>BC
+A
+
+Hz?0
+
+ף>h>
+ȶ>h>
+ȶ>ED>
+
+ף>ED>BC
+A
+
+Hz?0
+G>h>
+>h>
+>ED>
+G>ED>BC
+A
+
+Hz?0
+q=
+?h>
+(?h>
+(?ED>
+q=
+?ED>BC
+A
+
+Hz?0
+{.?h>
+B?h>
+B?ED>
+{.?ED>BC
+A
+
+Hz?0
+=
+W?h>
+HZ?h>
+HZ?ED>
+=
+W?ED>BC
+A
+
+Hz?0
+u=a>
+ =a>
+ =ۆ>
+u=ۆ>BC
+A
+
+Hz?0
+
+ף>a>
+ȶ>a>
+ȶ>ۆ>
+
+ף>ۆ>BC
+A
+
+Hz?0
+G>a>
+>a>
+>ۆ>
+G>ۆ>BC
+A
+
+Hz?0
+q=
+?a>
+(?a>
+(?ۆ>
+q=
+?ۆ>BC
+A
+
+Hz?0
+{.?a>
+B?a>
+B?ۆ>
+{.?ۆ>BC
+A
+
+Hz?0
+=
+W?a>
+HZ?a>
+HZ?ۆ>
+=
+W?ۆ>BC
+A
+
+Hz?0
+u=I>
+=I>
+=n>
+u=n>BC
+A
+
+Hz?0
+=
+=I>
+sh>I>
+sh>n>
+=
+=n>BC
+A
+
+Hz?0
+
+ף>I>
+&>I>
+&>n>
+
+ף>n>BC
+A
+
+Hz?0
+G>I>
+>I>
+>n>
+G>n>BC
+A
+
+Hz?0
+q=
+?I>
+(?I>
+(?n>
+q=
+?n>BC
+A
+
+Hz?0
+{.?I>
+B?I>
+B?n>
+{.?n>BC
+A
+
+Hz?0
+=
+W?I>
+HZ?I>
+HZ?n>
+=
+W?n>BC
+A
+
+Hz?0
+u=]>
+ =]>
+ =?
+u=?BC
+A
+
+Hz?0
+=]>
+$>]>
+$>?
+=?BC
+A
+
+Hz?0
+
+ף>]>
+>]>
+>?
+
+ף>?BC
+A
+
+Hz?0
+G>]>
+>]>
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?]>
+(?]>
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?]>
+B?]>
+B??
+{.??BC
+A
+
+Hz?0
+=
+W?]>
+HZ?]>
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=U?
+ =U?
+ =hh?
+u=hh?BC
+A
+
+Hz?0
+
+ף>U?
+&>U?
+&>hh?
+
+ף>hh?BC
+A
+
+Hz?0
+G>U?
+>U?
+>hh?
+G>hh?BC
+A
+
+Hz?0
+q=
+?U?
+X?U?
+X?hh?
+q=
+?hh?BC
+A
+
+Hz?0
+{.?U?
+  @?U?
+  @?hh?
+{.?hh?BC
+A
+
+Hz?0
+=
+W?U?
+HZ?U?
+HZ?hh?
+=
+W?hh?BC
+A
+
+Hz?0
+u=|	?
+=|	?
+=X?
+u=X?BC
+A
+
+Hz?0
+=
+=|	?
+sh>|	?
+sh>X?
+=
+=X?BC
+A
+
+Hz?0
+
+ף>|	?
+ȶ>|	?
+ȶ>X?
+
+ף>X?BC
+A
+
+Hz?0
+G>|	?
+>|	?
+>X?
+G>X?BC
+A
+
+Hz?0
+q=
+?|	?
+(?|	?
+(?X?
+q=
+?X?BC
+A
+
+Hz?0
+{.?|	?
+  @?|	?
+  @?X?
+{.?X?BC
+A
+
+Hz?0
+=
+W?|	?
+HZ?|	?
+HZ?X?
+=
+W?X?BC
+A
+
+Hz?0
+u=?
+ =?
+ =	?
+u=	?BC
+A
+
+Hz?0
+=?
+$>?
+$>	?
+=	?BC
+A
+
+Hz?0
+
+ף>?
+>?
+>	?
+
+ף>	?BC
+A
+
+Hz?0
+G>?
+>?
+>	?
+G>	?BC
+A
+
+Hz?0
+q=
+??
+(??
+(?	?
+q=
+?	?BC
+A
+
+Hz?0
+{.??
+B??
+B?	?
+{.?	?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?	?
+=
+W?	?BC
+A
+
+Hz?0
+u=?
+=?
+=@+?
+u=@+?BC
+A
+
+Hz?0
+=
+=?
+sh>?
+sh>@+?
+=
+=@+?BC
+A
+
+Hz?0
+
+ף>?
+ȶ>?
+ȶ>@+?
+
+ף>@+?BC
+A
+
+Hz?0
+G>?
+>?
+>@+?
+G>@+?BC
+A
+
+Hz?0
+q=
+??
+(??
+(?@+?
+q=
+?@+?BC
+A
+
+Hz?0
+{.??
+B??
+B?@+?
+{.?@+?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?@+?
+=
+W?@+?BC
+A
+
+Hz?0
+u=M?
+=M?
+=?
+u=?BC
+A
+
+Hz?0
+=
+=M?
+sh>M?
+sh>?
+=
+=?BC
+A
+
+Hz?0
+
+ף>M?
+>M?
+>?
+
+ף>?BC
+A
+
+Hz?0
+G>M?
+>M?
+>?
+G>?BC
+A
+
+Hz?0
+q=
+?M?
+(?M?
+(??
+q=
+??BC
+A
+
+Hz?0
+{.?M?
+  @?M?
+  @??
+{.??BC
+A
+
+Hz?0
+=
+W?M?
+HZ?M?
+HZ??
+=
+W??BC
+A
+
+Hz?0
+u=?
+=?
+=( ?
+u=( ?BC
+A
+
+Hz?0
+=?
+$>?
+$>( ?
+=( ?BC
+A
+
+Hz?0
+
+ף>?
+&>?
+&>( ?
+
+ף>( ?BC
+A
+
+Hz?0
+G>?
+>?
+>( ?
+G>( ?BC
+A
+
+Hz?0
+q=
+??
+X??
+X?( ?
+q=
+?( ?BC
+A
+
+Hz?0
+{.??
+/=??
+/=?( ?
+{.?( ?BC
+A
+
+Hz?0
+=
+W??
+HZ??
+HZ?( ?
+=
+W?( ?BC
+A
+
+Hz?0
+u=\["?
+/=\["?
+/=m%?
+u=m%?BC
+A
+
+Hz?0
+h=\["?
+>\["?
+>m%?
+h=m%?BC
+A
+
+Hz?0
+
+ף>\["?
+&>\["?
+&>m%?
+
+ף>m%?BC
+A
+
+Hz?0
+G>\["?
+>\["?
+>m%?
+G>m%?BC
+A
+
+Hz?0
+q=
+?\["?
+(?\["?
+(?m%?
+q=
+?m%?BC
+A
+
+Hz?0
+{.?\["?
+  @?\["?
+  @?m%?
+{.?m%?BC
+A
+
+Hz?0
+=
+W?\["?
+HZ?\["?
+HZ?m%?
+=
+W?m%?BC
+A
+
+Hz?0
+u=&?
+ =&?
+ =()?
+u=()?BC
+A
+
+Hz?0
+=&?
+sh>&?
+sh>()?
+=()?BC
+A
+
+Hz?0
+
+ף>&?
+ȶ>&?
+ȶ>()?
+
+ף>()?BC
+A
+
+Hz?0
+G>&?
+>&?
+>()?
+G>()?BC
+A
+
+Hz?0
+q=
+?&?
+(?&?
+(?()?
+q=
+?()?BC
+A
+
+Hz?0
+{.?&?
+  @?&?
+  @?()?
+{.?()?BC
+A
+
+Hz?0
+=
+W?&?
+HZ?&?
+HZ?()?
+=
+W?()?BC
+A
+
+Hz?0
+u=<H,?
+/=<H,?
+/=Z/?
+u=Z/?BC
+A
+
+Hz?0
+h=<H,?
+><H,?
+>Z/?
+h=Z/?BC
+A
+
+Hz?0
+
+ף><H,?
+&><H,?
+&>Z/?
+
+ף>Z/?BC
+A
+
+Hz?0
+G><H,?
+><H,?
+>Z/?
+G>Z/?BC
+A
+
+Hz?0
+q=
+?<H,?
+X?<H,?
+X?Z/?
+q=
+?Z/?BC
+A
+
+Hz?0
+{.?<H,?
+B?<H,?
+B?Z/?
+{.?Z/?BC
+A
+
+Hz?0
+=
+W?<H,?
+HZ?<H,?
+HZ?Z/?
+=
+W?Z/?BC
+A
+
+Hz?0
+u=,0?
+=,0?
+=>3?
+u=>3?BC
+A
+
+Hz?0
+=
+=,0?
+sh>,0?
+sh>>3?
+=
+=>3?BC
+A
+
+Hz?0
+
+ף>,0?
+ȶ>,0?
+ȶ>>3?
+
+ף>>3?BC
+A
+
+Hz?0
+G>,0?
+>,0?
+>>3?
+G>>3?BC
+A
+
+Hz?0
+q=
+?,0?
+X?,0?
+X?>3?
+q=
+?>3?BC
+A
+
+Hz?0
+{.?,0?
+  @?,0?
+  @?>3?
+{.?>3?BC
+A
+
+Hz?0
+=
+W?,0?
+HZ?,0?
+HZ?>3?
+=
+W?>3?BC
+A
+
+Hz?0
+u=)5?
+=)5?
+=8?
+u=8?BC
+A
+
+Hz?0
+=)5?
+$>)5?
+$>8?
+=8?BC
+A
+
+Hz?0
+
+ף>)5?
+ȶ>)5?
+ȶ>8?
+
+ף>8?BC
+A
+
+Hz?0
+G>)5?
+>)5?
+>8?
+G>8?BC
+A
+
+Hz?0
+q=
+?)5?
+(?)5?
+(?8?
+q=
+?8?BC
+A
+
+Hz?0
+{.?)5?
+  @?)5?
+  @?8?
+{.?8?BC
+A
+
+Hz?0
+=
+W?)5?
+HZ?)5?
+HZ?8?
+=
+W?8?BC
+A
+
+Hz?0
+u=[f:?
+=[f:?
+=x=?
+u=x=?BC
+A
+
+Hz?0
+=
+=[f:?
+sh>[f:?
+sh>x=?
+=
+=x=?BC
+A
+
+Hz?0
+
+ף>[f:?
+>[f:?
+>x=?
+
+ף>x=?BC
+A
+
+Hz?0
+G>[f:?
+>[f:?
+>x=?
+G>x=?BC
+A
+
+Hz?0
+q=
+?[f:?
+X?[f:?
+X?x=?
+q=
+?x=?BC
+A
+
+Hz?0
+{.?[f:?
+  @?[f:?
+  @?x=?
+{.?x=?BC
+A
+
+Hz?0
+=
+W?[f:?
+HZ?[f:?
+HZ?x=?
+=
+W?x=?BC
+A
+
+Hz?0
+u=h??
+ =h??
+ =zB?
+u=zB?BC
+A
+
+Hz?0
+=h??
+sh>h??
+sh>zB?
+=zB?BC
+A
+
+Hz?0
+
+ף>h??
+ȶ>h??
+ȶ>zB?
+
+ף>zB?BC
+A
+
+Hz?0
+G>h??
+>h??
+>zB?
+G>zB?BC
+A
+
+Hz?0
+q=
+?h??
+(?h??
+(?zB?
+q=
+?zB?BC
+A
+
+Hz?0
+{.?h??
+B?h??
+B?zB?
+{.?zB?BC
+A
+
+Hz?0
+=
+W?h??
+HZ?h??
+HZ?zB?
+=
+W?zB?BC
+A
+
+Hz?0
+u=1C?
+/=1C?
+/=F?
+u=F?BC
+A
+
+Hz?0
+h=1C?
+>1C?
+>F?
+h=F?BC
+A
+
+Hz?0
+
+ף>1C?
+>1C?
+>F?
+
+ף>F?BC
+A
+
+Hz?0
+G>1C?
+>1C?
+>F?
+G>F?BC
+A
+
+Hz?0
+q=
+?1C?
+(?1C?
+(?F?
+q=
+?F?BC
+A
+
+Hz?0
+{.?1C?
+  @?1C?
+  @?F?
+{.?F?BC
+A
+
+Hz?0
+=
+W?1C?
+HZ?1C?
+HZ?F?
+=
+W?F?BC
+A
+
+Hz?0
+u=sI?
+/=sI?
+/=L?
+u=L?BC
+A
+
+Hz?0
+h=sI?
+>sI?
+>L?
+h=L?BC
+A
+
+Hz?0
+
+ף>sI?
+>sI?
+>L?
+
+ף>L?BC
+A
+
+Hz?0
+G>sI?
+>sI?
+>L?
+G>L?BC
+A
+
+Hz?0
+q=
+?sI?
+(?sI?
+(?L?
+q=
+?L?BC
+A
+
+Hz?0
+{.?sI?
+B?sI?
+B?L?
+{.?L?BC
+A
+
+Hz?0
+=
+W?sI?
+HZ?sI?
+HZ?L?
+=
+W?L?BC
+A
+
+Hz?0
+u=kM?
+=kM?
+=*~P?
+u=*~P?BC
+A
+
+Hz?0
+=
+=kM?
+sh>kM?
+sh>*~P?
+=
+=*~P?BC
+A
+
+Hz?0
+
+ף>kM?
+>kM?
+>*~P?
+
+ף>*~P?BC
+A
+
+Hz?0
+G>kM?
+>kM?
+>*~P?
+G>*~P?BC
+A
+
+Hz?0
+q=
+?kM?
+(?kM?
+(?*~P?
+q=
+?*~P?BC
+A
+
+Hz?0
+{.?kM?
+B?kM?
+B?*~P?
+{.?*~P?BC
+A
+
+Hz?0
+=
+W?kM?
+HZ?kM?
+HZ?*~P?
+=
+W?*~P?BC
+A
+
+Hz?0
+u=S?
+ =S?
+ =GV?
+u=GV?BC
+A
+
+Hz?0
+=S?
+$>S?
+$>GV?
+=GV?BC
+A
+
+Hz?0
+
+ף>S?
+&>S?
+&>GV?
+
+ף>GV?BC
+A
+
+Hz?0
+G>S?
+>S?
+>GV?
+G>GV?BC
+A
+
+Hz?0
+q=
+?S?
+(?S?
+(?GV?
+q=
+?GV?BC
+A
+
+Hz?0
+{.?S?
+B?S?
+B?GV?
+{.?GV?BC
+A
+
+Hz?0
+=
+W?S?
+HZ?S?
+HZ?GV?
+=
+W?GV?BC
+A
+
+Hz?0
+u=X?
+ =X?
+ =7[?
+u=7[?BC
+A
+
+Hz?0
+=X?
+=X?
+=7[?
+=7[?BC
+A
+
+Hz?0
+
+ף>X?
+&>X?
+&>7[?
+
+ף>7[?BC
+A
+
+Hz?0
+G>X?
+>X?
+>7[?
+G>7[?BC
+A
+
+Hz?0
+q=
+?X?
+X?X?
+X?7[?
+q=
+?7[?BC
+A
+
+Hz?0
+{.?X?
+  @?X?
+  @?7[?
+{.?7[?BC
+A
+
+Hz?0
+=
+W?X?
+HZ?X?
+HZ?7[?
+=
+W?7[?BC
+A
+
+Hz?0
+u=Q\?
+=Q\?
+=c_?
+u=c_?BC
+A
+
+Hz?0
+=
+=Q\?
+sh>Q\?
+sh>c_?
+=
+=c_?BC
+A
+
+Hz?0
+
+ף>Q\?
+&>Q\?
+&>c_?
+
+ף>c_?BC
+A
+
+Hz?0
+G>Q\?
+>Q\?
+>c_?
+G>c_?BC
+A
+
+Hz?0
+q=
+?Q\?
+X?Q\?
+X?c_?
+q=
+?c_?BC
+A
+
+Hz?0
+{.?Q\?
+  @?Q\?
+  @?c_?
+{.?c_?BC
+A
+
+Hz?0
+=
+W?Q\?
+HZ?Q\?
+HZ?c_?
+=
+W?c_?BC
+A
+
+Hz?0
+u=&`?
+=&`?
+=c?
+u=c?BC
+A
+
+Hz?0
+=
+=&`?
+sh>&`?
+sh>c?
+=
+=c?BC
+A
+
+Hz?0
+
+ף>&`?
+&>&`?
+&>c?
+
+ף>c?BC
+A
+
+Hz?0
+G>&`?
+>&`?
+>c?
+G>c?BC
+A
+
+Hz?0
+q=
+?&`?
+(?&`?
+(?c?
+q=
+?c?BC
+A
+
+Hz?0
+{.?&`?
+B?&`?
+B?c?
+{.?c?BC
+A
+
+Hz?0
+=
+W?&`?
+HZ?&`?
+HZ?c?
+=
+W?c?BC
+A
+
+Hz?0
+u=e?
+=e?
+=_h?
+u=_h?BC
+A
+
+Hz?0
+=e?
+$>e?
+$>_h?
+=_h?BC
+A
+
+Hz?0
+
+ף>e?
+ȶ>e?
+ȶ>_h?
+
+ף>_h?BC
+A
+
+Hz?0
+G>e?
+>e?
+>_h?
+G>_h?BC
+A
+
+Hz?0
+q=
+?e?
+(?e?
+(?_h?
+q=
+?_h?BC
+A
+
+Hz?0
+{.?e?
+B?e?
+B?_h?
+{.?_h?BC
+A
+
+Hz?0
+=
+W?e?
+HZ?e?
+HZ?_h?
+=
+W?_h?BC
+A
+
+Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+Hz?0
+>|?
+D>|?
+D>G?
+>G?2  D @Dpixels:C
+A
+
+Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:C
+A
+
+Hz?0
+u=1=
+E?1=
+E?=
+u==:C
+A
+
+Hz?0
+u=d;=
+V?d;=
+V?=
+u==:C
+A
+
+Hz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:C
+A
+
+Hz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+Hz?0
+u=Fp>
+HZ?Fp>
+HZ? O|>
+u= O|>:C
+A
+
+Hz?0
+u=Հ>
+HZ?Հ>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=5>
+HZ?5>
+HZ?Z>
+u=Z>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?ף>
+u=ף>:C
+A
+
+Hz?0
+u=#t>
+HZ?#t>
+HZ? >
+u= >:C
+A
+
+Hz?0
+u=V>
+HZ?V>
+HZ?i{>
+u=i{>:C
+A
+
+Hz?0
+u= >
+HZ? >
+HZ?>
+u=>:C
+A
+
+Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+ Hz?0
+u=<">
+HZ?<">
+HZ?G>
+u=G>:C
+A
+
+  Hz?0
+u=`>
+HZ?`>
+HZ?=>
+u==>:C
+A
+
+  Hz?0
+u=7{>
+HZ?7{>
+HZ?>
+u=>:C
+A
+
+  Hz?0
+u=(>
+HZ?(>
+HZ?>
+u=>:C
+A
+
+  Hz?0
+u=<>
+HZ?<>
+HZ?>
+u=>:C
+A
+
+ !Hz?0
+u=x&>
+HZ?x&>
+HZ??
+u=?:C
+A
+
+!!Hz?0
+u=U?
+HZ?U?
+HZ?h?
+u=h?:C
+A
+
+!!Hz?0
+u=	?
+HZ?	?
+HZ?K?
+u=K?:C
+A
+
+!!Hz?0
+u=Y?
+HZ?Y?
+HZ?l?
+u=l?:C
+A
+
+!"Hz?0
+u=?
+HZ??
+HZ?w?
+u=w?:C
+A
+
+""Hz?0
+u=V?
+HZ?V?
+HZ?Ť?
+u=Ť?:C
+A
+
+""Hz?0
+u=?
+HZ??
+HZ??
+u=?:C
+A
+
+""Hz?0
+u=
+"?
+HZ?
+"?
+HZ?"%?
+u="%?:C
+A
+
+""Hz?0
+u=u/'?
+HZ?u/'?
+HZ?A*?
+u=A*?:C
+A
+
+"#Hz?0
+u=W+?
+HZ?W+?
+HZ?Sj.?
+u=Sj.?:C
+A
+
+##Hz?0
+u=0?
+HZ?0?
+HZ?3?
+u=3?:C
+A
+
+##Hz?0
+u=M}5?
+HZ?M}5?
+HZ?8?
+u=8?:C
+A
+
+##Hz?0
+u=b':?
+HZ?b':?
+HZ?9=?
+u=9=?:C
+A
+
+#$Hz?0
+u=2??
+HZ?2??
+HZ? EB?
+u= EB?:C
+A
+
+$$Hz?0
+u=D?
+HZ?D?
+HZ?YG?
+u=YG?:C
+A
+
+$$Hz?0
+u=H?
+HZ?H?
+HZ?*K?
+u=*K?:C
+A
+
+$$Hz?0
+u=M?
+HZ?M?
+HZ?PP?
+u=PP?:C
+A
+
+$$Hz?0
+u=6RR?
+HZ?6RR?
+HZ?dU?
+u=dU?:C
+A
+
+$%Hz?0
+u=iW?
+HZ?iW?
+HZ?׺Z?
+u=׺Z?:C
+A
+
+%%Hz?0
+u=$\?
+HZ?$\?
+HZ?6_?
+u=6_?:C
+A
+
+%%Hz?0
+u=`?
+HZ?`?
+HZ?c?
+u=c?:C
+A
+
+%%Hz?0
+u=e?
+HZ?e?
+HZ?ai?
+u=ai?:C
+A
+
+%%Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+%&Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+&&Hz?0
+u=|?
+D>|?
+D>G?
+u=G?BC
+A
+
+Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BC
+A
+
+Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BC
+A
+
+Hz?0
+>C=
+>C=
+>j<=
+>j<=BC
+A
+
+Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BC
+A
+
+Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BC
+A
+
+Hz?0
+u=1=
+=1=
+==
+u==BC
+A
+
+Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BC
+A
+
+Hz?0
+?1=
+m?1=
+m?=
+?=BC
+A
+
+Hz?0
+333?1=
+E?1=
+E?=
+333?=BC
+A
+
+Hz?0
+u=d;=
+/=d;=
+/==
+u==BC
+A
+
+Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BC
+A
+
+Hz?0
+?d;=
+?d;=
+?=
+?=BC
+A
+
+Hz?0
+333?d;=
+V?d;=
+V?=
+333?=BC
+A
+
+Hz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BC
+A
+
+Hz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BC
+A
+
+Hz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BC
+A
+
+Hz?0
+>L7	>
+/>L7	>
+/>>
+>>BC
+A
+
+Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BC
+A
+
+Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BC
+A
+
+Hz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BC
+A
+
+Hz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BC
+A
+
+Hz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BC
+A
+
+Hz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BC
+A
+
+Hz?0
+u=">
+/=">
+/=/>
+u=/>BC
+A
+
+Hz?0
+Q8>">
++>">
++>/>
+Q8>/>BC
+A
+
+Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+Hz?0
+u=Fp>
+=Fp>
+= O|>
+u= O|>BC
+A
+
+Hz?0
+=
+=Fp>
+sh>Fp>
+sh> O|>
+=
+= O|>BC
+A
+
+Hz?0
+
+ף>Fp>
+&>Fp>
+&> O|>
+
+ף> O|>BC
+A
+
+Hz?0
+G>Fp>
+>Fp>
+> O|>
+G> O|>BC
+A
+
+Hz?0
+q=
+?Fp>
+X?Fp>
+X? O|>
+q=
+? O|>BC
+A
+
+Hz?0
+{.?Fp>
+  @?Fp>
+  @? O|>
+{.? O|>BC
+A
+
+Hz?0
+=
+W?Fp>
+HZ?Fp>
+HZ? O|>
+=
+W? O|>BC
+A
+
+Hz?0
+u=Հ>
+ =Հ>
+ =>
+u=>BC
+A
+
+Hz?0
+=Հ>
+$>Հ>
+$>>
+=>BC
+A
+
+Hz?0
+
+ף>Հ>
+ȶ>Հ>
+ȶ>>
+
+ף>>BC
+A
+
+Hz?0
+G>Հ>
+>Հ>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?Հ>
+F?Հ>
+F?>
+q=
+?>BC
+A
+
+Hz?0
+{.?Հ>
+/=?Հ>
+/=?>
+{.?>BC
+A
+
+Hz?0
+=
+W?Հ>
+HZ?Հ>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=5>
+/=5>
+/=Z>
+u=Z>BC
+A
+
+Hz?0
+h=5>
+>5>
+>Z>
+h=Z>BC
+A
+
+Hz?0
+
+ף>5>
+&>5>
+&>Z>
+
+ף>Z>BC
+A
+
+Hz?0
+G>5>
+>5>
+>Z>
+G>Z>BC
+A
+
+Hz?0
+q=
+?5>
+(?5>
+(?Z>
+q=
+?Z>BC
+A
+
+Hz?0
+{.?5>
+B?5>
+B?Z>
+{.?Z>BC
+A
+
+Hz?0
+=
+W?5>
+HZ?5>
+HZ?Z>
+=
+W?Z>BC
+A
+
+Hz?0
+u=>
+ =>
+ =>
+u=>BC
+A
+
+Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=>
+=>
+=ף>
+u=ף>BC
+A
+
+Hz?0
+=
+=>
+sh>>
+sh>ף>
+=
+=ף>BC
+A
+
+Hz?0
+
+ף>>
+ȶ>>
+ȶ>ף>
+
+ף>ף>BC
+A
+
+Hz?0
+G>>
+>>
+>ף>
+G>ף>BC
+A
+
+Hz?0
+q=
+?>
+X?>
+X?ף>
+q=
+?ף>BC
+A
+
+Hz?0
+{.?>
+  @?>
+  @?ף>
+{.?ף>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?ף>
+=
+W?ף>BC
+A
+
+Hz?0
+u=#t>
+/=#t>
+/= >
+u= >BC
+A
+
+Hz?0
+h=#t>
+>#t>
+> >
+h= >BC
+A
+
+Hz?0
+
+ף>#t>
+&>#t>
+&> >
+
+ף> >BC
+A
+
+Hz?0
+G>#t>
+>#t>
+> >
+G> >BC
+A
+
+Hz?0
+q=
+?#t>
+X?#t>
+X? >
+q=
+? >BC
+A
+
+Hz?0
+{.?#t>
+  @?#t>
+  @? >
+{.? >BC
+A
+
+Hz?0
+=
+W?#t>
+HZ?#t>
+HZ? >
+=
+W? >BC
+A
+
+Hz?0
+u=V>
+=V>
+=i{>
+u=i{>BC
+A
+
+Hz?0
+=
+=V>
+sh>V>
+sh>i{>
+=
+=i{>BC
+A
+
+Hz?0
+
+ף>V>
+>V>
+>i{>
+
+ף>i{>BC
+A
+
+Hz?0
+G>V>
+>V>
+>i{>
+G>i{>BC
+A
+
+Hz?0
+q=
+?V>
+X?V>
+X?i{>
+q=
+?i{>BC
+A
+
+Hz?0
+{.?V>
+  @?V>
+  @?i{>
+{.?i{>BC
+A
+
+Hz?0
+=
+W?V>
+HZ?V>
+HZ?i{>
+=
+W?i{>BC
+A
+
+Hz?0
+u= >
+ = >
+ =>
+u=>BC
+A
+
+Hz?0
+= >
+$> >
+$>>
+=>BC
+A
+
+Hz?0
+
+ף> >
+&> >
+&>>
+
+ף>>BC
+A
+
+Hz?0
+G> >
+> >
+>>
+G>>BC
+A
+
+Hz?0
+q=
+? >
+(? >
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.? >
+  @? >
+  @?>
+{.?>BC
+A
+
+Hz?0
+=
+W? >
+HZ? >
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=>
+=>
+=>
+u=>BC
+A
+
+Hz?0
+=
+=>
+sh>>
+sh>>
+=
+=>BC
+A
+
+Hz?0
+
+ף>>
+>>
+>>
+
+ף>>BC
+A
+
+Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+Hz?0
+u=<">
+=<">
+=G>
+u=G>BC
+A
+
+Hz?0
+=
+=<">
+sh><">
+sh>G>
+=
+=G>BC
+A
+
+Hz?0
+
+ף><">
+&><">
+&>G>
+
+ף>G>BC
+A
+
+Hz?0
+G><">
+><">
+>G>
+G>G>BC
+A
+
+Hz?0
+q=
+?<">
+(?<">
+(?G>
+q=
+?G>BC
+A
+
+ Hz?0
+{.?<">
+B?<">
+B?G>
+{.?G>BC
+A
+
+  Hz?0
+=
+W?<">
+HZ?<">
+HZ?G>
+=
+W?G>BC
+A
+
+  Hz?0
+u=`>
+=`>
+==>
+u==>BC
+A
+
+  Hz?0
+=
+=`>
+sh>`>
+sh>=>
+=
+==>BC
+A
+
+  Hz?0
+
+ף>`>
+&>`>
+&>=>
+
+ף>=>BC
+A
+
+  Hz?0
+G>`>
+>`>
+>=>
+G>=>BC
+A
+
+  Hz?0
+q=
+?`>
+(?`>
+(?=>
+q=
+?=>BC
+A
+
+  Hz?0
+{.?`>
+B?`>
+B?=>
+{.?=>BC
+A
+
+  Hz?0
+=
+W?`>
+HZ?`>
+HZ?=>
+=
+W?=>BC
+A
+
+  Hz?0
+u=7{>
+=7{>
+=>
+u=>BC
+A
+
+  Hz?0
+=
+=7{>
+sh>7{>
+sh>>
+=
+=>BC
+A
+
+  Hz?0
+
+ף>7{>
+>7{>
+>>
+
+ף>>BC
+A
+
+  Hz?0
+G>7{>
+>7{>
+>>
+G>>BC
+A
+
+  Hz?0
+q=
+?7{>
+(?7{>
+(?>
+q=
+?>BC
+A
+
+  Hz?0
+{.?7{>
+B?7{>
+B?>
+{.?>BC
+A
+
+  Hz?0
+=
+W?7{>
+HZ?7{>
+HZ?>
+=
+W?>BC
+A
+
+  Hz?0
+u=(>
+/=(>
+/=>
+u=>BC
+A
+
+  Hz?0
+h=(>
+>(>
+>>
+h=>BC
+A
+
+  Hz?0
+
+ף>(>
+>(>
+>>
+
+ף>>BC
+A
+
+  Hz?0
+G>(>
+>(>
+>>
+G>>BC
+A
+
+  Hz?0
+q=
+?(>
+(?(>
+(?>
+q=
+?>BC
+A
+
+  Hz?0
+{.?(>
+B?(>
+B?>
+{.?>BC
+A
+
+  Hz?0
+=
+W?(>
+HZ?(>
+HZ?>
+=
+W?>BC
+A
+
+  Hz?0
+u=<>
+/=<>
+/=>
+u=>BC
+A
+
+  Hz?0
+h=<>
+><>
+>>
+h=>BC
+A
+
+  Hz?0
+
+ף><>
+&><>
+&>>
+
+ף>>BC
+A
+
+  Hz?0
+G><>
+><>
+>>
+G>>BC
+A
+
+  Hz?0
+q=
+?<>
+(?<>
+(?>
+q=
+?>BC
+A
+
+  Hz?0
+{.?<>
+  @?<>
+  @?>
+{.?>BC
+A
+
+  Hz?0
+=
+W?<>
+HZ?<>
+HZ?>
+=
+W?>BC
+A
+
+  Hz?0
+u=x&>
+=x&>
+=?
+u=?BC
+A
+
+ !Hz?0
+=x&>
+$>x&>
+$>?
+=?BC
+A
+
+!!Hz?0
+
+ף>x&>
+ȶ>x&>
+ȶ>?
+
+ף>?BC
+A
+
+!!Hz?0
+G>x&>
+>x&>
+>?
+G>?BC
+A
+
+!!Hz?0
+q=
+?x&>
+X?x&>
+X??
+q=
+??BC
+A
+
+!!Hz?0
+{.?x&>
+/=?x&>
+/=??
+{.??BC
+A
+
+!!Hz?0
+=
+W?x&>
+HZ?x&>
+HZ??
+=
+W??BC
+A
+
+!!Hz?0
+u=U?
+/=U?
+/=h?
+u=h?BC
+A
+
+!!Hz?0
+h=U?
+>U?
+>h?
+h=h?BC
+A
+
+!!Hz?0
+
+ף>U?
+&>U?
+&>h?
+
+ף>h?BC
+A
+
+!!Hz?0
+G>U?
+>U?
+>h?
+G>h?BC
+A
+
+!!Hz?0
+q=
+?U?
+(?U?
+(?h?
+q=
+?h?BC
+A
+
+!!Hz?0
+{.?U?
+B?U?
+B?h?
+{.?h?BC
+A
+
+!!Hz?0
+=
+W?U?
+HZ?U?
+HZ?h?
+=
+W?h?BC
+A
+
+!!Hz?0
+u=	?
+/=	?
+/=K?
+u=K?BC
+A
+
+!!Hz?0
+h=	?
+>	?
+>K?
+h=K?BC
+A
+
+!!Hz?0
+
+ף>	?
+>	?
+>K?
+
+ף>K?BC
+A
+
+!!Hz?0
+G>	?
+>	?
+>K?
+G>K?BC
+A
+
+!!Hz?0
+q=
+?	?
+(?	?
+(?K?
+q=
+?K?BC
+A
+
+!!Hz?0
+{.?	?
+B?	?
+B?K?
+{.?K?BC
+A
+
+!!Hz?0
+=
+W?	?
+HZ?	?
+HZ?K?
+=
+W?K?BC
+A
+
+!!Hz?0
+u=Y?
+ =Y?
+ =l?
+u=l?BC
+A
+
+!!Hz?0
+=Y?
+=Y?
+=l?
+=l?BC
+A
+
+!!Hz?0
+
+ף>Y?
+>Y?
+>l?
+
+ף>l?BC
+A
+
+!!Hz?0
+G>Y?
+>Y?
+>l?
+G>l?BC
+A
+
+!!Hz?0
+q=
+?Y?
+X?Y?
+X?l?
+q=
+?l?BC
+A
+
+!!Hz?0
+{.?Y?
+  @?Y?
+  @?l?
+{.?l?BC
+A
+
+!!Hz?0
+=
+W?Y?
+HZ?Y?
+HZ?l?
+=
+W?l?BC
+A
+
+!!Hz?0
+u=?
+/=?
+/=w?
+u=w?BC
+A
+
+!!Hz?0
+h=?
+>?
+>w?
+h=w?BC
+A
+
+!!Hz?0
+
+ף>?
+&>?
+&>w?
+
+ף>w?BC
+A
+
+!!Hz?0
+G>?
+>?
+>w?
+G>w?BC
+A
+
+!"Hz?0
+q=
+??
+(??
+(?w?
+q=
+?w?BC
+A
+
+""Hz?0
+{.??
+  @??
+  @?w?
+{.?w?BC
+A
+
+""Hz?0
+=
+W??
+HZ??
+HZ?w?
+=
+W?w?BC
+A
+
+""Hz?0
+u=V?
+ =V?
+ =Ť?
+u=Ť?BC
+A
+
+""Hz?0
+
+ף>V?
+ȶ>V?
+ȶ>Ť?
+
+ף>Ť?BC
+A
+
+""Hz?0
+G>V?
+>V?
+>Ť?
+G>Ť?BC
+A
+
+""Hz?0
+q=
+?V?
+X?V?
+X?Ť?
+q=
+?Ť?BC
+A
+
+""Hz?0
+{.?V?
+B?V?
+B?Ť?
+{.?Ť?BC
+A
+
+""Hz?0
+=
+W?V?
+HZ?V?
+HZ?Ť?
+=
+W?Ť?BC
+A
+
+""Hz?0
+u=?
+ =?
+ =?
+u=?BC
+A
+
+""Hz?0
+=?
+=?
+=?
+=?BC
+A
+
+""Hz?0
+
+ף>?
+>?
+>?
+
+ף>?BC
+A
+
+""Hz?0
+G>?
+>?
+>?
+G>?BC
+A
+
+""Hz?0
+q=
+??
+X??
+X??
+q=
+??BC
+A
+
+""Hz?0
+{.??
+  @??
+  @??
+{.??BC
+A
+
+""Hz?0
+=
+W??
+HZ??
+HZ??
+=
+W??BC
+A
+
+""Hz?0
+u=
+"?
+=
+"?
+="%?
+u="%?BC
+A
+
+""Hz?0
+=
+=
+"?
+sh>
+"?
+sh>"%?
+=
+="%?BC
+A
+
+""Hz?0
+
+ף>
+"?
+ȶ>
+"?
+ȶ>"%?
+
+ף>"%?BC
+A
+
+""Hz?0
+G>
+"?
+>
+"?
+>"%?
+G>"%?BC
+A
+
+""Hz?0
+q=
+?
+"?
+X?
+"?
+X?"%?
+q=
+?"%?BC
+A
+
+""Hz?0
+{.?
+"?
+  @?
+"?
+  @?"%?
+{.?"%?BC
+A
+
+""Hz?0
+=
+W?
+"?
+HZ?
+"?
+HZ?"%?
+=
+W?"%?BC
+A
+
+""Hz?0
+u=u/'?
+=u/'?
+=A*?
+u=A*?BC
+A
+
+""Hz?0
+=u/'?
+$>u/'?
+$>A*?
+=A*?BC
+A
+
+""Hz?0
+
+ף>u/'?
+&>u/'?
+&>A*?
+
+ף>A*?BC
+A
+
+""Hz?0
+G>u/'?
+>u/'?
+>A*?
+G>A*?BC
+A
+
+""Hz?0
+q=
+?u/'?
+(?u/'?
+(?A*?
+q=
+?A*?BC
+A
+
+""Hz?0
+{.?u/'?
+B?u/'?
+B?A*?
+{.?A*?BC
+A
+
+""Hz?0
+=
+W?u/'?
+HZ?u/'?
+HZ?A*?
+=
+W?A*?BC
+A
+
+"#Hz?0
+u=W+?
+ =W+?
+ =Sj.?
+u=Sj.?BC
+A
+
+##Hz?0
+=W+?
+$>W+?
+$>Sj.?
+=Sj.?BC
+A
+
+##Hz?0
+
+ף>W+?
+ȶ>W+?
+ȶ>Sj.?
+
+ף>Sj.?BC
+A
+
+##Hz?0
+G>W+?
+>W+?
+>Sj.?
+G>Sj.?BC
+A
+
+##Hz?0
+q=
+?W+?
+(?W+?
+(?Sj.?
+q=
+?Sj.?BC
+A
+
+##Hz?0
+{.?W+?
+  @?W+?
+  @?Sj.?
+{.?Sj.?BC
+A
+
+##Hz?0
+=
+W?W+?
+HZ?W+?
+HZ?Sj.?
+=
+W?Sj.?BC
+A
+
+##Hz?0
+u=0?
+=0?
+=3?
+u=3?BC
+A
+
+##Hz?0
+=
+=0?
+sh>0?
+sh>3?
+=
+=3?BC
+A
+
+##Hz?0
+
+ף>0?
+&>0?
+&>3?
+
+ף>3?BC
+A
+
+##Hz?0
+G>0?
+>0?
+>3?
+G>3?BC
+A
+
+##Hz?0
+q=
+?0?
+F?0?
+F?3?
+q=
+?3?BC
+A
+
+##Hz?0
+{.?0?
+/=?0?
+/=?3?
+{.?3?BC
+A
+
+##Hz?0
+=
+W?0?
+HZ?0?
+HZ?3?
+=
+W?3?BC
+A
+
+##Hz?0
+u=M}5?
+/=M}5?
+/=8?
+u=8?BC
+A
+
+##Hz?0
+h=M}5?
+>M}5?
+>8?
+h=8?BC
+A
+
+##Hz?0
+
+ף>M}5?
+>M}5?
+>8?
+
+ף>8?BC
+A
+
+##Hz?0
+G>M}5?
+>M}5?
+>8?
+G>8?BC
+A
+
+##Hz?0
+q=
+?M}5?
+(?M}5?
+(?8?
+q=
+?8?BC
+A
+
+##Hz?0
+{.?M}5?
+  @?M}5?
+  @?8?
+{.?8?BC
+A
+
+##Hz?0
+=
+W?M}5?
+HZ?M}5?
+HZ?8?
+=
+W?8?BC
+A
+
+##Hz?0
+u=b':?
+=b':?
+=9=?
+u=9=?BC
+A
+
+##Hz?0
+=
+=b':?
+sh>b':?
+sh>9=?
+=
+=9=?BC
+A
+
+##Hz?0
+
+ף>b':?
+>b':?
+>9=?
+
+ף>9=?BC
+A
+
+##Hz?0
+G>b':?
+>b':?
+>9=?
+G>9=?BC
+A
+
+##Hz?0
+q=
+?b':?
+X?b':?
+X?9=?
+q=
+?9=?BC
+A
+
+##Hz?0
+{.?b':?
+B?b':?
+B?9=?
+{.?9=?BC
+A
+
+##Hz?0
+=
+W?b':?
+HZ?b':?
+HZ?9=?
+=
+W?9=?BC
+A
+
+##Hz?0
+u=2??
+/=2??
+/= EB?
+u= EB?BC
+A
+
+##Hz?0
+h=2??
+>2??
+> EB?
+h= EB?BC
+A
+
+##Hz?0
+
+ף>2??
+ȶ>2??
+ȶ> EB?
+
+ף> EB?BC
+A
+
+##Hz?0
+G>2??
+>2??
+> EB?
+G> EB?BC
+A
+
+#$Hz?0
+q=
+?2??
+(?2??
+(? EB?
+q=
+? EB?BC
+A
+
+$$Hz?0
+{.?2??
+  @?2??
+  @? EB?
+{.? EB?BC
+A
+
+$$Hz?0
+=
+W?2??
+HZ?2??
+HZ? EB?
+=
+W? EB?BC
+A
+
+$$Hz?0
+u=D?
+ =D?
+ =YG?
+u=YG?BC
+A
+
+$$Hz?0
+=D?
+$>D?
+$>YG?
+=YG?BC
+A
+
+$$Hz?0
+
+ף>D?
+>D?
+>YG?
+
+ף>YG?BC
+A
+
+$$Hz?0
+G>D?
+>D?
+>YG?
+G>YG?BC
+A
+
+$$Hz?0
+q=
+?D?
+X?D?
+X?YG?
+q=
+?YG?BC
+A
+
+$$Hz?0
+{.?D?
+  @?D?
+  @?YG?
+{.?YG?BC
+A
+
+$$Hz?0
+=
+W?D?
+HZ?D?
+HZ?YG?
+=
+W?YG?BC
+A
+
+$$Hz?0
+u=H?
+ =H?
+ =*K?
+u=*K?BC
+A
+
+$$Hz?0
+=H?
+$>H?
+$>*K?
+=*K?BC
+A
+
+$$Hz?0
+
+ף>H?
+>H?
+>*K?
+
+ף>*K?BC
+A
+
+$$Hz?0
+G>H?
+>H?
+>*K?
+G>*K?BC
+A
+
+$$Hz?0
+q=
+?H?
+(?H?
+(?*K?
+q=
+?*K?BC
+A
+
+$$Hz?0
+{.?H?
+B?H?
+B?*K?
+{.?*K?BC
+A
+
+$$Hz?0
+=
+W?H?
+HZ?H?
+HZ?*K?
+=
+W?*K?BC
+A
+
+$$Hz?0
+u=M?
+/=M?
+/=PP?
+u=PP?BC
+A
+
+$$Hz?0
+h=M?
+>M?
+>PP?
+h=PP?BC
+A
+
+$$Hz?0
+
+ף>M?
+&>M?
+&>PP?
+
+ף>PP?BC
+A
+
+$$Hz?0
+G>M?
+>M?
+>PP?
+G>PP?BC
+A
+
+$$Hz?0
+q=
+?M?
+X?M?
+X?PP?
+q=
+?PP?BC
+A
+
+$$Hz?0
+{.?M?
+  @?M?
+  @?PP?
+{.?PP?BC
+A
+
+$$Hz?0
+=
+W?M?
+HZ?M?
+HZ?PP?
+=
+W?PP?BC
+A
+
+$$Hz?0
+u=6RR?
+ =6RR?
+ =dU?
+u=dU?BC
+A
+
+$$Hz?0
+
+ף>6RR?
+&>6RR?
+&>dU?
+
+ף>dU?BC
+A
+
+$$Hz?0
+G>6RR?
+>6RR?
+>dU?
+G>dU?BC
+A
+
+$$Hz?0
+q=
+?6RR?
+X?6RR?
+X?dU?
+q=
+?dU?BC
+A
+
+$$Hz?0
+{.?6RR?
+B?6RR?
+B?dU?
+{.?dU?BC
+A
+
+$$Hz?0
+=
+W?6RR?
+HZ?6RR?
+HZ?dU?
+=
+W?dU?BC
+A
+
+$$Hz?0
+u=iW?
+ =iW?
+ =׺Z?
+u=׺Z?BC
+A
+
+$%Hz?0
+
+ף>iW?
+ȶ>iW?
+ȶ>׺Z?
+
+ף>׺Z?BC
+A
+
+%%Hz?0
+G>iW?
+>iW?
+>׺Z?
+G>׺Z?BC
+A
+
+%%Hz?0
+q=
+?iW?
+X?iW?
+X?׺Z?
+q=
+?׺Z?BC
+A
+
+%%Hz?0
+{.?iW?
+B?iW?
+B?׺Z?
+{.?׺Z?BC
+A
+
+%%Hz?0
+=
+W?iW?
+HZ?iW?
+HZ?׺Z?
+=
+W?׺Z?BC
+A
+
+%%Hz?0
+u=$\?
+ =$\?
+ =6_?
+u=6_?BC
+A
+
+%%Hz?0
+=$\?
+sh>$\?
+sh>6_?
+=6_?BC
+A
+
+%%Hz?0
+
+ף>$\?
+&>$\?
+&>6_?
+
+ף>6_?BC
+A
+
+%%Hz?0
+G>$\?
+>$\?
+>6_?
+G>6_?BC
+A
+
+%%Hz?0
+q=
+?$\?
+(?$\?
+(?6_?
+q=
+?6_?BC
+A
+
+%%Hz?0
+{.?$\?
+B?$\?
+B?6_?
+{.?6_?BC
+A
+
+%%Hz?0
+=
+W?$\?
+HZ?$\?
+HZ?6_?
+=
+W?6_?BC
+A
+
+%%Hz?0
+u=`?
+=`?
+=c?
+u=c?BC
+A
+
+%%Hz?0
+=
+=`?
+sh>`?
+sh>c?
+=
+=c?BC
+A
+
+%%Hz?0
+
+ף>`?
+>`?
+>c?
+
+ף>c?BC
+A
+
+%%Hz?0
+G>`?
+>`?
+>c?
+G>c?BC
+A
+
+%%Hz?0
+q=
+?`?
+(?`?
+(?c?
+q=
+?c?BC
+A
+
+%%Hz?0
+{.?`?
+B?`?
+B?c?
+{.?c?BC
+A
+
+%%Hz?0
+=
+W?`?
+HZ?`?
+HZ?c?
+=
+W?c?BC
+A
+
+%%Hz?0
+u=e?
+ =e?
+ =ai?
+u=ai?BC
+A
+
+%%Hz?0
+
+ף>e?
+>e?
+>ai?
+
+ף>ai?BC
+A
+
+%%Hz?0
+G>e?
+>e?
+>ai?
+G>ai?BC
+A
+
+%%Hz?0
+q=
+?e?
+(?e?
+(?ai?
+q=
+?ai?BC
+A
+
+%%Hz?0
+{.?e?
+  @?e?
+  @?ai?
+{.?ai?BC
+A
+
+%%Hz?0
+=
+W?e?
+HZ?e?
+HZ?ai?
+=
+W?ai?BC
+A
+
+%%Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+%%Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+%%Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+%&Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+&&Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+&&Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+&&Hz?0
+>|?
+D>|?
+D>G?
+>G?2  D @Dpixels:C
+A
+
+&&Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:C
+A
+
+&&Hz?0
+u=1=
+E?1=
+E?=
+u==:C
+A
+
+&&Hz?0
+u=d;=
+V?d;=
+V?=
+u==:C
+A
+
+&'Hz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:C
+A
+
+''Hz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+''Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+''Hz?0
+u=n>
+HZ?n>
+HZ?&{>
+u=&{>:C
+A
+
+''Hz?0
+u=;>
+HZ?;>
+HZ?_>
+u=_>:C
+A
+
+''Hz?0
+u=>
+HZ?>
+HZ?:>
+u=:>:C
+A
+
+'(Hz?0
+u=Ŕ>
+HZ?Ŕ>
+HZ?>
+u=>:C
+A
+
+((Hz?0
+u=\>>
+HZ?\>>
+HZ?9c>
+u=9c>:C
+A
+
+((Hz?0
+u=(">
+HZ?(">
+HZ?G>
+u=G>:C
+A
+
+((Hz?0
+u=$>
+HZ?$>
+HZ?H>
+u=H>:C
+A
+
+((Hz?0
+u=v>
+HZ?v>
+HZ?>
+u=>:C
+A
+
+()Hz?0
+u=z>
+HZ?z>
+HZ?i>
+u=i>:C
+A
+
+))Hz?0
+u=o>
+HZ?o>
+HZ?Ҕ>
+u=Ҕ>:C
+A
+
+))Hz?0
+u=Hb>
+HZ?Hb>
+HZ?&>
+u=&>:C
+A
+
+))Hz?0
+u=>
+HZ?>
+HZ?]2>
+u=]2>:C
+A
+
+)*Hz?0
+u==!>
+HZ?=!>
+HZ?F>
+u=F>:C
+A
+
+**Hz?0
+u=6>
+HZ?6>
+HZ?>
+u=>:C
+A
+
+**Hz?0
+u=Q>
+HZ?Q>
+HZ?:?
+u=:?:C
+A
+
+**Hz?0
+u=G?
+HZ?G?
+HZ?	Z?
+u=	Z?:C
+A
+
+*+Hz?0
+u=$
+?
+HZ?$
+?
+HZ?L7?
+u=L7?:C
+A
+
+++Hz?0
+u=F?
+HZ?F?
+HZ?ZY?
+u=ZY?:C
+A
+
+++Hz?0
+u=	?
+HZ?	?
+HZ??
+u=?:C
+A
+
+++Hz?0
+u=?
+HZ??
+HZ?E?
+u=E?:C
+A
+
+++Hz?0
+u=?
+HZ??
+HZ?* ?
+u=* ?:C
+A
+
++,Hz?0
+u=!?
+HZ?!?
+HZ?N$?
+u=N$?:C
+A
+
+,,Hz?0
+u=d'?
+HZ?d'?
+HZ?v*?
+u=v*?:C
+A
+
+,,Hz?0
+u=+?
+HZ?+?
+HZ?.?
+u=.?:C
+A
+
+,,Hz?0
+u=0?
+HZ?0?
+HZ?3?
+u=3?:C
+A
+
+,,Hz?0
+u=O5?
+HZ?O5?
+HZ?18?
+u=18?:C
+A
+
+,-Hz?0
+u=[:?
+HZ?[:?
+HZ?m=?
+u=m=?:C
+A
+
+--Hz?0
+u=0??
+HZ?0??
+HZ?B?
+u=B?:C
+A
+
+--Hz?0
+u=^C?
+HZ?^C?
+HZ?F?
+u=F?:C
+A
+
+--Hz?0
+u=H?
+HZ?H?
+HZ?gK?
+u=gK?:C
+A
+
+-.Hz?0
+u="M?
+HZ?"M?
+HZ?P?
+u=P?:C
+A
+
+..Hz?0
+u=Z)S?
+HZ?Z)S?
+HZ?;V?
+u=;V?:C
+A
+
+..Hz?0
+u=^W?
+HZ?^W?
+HZ?Z?
+u=Z?:C
+A
+
+..Hz?0
+u=p\?
+HZ?p\?
+HZ?U_?
+u=U_?:C
+A
+
+..Hz?0
+u=8`?
+HZ?8`?
+HZ?d?
+u=d?:C
+A
+
+./Hz?0
+u=e?
+HZ?e?
+HZ?Di?
+u=Di?:C
+A
+
+//Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+//Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+//Hz?0
+u=|?
+D>|?
+D>G?
+u=G?BC
+A
+
+&&Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BC
+A
+
+&&Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BC
+A
+
+&&Hz?0
+>C=
+>C=
+>j<=
+>j<=BC
+A
+
+&&Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BC
+A
+
+&&Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BC
+A
+
+&&Hz?0
+u=1=
+=1=
+==
+u==BC
+A
+
+&&Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BC
+A
+
+&&Hz?0
+?1=
+m?1=
+m?=
+?=BC
+A
+
+&&Hz?0
+333?1=
+E?1=
+E?=
+333?=BC
+A
+
+&&Hz?0
+u=d;=
+/=d;=
+/==
+u==BC
+A
+
+&&Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BC
+A
+
+&&Hz?0
+?d;=
+?d;=
+?=
+?=BC
+A
+
+&&Hz?0
+333?d;=
+V?d;=
+V?=
+333?=BC
+A
+
+&&Hz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BC
+A
+
+&&Hz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BC
+A
+
+&&Hz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BC
+A
+
+&&Hz?0
+>L7	>
+/>L7	>
+/>>
+>>BC
+A
+
+&&Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BC
+A
+
+&&Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BC
+A
+
+&&Hz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BC
+A
+
+&&Hz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BC
+A
+
+&&Hz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BC
+A
+
+&'Hz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BC
+A
+
+''Hz?0
+u=">
+/=">
+/=/>
+u=/>BC
+A
+
+''Hz?0
+Q8>">
++>">
++>/>
+Q8>/>BC
+A
+
+''Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+''Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+''Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+''Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+''Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+''Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+''Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+''Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+''Hz?0
+u=n>
+ =n>
+ =&{>
+u=&{>BC
+A
+
+''Hz?0
+
+ף>n>
+ȶ>n>
+ȶ>&{>
+
+ף>&{>BC
+A
+
+''Hz?0
+G>n>
+>n>
+>&{>
+G>&{>BC
+A
+
+''Hz?0
+q=
+?n>
+F?n>
+F?&{>
+q=
+?&{>BC
+A
+
+''Hz?0
+{.?n>
+/=?n>
+/=?&{>
+{.?&{>BC
+A
+
+''Hz?0
+=
+W?n>
+HZ?n>
+HZ?&{>
+=
+W?&{>BC
+A
+
+''Hz?0
+u=;>
+ =;>
+ =_>
+u=_>BC
+A
+
+''Hz?0
+=;>
+=;>
+=_>
+=_>BC
+A
+
+''Hz?0
+
+ף>;>
+&>;>
+&>_>
+
+ף>_>BC
+A
+
+''Hz?0
+G>;>
+>;>
+>_>
+G>_>BC
+A
+
+''Hz?0
+q=
+?;>
+X?;>
+X?_>
+q=
+?_>BC
+A
+
+''Hz?0
+{.?;>
+  @?;>
+  @?_>
+{.?_>BC
+A
+
+''Hz?0
+=
+W?;>
+HZ?;>
+HZ?_>
+=
+W?_>BC
+A
+
+''Hz?0
+u=>
+ =>
+ =:>
+u=:>BC
+A
+
+''Hz?0
+
+ף>>
+&>>
+&>:>
+
+ף>:>BC
+A
+
+''Hz?0
+G>>
+>>
+>:>
+G>:>BC
+A
+
+''Hz?0
+q=
+?>
+X?>
+X?:>
+q=
+?:>BC
+A
+
+''Hz?0
+{.?>
+  @?>
+  @?:>
+{.?:>BC
+A
+
+''Hz?0
+=
+W?>
+HZ?>
+HZ?:>
+=
+W?:>BC
+A
+
+''Hz?0
+u=Ŕ>
+ =Ŕ>
+ =>
+u=>BC
+A
+
+''Hz?0
+
+ף>Ŕ>
+>Ŕ>
+>>
+
+ף>>BC
+A
+
+''Hz?0
+G>Ŕ>
+>Ŕ>
+>>
+G>>BC
+A
+
+'(Hz?0
+q=
+?Ŕ>
+X?Ŕ>
+X?>
+q=
+?>BC
+A
+
+((Hz?0
+{.?Ŕ>
+  @?Ŕ>
+  @?>
+{.?>BC
+A
+
+((Hz?0
+=
+W?Ŕ>
+HZ?Ŕ>
+HZ?>
+=
+W?>BC
+A
+
+((Hz?0
+u=\>>
+ =\>>
+ =9c>
+u=9c>BC
+A
+
+((Hz?0
+
+ף>\>>
+&>\>>
+&>9c>
+
+ף>9c>BC
+A
+
+((Hz?0
+G>\>>
+>\>>
+>9c>
+G>9c>BC
+A
+
+((Hz?0
+q=
+?\>>
+X?\>>
+X?9c>
+q=
+?9c>BC
+A
+
+((Hz?0
+{.?\>>
+  @?\>>
+  @?9c>
+{.?9c>BC
+A
+
+((Hz?0
+=
+W?\>>
+HZ?\>>
+HZ?9c>
+=
+W?9c>BC
+A
+
+((Hz?0
+u=(">
+=(">
+=G>
+u=G>BC
+A
+
+((Hz?0
+=
+=(">
+sh>(">
+sh>G>
+=
+=G>BC
+A
+
+((Hz?0
+
+ף>(">
+&>(">
+&>G>
+
+ף>G>BC
+A
+
+((Hz?0
+G>(">
+>(">
+>G>
+G>G>BC
+A
+
+((Hz?0
+q=
+?(">
+(?(">
+(?G>
+q=
+?G>BC
+A
+
+((Hz?0
+{.?(">
+B?(">
+B?G>
+{.?G>BC
+A
+
+((Hz?0
+=
+W?(">
+HZ?(">
+HZ?G>
+=
+W?G>BC
+A
+
+((Hz?0
+u=$>
+ =$>
+ =H>
+u=H>BC
+A
+
+((Hz?0
+
+ף>$>
+&>$>
+&>H>
+
+ף>H>BC
+A
+
+((Hz?0
+G>$>
+>$>
+>H>
+G>H>BC
+A
+
+((Hz?0
+q=
+?$>
+(?$>
+(?H>
+q=
+?H>BC
+A
+
+((Hz?0
+{.?$>
+B?$>
+B?H>
+{.?H>BC
+A
+
+((Hz?0
+=
+W?$>
+HZ?$>
+HZ?H>
+=
+W?H>BC
+A
+
+((Hz?0
+u=v>
+=v>
+=>
+u=>BC
+A
+
+((Hz?0
+=v>
+$>v>
+$>>
+=>BC
+A
+
+((Hz?0
+
+ף>v>
+>v>
+>>
+
+ף>>BC
+A
+
+((Hz?0
+G>v>
+>v>
+>>
+G>>BC
+A
+
+((Hz?0
+q=
+?v>
+X?v>
+X?>
+q=
+?>BC
+A
+
+((Hz?0
+{.?v>
+  @?v>
+  @?>
+{.?>BC
+A
+
+((Hz?0
+=
+W?v>
+HZ?v>
+HZ?>
+=
+W?>BC
+A
+
+((Hz?0
+u=z>
+/=z>
+/=i>
+u=i>BC
+A
+
+((Hz?0
+h=z>
+>z>
+>i>
+h=i>BC
+A
+
+()Hz?0
+
+ף>z>
+&>z>
+&>i>
+
+ף>i>BC
+A
+
+))Hz?0
+G>z>
+>z>
+>i>
+G>i>BC
+A
+
+))Hz?0
+q=
+?z>
+(?z>
+(?i>
+q=
+?i>BC
+A
+
+))Hz?0
+{.?z>
+B?z>
+B?i>
+{.?i>BC
+A
+
+))Hz?0
+=
+W?z>
+HZ?z>
+HZ?i>
+=
+W?i>BC
+A
+
+))Hz?0
+u=o>
+/=o>
+/=Ҕ>
+u=Ҕ>BC
+A
+
+))Hz?0
+h=o>
+>o>
+>Ҕ>
+h=Ҕ>BC
+A
+
+))Hz?0
+
+ף>o>
+&>o>
+&>Ҕ>
+
+ף>Ҕ>BC
+A
+
+))Hz?0
+G>o>
+>o>
+>Ҕ>
+G>Ҕ>BC
+A
+
+))Hz?0
+q=
+?o>
+(?o>
+(?Ҕ>
+q=
+?Ҕ>BC
+A
+
+))Hz?0
+{.?o>
+B?o>
+B?Ҕ>
+{.?Ҕ>BC
+A
+
+))Hz?0
+=
+W?o>
+HZ?o>
+HZ?Ҕ>
+=
+W?Ҕ>BC
+A
+
+))Hz?0
+u=Hb>
+ =Hb>
+ =&>
+u=&>BC
+A
+
+))Hz?0
+=Hb>
+sh>Hb>
+sh>&>
+=&>BC
+A
+
+))Hz?0
+
+ף>Hb>
+>Hb>
+>&>
+
+ף>&>BC
+A
+
+))Hz?0
+G>Hb>
+>Hb>
+>&>
+G>&>BC
+A
+
+))Hz?0
+q=
+?Hb>
+(?Hb>
+(?&>
+q=
+?&>BC
+A
+
+))Hz?0
+{.?Hb>
+B?Hb>
+B?&>
+{.?&>BC
+A
+
+))Hz?0
+=
+W?Hb>
+HZ?Hb>
+HZ?&>
+=
+W?&>BC
+A
+
+))Hz?0
+u=>
+ =>
+ =]2>
+u=]2>BC
+A
+
+))Hz?0
+
+ף>>
+ȶ>>
+ȶ>]2>
+
+ף>]2>BC
+A
+
+))Hz?0
+G>>
+>>
+>]2>
+G>]2>BC
+A
+
+))Hz?0
+q=
+?>
+(?>
+(?]2>
+q=
+?]2>BC
+A
+
+))Hz?0
+{.?>
+B?>
+B?]2>
+{.?]2>BC
+A
+
+))Hz?0
+=
+W?>
+HZ?>
+HZ?]2>
+=
+W?]2>BC
+A
+
+))Hz?0
+u==!>
+==!>
+=F>
+u=F>BC
+A
+
+))Hz?0
+==!>
+$>=!>
+$>F>
+=F>BC
+A
+
+))Hz?0
+
+ף>=!>
+&>=!>
+&>F>
+
+ף>F>BC
+A
+
+))Hz?0
+G>=!>
+>=!>
+>F>
+G>F>BC
+A
+
+)*Hz?0
+q=
+?=!>
+(?=!>
+(?F>
+q=
+?F>BC
+A
+
+**Hz?0
+{.?=!>
+B?=!>
+B?F>
+{.?F>BC
+A
+
+**Hz?0
+=
+W?=!>
+HZ?=!>
+HZ?F>
+=
+W?F>BC
+A
+
+**Hz?0
+u=6>
+=6>
+=>
+u=>BC
+A
+
+**Hz?0
+=
+=6>
+sh>6>
+sh>>
+=
+=>BC
+A
+
+**Hz?0
+
+ף>6>
+&>6>
+&>>
+
+ף>>BC
+A
+
+**Hz?0
+G>6>
+>6>
+>>
+G>>BC
+A
+
+**Hz?0
+q=
+?6>
+(?6>
+(?>
+q=
+?>BC
+A
+
+**Hz?0
+{.?6>
+B?6>
+B?>
+{.?>BC
+A
+
+**Hz?0
+=
+W?6>
+HZ?6>
+HZ?>
+=
+W?>BC
+A
+
+**Hz?0
+u=Q>
+/=Q>
+/=:?
+u=:?BC
+A
+
+**Hz?0
+h=Q>
+>Q>
+>:?
+h=:?BC
+A
+
+**Hz?0
+
+ף>Q>
+>Q>
+>:?
+
+ף>:?BC
+A
+
+**Hz?0
+G>Q>
+>Q>
+>:?
+G>:?BC
+A
+
+**Hz?0
+q=
+?Q>
+X?Q>
+X?:?
+q=
+?:?BC
+A
+
+**Hz?0
+{.?Q>
+  @?Q>
+  @?:?
+{.?:?BC
+A
+
+**Hz?0
+=
+W?Q>
+HZ?Q>
+HZ?:?
+=
+W?:?BC
+A
+
+**Hz?0
+u=G?
+/=G?
+/=	Z?
+u=	Z?BC
+A
+
+**Hz?0
+h=G?
+>G?
+>	Z?
+h=	Z?BC
+A
+
+**Hz?0
+
+ף>G?
+>G?
+>	Z?
+
+ף>	Z?BC
+A
+
+**Hz?0
+G>G?
+>G?
+>	Z?
+G>	Z?BC
+A
+
+**Hz?0
+q=
+?G?
+(?G?
+(?	Z?
+q=
+?	Z?BC
+A
+
+**Hz?0
+{.?G?
+B?G?
+B?	Z?
+{.?	Z?BC
+A
+
+**Hz?0
+=
+W?G?
+HZ?G?
+HZ?	Z?
+=
+W?	Z?BC
+A
+
+**Hz?0
+u=$
+?
+=$
+?
+=L7?
+u=L7?BC
+A
+
+**Hz?0
+=
+=$
+?
+sh>$
+?
+sh>L7?
+=
+=L7?BC
+A
+
+**Hz?0
+
+ף>$
+?
+>$
+?
+>L7?
+
+ף>L7?BC
+A
+
+**Hz?0
+G>$
+?
+>$
+?
+>L7?
+G>L7?BC
+A
+
+**Hz?0
+q=
+?$
+?
+(?$
+?
+(?L7?
+q=
+?L7?BC
+A
+
+*+Hz?0
+{.?$
+?
+B?$
+?
+B?L7?
+{.?L7?BC
+A
+
+++Hz?0
+=
+W?$
+?
+HZ?$
+?
+HZ?L7?
+=
+W?L7?BC
+A
+
+++Hz?0
+u=F?
+ =F?
+ =ZY?
+u=ZY?BC
+A
+
+++Hz?0
+
+ף>F?
+>F?
+>ZY?
+
+ף>ZY?BC
+A
+
+++Hz?0
+G>F?
+>F?
+>ZY?
+G>ZY?BC
+A
+
+++Hz?0
+q=
+?F?
+X?F?
+X?ZY?
+q=
+?ZY?BC
+A
+
+++Hz?0
+{.?F?
+  @?F?
+  @?ZY?
+{.?ZY?BC
+A
+
+++Hz?0
+=
+W?F?
+HZ?F?
+HZ?ZY?
+=
+W?ZY?BC
+A
+
+++Hz?0
+u=	?
+ =	?
+ =?
+u=?BC
+A
+
+++Hz?0
+=	?
+$>	?
+$>?
+=?BC
+A
+
+++Hz?0
+
+ף>	?
+>	?
+>?
+
+ף>?BC
+A
+
+++Hz?0
+G>	?
+>	?
+>?
+G>?BC
+A
+
+++Hz?0
+q=
+?	?
+(?	?
+(??
+q=
+??BC
+A
+
+++Hz?0
+{.?	?
+  @?	?
+  @??
+{.??BC
+A
+
+++Hz?0
+=
+W?	?
+HZ?	?
+HZ??
+=
+W??BC
+A
+
+++Hz?0
+u=?
+=?
+=E?
+u=E?BC
+A
+
+++Hz?0
+=
+=?
+sh>?
+sh>E?
+=
+=E?BC
+A
+
+++Hz?0
+
+ף>?
+>?
+>E?
+
+ף>E?BC
+A
+
+++Hz?0
+G>?
+>?
+>E?
+G>E?BC
+A
+
+++Hz?0
+q=
+??
+(??
+(?E?
+q=
+?E?BC
+A
+
+++Hz?0
+{.??
+  @??
+  @?E?
+{.?E?BC
+A
+
+++Hz?0
+=
+W??
+HZ??
+HZ?E?
+=
+W?E?BC
+A
+
+++Hz?0
+u=?
+=?
+=* ?
+u=* ?BC
+A
+
+++Hz?0
+=
+=?
+sh>?
+sh>* ?
+=
+=* ?BC
+A
+
+++Hz?0
+
+ף>?
+ȶ>?
+ȶ>* ?
+
+ף>* ?BC
+A
+
+++Hz?0
+G>?
+>?
+>* ?
+G>* ?BC
+A
+
+++Hz?0
+q=
+??
+X??
+X?* ?
+q=
+?* ?BC
+A
+
+++Hz?0
+{.??
+B??
+B?* ?
+{.?* ?BC
+A
+
+++Hz?0
+=
+W??
+HZ??
+HZ?* ?
+=
+W?* ?BC
+A
+
+++Hz?0
+u=!?
+ =!?
+ =N$?
+u=N$?BC
+A
+
+++Hz?0
+=!?
+$>!?
+$>N$?
+=N$?BC
+A
+
+++Hz?0
+
+ף>!?
+>!?
+>N$?
+
+ף>N$?BC
+A
+
+++Hz?0
+G>!?
+>!?
+>N$?
+G>N$?BC
+A
+
++,Hz?0
+q=
+?!?
+(?!?
+(?N$?
+q=
+?N$?BC
+A
+
+,,Hz?0
+{.?!?
+  @?!?
+  @?N$?
+{.?N$?BC
+A
+
+,,Hz?0
+=
+W?!?
+HZ?!?
+HZ?N$?
+=
+W?N$?BC
+A
+
+,,Hz?0
+u=d'?
+/=d'?
+/=v*?
+u=v*?BC
+A
+
+,,Hz?0
+h=d'?
+>d'?
+>v*?
+h=v*?BC
+A
+
+,,Hz?0
+
+ף>d'?
+>d'?
+>v*?
+
+ף>v*?BC
+A
+
+,,Hz?0
+G>d'?
+>d'?
+>v*?
+G>v*?BC
+A
+
+,,Hz?0
+q=
+?d'?
+(?d'?
+(?v*?
+q=
+?v*?BC
+A
+
+,,Hz?0
+{.?d'?
+B?d'?
+B?v*?
+{.?v*?BC
+A
+
+,,Hz?0
+=
+W?d'?
+HZ?d'?
+HZ?v*?
+=
+W?v*?BC
+A
+
+,,Hz?0
+u=+?
+ =+?
+ =.?
+u=.?BC
+A
+
+,,Hz?0
+=+?
+$>+?
+$>.?
+=.?BC
+A
+
+,,Hz?0
+
+ף>+?
+&>+?
+&>.?
+
+ף>.?BC
+A
+
+,,Hz?0
+G>+?
+>+?
+>.?
+G>.?BC
+A
+
+,,Hz?0
+q=
+?+?
+X?+?
+X?.?
+q=
+?.?BC
+A
+
+,,Hz?0
+{.?+?
+  @?+?
+  @?.?
+{.?.?BC
+A
+
+,,Hz?0
+=
+W?+?
+HZ?+?
+HZ?.?
+=
+W?.?BC
+A
+
+,,Hz?0
+u=0?
+ =0?
+ =3?
+u=3?BC
+A
+
+,,Hz?0
+=0?
+$>0?
+$>3?
+=3?BC
+A
+
+,,Hz?0
+
+ף>0?
+&>0?
+&>3?
+
+ף>3?BC
+A
+
+,,Hz?0
+G>0?
+>0?
+>3?
+G>3?BC
+A
+
+,,Hz?0
+q=
+?0?
+(?0?
+(?3?
+q=
+?3?BC
+A
+
+,,Hz?0
+{.?0?
+B?0?
+B?3?
+{.?3?BC
+A
+
+,,Hz?0
+=
+W?0?
+HZ?0?
+HZ?3?
+=
+W?3?BC
+A
+
+,,Hz?0
+u=O5?
+=O5?
+=18?
+u=18?BC
+A
+
+,,Hz?0
+=
+=O5?
+sh>O5?
+sh>18?
+=
+=18?BC
+A
+
+,,Hz?0
+
+ף>O5?
+>O5?
+>18?
+
+ף>18?BC
+A
+
+,,Hz?0
+G>O5?
+>O5?
+>18?
+G>18?BC
+A
+
+,,Hz?0
+q=
+?O5?
+(?O5?
+(?18?
+q=
+?18?BC
+A
+
+,,Hz?0
+{.?O5?
+B?O5?
+B?18?
+{.?18?BC
+A
+
+,,Hz?0
+=
+W?O5?
+HZ?O5?
+HZ?18?
+=
+W?18?BC
+A
+
+,-Hz?0
+u=[:?
+/=[:?
+/=m=?
+u=m=?BC
+A
+
+--Hz?0
+h=[:?
+>[:?
+>m=?
+h=m=?BC
+A
+
+--Hz?0
+
+ף>[:?
+>[:?
+>m=?
+
+ף>m=?BC
+A
+
+--Hz?0
+G>[:?
+>[:?
+>m=?
+G>m=?BC
+A
+
+--Hz?0
+q=
+?[:?
+(?[:?
+(?m=?
+q=
+?m=?BC
+A
+
+--Hz?0
+{.?[:?
+  @?[:?
+  @?m=?
+{.?m=?BC
+A
+
+--Hz?0
+=
+W?[:?
+HZ?[:?
+HZ?m=?
+=
+W?m=?BC
+A
+
+--Hz?0
+u=0??
+/=0??
+/=B?
+u=B?BC
+A
+
+--Hz?0
+h=0??
+>0??
+>B?
+h=B?BC
+A
+
+--Hz?0
+
+ף>0??
+&>0??
+&>B?
+
+ף>B?BC
+A
+
+--Hz?0
+G>0??
+>0??
+>B?
+G>B?BC
+A
+
+--Hz?0
+q=
+?0??
+X?0??
+X?B?
+q=
+?B?BC
+A
+
+--Hz?0
+{.?0??
+  @?0??
+  @?B?
+{.?B?BC
+A
+
+--Hz?0
+=
+W?0??
+HZ?0??
+HZ?B?
+=
+W?B?BC
+A
+
+--Hz?0
+u=^C?
+ =^C?
+ =F?
+u=F?BC
+A
+
+--Hz?0
+=^C?
+=^C?
+=F?
+=F?BC
+A
+
+--Hz?0
+
+ף>^C?
+>^C?
+>F?
+
+ף>F?BC
+A
+
+--Hz?0
+G>^C?
+>^C?
+>F?
+G>F?BC
+A
+
+--Hz?0
+q=
+?^C?
+(?^C?
+(?F?
+q=
+?F?BC
+A
+
+--Hz?0
+{.?^C?
+  @?^C?
+  @?F?
+{.?F?BC
+A
+
+--Hz?0
+=
+W?^C?
+HZ?^C?
+HZ?F?
+=
+W?F?BC
+A
+
+--Hz?0
+u=H?
+=H?
+=gK?
+u=gK?BC
+A
+
+--Hz?0
+=
+=H?
+sh>H?
+sh>gK?
+=
+=gK?BC
+A
+
+--Hz?0
+
+ף>H?
+&>H?
+&>gK?
+
+ף>gK?BC
+A
+
+--Hz?0
+G>H?
+>H?
+>gK?
+G>gK?BC
+A
+
+--Hz?0
+q=
+?H?
+F?H?
+F?gK?
+q=
+?gK?BC
+A
+
+--Hz?0
+{.?H?
+/=?H?
+/=?gK?
+{.?gK?BC
+A
+
+--Hz?0
+=
+W?H?
+HZ?H?
+HZ?gK?
+=
+W?gK?BC
+A
+
+--Hz?0
+u="M?
+ ="M?
+ =P?
+u=P?BC
+A
+
+--Hz?0
+="M?
+="M?
+=P?
+=P?BC
+A
+
+--Hz?0
+
+ף>"M?
+ȶ>"M?
+ȶ>P?
+
+ף>P?BC
+A
+
+--Hz?0
+G>"M?
+>"M?
+>P?
+G>P?BC
+A
+
+--Hz?0
+q=
+?"M?
+(?"M?
+(?P?
+q=
+?P?BC
+A
+
+-.Hz?0
+{.?"M?
+  @?"M?
+  @?P?
+{.?P?BC
+A
+
+..Hz?0
+=
+W?"M?
+HZ?"M?
+HZ?P?
+=
+W?P?BC
+A
+
+..Hz?0
+u=Z)S?
+=Z)S?
+=;V?
+u=;V?BC
+A
+
+..Hz?0
+=Z)S?
+$>Z)S?
+$>;V?
+=;V?BC
+A
+
+..Hz?0
+
+ף>Z)S?
+>Z)S?
+>;V?
+
+ף>;V?BC
+A
+
+..Hz?0
+G>Z)S?
+>Z)S?
+>;V?
+G>;V?BC
+A
+
+..Hz?0
+q=
+?Z)S?
+(?Z)S?
+(?;V?
+q=
+?;V?BC
+A
+
+..Hz?0
+{.?Z)S?
+B?Z)S?
+B?;V?
+{.?;V?BC
+A
+
+..Hz?0
+=
+W?Z)S?
+HZ?Z)S?
+HZ?;V?
+=
+W?;V?BC
+A
+
+..Hz?0
+u=^W?
+ =^W?
+ =Z?
+u=Z?BC
+A
+
+..Hz?0
+
+ף>^W?
+ȶ>^W?
+ȶ>Z?
+
+ף>Z?BC
+A
+
+..Hz?0
+G>^W?
+>^W?
+>Z?
+G>Z?BC
+A
+
+..Hz?0
+q=
+?^W?
+X?^W?
+X?Z?
+q=
+?Z?BC
+A
+
+..Hz?0
+{.?^W?
+  @?^W?
+  @?Z?
+{.?Z?BC
+A
+
+..Hz?0
+=
+W?^W?
+HZ?^W?
+HZ?Z?
+=
+W?Z?BC
+A
+
+..Hz?0
+u=p\?
+=p\?
+=U_?
+u=U_?BC
+A
+
+..Hz?0
+=
+=p\?
+sh>p\?
+sh>U_?
+=
+=U_?BC
+A
+
+..Hz?0
+
+ף>p\?
+ȶ>p\?
+ȶ>U_?
+
+ף>U_?BC
+A
+
+..Hz?0
+G>p\?
+>p\?
+>U_?
+G>U_?BC
+A
+
+..Hz?0
+q=
+?p\?
+X?p\?
+X?U_?
+q=
+?U_?BC
+A
+
+..Hz?0
+{.?p\?
+B?p\?
+B?U_?
+{.?U_?BC
+A
+
+..Hz?0
+=
+W?p\?
+HZ?p\?
+HZ?U_?
+=
+W?U_?BC
+A
+
+..Hz?0
+u=8`?
+ =8`?
+ =d?
+u=d?BC
+A
+
+..Hz?0
+=8`?
+sh>8`?
+sh>d?
+=d?BC
+A
+
+..Hz?0
+
+ף>8`?
+>8`?
+>d?
+
+ף>d?BC
+A
+
+..Hz?0
+G>8`?
+>8`?
+>d?
+G>d?BC
+A
+
+..Hz?0
+q=
+?8`?
+F?8`?
+F?d?
+q=
+?d?BC
+A
+
+..Hz?0
+{.?8`?
+  @?8`?
+  @?d?
+{.?d?BC
+A
+
+..Hz?0
+=
+W?8`?
+HZ?8`?
+HZ?d?
+=
+W?d?BC
+A
+
+..Hz?0
+u=e?
+ =e?
+ =Di?
+u=Di?BC
+A
+
+..Hz?0
+
+ף>e?
+&>e?
+&>Di?
+
+ף>Di?BC
+A
+
+..Hz?0
+G>e?
+>e?
+>Di?
+G>Di?BC
+A
+
+./Hz?0
+q=
+?e?
+X?e?
+X?Di?
+q=
+?Di?BC
+A
+
+//Hz?0
+{.?e?
+B?e?
+B?Di?
+{.?Di?BC
+A
+
+//Hz?0
+=
+W?e?
+HZ?e?
+HZ?Di?
+=
+W?Di?BC
+A
+
+//Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+//Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+//Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+//Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+//Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+//Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+//Hz?0
+>|?
+D>|?
+D>G?
+>G?2Ͳ  D @Dpixels:C
+A
+
+//Hz?0
+\>C=
+X>C=
+X>j<=
+\>j<=:C
+A
+
+//Hz?0
+u=1=
+E?1=
+E?=
+u==:C
+A
+
+//Hz?0
+u=d;=
+V?d;=
+V?=
+u==:C
+A
+
+/0Hz?0
+u=L7	>
+Jb?L7	>
+Jb?>
+u=>:C
+A
+
+00Hz?0
+u=">
+<?">
+<?/>
+u=/>:C
+A
+
+00Hz?0
+u=F>
+-]?F>
+-]?R>
+u=R>:C
+A
+
+00Hz?0
+u=̓o>
+HZ?̓o>
+HZ?{>
+u={>:C
+A
+
+01Hz?0
+u=z>
+HZ?z>
+HZ?>
+u=>:C
+A
+
+11Hz?0
+u=B>
+HZ?B>
+HZ?g>
+u=g>:C
+A
+
+11Hz?0
+u=U>
+HZ?U>
+HZ?z>
+u=z>:C
+A
+
+11Hz?0
+u=>
+HZ?>
+HZ?C>
+u=C>:C
+A
+
+12Hz?0
+u=eԧ>
+HZ?eԧ>
+HZ?B>
+u=B>:C
+A
+
+22Hz?0
+u=>
+HZ?>
+HZ?_>
+u=_>:C
+A
+
+22Hz?0
+u="ջ>
+HZ?"ջ>
+HZ?>
+u=>:C
+A
+
+22Hz?0
+u=>
+HZ?>
+HZ?>
+u=>:C
+A
+
+22Hz?0
+u=ST>
+HZ?ST>
+HZ?0y>
+u=0y>:C
+A
+
+23Hz?0
+u=,>
+HZ?,>
+HZ?Q>
+u=Q>:C
+A
+
+33Hz?0
+u=>
+HZ?>
+HZ?
+>
+u=
+>:C
+A
+
+33Hz?0
+u=\>
+HZ?\>
+HZ?>
+u=>:C
+A
+
+33Hz?0
+u='>
+HZ?'>
+HZ?L>
+u=L>:C
+A
+
+34Hz?0
+u=@ ?
+HZ?@ ?
+HZ? S?
+u= S?:C
+A
+
+44Hz?0
+u=6?
+HZ?6?
+HZ?H?
+u=H?:C
+A
+
+44Hz?0
+u=8	?
+HZ?8	?
+HZ?{J?
+u={J?:C
+A
+
+44Hz?0
+u=?
+HZ??
+HZ?e!?
+u=e!?:C
+A
+
+44Hz?0
+u='O?
+HZ?'O?
+HZ?a?
+u=a?:C
+A
+
+45Hz?0
+u=?
+HZ??
+HZ?)?
+u=)?:C
+A
+
+55Hz?0
+u=?
+HZ??
+HZ??
+u=?:C
+A
+
+55Hz?0
+u=."?
+HZ?."?
+HZ?<A%?
+u=<A%?:C
+A
+
+55Hz?0
+u=&?
+HZ?&?
+HZ?I)?
+u=I)?:C
+A
+
+55Hz?0
+u=v+?
+HZ?v+?
+HZ?.?
+u=.?:C
+A
+
+56Hz?0
+u='h0?
+HZ?'h0?
+HZ?z3?
+u=z3?:C
+A
+
+66Hz?0
+u=<5?
+HZ?<5?
+HZ?9?
+u=9?:C
+A
+
+66Hz?0
+u=a:?
+HZ?a:?
+HZ?=?
+u==?:C
+A
+
+66Hz?0
+u=4??
+HZ?4??
+HZ?RGB?
+u=RGB?:C
+A
+
+67Hz?0
+u=D?
+HZ?D?
+HZ?kG?
+u=kG?:C
+A
+
+77Hz?0
+u=tH?
+HZ?tH?
+HZ?gK?
+u=gK?:C
+A
+
+77Hz?0
+u=ƍM?
+HZ?ƍM?
+HZ?5P?
+u=5P?:C
+A
+
+77Hz?0
+u=AR?
+HZ?AR?
+HZ?4TU?
+u=4TU?:C
+A
+
+77Hz?0
+u="uW?
+HZ?"uW?
+HZ?Z?
+u=Z?:C
+A
+
+78Hz?0
+u=<\?
+HZ?<\?
+HZ?@O_?
+u=@O_?:C
+A
+
+88Hz?0
+u=Xha?
+HZ?Xha?
+HZ?zd?
+u=zd?:C
+A
+
+88Hz?0
+u=f?
+HZ?f?
+HZ?Vi?
+u=Vi?:C
+A
+
+88Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?:C
+A
+
+88Hz?0
+u=+v?
+shq?+v?
+shq?y?
+u=y?:C
+A
+
+88Hz?0
+u=|?
+D>|?
+D>G?
+u=G?BC
+A
+
+//Hz?0
+\>C=
+q=>C=
+q=>j<=
+\>j<=BC
+A
+
+//Hz?0
+V>C=
+>C=
+>j<=
+V>j<=BC
+A
+
+//Hz?0
+>C=
+>C=
+>j<=
+>j<=BC
+A
+
+//Hz?0
+T>C=
+h>C=
+h>j<=
+T>j<=BC
+A
+
+//Hz?0
+>C=
+X>C=
+X>j<=
+>j<=BC
+A
+
+//Hz?0
+u=1=
+=1=
+==
+u==BC
+A
+
+//Hz?0
+Q8>1=
+C>1=
+C>=
+Q8>=BC
+A
+
+//Hz?0
+?1=
+m?1=
+m?=
+?=BC
+A
+
+//Hz?0
+333?1=
+E?1=
+E?=
+333?=BC
+A
+
+//Hz?0
+u=d;=
+/=d;=
+/==
+u==BC
+A
+
+//Hz?0
+Q8>d;=
+ʡ>d;=
+ʡ>=
+Q8>=BC
+A
+
+//Hz?0
+?d;=
+?d;=
+?=
+?=BC
+A
+
+//Hz?0
+333?d;=
+V?d;=
+V?=
+333?=BC
+A
+
+/0Hz?0
+u=L7	>
+ =L7	>
+ =>
+u=>BC
+A
+
+00Hz?0
+Q8>L7	>
+R>L7	>
+R>>
+Q8>>BC
+A
+
+00Hz?0
+"[>L7	>
+>L7	>
+>>
+"[>>BC
+A
+
+00Hz?0
+>L7	>
+/>L7	>
+/>>
+>>BC
+A
+
+00Hz?0
+G>L7	>
+X9>L7	>
+X9>>
+G>>BC
+A
+
+00Hz?0
+?L7	>
+t?L7	>
+t?>
+?>BC
+A
+
+00Hz?0
+333?L7	>
+#9?L7	>
+#9?>
+333?>BC
+A
+
+00Hz?0
+m;?L7	>
+B`E?L7	>
+B`E?>
+m;?>BC
+A
+
+00Hz?0
+lG?L7	>
++V?L7	>
++V?>
+lG?>BC
+A
+
+00Hz?0
+uX?L7	>
+Jb?L7	>
+Jb?>
+uX?>BC
+A
+
+00Hz?0
+u=">
+/=">
+/=/>
+u=/>BC
+A
+
+00Hz?0
+Q8>">
++>">
++>/>
+Q8>/>BC
+A
+
+00Hz?0
+?">
+E?">
+E?/>
+?/>BC
+A
+
+00Hz?0
+333?">
+<?">
+<?/>
+333?/>BC
+A
+
+00Hz?0
+u=F>
+ =F>
+ =R>
+u=R>BC
+A
+
+00Hz?0
+
+ף>F>
+&>F>
+&>R>
+
+ף>R>BC
+A
+
+00Hz?0
+G>F>
+>F>
+>R>
+G>R>BC
+A
+
+00Hz?0
+q=
+?F>
+`?F>
+`?R>
+q=
+?R>BC
+A
+
+00Hz?0
+{.?F>
+j4?F>
+j4?R>
+{.?R>BC
+A
+
+00Hz?0
+=
+W?F>
+-]?F>
+-]?R>
+=
+W?R>BC
+A
+
+00Hz?0
+u=̓o>
+/=̓o>
+/={>
+u={>BC
+A
+
+00Hz?0
+h=̓o>
+>̓o>
+>{>
+h={>BC
+A
+
+00Hz?0
+
+ף>̓o>
+&>̓o>
+&>{>
+
+ף>{>BC
+A
+
+00Hz?0
+G>̓o>
+>̓o>
+>{>
+G>{>BC
+A
+
+00Hz?0
+q=
+?̓o>
+(?̓o>
+(?{>
+q=
+?{>BC
+A
+
+00Hz?0
+{.?̓o>
+B?̓o>
+B?{>
+{.?{>BC
+A
+
+00Hz?0
+=
+W?̓o>
+HZ?̓o>
+HZ?{>
+=
+W?{>BC
+A
+
+00Hz?0
+u=z>
+ =z>
+ =>
+u=>BC
+A
+
+00Hz?0
+=z>
+sh>z>
+sh>>
+=>BC
+A
+
+00Hz?0
+
+ף>z>
+&>z>
+&>>
+
+ף>>BC
+A
+
+00Hz?0
+G>z>
+>z>
+>>
+G>>BC
+A
+
+01Hz?0
+q=
+?z>
+X?z>
+X?>
+q=
+?>BC
+A
+
+11Hz?0
+{.?z>
+  @?z>
+  @?>
+{.?>BC
+A
+
+11Hz?0
+=
+W?z>
+HZ?z>
+HZ?>
+=
+W?>BC
+A
+
+11Hz?0
+u=B>
+ =B>
+ =g>
+u=g>BC
+A
+
+11Hz?0
+=B>
+$>B>
+$>g>
+=g>BC
+A
+
+11Hz?0
+
+ף>B>
+&>B>
+&>g>
+
+ף>g>BC
+A
+
+11Hz?0
+G>B>
+>B>
+>g>
+G>g>BC
+A
+
+11Hz?0
+q=
+?B>
+X?B>
+X?g>
+q=
+?g>BC
+A
+
+11Hz?0
+{.?B>
+  @?B>
+  @?g>
+{.?g>BC
+A
+
+11Hz?0
+=
+W?B>
+HZ?B>
+HZ?g>
+=
+W?g>BC
+A
+
+11Hz?0
+u=U>
+=U>
+=z>
+u=z>BC
+A
+
+11Hz?0
+=
+=U>
+sh>U>
+sh>z>
+=
+=z>BC
+A
+
+11Hz?0
+
+ף>U>
+&>U>
+&>z>
+
+ף>z>BC
+A
+
+11Hz?0
+G>U>
+>U>
+>z>
+G>z>BC
+A
+
+11Hz?0
+q=
+?U>
+X?U>
+X?z>
+q=
+?z>BC
+A
+
+11Hz?0
+{.?U>
+  @?U>
+  @?z>
+{.?z>BC
+A
+
+11Hz?0
+=
+W?U>
+HZ?U>
+HZ?z>
+=
+W?z>BC
+A
+
+11Hz?0
+u=>
+=>
+=C>
+u=C>BC
+A
+
+11Hz?0
+=>
+$>>
+$>C>
+=C>BC
+A
+
+11Hz?0
+
+ף>>
+>>
+>C>
+
+ף>C>BC
+A
+
+11Hz?0
+G>>
+>>
+>C>
+G>C>BC
+A
+
+11Hz?0
+q=
+?>
+(?>
+(?C>
+q=
+?C>BC
+A
+
+11Hz?0
+{.?>
+B?>
+B?C>
+{.?C>BC
+A
+
+11Hz?0
+=
+W?>
+HZ?>
+HZ?C>
+=
+W?C>BC
+A
+
+11Hz?0
+u=eԧ>
+/=eԧ>
+/=B>
+u=B>BC
+A
+
+11Hz?0
+h=eԧ>
+>eԧ>
+>B>
+h=B>BC
+A
+
+11Hz?0
+
+ף>eԧ>
+&>eԧ>
+&>B>
+
+ף>B>BC
+A
+
+11Hz?0
+G>eԧ>
+>eԧ>
+>B>
+G>B>BC
+A
+
+11Hz?0
+q=
+?eԧ>
+(?eԧ>
+(?B>
+q=
+?B>BC
+A
+
+12Hz?0
+{.?eԧ>
+B?eԧ>
+B?B>
+{.?B>BC
+A
+
+22Hz?0
+=
+W?eԧ>
+HZ?eԧ>
+HZ?B>
+=
+W?B>BC
+A
+
+22Hz?0
+u=>
+/=>
+/=_>
+u=_>BC
+A
+
+22Hz?0
+h=>
+>>
+>_>
+h=_>BC
+A
+
+22Hz?0
+
+ף>>
+&>>
+&>_>
+
+ף>_>BC
+A
+
+22Hz?0
+G>>
+>>
+>_>
+G>_>BC
+A
+
+22Hz?0
+q=
+?>
+(?>
+(?_>
+q=
+?_>BC
+A
+
+22Hz?0
+{.?>
+  @?>
+  @?_>
+{.?_>BC
+A
+
+22Hz?0
+=
+W?>
+HZ?>
+HZ?_>
+=
+W?_>BC
+A
+
+22Hz?0
+u="ջ>
+ ="ջ>
+ =>
+u=>BC
+A
+
+22Hz?0
+="ջ>
+$>"ջ>
+$>>
+=>BC
+A
+
+22Hz?0
+
+ף>"ջ>
+&>"ջ>
+&>>
+
+ף>>BC
+A
+
+22Hz?0
+G>"ջ>
+>"ջ>
+>>
+G>>BC
+A
+
+22Hz?0
+q=
+?"ջ>
+(?"ջ>
+(?>
+q=
+?>BC
+A
+
+22Hz?0
+{.?"ջ>
+B?"ջ>
+B?>
+{.?>BC
+A
+
+22Hz?0
+=
+W?"ջ>
+HZ?"ջ>
+HZ?>
+=
+W?>BC
+A
+
+22Hz?0
+u=>
+=>
+=>
+u=>BC
+A
+
+22Hz?0
+=
+=>
+sh>>
+sh>>
+=
+=>BC
+A
+
+22Hz?0
+
+ף>>
+&>>
+&>>
+
+ף>>BC
+A
+
+22Hz?0
+G>>
+>>
+>>
+G>>BC
+A
+
+22Hz?0
+q=
+?>
+(?>
+(?>
+q=
+?>BC
+A
+
+22Hz?0
+{.?>
+B?>
+B?>
+{.?>BC
+A
+
+22Hz?0
+=
+W?>
+HZ?>
+HZ?>
+=
+W?>BC
+A
+
+22Hz?0
+u=ST>
+=ST>
+=0y>
+u=0y>BC
+A
+
+22Hz?0
+=
+=ST>
+sh>ST>
+sh>0y>
+=
+=0y>BC
+A
+
+22Hz?0
+
+ף>ST>
+>ST>
+>0y>
+
+ף>0y>BC
+A
+
+22Hz?0
+G>ST>
+>ST>
+>0y>
+G>0y>BC
+A
+
+22Hz?0
+q=
+?ST>
+(?ST>
+(?0y>
+q=
+?0y>BC
+A
+
+22Hz?0
+{.?ST>
+  @?ST>
+  @?0y>
+{.?0y>BC
+A
+
+22Hz?0
+=
+W?ST>
+HZ?ST>
+HZ?0y>
+=
+W?0y>BC
+A
+
+22Hz?0
+u=,>
+=,>
+=Q>
+u=Q>BC
+A
+
+23Hz?0
+=
+=,>
+sh>,>
+sh>Q>
+=
+=Q>BC
+A
+
+33Hz?0
+
+ף>,>
+>,>
+>Q>
+
+ף>Q>BC
+A
+
+33Hz?0
+G>,>
+>,>
+>Q>
+G>Q>BC
+A
+
+33Hz?0
+q=
+?,>
+(?,>
+(?Q>
+q=
+?Q>BC
+A
+
+33Hz?0
+{.?,>
+  @?,>
+  @?Q>
+{.?Q>BC
+A
+
+33Hz?0
+=
+W?,>
+HZ?,>
+HZ?Q>
+=
+W?Q>BC
+A
+
+33Hz?0
+u=>
+=>
+=
+>
+u=
+>BC
+A
+
+33Hz?0
+=
+=>
+sh>>
+sh>
+>
+=
+=
+>BC
+A
+
+33Hz?0
+
+ף>>
+>>
+>
+>
+
+ף>
+>BC
+A
+
+33Hz?0
+G>>
+>>
+>
+>
+G>
+>BC
+A
+
+33Hz?0
+q=
+?>
+X?>
+X?
+>
+q=
+?
+>BC
+A
+
+33Hz?0
+{.?>
+  @?>
+  @?
+>
+{.?
+>BC
+A
+
+33Hz?0
+=
+W?>
+HZ?>
+HZ?
+>
+=
+W?
+>BC
+A
+
+33Hz?0
+u=\>
+ =\>
+ =>
+u=>BC
+A
+
+33Hz?0
+
+ף>\>
+&>\>
+&>>
+
+ף>>BC
+A
+
+33Hz?0
+G>\>
+>\>
+>>
+G>>BC
+A
+
+33Hz?0
+q=
+?\>
+(?\>
+(?>
+q=
+?>BC
+A
+
+33Hz?0
+{.?\>
+B?\>
+B?>
+{.?>BC
+A
+
+33Hz?0
+=
+W?\>
+HZ?\>
+HZ?>
+=
+W?>BC
+A
+
+33Hz?0
+u='>
+='>
+=L>
+u=L>BC
+A
+
+33Hz?0
+=
+='>
+sh>'>
+sh>L>
+=
+=L>BC
+A
+
+33Hz?0
+
+ף>'>
+>'>
+>L>
+
+ף>L>BC
+A
+
+33Hz?0
+G>'>
+>'>
+>L>
+G>L>BC
+A
+
+33Hz?0
+q=
+?'>
+X?'>
+X?L>
+q=
+?L>BC
+A
+
+33Hz?0
+{.?'>
+  @?'>
+  @?L>
+{.?L>BC
+A
+
+33Hz?0
+=
+W?'>
+HZ?'>
+HZ?L>
+=
+W?L>BC
+A
+
+33Hz?0
+u=@ ?
+=@ ?
+= S?
+u= S?BC
+A
+
+33Hz?0
+=@ ?
+$>@ ?
+$> S?
+= S?BC
+A
+
+33Hz?0
+
+ף>@ ?
+>@ ?
+> S?
+
+ף> S?BC
+A
+
+33Hz?0
+G>@ ?
+>@ ?
+> S?
+G> S?BC
+A
+
+33Hz?0
+q=
+?@ ?
+(?@ ?
+(? S?
+q=
+? S?BC
+A
+
+33Hz?0
+{.?@ ?
+  @?@ ?
+  @? S?
+{.? S?BC
+A
+
+34Hz?0
+=
+W?@ ?
+HZ?@ ?
+HZ? S?
+=
+W? S?BC
+A
+
+44Hz?0
+u=6?
+=6?
+=H?
+u=H?BC
+A
+
+44Hz?0
+=
+=6?
+sh>6?
+sh>H?
+=
+=H?BC
+A
+
+44Hz?0
+
+ף>6?
+&>6?
+&>H?
+
+ף>H?BC
+A
+
+44Hz?0
+G>6?
+>6?
+>H?
+G>H?BC
+A
+
+44Hz?0
+q=
+?6?
+(?6?
+(?H?
+q=
+?H?BC
+A
+
+44Hz?0
+{.?6?
+B?6?
+B?H?
+{.?H?BC
+A
+
+44Hz?0
+=
+W?6?
+HZ?6?
+HZ?H?
+=
+W?H?BC
+A
+
+44Hz?0
+u=8	?
+ =8	?
+ ={J?
+u={J?BC
+A
+
+44Hz?0
+
+ף>8	?
+>8	?
+>{J?
+
+ף>{J?BC
+A
+
+44Hz?0
+G>8	?
+>8	?
+>{J?
+G>{J?BC
+A
+
+44Hz?0
+q=
+?8	?
+X?8	?
+X?{J?
+q=
+?{J?BC
+A
+
+44Hz?0
+{.?8	?
+  @?8	?
+  @?{J?
+{.?{J?BC
+A
+
+44Hz?0
+=
+W?8	?
+HZ?8	?
+HZ?{J?
+=
+W?{J?BC
+A
+
+44Hz?0
+u=?
+/=?
+/=e!?
+u=e!?BC
+A
+
+44Hz?0
+h=?
+>?
+>e!?
+h=e!?BC
+A
+
+44Hz?0
+
+ף>?
+>?
+>e!?
+
+ף>e!?BC
+A
+
+44Hz?0
+G>?
+>?
+>e!?
+G>e!?BC
+A
+
+44Hz?0
+q=
+??
+(??
+(?e!?
+q=
+?e!?BC
+A
+
+44Hz?0
+{.??
+  @??
+  @?e!?
+{.?e!?BC
+A
+
+44Hz?0
+=
+W??
+HZ??
+HZ?e!?
+=
+W?e!?BC
+A
+
+44Hz?0
+u='O?
+ ='O?
+ =a?
+u=a?BC
+A
+
+44Hz?0
+
+ף>'O?
+&>'O?
+&>a?
+
+ף>a?BC
+A
+
+44Hz?0
+G>'O?
+>'O?
+>a?
+G>a?BC
+A
+
+44Hz?0
+q=
+?'O?
+(?'O?
+(?a?
+q=
+?a?BC
+A
+
+44Hz?0
+{.?'O?
+B?'O?
+B?a?
+{.?a?BC
+A
+
+44Hz?0
+=
+W?'O?
+HZ?'O?
+HZ?a?
+=
+W?a?BC
+A
+
+44Hz?0
+u=?
+/=?
+/=)?
+u=)?BC
+A
+
+44Hz?0
+h=?
+>?
+>)?
+h=)?BC
+A
+
+44Hz?0
+
+ף>?
+>?
+>)?
+
+ף>)?BC
+A
+
+44Hz?0
+G>?
+>?
+>)?
+G>)?BC
+A
+
+45Hz?0
+q=
+??
+(??
+(?)?
+q=
+?)?BC
+A
+
+55Hz?0
+{.??
+  @??
+  @?)?
+{.?)?BC
+A
+
+55Hz?0
+=
+W??
+HZ??
+HZ?)?
+=
+W?)?BC
+A
+
+55Hz?0
+u=?
+=?
+=?
+u=?BC
+A
+
+55Hz?0
+=
+=?
+sh>?
+sh>?
+=
+=?BC
+A
+
+55Hz?0
+
+ף>?
+&>?
+&>?
+
+ף>?BC
+A
+
+55Hz?0
+G>?
+>?
+>?
+G>?BC
+A
+
+55Hz?0
+q=
+??
+(??
+(??
+q=
+??BC
+A
+
+55Hz?0
+{.??
+B??
+B??
+{.??BC
+A
+
+55Hz?0
+=
+W??
+HZ??
+HZ??
+=
+W??BC
+A
+
+55Hz?0
+u=."?
+=."?
+=<A%?
+u=<A%?BC
+A
+
+55Hz?0
+=
+=."?
+sh>."?
+sh><A%?
+=
+=<A%?BC
+A
+
+55Hz?0
+
+ף>."?
+&>."?
+&><A%?
+
+ף><A%?BC
+A
+
+55Hz?0
+G>."?
+>."?
+><A%?
+G><A%?BC
+A
+
+55Hz?0
+q=
+?."?
+(?."?
+(?<A%?
+q=
+?<A%?BC
+A
+
+55Hz?0
+{.?."?
+B?."?
+B?<A%?
+{.?<A%?BC
+A
+
+55Hz?0
+=
+W?."?
+HZ?."?
+HZ?<A%?
+=
+W?<A%?BC
+A
+
+55Hz?0
+u=&?
+ =&?
+ =I)?
+u=I)?BC
+A
+
+55Hz?0
+=&?
+sh>&?
+sh>I)?
+=I)?BC
+A
+
+55Hz?0
+
+ף>&?
+ȶ>&?
+ȶ>I)?
+
+ף>I)?BC
+A
+
+55Hz?0
+G>&?
+>&?
+>I)?
+G>I)?BC
+A
+
+55Hz?0
+q=
+?&?
+X?&?
+X?I)?
+q=
+?I)?BC
+A
+
+55Hz?0
+{.?&?
+  @?&?
+  @?I)?
+{.?I)?BC
+A
+
+55Hz?0
+=
+W?&?
+HZ?&?
+HZ?I)?
+=
+W?I)?BC
+A
+
+55Hz?0
+u=v+?
+ =v+?
+ =.?
+u=.?BC
+A
+
+55Hz?0
+
+ף>v+?
+ȶ>v+?
+ȶ>.?
+
+ף>.?BC
+A
+
+55Hz?0
+G>v+?
+>v+?
+>.?
+G>.?BC
+A
+
+55Hz?0
+q=
+?v+?
+(?v+?
+(?.?
+q=
+?.?BC
+A
+
+55Hz?0
+{.?v+?
+  @?v+?
+  @?.?
+{.?.?BC
+A
+
+55Hz?0
+=
+W?v+?
+HZ?v+?
+HZ?.?
+=
+W?.?BC
+A
+
+56Hz?0
+u='h0?
+ ='h0?
+ =z3?
+u=z3?BC
+A
+
+66Hz?0
+='h0?
+$>'h0?
+$>z3?
+=z3?BC
+A
+
+66Hz?0
+
+ף>'h0?
+ȶ>'h0?
+ȶ>z3?
+
+ף>z3?BC
+A
+
+66Hz?0
+G>'h0?
+>'h0?
+>z3?
+G>z3?BC
+A
+
+66Hz?0
+q=
+?'h0?
+X?'h0?
+X?z3?
+q=
+?z3?BC
+A
+
+66Hz?0
+{.?'h0?
+  @?'h0?
+  @?z3?
+{.?z3?BC
+A
+
+66Hz?0
+=
+W?'h0?
+HZ?'h0?
+HZ?z3?
+=
+W?z3?BC
+A
+
+66Hz?0
+u=<5?
+ =<5?
+ =9?
+u=9?BC
+A
+
+66Hz?0
+=<5?
+=<5?
+=9?
+=9?BC
+A
+
+66Hz?0
+
+ף><5?
+><5?
+>9?
+
+ף>9?BC
+A
+
+66Hz?0
+G><5?
+><5?
+>9?
+G>9?BC
+A
+
+66Hz?0
+q=
+?<5?
+F?<5?
+F?9?
+q=
+?9?BC
+A
+
+66Hz?0
+{.?<5?
+/=?<5?
+/=?9?
+{.?9?BC
+A
+
+66Hz?0
+=
+W?<5?
+HZ?<5?
+HZ?9?
+=
+W?9?BC
+A
+
+66Hz?0
+u=a:?
+/=a:?
+/==?
+u==?BC
+A
+
+66Hz?0
+h=a:?
+>a:?
+>=?
+h==?BC
+A
+
+66Hz?0
+
+ף>a:?
+&>a:?
+&>=?
+
+ף>=?BC
+A
+
+66Hz?0
+G>a:?
+>a:?
+>=?
+G>=?BC
+A
+
+66Hz?0
+q=
+?a:?
+X?a:?
+X?=?
+q=
+?=?BC
+A
+
+66Hz?0
+{.?a:?
+/=?a:?
+/=?=?
+{.?=?BC
+A
+
+66Hz?0
+=
+W?a:?
+HZ?a:?
+HZ?=?
+=
+W?=?BC
+A
+
+66Hz?0
+u=4??
+=4??
+=RGB?
+u=RGB?BC
+A
+
+66Hz?0
+=
+=4??
+sh>4??
+sh>RGB?
+=
+=RGB?BC
+A
+
+66Hz?0
+
+ף>4??
+ȶ>4??
+ȶ>RGB?
+
+ף>RGB?BC
+A
+
+66Hz?0
+G>4??
+>4??
+>RGB?
+G>RGB?BC
+A
+
+66Hz?0
+q=
+?4??
+(?4??
+(?RGB?
+q=
+?RGB?BC
+A
+
+66Hz?0
+{.?4??
+B?4??
+B?RGB?
+{.?RGB?BC
+A
+
+66Hz?0
+=
+W?4??
+HZ?4??
+HZ?RGB?
+=
+W?RGB?BC
+A
+
+66Hz?0
+u=D?
+=D?
+=kG?
+u=kG?BC
+A
+
+66Hz?0
+=
+=D?
+sh>D?
+sh>kG?
+=
+=kG?BC
+A
+
+66Hz?0
+
+ף>D?
+&>D?
+&>kG?
+
+ף>kG?BC
+A
+
+66Hz?0
+G>D?
+>D?
+>kG?
+G>kG?BC
+A
+
+67Hz?0
+q=
+?D?
+X?D?
+X?kG?
+q=
+?kG?BC
+A
+
+77Hz?0
+{.?D?
+  @?D?
+  @?kG?
+{.?kG?BC
+A
+
+77Hz?0
+=
+W?D?
+HZ?D?
+HZ?kG?
+=
+W?kG?BC
+A
+
+77Hz?0
+u=tH?
+=tH?
+=gK?
+u=gK?BC
+A
+
+77Hz?0
+=
+=tH?
+sh>tH?
+sh>gK?
+=
+=gK?BC
+A
+
+77Hz?0
+
+ף>tH?
+>tH?
+>gK?
+
+ף>gK?BC
+A
+
+77Hz?0
+G>tH?
+>tH?
+>gK?
+G>gK?BC
+A
+
+77Hz?0
+q=
+?tH?
+(?tH?
+(?gK?
+q=
+?gK?BC
+A
+
+77Hz?0
+{.?tH?
+B?tH?
+B?gK?
+{.?gK?BC
+A
+
+77Hz?0
+=
+W?tH?
+HZ?tH?
+HZ?gK?
+=
+W?gK?BC
+A
+
+77Hz?0
+u=ƍM?
+ =ƍM?
+ =5P?
+u=5P?BC
+A
+
+77Hz?0
+
+ף>ƍM?
+>ƍM?
+>5P?
+
+ף>5P?BC
+A
+
+77Hz?0
+G>ƍM?
+>ƍM?
+>5P?
+G>5P?BC
+A
+
+77Hz?0
+q=
+?ƍM?
+(?ƍM?
+(?5P?
+q=
+?5P?BC
+A
+
+77Hz?0
+{.?ƍM?
+B?ƍM?
+B?5P?
+{.?5P?BC
+A
+
+77Hz?0
+=
+W?ƍM?
+HZ?ƍM?
+HZ?5P?
+=
+W?5P?BC
+A
+
+77Hz?0
+u=AR?
+=AR?
+=4TU?
+u=4TU?BC
+A
+
+77Hz?0
+=
+=AR?
+sh>AR?
+sh>4TU?
+=
+=4TU?BC
+A
+
+77Hz?0
+
+ף>AR?
+&>AR?
+&>4TU?
+
+ף>4TU?BC
+A
+
+77Hz?0
+G>AR?
+>AR?
+>4TU?
+G>4TU?BC
+A
+
+77Hz?0
+q=
+?AR?
+(?AR?
+(?4TU?
+q=
+?4TU?BC
+A
+
+77Hz?0
+{.?AR?
+  @?AR?
+  @?4TU?
+{.?4TU?BC
+A
+
+77Hz?0
+=
+W?AR?
+HZ?AR?
+HZ?4TU?
+=
+W?4TU?BC
+A
+
+77Hz?0
+u="uW?
+/="uW?
+/=Z?
+u=Z?BC
+A
+
+77Hz?0
+h="uW?
+>"uW?
+>Z?
+h=Z?BC
+A
+
+77Hz?0
+
+ף>"uW?
+>"uW?
+>Z?
+
+ף>Z?BC
+A
+
+77Hz?0
+G>"uW?
+>"uW?
+>Z?
+G>Z?BC
+A
+
+77Hz?0
+q=
+?"uW?
+(?"uW?
+(?Z?
+q=
+?Z?BC
+A
+
+77Hz?0
+{.?"uW?
+  @?"uW?
+  @?Z?
+{.?Z?BC
+A
+
+77Hz?0
+=
+W?"uW?
+HZ?"uW?
+HZ?Z?
+=
+W?Z?BC
+A
+
+77Hz?0
+u=<\?
+ =<\?
+ =@O_?
+u=@O_?BC
+A
+
+78Hz?0
+
+ף><\?
+ȶ><\?
+ȶ>@O_?
+
+ף>@O_?BC
+A
+
+88Hz?0
+G><\?
+><\?
+>@O_?
+G>@O_?BC
+A
+
+88Hz?0
+q=
+?<\?
+X?<\?
+X?@O_?
+q=
+?@O_?BC
+A
+
+88Hz?0
+{.?<\?
+  @?<\?
+  @?@O_?
+{.?@O_?BC
+A
+
+88Hz?0
+=
+W?<\?
+HZ?<\?
+HZ?@O_?
+=
+W?@O_?BC
+A
+
+88Hz?0
+u=Xha?
+=Xha?
+=zd?
+u=zd?BC
+A
+
+88Hz?0
+=
+=Xha?
+sh>Xha?
+sh>zd?
+=
+=zd?BC
+A
+
+88Hz?0
+
+ף>Xha?
+>Xha?
+>zd?
+
+ף>zd?BC
+A
+
+88Hz?0
+G>Xha?
+>Xha?
+>zd?
+G>zd?BC
+A
+
+88Hz?0
+q=
+?Xha?
+X?Xha?
+X?zd?
+q=
+?zd?BC
+A
+
+88Hz?0
+{.?Xha?
+  @?Xha?
+  @?zd?
+{.?zd?BC
+A
+
+88Hz?0
+=
+W?Xha?
+HZ?Xha?
+HZ?zd?
+=
+W?zd?BC
+A
+
+88Hz?0
+u=f?
+/=f?
+/=Vi?
+u=Vi?BC
+A
+
+88Hz?0
+h=f?
+>f?
+>Vi?
+h=Vi?BC
+A
+
+88Hz?0
+
+ף>f?
+&>f?
+&>Vi?
+
+ף>Vi?BC
+A
+
+88Hz?0
+G>f?
+>f?
+>Vi?
+G>Vi?BC
+A
+
+88Hz?0
+q=
+?f?
+X?f?
+X?Vi?
+q=
+?Vi?BC
+A
+
+88Hz?0
+{.?f?
+  @?f?
+  @?Vi?
+{.?Vi?BC
+A
+
+88Hz?0
+=
+W?f?
+HZ?f?
+HZ?Vi?
+=
+W?Vi?BC
+A
+
+88Hz?0
+u= p?
+/= p?
+/=33s?
+u=33s?BC
+A
+
+88Hz?0
+u=+v?
+/=+v?
+/=y?
+u=y?BC
+A
+
+88Hz?0
+{.?+v?
+rH?+v?
+rH?y?
+{.?y?BC
+A
+
+88Hz?0
+G?+v?
+VN?+v?
+VN?y?
+G?y?BC
+A
+
+88Hz?0
+=
+W?+v?
+shq?+v?
+shq?y?
+=
+W?y?BC
+A
+
+88Hz?0
+u=|?
+=|?
+=G?
+u=G?BC
+A
+
+88Hz?0
+>|?
+D>|?
+D>G?
+>G?
\ No newline at end of file